@@ -111,6 +111,7 @@ public class OkHttpClientFactory implements HttpClient.Factory {
 
   protected Dispatcher initDispatcher() {
     Dispatcher dispatcher = new Dispatcher();
+    // the Config limits are instead applied by the RequestLimiter, which excludes long-running requests
     // websockets and long-running http requests count against this and eventually starve
     // the work that can be done
     dispatcher.setMaxRequests(Integer.MAX_VALUE);
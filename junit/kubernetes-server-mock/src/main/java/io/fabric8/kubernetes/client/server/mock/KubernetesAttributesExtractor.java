@@ -70,7 +70,7 @@ public class KubernetesAttributesExtractor implements AttributeExtractor {
   protected static final Pattern PATTERN = Pattern
       .compile(API_GROUP + VERSION_GROUP + NAMESPACE_GROUP + KIND_GROUP + NAME_GROUP + SUBRESOURCE_MAYBE_GROUP + END_GROUP);
 
-  private static final String LABEL_KEY_PREFIX = "labels:";
+  static final String LABEL_KEY_PREFIX = "labels:";
   private static final String KEY_GROUP = "(?<key>[a-zA-Z0-9-_./]+)";
   // Matches a==b and a=b but not a!=b.
   private static final String EQUALITY_GROUP = "(==|(?<!!)=)";
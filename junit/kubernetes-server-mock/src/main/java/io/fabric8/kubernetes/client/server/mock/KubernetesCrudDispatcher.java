@@ -16,6 +16,8 @@
 package io.fabric8.kubernetes.client.server.mock;
 
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import io.fabric8.kubernetes.client.server.mock.crud.KubernetesCrudDispatcherException;
@@ -30,6 +32,7 @@ import io.fabric8.mockwebserver.Context;
 import io.fabric8.mockwebserver.crud.Attribute;
 import io.fabric8.mockwebserver.crud.AttributeSet;
 import io.fabric8.mockwebserver.crud.CrudDispatcher;
+import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.RecordedRequest;
 import okhttp3.mockwebserver.SocketPolicy;
@@ -39,9 +42,16 @@ import org.slf4j.LoggerFactory;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -50,10 +60,38 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 
 public class KubernetesCrudDispatcher extends CrudDispatcher implements KubernetesCrudPersistence, CustomResourceAware {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(KubernetesCrudDispatcher.class);
+  private static final int HTTP_GONE = 410;
+  public static final int DEFAULT_WATCH_EVENT_HISTORY_LIMIT = 1000;
+  public static final long DEFAULT_WATCH_BOOKMARK_INTERVAL_MILLIS = 60_000;
+
+  /**
+   * A change that has been sent to the watches, retained so that watches may resume from a resourceVersion
+   */
+  private static final class WatchEventRecord {
+    private final long resourceVersion;
+    private final AttributeSet oldAttributes;
+    private final AttributeSet newAttributes;
+    private final String oldState;
+    private final String newState;
+    // the oldState, with the resourceVersion of the delete for deletes
+    private final String deletedState;
+
+    private WatchEventRecord(long resourceVersion, AttributeSet oldAttributes, AttributeSet newAttributes, String oldState,
+        String newState, String deletedState) {
+      this.resourceVersion = resourceVersion;
+      this.oldAttributes = oldAttributes;
+      this.newAttributes = newAttributes;
+      this.oldState = oldState;
+      this.newState = newState;
+      this.deletedState = deletedState;
+    }
+  }
+
   private final Set<WatchEventsListener> watchEventListeners;
   private final CustomResourceDefinitionProcessor crdProcessor;
   private final KubernetesAttributesExtractor kubernetesAttributesExtractor;
@@ -63,6 +101,13 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
   private final KubernetesCrudDispatcherHandler putHandler;
   private final KubernetesCrudDispatcherHandler patchHandler;
   private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // indexes the inherited map, which holds the stored resources
+  private final KubernetesCrudIndex index = new KubernetesCrudIndex(map);
+  // guarded by the lock
+  private final Deque<WatchEventRecord> watchEventHistory = new ArrayDeque<>();
+  private long compactedResourceVersion;
+  private volatile int watchEventHistoryLimit = DEFAULT_WATCH_EVENT_HISTORY_LIMIT;
+  private volatile long watchBookmarkIntervalMillis = DEFAULT_WATCH_BOOKMARK_INTERVAL_MILLIS;
 
   public KubernetesCrudDispatcher() {
     this(Collections.emptyList());
@@ -83,6 +128,25 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
     crdContexts.stream().forEach(this::expectCustomResource);
   }
 
+  /**
+   * Set the number of changes retained for watches to resume from. A watch from an older resourceVersion
+   * will receive a 410 Gone error.
+   *
+   * @param watchEventHistoryLimit the number of retained changes
+   */
+  public void setWatchEventHistoryLimit(int watchEventHistoryLimit) {
+    this.watchEventHistoryLimit = watchEventHistoryLimit;
+  }
+
+  /**
+   * Set the interval at which BOOKMARK events are sent to the watches that allow them
+   *
+   * @param watchBookmarkIntervalMillis the interval in milliseconds
+   */
+  public void setWatchBookmarkIntervalMillis(long watchBookmarkIntervalMillis) {
+    this.watchBookmarkIntervalMillis = watchBookmarkIntervalMillis;
+  }
+
   MockResponse process(RecordedRequest request, KubernetesCrudDispatcherHandler handler) {
     lock.writeLock().lock();
     try {
@@ -143,9 +207,9 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
     MockResponse response = new MockResponse();
     List<String> items = new ArrayList<>();
     AttributeSet query = attributeExtractor.fromPath(path);
+    List<Map.Entry<AttributeSet, String>> entries = index.find(query);
 
-    new ArrayList<>(map.entrySet()).stream()
-        .filter(entry -> entry.getKey().matches(query))
+    entries
         .forEach(entry -> {
           LOGGER.debug("Entry found for query {} : {}", query, entry);
           items.add(entry.getValue());
@@ -169,6 +233,8 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
       }
       if (metadataResult != null) {
         response.setBody(metadataResult);
+      } else if (eventProcessor == null) {
+        return handleList(path, query, entries);
       } else {
         response.setBody(kubernetesResponseComposer.compose(items, String.valueOf(resourceVersion.get())));
       }
@@ -177,6 +243,94 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
     return response;
   }
 
+  /**
+   * Compose the page of the list selected by the limit and continue parameters. As with the api server, pages
+   * are in key order, and the continue token holds the resourceVersion of the first page and the key of the last
+   * returned item - later pages are read from the snapshot at that resourceVersion, rewound from the retained
+   * changes, or are 410 Gone once the changes are no longer retained.
+   */
+  private MockResponse handleList(String path, AttributeSet query, List<Map.Entry<AttributeSet, String>> entries) {
+    String limit = getQueryParameter(path, "limit");
+    String continueVal = getQueryParameter(path, "continue");
+    if (Utils.isNullOrEmpty(limit) && Utils.isNullOrEmpty(continueVal)) {
+      return new MockResponse().setResponseCode(HttpURLConnection.HTTP_OK).setBody(kubernetesResponseComposer.compose(
+          entries.stream().map(Map.Entry::getValue).collect(Collectors.toList()), String.valueOf(resourceVersion.get())));
+    }
+    long listResourceVersion = resourceVersion.get();
+    String startAfter = null;
+    long max;
+    try {
+      max = Utils.isNullOrEmpty(limit) ? 0 : Long.parseUnsignedLong(limit);
+      if (!Utils.isNullOrEmpty(continueVal)) {
+        String[] token = new String(Base64.getUrlDecoder().decode(continueVal), StandardCharsets.UTF_8).split("/", 2);
+        if (token.length != 2) {
+          throw new IllegalArgumentException(continueVal);
+        }
+        listResourceVersion = Long.parseLong(token[0]);
+        startAfter = token[1];
+      }
+    } catch (IllegalArgumentException e) {
+      return new MockResponse().setResponseCode(HttpURLConnection.HTTP_BAD_REQUEST).setBody(
+          new KubernetesCrudDispatcherException("Invalid limit or continue parameter", HttpURLConnection.HTTP_BAD_REQUEST)
+              .toStatusBody());
+    }
+    if (listResourceVersion < compactedResourceVersion) {
+      return new MockResponse().setResponseCode(HTTP_GONE).setBody(Serialization.asJson(new StatusBuilder()
+          .withStatus("Failure").withCode(HTTP_GONE).withReason("Expired")
+          .withMessage(String.format(
+              "The provided continue parameter is too old to display a consistent list result: %s (%s)",
+              listResourceVersion, compactedResourceVersion))
+          .build()));
+    }
+    final String after = startAfter;
+    List<Map.Entry<String, String>> remaining = snapshot(query, entries, listResourceVersion).entrySet().stream()
+        .map(entry -> new AbstractMap.SimpleImmutableEntry<>(key(entry.getKey()), entry.getValue()))
+        .filter(entry -> after == null || entry.getKey().compareTo(after) > 0)
+        .sorted(Map.Entry.comparingByKey())
+        .collect(Collectors.toList());
+    List<Map.Entry<String, String>> page = max == 0 || max >= remaining.size() ? remaining
+        : remaining.subList(0, (int) max);
+    String nextContinue = null;
+    Long remainingItemCount = null;
+    if (page.size() < remaining.size()) {
+      String token = listResourceVersion + "/" + page.get(page.size() - 1).getKey();
+      nextContinue = Base64.getUrlEncoder().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+      remainingItemCount = (long) (remaining.size() - page.size());
+    }
+    return new MockResponse().setResponseCode(HttpURLConnection.HTTP_OK)
+        .setBody(kubernetesResponseComposer.compose(
+            page.stream().map(Map.Entry::getValue).collect(Collectors.toList()), String.valueOf(listResourceVersion),
+            nextContinue, remainingItemCount));
+  }
+
+  /**
+   * The entries matching the query at the resourceVersion, undoing the later changes from the current entries
+   */
+  private Map<AttributeSet, String> snapshot(AttributeSet query, List<Map.Entry<AttributeSet, String>> entries,
+      long snapshotResourceVersion) {
+    Map<AttributeSet, String> snapshot = new HashMap<>();
+    entries.forEach(entry -> snapshot.put(entry.getKey(), entry.getValue()));
+    for (Iterator<WatchEventRecord> it = watchEventHistory.descendingIterator(); it.hasNext();) {
+      WatchEventRecord event = it.next();
+      if (event.resourceVersion <= snapshotResourceVersion) {
+        break;
+      }
+      if (event.newAttributes != null) {
+        snapshot.remove(event.newAttributes);
+      }
+      if (event.oldAttributes != null && event.oldAttributes.matches(query)) {
+        snapshot.put(event.oldAttributes, event.oldState);
+      }
+    }
+    return snapshot;
+  }
+
+  private static String key(AttributeSet attributes) {
+    Attribute namespace = attributes.getAttribute(KubernetesAttributesExtractor.NAMESPACE);
+    Attribute name = attributes.getAttribute(KubernetesAttributesExtractor.NAME);
+    return (namespace == null ? "" : namespace.getValue() + "/") + (name == null ? "" : name.getValue());
+  }
+
   /**
    * Patches the specified object to the in-memory db.
    *
@@ -204,7 +358,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
   }
 
   private void processDelete(String path, AttributeSet pathAttributes, AttributeSet oldAttributes) {
-    String jsonStringOfResource = map.get(oldAttributes);
+    String jsonStringOfResource = index.get(oldAttributes);
     final GenericKubernetesResource resource = Serialization.unmarshal(jsonStringOfResource, GenericKubernetesResource.class);
     if (resource.getFinalizers().isEmpty()) {
       // No finalizers left, actually remove the resource.
@@ -214,6 +368,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
     if (!resource.isMarkedForDeletion()) {
       // Mark the resource as deleted, but don't remove it yet (wait for finalizer-removal).
       resource.getMetadata().setDeletionTimestamp(LocalDateTime.now().toString());
+      resource.getMetadata().setResourceVersion(String.valueOf(requestResourceVersion()));
       String updatedResource = Serialization.asJson(resource);
       processEvent(path, pathAttributes, oldAttributes, resource, updatedResource);
       return;
@@ -233,9 +388,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
 
   @Override
   public Map.Entry<AttributeSet, String> findResource(AttributeSet attributes) {
-    return map.entrySet().stream()
-        .filter(entry -> entry.getKey().matches(attributes))
-        .findFirst().orElse(null);
+    return index.find(attributes).stream().findFirst().orElse(null);
   }
 
   @Override
@@ -246,38 +399,50 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
   @Override
   public void processEvent(String path, AttributeSet pathAttributes, AttributeSet oldAttributes,
       GenericKubernetesResource resource, String newState) {
-    String existing = map.remove(oldAttributes);
+    String existing = index.remove(oldAttributes);
     AttributeSet newAttributes = null;
     if (newState != null) {
-      if (resource != null) {
-        newAttributes = kubernetesAttributesExtractor.extract(resource);
-      } else {
-        newAttributes = kubernetesAttributesExtractor.fromResource(newState);
-      }
+      HasMetadata newResource = resource != null ? resource : KubernetesAttributesExtractor.toKubernetesResource(newState);
+      newAttributes = newResource == null ? new AttributeSet() : kubernetesAttributesExtractor.extract(newResource);
       // corner case - we need to get the plural from the path
       if (!newAttributes.containsKey(KubernetesAttributesExtractor.PLURAL)) {
         newAttributes = AttributeSet.merge(pathAttributes, newAttributes);
       }
-      map.put(newAttributes, newState);
+      index.put(newAttributes, newState, newResource == null ? null : newResource.getMetadata().getLabels());
     }
     if (!Objects.equals(existing, newState)) {
-      AttributeSet finalAttributeSet = newAttributes;
-      watchEventListeners.forEach(listener -> {
-        boolean matchesOld = oldAttributes != null && listener.attributeMatches(oldAttributes);
-        boolean matchesNew = finalAttributeSet != null && listener.attributeMatches(finalAttributeSet);
-        if (matchesOld && matchesNew) {
-          listener.sendWebSocketResponse(newState, Action.MODIFIED);
-        } else if (matchesOld) {
-          listener.sendWebSocketResponse(existing, Action.DELETED);
-        } else if (matchesNew) {
-          listener.sendWebSocketResponse(newState, Action.ADDED);
-        }
-      });
+      // writes have already been assigned a new resourceVersion, deletes still need one
+      long eventResourceVersion = newState == null ? requestResourceVersion() : resourceVersion.get();
+      WatchEventRecord event = new WatchEventRecord(eventResourceVersion, oldAttributes, newAttributes, existing, newState,
+          newState == null ? withResourceVersion(existing, eventResourceVersion) : existing);
+      watchEventHistory.addLast(event);
+      while (watchEventHistory.size() > watchEventHistoryLimit) {
+        compactedResourceVersion = watchEventHistory.removeFirst().resourceVersion;
+      }
+      watchEventListeners.forEach(listener -> sendWatchEvent(listener, event));
 
       crdProcessor.process(path, Utils.getNonNullOrElse(newState, existing), newState == null);
     }
   }
 
+  private static String withResourceVersion(String state, long resourceVersion) {
+    GenericKubernetesResource resource = Serialization.unmarshal(state, GenericKubernetesResource.class);
+    resource.getMetadata().setResourceVersion(String.valueOf(resourceVersion));
+    return Serialization.asJson(resource);
+  }
+
+  private static void sendWatchEvent(WatchEventsListener listener, WatchEventRecord event) {
+    boolean matchesOld = event.oldAttributes != null && listener.attributeMatches(event.oldAttributes);
+    boolean matchesNew = event.newAttributes != null && listener.attributeMatches(event.newAttributes);
+    if (matchesOld && matchesNew) {
+      listener.sendWebSocketResponse(event.newState, Action.MODIFIED);
+    } else if (matchesOld) {
+      listener.sendWebSocketResponse(event.deletedState, Action.DELETED);
+    } else if (matchesNew) {
+      listener.sendWebSocketResponse(event.newState, Action.ADDED);
+    }
+  }
+
   /**
    * Watch the resource list on `path` endpoint
    *
@@ -291,15 +456,64 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
     if (resourceName != null) {
       query = query.add(new Attribute("name", resourceName));
     }
-    WatchEventsListener watchEventListener = new WatchEventsListener(context, query, watchEventListeners, LOGGER,
-        watch -> map.entrySet().stream()
-            .filter(entry -> watch.attributeMatches(entry.getKey()))
-            .forEach(entry -> watch.sendWebSocketResponse(entry.getValue(), Action.ADDED)));
+    WatchEventsListener watchEventListener = new WatchEventsListener(context, query, watchEventListeners, LOGGER);
+    // called with the read lock held, so the initial events are consistent with the registration
+    String watchResourceVersion = getQueryParameter(path, "resourceVersion");
+    if (Utils.isNullOrEmpty(watchResourceVersion) || "0".equals(watchResourceVersion)) {
+      index.find(query).forEach(entry -> watchEventListener.sendWebSocketResponse(entry.getValue(), Action.ADDED));
+    } else if (!resumeWatch(watchEventListener, watchResourceVersion)) {
+      mockResponse.setSocketPolicy(SocketPolicy.KEEP_OPEN);
+      return mockResponse.withWebSocketUpgrade(watchEventListener);
+    }
     watchEventListeners.add(watchEventListener);
+    if (Boolean.parseBoolean(getQueryParameter(path, "allowWatchBookmarks"))) {
+      watchEventListener.scheduleBookmarks(this::getBookmarkResourceVersion, watchBookmarkIntervalMillis);
+    }
     mockResponse.setSocketPolicy(SocketPolicy.KEEP_OPEN);
     return mockResponse.withWebSocketUpgrade(watchEventListener);
   }
 
+  /**
+   * Replay the retained changes after the resourceVersion, or send a 410 Gone error if they are no longer retained
+   *
+   * @return true if the watch was resumed
+   */
+  private boolean resumeWatch(WatchEventsListener watchEventListener, String watchResourceVersion) {
+    long from;
+    try {
+      from = Long.parseLong(watchResourceVersion);
+    } catch (NumberFormatException e) {
+      from = -1;
+    }
+    if (from < compactedResourceVersion) {
+      watchEventListener.sendError(new StatusBuilder().withStatus("Failure").withCode(HTTP_GONE).withReason("Expired")
+          .withMessage(String.format("too old resource version: %s (%s)", watchResourceVersion, compactedResourceVersion))
+          .build());
+      return false;
+    }
+    for (WatchEventRecord event : watchEventHistory) {
+      if (event.resourceVersion > from) {
+        sendWatchEvent(watchEventListener, event);
+      }
+    }
+    return true;
+  }
+
+  private String getBookmarkResourceVersion() {
+    // all changes up to the current resourceVersion have been sent once the read lock is obtained
+    lock.readLock().lock();
+    try {
+      return String.valueOf(resourceVersion.get());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static String getQueryParameter(String path, String name) {
+    HttpUrl url = HttpUrl.parse("http://localhost" + (path.startsWith("/") ? "" : "/") + path);
+    return url == null ? null : url.queryParameter(name);
+  }
+
   private boolean detectWatchMode(String path) {
     String queryString = null;
     try {
@@ -339,7 +553,14 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
 
   @Override
   public void reset() {
-    map.clear();
+    lock.writeLock().lock();
+    try {
+      index.clear();
+      watchEventHistory.clear();
+      compactedResourceVersion = resourceVersion.get();
+    } finally {
+      lock.writeLock().unlock();
+    }
     // what about the initial crds? That should likely be deprecated
     this.crdProcessor.reset();
   }
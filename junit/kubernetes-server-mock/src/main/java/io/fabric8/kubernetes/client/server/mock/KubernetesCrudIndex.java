@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import io.fabric8.mockwebserver.crud.Attribute;
+import io.fabric8.mockwebserver.crud.AttributeSet;
+import io.fabric8.mockwebserver.crud.AttributeType;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * The index of the in-memory store of the {@link KubernetesCrudDispatcher}.
+ * <br>
+ * The values are only held by the store map, the index holds their keys - by plural, namespace, name and label -
+ * so that a query only has to be matched against the resources that share those attributes rather than against every
+ * stored resource.
+ * <br>
+ * Results are returned in the order the resources were last stored.
+ */
+class KubernetesCrudIndex {
+
+  private static final List<String> INDEXED_ATTRIBUTES = Arrays.asList(KubernetesAttributesExtractor.PLURAL,
+      KubernetesAttributesExtractor.NAMESPACE, KubernetesAttributesExtractor.NAME);
+
+  private final Map<AttributeSet, String> store;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<AttributeSet, Long> sequences = new ConcurrentHashMap<>();
+  // by attribute name, then attribute value - label attributes are only indexed once a resource has the label
+  private final Map<String, Map<String, Set<AttributeSet>>> indices = new ConcurrentHashMap<>();
+
+  /**
+   * @param store the map holding the values
+   */
+  KubernetesCrudIndex(Map<AttributeSet, String> store) {
+    this.store = store;
+  }
+
+  /**
+   * Store the value, replacing any existing value for the key
+   *
+   * @param labels the labels of the resource, which are also attributes of the key
+   */
+  void put(AttributeSet key, String value, Map<String, String> labels) {
+    remove(key);
+    store.put(key, value);
+    sequences.put(key, sequence.incrementAndGet());
+    for (String attribute : INDEXED_ATTRIBUTES) {
+      addToIndex(attribute, getIndexValue(key, attribute), key);
+    }
+    if (labels != null) {
+      labels.forEach((label, labelValue) -> addToIndex(KubernetesAttributesExtractor.LABEL_KEY_PREFIX + label, labelValue,
+          key));
+    }
+  }
+
+  private void addToIndex(String attribute, String indexValue, AttributeSet key) {
+    if (indexValue != null) {
+      indices.computeIfAbsent(attribute, k -> new ConcurrentHashMap<>())
+          .computeIfAbsent(indexValue, k -> ConcurrentHashMap.newKeySet())
+          .add(key);
+    }
+  }
+
+  /**
+   * Remove the value for the key
+   *
+   * @return the removed value, or null if there was none
+   */
+  String remove(AttributeSet key) {
+    if (key == null) {
+      return null;
+    }
+    String value = store.remove(key);
+    if (sequences.remove(key) == null) {
+      return value;
+    }
+    indices.forEach((attribute, index) -> {
+      String indexValue = getIndexValue(key, attribute);
+      if (indexValue != null) {
+        index.computeIfPresent(indexValue, (k, keys) -> {
+          keys.remove(key);
+          return keys.isEmpty() ? null : keys;
+        });
+      }
+    });
+    return value;
+  }
+
+  String get(AttributeSet key) {
+    return store.get(key);
+  }
+
+  /**
+   * Find the entries whose keys match the query
+   *
+   * @return the matching entries, in the order in which they were stored
+   */
+  List<Map.Entry<AttributeSet, String>> find(AttributeSet query) {
+    return getCandidates(query).stream()
+        .filter(key -> key.matches(query))
+        .map(key -> new AbstractMap.SimpleImmutableEntry<>(key, sequences.get(key)))
+        .filter(entry -> entry.getValue() != null)
+        .sorted(Map.Entry.comparingByValue())
+        .map(entry -> new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), store.get(entry.getKey())))
+        .filter(entry -> entry.getValue() != null)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Use the smallest index matching the query attributes, which will contain all possible matches
+   */
+  private Collection<AttributeSet> getCandidates(AttributeSet query) {
+    Collection<AttributeSet> candidates = sequences.keySet();
+    for (String attribute : INDEXED_ATTRIBUTES) {
+      String indexValue = getIndexValue(query, attribute);
+      if (indexValue != null && indices.get(attribute) == null) {
+        return Collections.emptySet();
+      }
+    }
+    for (Map.Entry<String, Map<String, Set<AttributeSet>>> index : indices.entrySet()) {
+      String indexValue = getIndexValue(query, index.getKey());
+      if (indexValue != null) {
+        Set<AttributeSet> keys = index.getValue().get(indexValue);
+        if (keys == null) {
+          return Collections.emptySet();
+        }
+        if (keys.size() < candidates.size()) {
+          candidates = keys;
+        }
+      }
+    }
+    return candidates;
+  }
+
+  void clear() {
+    store.clear();
+    sequences.clear();
+    indices.clear();
+  }
+
+  /**
+   * @return the value of the attribute, if it must be equal to it - not for other requirements, such as label
+   *         inequality or existence
+   */
+  private static String getIndexValue(AttributeSet attributes, String name) {
+    Attribute attribute = attributes.getAttribute(name);
+    return attribute == null || attribute.getType() != AttributeType.WITH ? null : String.valueOf(attribute.getValue());
+  }
+
+}
@@ -27,9 +27,23 @@ public class KubernetesResponseComposer implements ResponseComposer {
   }
 
   public String compose(Collection<String> collection, String resourceVersion) {
+    return compose(collection, resourceVersion, null, null);
+  }
+
+  /**
+   * Compose a page of a list
+   *
+   * @param continueVal the continue token for the next page, or null if this is the last page
+   * @param remainingItemCount the number of items in the following pages, or null if this is the last page
+   */
+  public String compose(Collection<String> collection, String resourceVersion, String continueVal, Long remainingItemCount) {
+    String pageMetadata = "";
+    if (continueVal != null) {
+      pageMetadata = String.format(", \"continue\": \"%s\", \"remainingItemCount\": %d", continueVal, remainingItemCount);
+    }
     return String.format(
         "{\"apiVersion\":\"v1\",\"kind\":\"List\", \"items\": [%s], " +
-            "\"metadata\": {\"resourceVersion\": \"%s\", \"selfLink\": \"\"}}",
-        String.join(",", collection), resourceVersion);
+            "\"metadata\": {\"resourceVersion\": \"%s\", \"selfLink\": \"\"%s}}",
+        String.join(",", collection), resourceVersion, pageMetadata);
   }
 }
@@ -16,8 +16,8 @@
 package io.fabric8.kubernetes.client.server.mock;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import io.fabric8.kubernetes.api.model.KubernetesResource;
-import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.mockwebserver.Context;
@@ -28,12 +28,14 @@ import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 class WatchEventsListener extends WebSocketListener {
   private final AtomicReference<WebSocket> webSocketRef = new AtomicReference<>();
@@ -42,15 +44,15 @@ class WatchEventsListener extends WebSocketListener {
   private final Context context;
   private final Set<WatchEventsListener> watchEventListenerList;
   private final Logger logger;
-  private final Consumer<WatchEventsListener> onOpenAction;
+  // messages sent before the websocket is open, guarded by itself
+  private final List<WebSocketMessage> pendingMessages = new ArrayList<>();
 
   public WatchEventsListener(Context context, AttributeSet attributeSet, final Set<WatchEventsListener> watchEventListenerList,
-      Logger logger, Consumer<WatchEventsListener> onOpenAction) {
+      Logger logger) {
     this.logger = logger;
     this.context = context;
     this.attributeSet = attributeSet;
     this.watchEventListenerList = watchEventListenerList;
-    this.onOpenAction = onOpenAction;
   }
 
   public boolean attributeMatches(AttributeSet set) {
@@ -59,8 +61,11 @@ class WatchEventsListener extends WebSocketListener {
 
   @Override
   public void onOpen(WebSocket webSocket, Response response) {
-    webSocketRef.set(webSocket);
-    onOpenAction.accept(this);
+    synchronized (pendingMessages) {
+      webSocketRef.set(webSocket);
+      pendingMessages.forEach(this::schedule);
+      pendingMessages.clear();
+    }
   }
 
   @Override
@@ -97,8 +102,40 @@ class WatchEventsListener extends WebSocketListener {
   }
 
   public void sendWebSocketResponse(String object, Watcher.Action action) {
-    WebSocketMessage message = toWebSocketMessage(context,
-        new WatchEvent(Serialization.unmarshal(object, KubernetesResource.class), action.name()));
+    send(action, object);
+  }
+
+  public void sendError(Status status) {
+    send(Watcher.Action.ERROR, Serialization.asJson(status));
+  }
+
+  /**
+   * Periodically send a BOOKMARK event with the latest resourceVersion
+   *
+   * @param resourceVersion supplies a resourceVersion that all events sent so far are no newer than
+   * @param intervalMillis the bookmark interval
+   */
+  public void scheduleBookmarks(Supplier<String> resourceVersion, long intervalMillis) {
+    executor.scheduleAtFixedRate(() -> send(Watcher.Action.BOOKMARK, Serialization.asJson(new GenericKubernetesResourceBuilder()
+        .withNewMetadata().withResourceVersion(resourceVersion.get()).endMetadata()
+        .build())), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Send the event as the api server would, with the type preceding the object
+   */
+  private void send(Watcher.Action action, String object) {
+    WebSocketMessage message = toWebSocketMessage(context, "{\"type\":\"" + action.name() + "\",\"object\":" + object + "}");
+    synchronized (pendingMessages) {
+      if (webSocketRef.get() == null) {
+        pendingMessages.add(message);
+      } else {
+        schedule(message);
+      }
+    }
+  }
+
+  private void schedule(WebSocketMessage message) {
     executor.schedule(() -> webSocketRef.get().send(message.getBody()), message.getDelay(), TimeUnit.SECONDS);
   }
 
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import io.fabric8.mockwebserver.crud.AttributeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KubernetesCrudIndexTest {
+
+  private KubernetesAttributesExtractor extractor;
+  private Map<AttributeSet, String> store;
+  private KubernetesCrudIndex index;
+
+  @BeforeEach
+  void setUp() {
+    extractor = new KubernetesAttributesExtractor();
+    store = new HashMap<>();
+    index = new KubernetesCrudIndex(store);
+    index.put(extractor.fromPath("/api/v1/namespaces/ns1/pods/a?labelSelector=app%3Dx"), "pod-a",
+        Collections.singletonMap("app", "x"));
+    index.put(extractor.fromPath("/api/v1/namespaces/ns2/pods/b?labelSelector=app%3Dy"), "pod-b",
+        Collections.singletonMap("app", "y"));
+    index.put(extractor.fromPath("/api/v1/namespaces/ns1/configmaps/a"), "configmap-a", null);
+    index.put(extractor.fromPath("/api/v1/namespaces/ns1/pods/c"), "pod-c", null);
+  }
+
+  @Test
+  void findsByPluralNamespaceAndName() {
+    assertEquals(Arrays.asList("pod-a", "pod-b", "pod-c"), find("/api/v1/pods"));
+    assertEquals(Arrays.asList("pod-a", "pod-c"), find("/api/v1/namespaces/ns1/pods"));
+    assertEquals(Collections.singletonList("configmap-a"), find("/api/v1/namespaces/ns1/configmaps/a"));
+    assertEquals(Collections.singletonList("pod-a"), find("/api/v1/pods?labelSelector=app%3Dx"));
+    assertEquals(Collections.emptyList(), find("/api/v1/namespaces/ns3/pods"));
+  }
+
+  @Test
+  void findsByLabelRequirements() {
+    assertEquals(Collections.singletonList("pod-b"), find("/api/v1/pods?labelSelector=app%3Dy"));
+    assertEquals(Collections.emptyList(), find("/api/v1/pods?labelSelector=app%3Dz"));
+    assertEquals(Collections.emptyList(), find("/api/v1/namespaces/ns1/pods?labelSelector=app%3Dy"));
+    // only equality requirements use the index
+    assertEquals(Arrays.asList("pod-b", "pod-c"), find("/api/v1/pods?labelSelector=app%21%3Dx"));
+    assertEquals(Arrays.asList("pod-a", "pod-b"), find("/api/v1/pods?labelSelector=app"));
+  }
+
+  @Test
+  void valuesAreOnlyHeldByTheStore() {
+    AttributeSet b = extractor.fromPath("/api/v1/namespaces/ns2/pods/b?labelSelector=app%3Dy");
+    assertEquals(4, store.size());
+    assertEquals("pod-b", store.get(b));
+
+    store.put(b, "pod-b2");
+    assertEquals(Collections.singletonList("pod-b2"), find("/api/v1/namespaces/ns2/pods"));
+  }
+
+  @Test
+  void updatesAndRemovals() {
+    AttributeSet a = extractor.fromPath("/api/v1/namespaces/ns1/pods/a?labelSelector=app%3Dx");
+    index.put(a, "pod-a2", Collections.singletonMap("app", "x"));
+
+    // updated entries move to the end, as with the insertion order of the original map
+    assertEquals(Arrays.asList("pod-c", "pod-a2"), find("/api/v1/namespaces/ns1/pods"));
+
+    assertEquals("pod-a2", index.remove(a));
+    assertNull(index.get(a));
+    assertEquals(Collections.emptyList(), find("/api/v1/pods?labelSelector=app%3Dx"));
+    assertEquals(Collections.singletonList("pod-c"), find("/api/v1/namespaces/ns1/pods"));
+
+    index.clear();
+    assertEquals(Collections.emptyList(), find("/api/v1/pods"));
+    assertEquals(Collections.emptyMap(), store);
+  }
+
+  private List<String> find(String path) {
+    return index.find(extractor.fromPath(path)).stream().map(Map.Entry::getValue).collect(Collectors.toList());
+  }
+
+}
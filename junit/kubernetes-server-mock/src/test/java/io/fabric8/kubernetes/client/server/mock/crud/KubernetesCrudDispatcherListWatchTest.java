@@ -0,0 +1,230 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock.crud;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KubernetesCrudDispatcherListWatchTest {
+
+  private KubernetesCrudDispatcher dispatcher;
+  private KubernetesMockServer server;
+  private KubernetesClient client;
+
+  @BeforeEach
+  void setUp() {
+    dispatcher = new KubernetesCrudDispatcher();
+    server = new KubernetesMockServer(new Context(Serialization.jsonMapper()),
+        new MockWebServer(), new HashMap<>(), dispatcher, false);
+    server.start();
+    client = server.createClient();
+    for (int i = 1; i <= 5; i++) {
+      client.configMaps().resource(configMap("cm-" + i)).create();
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.close();
+    server.shutdown();
+  }
+
+  private static ConfigMap configMap(String name) {
+    return new ConfigMapBuilder().withNewMetadata().withName(name).withNamespace("test").endMetadata().build();
+  }
+
+  @Test
+  void listInPages() {
+    ConfigMapList page = client.configMaps().inNamespace("test").list(new ListOptionsBuilder().withLimit(2L).build());
+
+    assertThat(names(page)).containsExactly("cm-1", "cm-2");
+    assertThat(page.getMetadata().getContinue()).isNotEmpty();
+    assertThat(page.getMetadata().getRemainingItemCount()).isEqualTo(3L);
+
+    page = client.configMaps().inNamespace("test")
+        .list(new ListOptionsBuilder().withLimit(2L).withContinue(page.getMetadata().getContinue()).build());
+    assertThat(names(page)).containsExactly("cm-3", "cm-4");
+
+    page = client.configMaps().inNamespace("test")
+        .list(new ListOptionsBuilder().withLimit(2L).withContinue(page.getMetadata().getContinue()).build());
+    assertThat(names(page)).containsExactly("cm-5");
+    assertThat(page.getMetadata().getContinue()).isNull();
+
+    assertThat(names(client.configMaps().inNamespace("test").list())).hasSize(5);
+  }
+
+  @Test
+  void listPagesAreReadFromTheFirstPageSnapshot() {
+    ConfigMapList page = client.configMaps().inNamespace("test").list(new ListOptionsBuilder().withLimit(2L).build());
+    String resourceVersion = page.getMetadata().getResourceVersion();
+    client.configMaps().inNamespace("test").withName("cm-3").delete();
+    client.configMaps().resource(configMap("cm-0")).create();
+    client.configMaps().resource(configMap("cm-35")).create();
+
+    page = client.configMaps().inNamespace("test")
+        .list(new ListOptionsBuilder().withLimit(2L).withContinue(page.getMetadata().getContinue()).build());
+
+    assertThat(names(page)).containsExactly("cm-3", "cm-4");
+    assertThat(page.getMetadata().getResourceVersion()).isEqualTo(resourceVersion);
+    assertThat(page.getMetadata().getRemainingItemCount()).isEqualTo(1L);
+    assertThat(names(client.configMaps().inNamespace("test").list(new ListOptionsBuilder().withLimit(10L).build())))
+        .containsExactly("cm-0", "cm-1", "cm-2", "cm-35", "cm-4", "cm-5");
+  }
+
+  @Test
+  void listContinueFromCompactedResourceVersionIsGone() {
+    dispatcher.setWatchEventHistoryLimit(1);
+    ConfigMapList page = client.configMaps().inNamespace("test").list(new ListOptionsBuilder().withLimit(2L).build());
+    client.configMaps().resource(configMap("cm-6")).create();
+    client.configMaps().resource(configMap("cm-7")).create();
+    ListOptions options = new ListOptionsBuilder().withLimit(2L).withContinue(page.getMetadata().getContinue()).build();
+
+    assertThatThrownBy(() -> client.configMaps().inNamespace("test").list(options))
+        .isInstanceOfSatisfying(KubernetesClientException.class, e -> assertThat(e.getCode()).isEqualTo(410));
+  }
+
+  @Test
+  void deletedEventHasTheResourceVersionOfTheDelete() throws Exception {
+    String resourceVersion = client.configMaps().inNamespace("test").list().getMetadata().getResourceVersion();
+    CompletableFuture<ConfigMap> deleted = new CompletableFuture<>();
+    Watch watch = client.configMaps().inNamespace("test")
+        .watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(), new Watcher<ConfigMap>() {
+          @Override
+          public void eventReceived(Action action, ConfigMap resource) {
+            if (action == Action.DELETED) {
+              deleted.complete(resource);
+            }
+          }
+
+          @Override
+          public void onClose(WatcherException cause) {
+          }
+        });
+    client.configMaps().inNamespace("test").withName("cm-1").delete();
+
+    assertThat(deleted.get(10, TimeUnit.SECONDS).getMetadata().getResourceVersion())
+        .isEqualTo(client.configMaps().inNamespace("test").list().getMetadata().getResourceVersion())
+        .isNotEqualTo(resourceVersion);
+    watch.close();
+  }
+
+  @Test
+  void watchResumesFromResourceVersion() throws InterruptedException {
+    String resourceVersion = client.configMaps().inNamespace("test").list().getMetadata().getResourceVersion();
+    client.configMaps().resource(configMap("cm-6")).create();
+    client.configMaps().inNamespace("test").withName("cm-1").delete();
+
+    List<String> events = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(3);
+    Watch watch = client.configMaps().inNamespace("test")
+        .watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(), new Watcher<ConfigMap>() {
+          @Override
+          public void eventReceived(Action action, ConfigMap resource) {
+            events.add(action + " " + resource.getMetadata().getName());
+            latch.countDown();
+          }
+
+          @Override
+          public void onClose(WatcherException cause) {
+          }
+        });
+    client.configMaps().resource(configMap("cm-7")).create();
+
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(events).containsExactly("ADDED cm-6", "DELETED cm-1", "ADDED cm-7");
+    watch.close();
+  }
+
+  @Test
+  void watchFromCompactedResourceVersionIsGone() throws Exception {
+    dispatcher.setWatchEventHistoryLimit(1);
+    String resourceVersion = client.configMaps().inNamespace("test").list().getMetadata().getResourceVersion();
+    client.configMaps().resource(configMap("cm-6")).create();
+    client.configMaps().resource(configMap("cm-7")).create();
+
+    CompletableFuture<WatcherException> closed = new CompletableFuture<>();
+    client.configMaps().inNamespace("test")
+        .watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(), new Watcher<ConfigMap>() {
+          @Override
+          public void eventReceived(Action action, ConfigMap resource) {
+          }
+
+          @Override
+          public void onClose(WatcherException cause) {
+            closed.complete(cause);
+          }
+        });
+
+    assertThat(closed.get(10, TimeUnit.SECONDS).isHttpGone()).isTrue();
+  }
+
+  @Test
+  void watchReceivesBookmarks() throws InterruptedException {
+    dispatcher.setWatchBookmarkIntervalMillis(100);
+    String resourceVersion = client.configMaps().inNamespace("test").list().getMetadata().getResourceVersion();
+
+    CountDownLatch latch = new CountDownLatch(1);
+    Watch watch = client.configMaps().inNamespace("test")
+        .watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).withAllowWatchBookmarks(true).build(),
+            new Watcher<ConfigMap>() {
+              @Override
+              public void eventReceived(Action action, ConfigMap resource) {
+                if (action == Action.BOOKMARK && resourceVersion.equals(resource.getMetadata().getResourceVersion())) {
+                  latch.countDown();
+                }
+              }
+
+              @Override
+              public void onClose(WatcherException cause) {
+              }
+            });
+
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    watch.close();
+  }
+
+  private static List<String> names(ConfigMapList list) {
+    return list.getItems().stream().map(cm -> cm.getMetadata().getName()).collect(Collectors.toList());
+  }
+
+}
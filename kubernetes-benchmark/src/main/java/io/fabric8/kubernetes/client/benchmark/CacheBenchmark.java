@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Informer cache writes contending with indexed reads.
+ */
+@State(Scope.Group)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class CacheBenchmark {
+
+  private static final int PODS = 10_000;
+  private static final String NODE_INDEX = "node";
+
+  private CacheImpl<Pod> cache;
+  private Pod[] pods;
+  private Pod[] moved;
+  private String[] nodes;
+
+  @State(Scope.Thread)
+  public static class Counter {
+    int next;
+  }
+
+  @Setup
+  public void setup() {
+    cache = new CacheImpl<>();
+    cache.addIndexers(Collections.singletonMap(NODE_INDEX,
+        pod -> Collections.singletonList(pod.getSpec().getNodeName())));
+    pods = new Pod[PODS];
+    moved = new Pod[PODS];
+    for (int i = 0; i < PODS; i++) {
+      pods[i] = Pods.create(i);
+      moved[i] = Pods.create(i, "node-" + ((i + 1) % Pods.NODES), "2");
+      cache.put(pods[i]);
+    }
+    nodes = new String[Pods.NODES];
+    for (int i = 0; i < Pods.NODES; i++) {
+      nodes[i] = "node-" + i;
+    }
+  }
+
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(1)
+  public Pod put(Counter counter) {
+    int i = counter.next++;
+    // alternate between the nodes so that every put changes the index
+    Pod[] source = (i / PODS) % 2 == 0 ? moved : pods;
+    return cache.put(source[i % PODS]);
+  }
+
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(3)
+  public List<Pod> byIndex(Counter counter) {
+    return cache.byIndex(NODE_INDEX, nodes[counter.next++ % Pods.NODES]);
+  }
+
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization.clone of generated resources, compared with a round trip through a JSON String.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class CloneBenchmark {
+
+  @Param({ "pod", "deployment", "configmap" })
+  private String kind;
+
+  private HasMetadata resource;
+
+  @Setup
+  public void setup() {
+    if ("deployment".equals(kind)) {
+      resource = new DeploymentBuilder()
+          .withNewMetadata().withName("deployment").withNamespace(Pods.NAMESPACE).addToLabels("app", "benchmark")
+          .endMetadata()
+          .withNewSpec()
+          .withReplicas(3)
+          .withNewSelector().addToMatchLabels("app", "benchmark").endSelector()
+          .withNewTemplate()
+          .withMetadata(Pods.create(1).getMetadata())
+          .withSpec(Pods.create(1).getSpec())
+          .endTemplate()
+          .endSpec()
+          .build();
+    } else if ("configmap".equals(kind)) {
+      ConfigMapBuilder builder = new ConfigMapBuilder()
+          .withNewMetadata().withName("configmap").withNamespace(Pods.NAMESPACE).addToLabels("app", "benchmark")
+          .endMetadata();
+      for (int i = 0; i < 20; i++) {
+        builder.addToData("key-" + i, "value-" + i);
+      }
+      resource = builder.build();
+    } else {
+      resource = Pods.create(1);
+    }
+  }
+
+  @Benchmark
+  public HasMetadata serializationClone() {
+    return Serialization.clone(resource);
+  }
+
+  @Benchmark
+  public HasMetadata stringRoundTrip() throws JsonProcessingException {
+    return Serialization.jsonMapper().readValue(Serialization.jsonMapper().writeValueAsString(resource),
+        resource.getClass());
+  }
+
+}
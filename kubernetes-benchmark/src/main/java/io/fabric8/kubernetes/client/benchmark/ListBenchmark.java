@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Deserialization of large lists, directly and through a list request to the mock server.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+public class ListBenchmark {
+
+  @Param({ "1000", "10000" })
+  private int items;
+
+  private String json;
+  private KubernetesMockServer server;
+  private KubernetesClient client;
+
+  @Setup
+  public void setup() {
+    json = Serialization.asJson(new PodListBuilder()
+        .withNewMetadata().withResourceVersion("1").endMetadata()
+        .withItems(IntStream.range(0, items).mapToObj(Pods::create).collect(Collectors.toList()))
+        .build());
+    server = new KubernetesMockServer(false);
+    server.init();
+    server.expect().get().withPath("/api/v1/namespaces/" + Pods.NAMESPACE + "/pods").andReturn(200, json).always();
+    client = server.createClient();
+  }
+
+  @TearDown
+  public void tearDown() {
+    client.close();
+    server.destroy();
+  }
+
+  @Benchmark
+  public PodList unmarshal() {
+    return Serialization.unmarshal(json, PodList.class);
+  }
+
+  @Benchmark
+  public PodList list() {
+    return client.pods().inNamespace(Pods.NAMESPACE).list();
+  }
+
+  @Benchmark
+  public long streamItems() {
+    try (Stream<Pod> stream = client.pods().inNamespace(Pods.NAMESPACE).streamItems()) {
+      return stream.count();
+    }
+  }
+
+}
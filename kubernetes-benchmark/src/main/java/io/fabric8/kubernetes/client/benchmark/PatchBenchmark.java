@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.dsl.internal.PatchUtils;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.zjsonpatch.JsonDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Json patch generation for an edit, compared with diffing the converted trees with zjsonpatch.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class PatchBenchmark {
+
+  @Param({ "unchanged", "label", "container" })
+  private String change;
+
+  private Pod current;
+  private Pod updated;
+
+  @Setup
+  public void setup() {
+    current = Pods.create(1);
+    PodBuilder builder = new PodBuilder(current);
+    if ("label".equals(change)) {
+      builder.editMetadata().addToLabels("edited", "true").endMetadata();
+    } else if ("container".equals(change)) {
+      builder.editSpec().addNewContainer().withName("sidecar").withImage("quay.io/fabric8/sidecar:latest").endContainer()
+          .editFirstContainer().withImage("quay.io/fabric8/benchmark:1.0").endContainer().endSpec();
+    }
+    updated = builder.build();
+  }
+
+  @Benchmark
+  public String jsonDiff() {
+    return PatchUtils.jsonDiff(current, updated, false);
+  }
+
+  @Benchmark
+  public String zjsonpatch() throws JsonProcessingException {
+    return Serialization.jsonMapper().writeValueAsString(JsonDiff.asJson(
+        Serialization.jsonMapper().convertValue(current, ObjectNode.class),
+        Serialization.jsonMapper().convertValue(updated, ObjectNode.class)));
+  }
+
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+
+/**
+ * Creates representative pods for the benchmarks.
+ */
+final class Pods {
+
+  static final String NAMESPACE = "test";
+  static final int NODES = 100;
+
+  private Pods() {
+  }
+
+  static Pod create(int index) {
+    return create(index, "node-" + (index % NODES), "1");
+  }
+
+  static Pod create(int index, String nodeName, String resourceVersion) {
+    return new PodBuilder()
+        .withNewMetadata()
+        .withName("pod-" + index)
+        .withNamespace(NAMESPACE)
+        .withResourceVersion(resourceVersion)
+        .withUid("00000000-0000-0000-0000-" + String.format("%012d", index))
+        .addToLabels("app", "benchmark")
+        .addToLabels("index", String.valueOf(index))
+        .endMetadata()
+        .withNewSpec()
+        .withNodeName(nodeName)
+        .addNewContainer()
+        .withName("main")
+        .withImage("quay.io/fabric8/benchmark:latest")
+        .addNewEnv().withName("INDEX").withValue(String.valueOf(index)).endEnv()
+        .addNewPort().withContainerPort(8080).withName("http").endPort()
+        .withNewResources()
+        .addToRequests("cpu", new Quantity("100m"))
+        .addToRequests("memory", new Quantity("128Mi"))
+        .endResources()
+        .endContainer()
+        .endSpec()
+        .withNewStatus()
+        .withPhase("Running")
+        .withPodIP("10.0.0." + (index % 256))
+        .endStatus()
+        .build();
+  }
+
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener;
+import io.fabric8.kubernetes.client.informers.impl.cache.SharedProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distribution of notifications from the informer to its handlers.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+public class SharedProcessorBenchmark {
+
+  private static final int NOTIFICATIONS = 10_000;
+
+  @Param({ "1", "10" })
+  private int listeners;
+
+  private ExecutorService executor;
+  private SharedProcessor<Pod> processor;
+  private ProcessorListener.UpdateNotification<Pod>[] notifications;
+  private volatile CountDownLatch delivered;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    executor = Executors.newCachedThreadPool();
+    processor = new SharedProcessor<>(executor, "benchmark");
+    ResourceEventHandler<Pod> handler = new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        delivered.countDown();
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+        delivered.countDown();
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+        delivered.countDown();
+      }
+    };
+    for (int i = 0; i < listeners; i++) {
+      processor.addListener(new ProcessorListener<>(handler, 0));
+    }
+    notifications = new ProcessorListener.UpdateNotification[NOTIFICATIONS];
+    for (int i = 0; i < NOTIFICATIONS; i++) {
+      Pod pod = Pods.create(i);
+      notifications[i] = new ProcessorListener.UpdateNotification<>(pod, pod);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    processor.stop();
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NOTIFICATIONS)
+  public void distribute() throws InterruptedException {
+    delivered = new CountDownLatch(NOTIFICATIONS * listeners);
+    for (ProcessorListener.UpdateNotification<Pod> notification : notifications) {
+      processor.distribute(notification, false);
+    }
+    if (!delivered.await(1, TimeUnit.MINUTES)) {
+      throw new IllegalStateException("Only delivered " + (NOTIFICATIONS * listeners - delivered.getCount()));
+    }
+  }
+
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of watch events received from the mock server and delivered to the watcher.
+ * <br>
+ * Each invocation resumes a watch from before the pods were created, so that the mock server
+ * replays the same events from its history.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+public class WatchBenchmark {
+
+  private static final int EVENTS = 1000;
+
+  private KubernetesMockServer server;
+  private KubernetesClient client;
+  private String resourceVersion;
+
+  @Setup
+  public void setup() {
+    KubernetesCrudDispatcher dispatcher = new KubernetesCrudDispatcher();
+    dispatcher.setWatchEventHistoryLimit(EVENTS);
+    server = new KubernetesMockServer(new Context(Serialization.jsonMapper()), new MockWebServer(), new HashMap<>(),
+        dispatcher, false);
+    server.start();
+    client = server.createClient();
+    resourceVersion = client.pods().inNamespace(Pods.NAMESPACE).list().getMetadata().getResourceVersion();
+    for (int i = 0; i < EVENTS; i++) {
+      Pod pod = Pods.create(i);
+      pod.getMetadata().setResourceVersion(null);
+      client.pods().resource(pod).create();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    client.close();
+    server.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void watch() throws InterruptedException {
+    CountDownLatch received = new CountDownLatch(EVENTS);
+    try (Watch watch = client.pods().inNamespace(Pods.NAMESPACE)
+        .watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(), new Watcher<Pod>() {
+          @Override
+          public void eventReceived(Action action, Pod resource) {
+            received.countDown();
+          }
+
+          @Override
+          public void onClose(WatcherException cause) {
+            // nothing to do
+          }
+        })) {
+      if (!received.await(1, TimeUnit.MINUTES)) {
+        throw new IllegalStateException("Only received " + (EVENTS - received.getCount()) + " events");
+      }
+    }
+  }
+
+}
@@ -50,6 +50,9 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -102,6 +105,8 @@ public class Config {
   public static final String KUBERNETES_WEBSOCKET_PING_INTERVAL_SYSTEM_PROPERTY = "kubernetes.websocket.ping.interval";
   public static final String KUBERNETES_MAX_CONCURRENT_REQUESTS = "kubernetes.max.concurrent.requests";
   public static final String KUBERNETES_MAX_CONCURRENT_REQUESTS_PER_HOST = "kubernetes.max.concurrent.requests.per.host";
+  public static final String KUBERNETES_MAX_REQUESTS_PER_SECOND = "kubernetes.max.requests.per.second";
+  public static final String KUBERNETES_MAX_REQUEST_BURST = "kubernetes.max.request.burst";
 
   public static final String KUBERNETES_IMPERSONATE_USERNAME = "kubernetes.impersonate.username";
   public static final String KUBERNETES_IMPERSONATE_GROUP = "kubernetes.impersonate.group";
@@ -176,10 +181,13 @@ public class Config {
   private String password;
   private volatile String oauthToken;
   private OAuthTokenProvider oauthTokenProvider;
+  private Instant oauthTokenExpiration;
   private long websocketPingInterval = DEFAULT_WEBSOCKET_PING_INTERVAL;
   private int connectionTimeout = 10 * 1000;
   private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
   private int maxConcurrentRequestsPerHost = DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST;
+  private int maxRequestsPerSecond;
+  private int maxRequestBurst;
 
   private RequestConfig requestConfig = new RequestConfig();
 
@@ -334,7 +342,7 @@ public class Config {
         DEFAULT_UPLOAD_REQUEST_TIMEOUT);
   }
 
-  @Buildable(builderPackage = "io.fabric8.kubernetes.api.builder", editableEnabled = false)
+  @Deprecated
   public Config(String masterUrl, String apiVersion, String namespace, boolean trustCerts, boolean disableHostnameVerification,
       String caCertFile, String caCertData, String clientCertFile, String clientCertData, String clientKeyFile,
       String clientKeyData, String clientKeyAlgo, String clientKeyPassphrase, String username, String password,
@@ -346,6 +354,28 @@ public class Config {
       String impersonateUsername, String[] impersonateGroups, Map<String, List<String>> impersonateExtras,
       OAuthTokenProvider oauthTokenProvider, Map<String, String> customHeaders, int requestRetryBackoffLimit,
       int requestRetryBackoffInterval, int uploadRequestTimeout) {
+    this(masterUrl, apiVersion, namespace, trustCerts, disableHostnameVerification, caCertFile, caCertData, clientCertFile,
+        clientCertData, clientKeyFile, clientKeyData, clientKeyAlgo, clientKeyPassphrase, username, password, oauthToken,
+        watchReconnectInterval, watchReconnectLimit, connectionTimeout, requestTimeout, scaleTimeout,
+        loggingInterval, maxConcurrentRequests, maxConcurrentRequestsPerHost, http2Disable, httpProxy, httpsProxy, noProxy,
+        errorMessages, userAgent, tlsVersions, websocketTimeout, websocketPingInterval, proxyUsername, proxyPassword,
+        trustStoreFile, trustStorePassphrase, keyStoreFile, keyStorePassphrase, impersonateUsername, impersonateGroups,
+        impersonateExtras, oauthTokenProvider, customHeaders, requestRetryBackoffLimit, requestRetryBackoffInterval,
+        uploadRequestTimeout, 0, 0);
+  }
+
+  @Buildable(builderPackage = "io.fabric8.kubernetes.api.builder", editableEnabled = false)
+  public Config(String masterUrl, String apiVersion, String namespace, boolean trustCerts, boolean disableHostnameVerification,
+      String caCertFile, String caCertData, String clientCertFile, String clientCertData, String clientKeyFile,
+      String clientKeyData, String clientKeyAlgo, String clientKeyPassphrase, String username, String password,
+      String oauthToken, int watchReconnectInterval, int watchReconnectLimit, int connectionTimeout, int requestTimeout,
+      long scaleTimeout, int loggingInterval, int maxConcurrentRequests, int maxConcurrentRequestsPerHost,
+      boolean http2Disable, String httpProxy, String httpsProxy, String[] noProxy, Map<Integer, String> errorMessages,
+      String userAgent, TlsVersion[] tlsVersions, long websocketTimeout, long websocketPingInterval, String proxyUsername,
+      String proxyPassword, String trustStoreFile, String trustStorePassphrase, String keyStoreFile, String keyStorePassphrase,
+      String impersonateUsername, String[] impersonateGroups, Map<String, List<String>> impersonateExtras,
+      OAuthTokenProvider oauthTokenProvider, Map<String, String> customHeaders, int requestRetryBackoffLimit,
+      int requestRetryBackoffInterval, int uploadRequestTimeout, int maxRequestsPerSecond, int maxRequestBurst) {
     this.apiVersion = apiVersion;
     this.namespace = namespace;
     this.trustCerts = trustCerts;
@@ -393,6 +423,8 @@ public class Config {
     this.masterUrl = ensureEndsWithSlash(ensureHttps(masterUrl, this));
     this.maxConcurrentRequests = maxConcurrentRequests;
     this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+    this.maxRequestsPerSecond = maxRequestsPerSecond;
+    this.maxRequestBurst = maxRequestBurst;
   }
 
   public static void configFromSysPropsOrEnvVars(Config config) {
@@ -497,6 +529,10 @@ public class Config {
       config.setMaxConcurrentRequestsPerHost(Integer.parseInt(configuredMaxConcurrentReqeustsPerHost));
     }
 
+    config.setMaxRequestsPerSecond(
+        Utils.getSystemPropertyOrEnvVar(KUBERNETES_MAX_REQUESTS_PER_SECOND, config.getMaxRequestsPerSecond()));
+    config.setMaxRequestBurst(Utils.getSystemPropertyOrEnvVar(KUBERNETES_MAX_REQUEST_BURST, config.getMaxRequestBurst()));
+
     config.setHttp2Disable(Utils.getSystemPropertyOrEnvVar(KUBERNETES_HTTP2_DISABLE, config.isHttp2Disable()));
 
     config.setHttpProxy(Utils.getSystemPropertyOrEnvVar(KUBERNETES_ALL_PROXY, config.getHttpProxy()));
@@ -751,6 +787,7 @@ public class Config {
               ExecCredential ec = getExecCredentialFromExecConfig(exec, configFile);
               if (ec != null && ec.status != null && ec.status.token != null) {
                 config.setOauthToken(ec.status.token);
+                config.setOauthTokenExpiration(parseExpirationTimestamp(ec.status.expirationTimestamp));
               } else {
                 LOGGER.warn("No token returned");
               }
@@ -804,6 +841,18 @@ public class Config {
     return null;
   }
 
+  private static Instant parseExpirationTimestamp(String expirationTimestamp) {
+    if (Utils.isNullOrEmpty(expirationTimestamp)) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(expirationTimestamp).toInstant();
+    } catch (DateTimeParseException e) {
+      LOGGER.warn("Invalid expirationTimestamp {}", expirationTimestamp);
+      return null;
+    }
+  }
+
   protected static List<String> getAuthenticatorCommandFromExecConfig(ExecConfig exec, File configFile,
       String systemPathValue) {
     String command = exec.getCommand();
@@ -876,7 +925,8 @@ public class Config {
   @JsonIgnoreProperties(ignoreUnknown = true)
   public static final class ExecCredentialStatus {
     public String token;
-    // TODO clientCertificateData, clientKeyData, expirationTimestamp
+    public String expirationTimestamp;
+    // TODO clientCertificateData, clientKeyData
   }
 
   private static boolean tryNamespaceFromPath(Config config) {
@@ -1322,6 +1372,10 @@ public class Config {
     this.websocketPingInterval = websocketPingInterval;
   }
 
+  /**
+   * @return the maximum number of requests in flight. The {@link #DEFAULT_MAX_CONCURRENT_REQUESTS} default is not
+   *         enforced, only a different value limits the requests made by the client.
+   */
   public int getMaxConcurrentRequests() {
     return maxConcurrentRequests;
   }
@@ -1330,6 +1384,10 @@ public class Config {
     this.maxConcurrentRequests = maxConcurrentRequests;
   }
 
+  /**
+   * @return the maximum number of requests in flight to each host. The {@link #DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST}
+   *         default is not enforced, only a different value limits the requests made by the client.
+   */
   public int getMaxConcurrentRequestsPerHost() {
     return maxConcurrentRequestsPerHost;
   }
@@ -1338,6 +1396,29 @@ public class Config {
     this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
   }
 
+  /**
+   * @return the sustained rate of requests per second allowed by the client, or 0 for no limit
+   */
+  public int getMaxRequestsPerSecond() {
+    return maxRequestsPerSecond;
+  }
+
+  public void setMaxRequestsPerSecond(int maxRequestsPerSecond) {
+    this.maxRequestsPerSecond = maxRequestsPerSecond;
+  }
+
+  /**
+   * @return the number of requests that may be made at once above the {@link #getMaxRequestsPerSecond()} rate,
+   *         or 0 to use the rate
+   */
+  public int getMaxRequestBurst() {
+    return maxRequestBurst;
+  }
+
+  public void setMaxRequestBurst(int maxRequestBurst) {
+    this.maxRequestBurst = maxRequestBurst;
+  }
+
   @JsonProperty("proxyUsername")
   public String getProxyUsername() {
     return proxyUsername;
@@ -1405,6 +1486,18 @@ public class Config {
     this.oauthTokenProvider = oauthTokenProvider;
   }
 
+  /**
+   * @return when the oauth token provided by an exec credential plugin expires, or null if unknown
+   */
+  @JsonIgnore
+  public Instant getOauthTokenExpiration() {
+    return oauthTokenExpiration;
+  }
+
+  public void setOauthTokenExpiration(Instant oauthTokenExpiration) {
+    this.oauthTokenExpiration = oauthTokenExpiration;
+  }
+
   @JsonProperty("customHeaders")
   public Map<String, String> getCustomHeaders() {
     return customHeaders;
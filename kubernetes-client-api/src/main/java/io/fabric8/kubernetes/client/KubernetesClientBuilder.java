@@ -139,6 +139,19 @@ public class KubernetesClientBuilder {
     return this;
   }
 
+  /**
+   * Configure the client to run async tasks, such as {@link ResourceEventHandler} calls and writing to streams,
+   * each on their own virtual thread.
+   * <p>
+   * Virtual threads require Java 21+, on older versions an unbounded cached thread pool per client is used instead.
+   *
+   * @return this builder
+   */
+  public KubernetesClientBuilder withVirtualThreadTaskExecutor() {
+    this.executorSupplier = VirtualThreadExecutorSupplier.INSTANCE;
+    return this;
+  }
+
   /**
    * Provide additional configuration for the {@link HttpClient} that is created for this {@link KubernetesClient}.
    *
@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client;
+
+import io.fabric8.kubernetes.client.KubernetesClientBuilder.ExecutorSupplier;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Provides a virtual thread per task {@link Executor} per client, so that blocked tasks do not hold platform threads.
+ * <br>
+ * Virtual threads require Java 21+, on older versions an unbounded cached thread pool is used instead.
+ */
+class VirtualThreadExecutorSupplier implements ExecutorSupplier {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadExecutorSupplier.class);
+
+  static final VirtualThreadExecutorSupplier INSTANCE = new VirtualThreadExecutorSupplier();
+
+  private final Method newVirtualThreadPerTaskExecutor;
+
+  VirtualThreadExecutorSupplier() {
+    this.newVirtualThreadPerTaskExecutor = findFactoryMethod();
+  }
+
+  private static Method findFactoryMethod() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  boolean isSupported() {
+    return newVirtualThreadPerTaskExecutor != null;
+  }
+
+  @Override
+  public Executor get() {
+    if (newVirtualThreadPerTaskExecutor != null) {
+      try {
+        return (Executor) newVirtualThreadPerTaskExecutor.invoke(null);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        // preview releases without --enable-preview throw UnsupportedOperationException
+        LOGGER.warn("Virtual threads are not available, using a cached thread pool instead", e);
+      }
+    } else {
+      LOGGER.warn("Virtual threads require Java 21+, using a cached thread pool instead");
+    }
+    return Executors.newCachedThreadPool(Utils.daemonThreadFactory(this));
+  }
+
+  @Override
+  public void onClose(Executor executor) {
+    ((ExecutorService) executor).shutdownNow();
+  }
+
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * The outcome of a bulk operation for a single item - either the result from the api server or the
+ * exception that was encountered.
+ *
+ * @param <T> the item type
+ * @param <R> the result type
+ */
+public final class BulkResult<T, R> {
+
+  private final T item;
+  private final R result;
+  private final KubernetesClientException exception;
+
+  private BulkResult(T item, R result, KubernetesClientException exception) {
+    this.item = item;
+    this.result = result;
+    this.exception = exception;
+  }
+
+  public static <T, R> BulkResult<T, R> success(T item, R result) {
+    return new BulkResult<>(item, result, null);
+  }
+
+  public static <T, R> BulkResult<T, R> failure(T item, KubernetesClientException exception) {
+    return new BulkResult<>(item, null, exception);
+  }
+
+  /**
+   * @return the item the operation was performed on
+   */
+  public T getItem() {
+    return item;
+  }
+
+  /**
+   * @return the result from the api server, or null if the operation failed
+   */
+  public R getResult() {
+    return result;
+  }
+
+  /**
+   * @return the exception if the operation failed, otherwise null
+   */
+  public KubernetesClientException getException() {
+    return exception;
+  }
+
+  public boolean isSuccessful() {
+    return exception == null;
+  }
+
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.StatusDetails;
+
+import java.util.List;
+
+/**
+ * Write operations that are performed concurrently over all items.
+ * <p>
+ * Namespaces and CustomResourceDefinitions are created before, and deleted after, the rest of the items. Once
+ * written, they are waited on until Active or Established, for up to the timeout of the operation or a minute.
+ * <p>
+ * A failure for one item does not stop the operation on the others - each method returns the
+ * per item outcomes in the same order as the items.
+ *
+ * @param <T> the item type
+ */
+public interface BulkWritable<T> {
+
+  /**
+   * Create each item
+   *
+   * @return the outcome for each item
+   */
+  List<BulkResult<T, T>> create();
+
+  /**
+   * Create or replace each item
+   *
+   * @return the outcome for each item
+   * @deprecated please use {@link #serverSideApply()}
+   */
+  @Deprecated
+  List<BulkResult<T, T>> createOrReplace();
+
+  /**
+   * Server side apply each item
+   *
+   * @return the outcome for each item
+   */
+  List<BulkResult<T, T>> serverSideApply();
+
+  /**
+   * Delete each item
+   *
+   * @return the outcome for each item
+   */
+  List<BulkResult<T, List<StatusDetails>>> delete();
+
+}
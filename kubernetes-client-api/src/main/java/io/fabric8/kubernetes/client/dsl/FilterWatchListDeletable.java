@@ -15,6 +15,11 @@
  */
 package io.fabric8.kubernetes.client.dsl;
 
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 public interface FilterWatchListDeletable<T, L, R>
@@ -37,4 +42,41 @@ public interface FilterWatchListDeletable<T, L, R>
    */
   Stream<R> resources();
 
+  /**
+   * Perform a list operation and return the items as a stream.
+   * <p>
+   * See {@link #streamItems(ListOptions)}
+   *
+   * @return the item stream
+   */
+  Stream<T> streamItems();
+
+  /**
+   * Perform a list operation and return the items as a stream. Items are read from the response
+   * one at a time as the stream is consumed, so that the full list is never held in memory.
+   * <p>
+   * If a limit is set, the following pages are requested using the continue value as needed - the stream
+   * will contain the items from all pages.
+   * <p>
+   * The stream should be closed, for example with a try-with-resources block, if it is not fully consumed.
+   * <p>
+   * The passed in options may be modified as a side-effect of this call.
+   *
+   * @param listOptions ListOptions is the query options to a standard REST list call.
+   * @return the item stream
+   */
+  Stream<T> streamItems(ListOptions listOptions);
+
+  /**
+   * Delete the resources at this context without blocking the calling thread.
+   * <p>
+   * Without a namespace, the namespaces holding matching resources are found first and deleted from concurrently,
+   * with at most {@code maxConcurrentRequestsPerHost} requests in flight.
+   * <p>
+   * Unlike {@link #delete()}, the future does not wait for the deletion to finish when a timeout is set.
+   *
+   * @return a future for the {@link StatusDetails} of the resources marked for deletion
+   */
+  CompletableFuture<List<StatusDetails>> submitDelete();
+
 }
@@ -20,4 +20,12 @@ import java.util.List;
 public interface ListVisitFromServerWritable<T> extends
     DeletableWithOptions, CreateOrReplaceable<List<T>>, FieldValidateable<CreateOrReplaceable<List<T>>> {
 
+  /**
+   * Perform the write operations concurrently rather than one item at a time.
+   *
+   * @param parallelism the maximum number of requests in flight at once
+   * @return {@link BulkWritable} for the write operations
+   */
+  BulkWritable<T> inBulk(int parallelism);
+
 }
@@ -0,0 +1,287 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Client side limits on the requests made by a {@link StandardHttpClient}, set with {@link HttpClient.Builder#tag(Object)}:
+ * <ul>
+ * <li>a token bucket refilled at maxRequestsPerSecond, which allows bursts of up to maxRequestBurst requests
+ * <li>the maximum number of requests in flight, in total and for each host
+ * </ul>
+ * Every request, including websockets, takes a token. Long-running requests - websockets, watches and followed logs -
+ * are not counted against the in flight limits as they would otherwise starve the other requests.
+ * <br>
+ * Like the OkHttp Dispatcher, a request is in flight until its response headers have been received. Waiting
+ * requests are admitted in the order they arrived, unless their host is at its limit.
+ */
+public class RequestLimiter {
+
+  private static final Runnable NO_OP = () -> {
+  };
+
+  interface Scheduler {
+    void schedule(Runnable task, long delayNanos);
+  }
+
+  private static final class Waiter {
+    private final String host;
+    private final long start;
+    private final CompletableFuture<Runnable> future;
+
+    private Waiter(String host, long start, CompletableFuture<Runnable> future) {
+      this.host = host;
+      this.start = start;
+      this.future = future;
+    }
+  }
+
+  private final double tokensPerNano;
+  private final double burst;
+  private final int maxConcurrentRequests;
+  private final int maxConcurrentRequestsPerHost;
+  private final LongSupplier nanoTime;
+  private final Scheduler scheduler;
+
+  private double tokens;
+  private long lastRefill;
+
+  private int inFlight;
+  private final Map<String, Integer> inFlightPerHost = new HashMap<>();
+  private final Deque<Waiter> waiting = new ArrayDeque<>();
+  private int waitingForToken;
+
+  private long admittedCount;
+  private long totalQueueWaitNanos;
+  private long maxQueueWaitNanos;
+
+  /**
+   * @param maxRequestsPerSecond the sustained rate of requests, or 0 for no limit
+   * @param maxRequestBurst the number of tokens the bucket holds, or 0 to use maxRequestsPerSecond
+   * @param maxConcurrentRequests the maximum number of requests in flight, or 0 for no limit
+   * @param maxConcurrentRequestsPerHost the maximum number of requests in flight for each host, or 0 for no limit
+   */
+  public RequestLimiter(int maxRequestsPerSecond, int maxRequestBurst, int maxConcurrentRequests,
+      int maxConcurrentRequestsPerHost) {
+    this(maxRequestsPerSecond, maxRequestBurst, maxConcurrentRequests, maxConcurrentRequestsPerHost, System::nanoTime,
+        (task, delayNanos) -> Utils.schedule(Runnable::run, task, delayNanos, TimeUnit.NANOSECONDS));
+  }
+
+  RequestLimiter(int maxRequestsPerSecond, int maxRequestBurst, int maxConcurrentRequests,
+      int maxConcurrentRequestsPerHost, LongSupplier nanoTime, Scheduler scheduler) {
+    this.nanoTime = nanoTime;
+    this.scheduler = scheduler;
+    this.lastRefill = nanoTime.getAsLong();
+    this.tokensPerNano = Math.max(0, maxRequestsPerSecond) / (double) TimeUnit.SECONDS.toNanos(1);
+    this.burst = maxRequestBurst > 0 ? maxRequestBurst : Math.max(1, maxRequestsPerSecond);
+    this.tokens = this.burst;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+  }
+
+  /**
+   * Create a limiter from the Config settings.
+   * <p>
+   * The in flight limits are opt-in: the {@link Config#DEFAULT_MAX_CONCURRENT_REQUESTS} and
+   * {@link Config#DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST} defaults are treated as no limit, as they have not been
+   * enforced since they could leave the client unresponsive.
+   *
+   * @return the limiter, or null if the Config does not limit requests
+   */
+  public static RequestLimiter from(Config config) {
+    int maxConcurrentRequests = explicitLimit(config.getMaxConcurrentRequests(), Config.DEFAULT_MAX_CONCURRENT_REQUESTS);
+    int maxConcurrentRequestsPerHost = explicitLimit(config.getMaxConcurrentRequestsPerHost(),
+        Config.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST);
+    if (config.getMaxRequestsPerSecond() <= 0 && maxConcurrentRequests <= 0 && maxConcurrentRequestsPerHost <= 0) {
+      return null;
+    }
+    return new RequestLimiter(config.getMaxRequestsPerSecond(), config.getMaxRequestBurst(), maxConcurrentRequests,
+        maxConcurrentRequestsPerHost);
+  }
+
+  private static int explicitLimit(int limit, int defaultLimit) {
+    return limit == defaultLimit ? 0 : limit;
+  }
+
+  /**
+   * Wait for the request to be admitted
+   *
+   * @param uri the request uri
+   * @param longRunning if the request is not counted against the in flight limits
+   * @return a future that completes with the action that must be run once the response headers have been received
+   */
+  CompletableFuture<Runnable> acquire(URI uri, boolean longRunning) {
+    long start = nanoTime.getAsLong();
+    CompletableFuture<Runnable> result = new CompletableFuture<>();
+    long delay = reserveToken(start);
+    if (delay > 0) {
+      scheduler.schedule(() -> {
+        synchronized (this) {
+          waitingForToken--;
+        }
+        admit(uri.getHost(), longRunning, start, result);
+      }, delay);
+    } else {
+      admit(uri.getHost(), longRunning, start, result);
+    }
+    return result;
+  }
+
+  /**
+   * Take a token from the bucket, which may go into debt so that later requests wait their turn.
+   *
+   * @return the nanos to wait before the token is available
+   */
+  private synchronized long reserveToken(long now) {
+    if (tokensPerNano == 0) {
+      return 0;
+    }
+    tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+    lastRefill = now;
+    tokens -= 1;
+    if (tokens >= 0) {
+      return 0;
+    }
+    waitingForToken++;
+    return (long) Math.ceil(-tokens / tokensPerNano);
+  }
+
+  private void admit(String host, boolean longRunning, long start, CompletableFuture<Runnable> result) {
+    if (longRunning) {
+      synchronized (this) {
+        recordAdmitted(start);
+      }
+      result.complete(NO_OP);
+      return;
+    }
+    synchronized (this) {
+      if (!canRun(host)) {
+        waiting.add(new Waiter(host, start, result));
+        return;
+      }
+      run(host, start);
+    }
+    complete(result, host);
+  }
+
+  private boolean canRun(String host) {
+    return (maxConcurrentRequests <= 0 || inFlight < maxConcurrentRequests)
+        && (maxConcurrentRequestsPerHost <= 0 || inFlightPerHost.getOrDefault(host, 0) < maxConcurrentRequestsPerHost);
+  }
+
+  private void run(String host, long start) {
+    inFlight++;
+    inFlightPerHost.merge(host, 1, Integer::sum);
+    recordAdmitted(start);
+  }
+
+  private void recordAdmitted(long start) {
+    long wait = nanoTime.getAsLong() - start;
+    admittedCount++;
+    totalQueueWaitNanos += wait;
+    maxQueueWaitNanos = Math.max(maxQueueWaitNanos, wait);
+  }
+
+  private void complete(CompletableFuture<Runnable> result, String host) {
+    Runnable release = new Runnable() {
+      private boolean released;
+
+      @Override
+      public void run() {
+        synchronized (RequestLimiter.this) {
+          if (released) {
+            return;
+          }
+          released = true;
+        }
+        release(host);
+      }
+    };
+    if (!result.complete(release)) {
+      // the request was cancelled while waiting
+      release.run();
+    }
+  }
+
+  private void release(String host) {
+    List<Waiter> admitted = new ArrayList<>();
+    synchronized (this) {
+      inFlight--;
+      inFlightPerHost.computeIfPresent(host, (k, v) -> v == 1 ? null : v - 1);
+      for (Iterator<Waiter> iter = waiting.iterator(); iter.hasNext();) {
+        Waiter waiter = iter.next();
+        if (canRun(waiter.host)) {
+          iter.remove();
+          run(waiter.host, waiter.start);
+          admitted.add(waiter);
+        } else if (maxConcurrentRequests > 0 && inFlight >= maxConcurrentRequests) {
+          break;
+        }
+      }
+    }
+    admitted.forEach(waiter -> complete(waiter.future, waiter.host));
+  }
+
+  /**
+   * @return the number of requests waiting to be admitted
+   */
+  public synchronized int getQueuedCount() {
+    return waiting.size() + waitingForToken;
+  }
+
+  /**
+   * @return the number of requests, other than long-running requests, that are in flight
+   */
+  public synchronized int getInFlightCount() {
+    return inFlight;
+  }
+
+  /**
+   * @return the number of requests that have been admitted
+   */
+  public synchronized long getAdmittedCount() {
+    return admittedCount;
+  }
+
+  /**
+   * @return the total time in milliseconds requests have waited to be admitted
+   */
+  public synchronized long getTotalQueueWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(totalQueueWaitNanos);
+  }
+
+  /**
+   * @return the longest time in milliseconds a request has waited to be admitted
+   */
+  public synchronized long getMaxQueueWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(maxQueueWaitNanos);
+  }
+
+}
@@ -42,6 +42,9 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
 
   private static final Logger LOG = LoggerFactory.getLogger(StandardHttpClient.class);
 
+  static final String RETRY_AFTER = "Retry-After";
+  static final int TOO_MANY_REQUESTS = 429;
+
   protected StandardHttpClientBuilder<C, F, T> builder;
 
   protected StandardHttpClient(StandardHttpClientBuilder<C, F, T> builder) {
@@ -76,7 +79,7 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
   public CompletableFuture<HttpResponse<AsyncBody>> consumeBytes(HttpRequest request, Consumer<List<ByteBuffer>> consumer) {
     CompletableFuture<HttpResponse<AsyncBody>> result = new CompletableFuture<>();
 
-    retryWithExponentialBackoff(result, () -> consumeBytesOnce(request, consumer), request.uri(), HttpResponse::code,
+    retryResponseWithExponentialBackoff(result, () -> consumeBytesOnce(request, consumer), request.uri(), r -> r,
         r -> r.body().cancel());
     return result;
   }
@@ -90,7 +93,7 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
       standardHttpRequest = copy.build();
     }
 
-    CompletableFuture<HttpResponse<AsyncBody>> cf = consumeBytesDirect(standardHttpRequest, consumer);
+    CompletableFuture<HttpResponse<AsyncBody>> cf = consumeBytesLimited(standardHttpRequest, consumer);
 
     for (Interceptor interceptor : builder.getInterceptors().values()) {
       cf = cf.thenCompose(response -> {
@@ -100,7 +103,7 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
                 if (Boolean.TRUE.equals(b)) {
                   // before starting another request, make sure the old one is cancelled / closed
                   response.body().cancel();
-                  return consumeBytesDirect(copy.build(), consumer);
+                  return consumeBytesLimited(copy.build(), consumer);
                 }
                 return CompletableFuture.completedFuture(response);
               });
@@ -111,6 +114,48 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     return cf;
   }
 
+  private CompletableFuture<HttpResponse<AsyncBody>> consumeBytesLimited(StandardHttpRequest request,
+      Consumer<List<ByteBuffer>> consumer) {
+    return limited(request.uri(), isLongRunning(request.uri()), () -> consumeBytesDirect(request, consumer));
+  }
+
+  /**
+   * Run the action once admitted by the {@link RequestLimiter}, if there is one
+   */
+  private <V> CompletableFuture<V> limited(URI uri, boolean longRunning, Supplier<CompletableFuture<V>> action) {
+    RequestLimiter limiter = getTag(RequestLimiter.class);
+    if (limiter == null) {
+      return action.get();
+    }
+    return limiter.acquire(uri, longRunning).thenCompose(release -> {
+      CompletableFuture<V> cf;
+      try {
+        cf = action.get();
+      } catch (RuntimeException e) {
+        release.run();
+        throw e;
+      }
+      cf.whenComplete((r, t) -> release.run());
+      return cf;
+    });
+  }
+
+  /**
+   * Watches and followed logs are open until closed, so they should not count against the in flight limits
+   */
+  static boolean isLongRunning(URI uri) {
+    String query = uri.getRawQuery();
+    if (query == null) {
+      return false;
+    }
+    for (String param : query.split("&")) {
+      if (param.equals("watch=true") || param.equals("follow=true")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private static <V> BiConsumer<? super V, ? super Throwable> completeOrCancel(java.util.function.Consumer<V> cancel,
       final CompletableFuture<V> result) {
     return (r, t) -> {
@@ -130,6 +175,18 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
   protected <V> void retryWithExponentialBackoff(CompletableFuture<V> result,
       Supplier<CompletableFuture<V>> action, URI uri, Function<V, Integer> codeExtractor,
       java.util.function.Consumer<V> cancel, ExponentialBackoffIntervalCalculator retryIntervalCalculator) {
+    retryWithExponentialBackoff(result, action, uri, codeExtractor, r -> Optional.empty(), cancel, retryIntervalCalculator);
+  }
+
+  /**
+   * Will retry the action if needed based upon the retry settings provided by the ExponentialBackoffIntervalCalculator.
+   * <p>
+   * A response with a retry after delay, for example a 429 with a Retry-After header, is retried after that delay.
+   */
+  protected <V> void retryWithExponentialBackoff(CompletableFuture<V> result,
+      Supplier<CompletableFuture<V>> action, URI uri, Function<V, Integer> codeExtractor,
+      Function<V, Optional<Long>> retryAfterExtractor, java.util.function.Consumer<V> cancel,
+      ExponentialBackoffIntervalCalculator retryIntervalCalculator) {
 
     action.get()
         .whenComplete((response, throwable) -> {
@@ -138,7 +195,12 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
             boolean retry = false;
             if (response != null) {
               Integer code = codeExtractor.apply(response);
-              if (code != null && code >= 500) {
+              Optional<Long> retryAfter = retryAfterExtractor.apply(response);
+              if (retryAfter.isPresent()) {
+                retryInterval = retryAfter.get();
+                LOG.debug("HTTP operation on url: {} was throttled, retrying after {} millis", uri, retryInterval);
+                retry = true;
+              } else if (code != null && code >= 500) {
                 LOG.debug("HTTP operation on url: {} should be retried as the response code was {}, retrying after {} millis",
                     uri, code, retryInterval);
                 retry = true;
@@ -150,7 +212,8 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
             }
             if (retry) {
               Utils.schedule(Runnable::run,
-                  () -> retryWithExponentialBackoff(result, action, uri, codeExtractor, cancel, retryIntervalCalculator),
+                  () -> retryWithExponentialBackoff(result, action, uri, codeExtractor, retryAfterExtractor, cancel,
+                      retryIntervalCalculator),
                   retryInterval,
                   TimeUnit.MILLISECONDS);
               return;
@@ -167,6 +230,32 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
         ExponentialBackoffIntervalCalculator.from(getTag(RequestConfig.class)));
   }
 
+  /**
+   * Retry based upon the response, including 429 responses with a Retry-After header
+   */
+  private <V> void retryResponseWithExponentialBackoff(CompletableFuture<V> result,
+      Supplier<CompletableFuture<V>> action, URI uri, Function<V, HttpResponse<?>> responseExtractor,
+      java.util.function.Consumer<V> cancel) {
+    retryWithExponentialBackoff(result, action, uri,
+        r -> Optional.ofNullable(responseExtractor.apply(r)).map(HttpResponse::code).orElse(null),
+        r -> Optional.ofNullable(responseExtractor.apply(r)).filter(response -> response.code() == TOO_MANY_REQUESTS)
+            .flatMap(StandardHttpClient::getRetryAfterMillis),
+        cancel, ExponentialBackoffIntervalCalculator.from(getTag(RequestConfig.class)));
+  }
+
+  /**
+   * Only the delay-seconds form of the header is supported
+   */
+  static Optional<Long> getRetryAfterMillis(HttpResponse<?> response) {
+    return response.headers(RETRY_AFTER).stream().findFirst().map(String::trim).flatMap(value -> {
+      try {
+        return Optional.of(TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value))));
+      } catch (NumberFormatException e) {
+        return Optional.empty();
+      }
+    });
+  }
+
   @Override
   public io.fabric8.kubernetes.client.http.WebSocket.Builder newWebSocketBuilder() {
     return new StandardWebSocketBuilder(this);
@@ -183,9 +272,9 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
 
     CompletableFuture<WebSocketResponse> intermediate = new CompletableFuture<>();
 
-    retryWithExponentialBackoff(intermediate, () -> buildWebSocketOnce(standardWebSocketBuilder, listener),
+    retryResponseWithExponentialBackoff(intermediate, () -> buildWebSocketOnce(standardWebSocketBuilder, listener),
         standardWebSocketBuilder.asHttpRequest().uri(),
-        r -> Optional.ofNullable(r.wshse).map(WebSocketHandshakeException::getResponse).map(HttpResponse::code).orElse(null),
+        r -> Optional.ofNullable(r.wshse).map(WebSocketHandshakeException::getResponse).orElse(null),
         r -> Optional.ofNullable(r.webSocket).ifPresent(w -> w.sendClose(1000, null)));
 
     CompletableFuture<WebSocket> result = new CompletableFuture<>();
@@ -206,13 +295,15 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     final StandardWebSocketBuilder copy = standardWebSocketBuilder.newBuilder();
     builder.getInterceptors().values().stream().forEach(i -> i.before(copy, copy.asHttpRequest(), this));
 
-    CompletableFuture<WebSocketResponse> cf = buildWebSocketDirect(copy, listener);
+    // websockets take a token, but are long-running
+    CompletableFuture<WebSocketResponse> cf = limited(copy.asHttpRequest().uri(), true,
+        () -> buildWebSocketDirect(copy, listener));
     for (Interceptor interceptor : builder.getInterceptors().values()) {
       cf = cf.thenCompose(response -> {
         if (response.wshse != null && response.wshse.getResponse() != null) {
           return interceptor.afterFailure(copy, response.wshse.getResponse(), this).thenCompose(b -> {
             if (Boolean.TRUE.equals(b)) {
-              return this.buildWebSocketDirect(copy, listener);
+              return limited(copy.asHttpRequest().uri(), true, () -> this.buildWebSocketDirect(copy, listener));
             }
             return CompletableFuture.completedFuture(response);
           });
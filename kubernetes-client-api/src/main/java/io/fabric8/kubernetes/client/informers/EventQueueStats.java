@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * Statistics about the delivery of informer event notifications to the {@link ResourceEventHandler}s.
+ */
+public interface EventQueueStats {
+
+  /**
+   * @return the number of notifications that are waiting to be, or being, delivered
+   */
+  int getPendingCount();
+
+  /**
+   * @return the highest number of notifications that have been pending at the same time for a single handler
+   */
+  int getMaxPendingCount();
+
+  /**
+   * @return the number of notifications that have been delivered
+   */
+  long getCompletedCount();
+
+  /**
+   * @return the number of notifications that were discarded, rather than delivered, because the informer stopped
+   */
+  long getSkippedCount();
+
+  /**
+   * @return the longest time in milliseconds a notification has waited to be delivered
+   */
+  long getMaxLatencyMillis();
+
+}
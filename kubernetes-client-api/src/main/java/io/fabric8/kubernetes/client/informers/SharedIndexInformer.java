@@ -190,6 +190,45 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
    */
   SharedIndexInformer<T> exceptionHandler(ExceptionHandler handler);
 
+  /**
+   * Bound the number of event notifications waiting to be delivered to each handler. Once the limit is
+   * reached the processing of further events, and ultimately the reading of the watch, will wait for the
+   * handler to catch up.
+   * <p>
+   * No notification is dropped and no relist is forced when the limit is reached. The memory held by pending
+   * notifications is bounded by the limit, and the unread watch events stay with the connection and the
+   * API server. If the informer falls behind further than the server retains, the watch fails with a 410 Gone
+   * and the informer relists as it does for any expired watch.
+   * <p>
+   * By default the number of pending notifications is unbounded.
+   * <p>
+   * May only be called prior to the informer starting
+   *
+   * @param limit the maximum number of pending notifications, or 0 for unbounded
+   */
+  SharedIndexInformer<T> eventQueueLimit(int limit);
+
+  /**
+   * Coalesce the event notifications for the same object that are waiting to be delivered to the handlers.
+   * A handler that falls behind will then see at most one notification per object, spanning from the
+   * oldest unseen old object to the newest new object - for example several updates become a single update.
+   * <p>
+   * This is suitable for level-based handlers that only care about the latest state. The number of pending
+   * notifications is then bounded by the number of distinct objects rather than the event rate.
+   * <p>
+   * May only be called prior to the informer starting
+   *
+   * @param coalesce true to coalesce, by default notifications are not coalesced
+   */
+  SharedIndexInformer<T> coalesceEvents(boolean coalesce);
+
+  /**
+   * Return the statistics about the delivery of event notifications to the handlers
+   *
+   * @return the live statistics
+   */
+  EventQueueStats getEventQueueStats();
+
   /**
    * Return a {@link CompletionStage} that will allow notification of the informer stopping. This will be completed after
    * event processing has stopped.
@@ -22,6 +22,7 @@ import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * It basically saves and indexes all the entries.
@@ -33,6 +34,26 @@ public interface Cache<T> extends Indexer<T> {
   // NAMESPACE_INDEX is the default index function for caching objects
   public static final String NAMESPACE_INDEX = "namespace";
 
+  /**
+   * An index function that yields exactly one index value for each object. The value may be null, which
+   * is indexed in the same way as the namespace of cluster scoped objects.
+   * <p>
+   * The cache uses {@link #getIndexValue(Object)} directly, rather than creating a list on each update.
+   *
+   * @param <T> type for cache object
+   */
+  @FunctionalInterface
+  interface SingleValueIndexFunc<T> extends Function<T, List<String>> {
+
+    String getIndexValue(T obj);
+
+    @Override
+    default List<String> apply(T obj) {
+      return Collections.singletonList(getIndexValue(obj));
+    }
+
+  }
+
   /**
    * It's is a convenient default KeyFunc which know show to make keys for API
    * objects which implement HasMetadata interface. The key uses the format
@@ -98,4 +119,15 @@ public interface Cache<T> extends Indexer<T> {
       throw new RuntimeException(e);
     }
   }
+
+  /**
+   * The namespace index value of the object, see {@link #metaNamespaceIndexFunc(Object)}
+   *
+   * @param obj the specific object
+   * @return the namespace, or null if the object is cluster scoped
+   */
+  public static String metaNamespaceIndexValue(HasMetadata obj) {
+    ObjectMeta metadata = obj.getMetadata();
+    return metadata == null ? null : metadata.getNamespace();
+  }
 }
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -26,7 +27,10 @@ import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.jackson.StringDeduplicationModule;
 import io.fabric8.kubernetes.model.jackson.UnmatchedFieldTypeModule;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import org.snakeyaml.engine.v2.api.Load;
 import org.snakeyaml.engine.v2.api.LoadSettings;
 
@@ -53,6 +57,9 @@ public class Serialization {
     JSON_MAPPER.disable(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE);
   }
 
+  private static final StringDeduplicationModule STRING_DEDUPLICATION_MODULE = new StringDeduplicationModule();
+  private static volatile ObjectMapper deduplicatingJsonMapper;
+
   private static volatile ObjectMapper YAML_MAPPER;
 
   /**
@@ -72,6 +79,34 @@ public class Serialization {
     return JSON_MAPPER;
   }
 
+  /**
+   * Have the objects read from list and watch responses, including those held by informers, share the instances of
+   * their repeated String values - see {@link StringDeduplicationModule}.
+   * <p>
+   * The deduplication is disabled by default. Once enabled, those objects are read by a copy of the
+   * {@link #jsonMapper()} with the module registered: the {@link #jsonMapper()} itself is left unchanged, as the
+   * custom String deserializer disables some of Jackson's optimizations.
+   *
+   * @param maxEntries the maximum number of values retained, or 0 to disable the deduplication
+   */
+  public static synchronized void setStringDeduplicationMaxEntries(int maxEntries) {
+    STRING_DEDUPLICATION_MODULE.setMaxEntries(maxEntries);
+    if (maxEntries == 0) {
+      deduplicatingJsonMapper = null;
+    } else if (deduplicatingJsonMapper == null) {
+      deduplicatingJsonMapper = JSON_MAPPER.copy().registerModule(STRING_DEDUPLICATION_MODULE);
+    }
+  }
+
+  /**
+   * @return the {@link ObjectMapper} to read the objects of list and watch responses with - the {@link #jsonMapper()}
+   *         unless String deduplication has been enabled with {@link #setStringDeduplicationMaxEntries(int)}
+   */
+  public static ObjectMapper listWatchJsonMapper() {
+    ObjectMapper mapper = deduplicatingJsonMapper;
+    return mapper == null ? JSON_MAPPER : mapper;
+  }
+
   /**
    * {@link ObjectMapper} singleton instance used internally by the Kubernetes client.
    *
@@ -400,18 +435,27 @@ public class Serialization {
   }
 
   /**
-   * Create a copy of the resource via serialization.
+   * Create a copy of the resource.
+   * <p>
+   * Resources implementing {@link DeepCopyable} are copied directly, otherwise the copy is made by serialization.
    *
    * @return a deep clone of the resource
    * @throws IllegalArgumentException if the cloning cannot be performed
    */
   public static <T> T clone(T resource) {
-    // if full serialization seems too expensive, there is also
-    //return (T) JSON_MAPPER.convertValue(resource, resource.getClass());
+    if (resource instanceof DeepCopyable) {
+      try {
+        return DeepCopy.copy(resource);
+      } catch (DeepCopy.NotCopyableException e) {
+        // fall back to serialization
+      }
+    }
     try {
-      return (T) JSON_MAPPER.readValue(
-          JSON_MAPPER.writeValueAsString(resource), resource.getClass());
-    } catch (JsonProcessingException e) {
+      // buffer the tokens rather than writing and parsing a string
+      TokenBuffer buffer = new TokenBuffer(JSON_MAPPER, false);
+      JSON_MAPPER.writeValue(buffer, resource);
+      return (T) JSON_MAPPER.readValue(buffer.asParser(), resource.getClass());
+    } catch (IOException e) {
       throw new IllegalStateException(e);
     }
   }
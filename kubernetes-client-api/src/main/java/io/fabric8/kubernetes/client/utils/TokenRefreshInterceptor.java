@@ -26,10 +26,17 @@ import java.net.HttpURLConnection;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Interceptor for handling kube authentication. It will either be basic auth, or token based. This class takes responsibility
  * for refreshing expired OIDC tokens.
+ * <p>
+ * Refreshing reloads the config, which may read files or run an exec credential plugin, so it is always done
+ * off the request thread, on a short-lived daemon thread of its own rather than a shared pool that a blocking
+ * plugin could starve. Only a single refresh is in flight at a time - requests failing with 401 while
+ * a refresh is running will wait on, and reuse the result of, that refresh.
  */
 public class TokenRefreshInterceptor implements Interceptor {
 
@@ -42,7 +49,10 @@ public class TokenRefreshInterceptor implements Interceptor {
 
   private static final int REFRESH_INTERVAL_MINUTE = 1;
 
-  private Instant latestRefreshTimestamp;
+  private volatile Instant latestRefreshTimestamp;
+
+  private final AtomicReference<CompletableFuture<String>> refreshing = new AtomicReference<>();
+  private final ThreadFactory refreshThreadFactory = Utils.daemonThreadFactory(this);
 
   public TokenRefreshInterceptor(Config config, HttpClient.Factory factory, Instant latestRefreshTimestamp) {
     this.config = config;
@@ -60,7 +70,8 @@ public class TokenRefreshInterceptor implements Interceptor {
       headerBuilder.header(AUTHORIZATION, "Bearer " + config.getOauthToken());
     }
     if (isTimeToRefresh()) {
-      refreshToken(headerBuilder);
+      // the current token is used until the refresh completes
+      refreshToken();
     }
   }
 
@@ -69,7 +80,13 @@ public class TokenRefreshInterceptor implements Interceptor {
   }
 
   private boolean isTimeToRefresh() {
-    return latestRefreshTimestamp.plus(REFRESH_INTERVAL_MINUTE, ChronoUnit.MINUTES).isBefore(Instant.now());
+    Instant now = Instant.now();
+    Instant expiration = config.getOauthTokenExpiration();
+    if (expiration != null && expiration.minus(REFRESH_INTERVAL_MINUTE, ChronoUnit.MINUTES).isAfter(now)) {
+      // no need to poll for a token that is known to be valid - it will be refreshed ahead of its expiration
+      return false;
+    }
+    return latestRefreshTimestamp.plus(REFRESH_INTERVAL_MINUTE, ChronoUnit.MINUTES).isBefore(now);
   }
 
   @Override
@@ -78,16 +95,46 @@ public class TokenRefreshInterceptor implements Interceptor {
       return CompletableFuture.completedFuture(false);
     }
     if (response.code() == HttpURLConnection.HTTP_UNAUTHORIZED) {
-      return refreshToken(headerBuilder);
+      return refreshToken().thenApply(token -> {
+        if (Utils.isNotNullOrEmpty(token)) {
+          headerBuilder.setHeader(AUTHORIZATION, "Bearer " + token);
+          return true;
+        }
+        return false;
+      });
     }
     return CompletableFuture.completedFuture(false);
   }
 
-  private CompletableFuture<Boolean> refreshToken(BasicBuilder headerBuilder) {
-    Config newestConfig = config.refresh();
-    final CompletableFuture<String> newAccessToken = extractNewAccessTokenFrom(newestConfig);
-
-    return newAccessToken.thenApply(token -> overrideNewAccessTokenToConfig(token, headerBuilder, config));
+  /**
+   * Start a refresh, or join the one already in flight.
+   *
+   * @return the future new token, which will be null or empty if no token could be obtained
+   */
+  CompletableFuture<String> refreshToken() {
+    CompletableFuture<String> result = new CompletableFuture<>();
+    while (!refreshing.compareAndSet(null, result)) {
+      CompletableFuture<String> inFlight = refreshing.get();
+      if (inFlight != null) {
+        return inFlight;
+      }
+    }
+    CompletableFuture.supplyAsync(config::refresh, r -> refreshThreadFactory.newThread(r).start())
+        .thenCompose(newestConfig -> extractNewAccessTokenFrom(newestConfig).thenApply(token -> {
+          overrideNewAccessTokenToConfig(token, newestConfig.getOauthTokenExpiration(), config);
+          return token;
+        }))
+        .whenComplete((token, t) -> {
+          // even if nothing was obtained, wait for the next interval rather than retrying on every request
+          updateLatestRefreshTimestamp();
+          refreshing.set(null);
+          if (t != null) {
+            result.completeExceptionally(t);
+          } else {
+            result.complete(token);
+          }
+        });
+    return result;
   }
 
   private CompletableFuture<String> extractNewAccessTokenFrom(Config newestConfig) {
@@ -99,17 +146,11 @@ public class TokenRefreshInterceptor implements Interceptor {
     return CompletableFuture.completedFuture(newestConfig.getOauthToken());
   }
 
-  private boolean overrideNewAccessTokenToConfig(String newAccessToken, BasicBuilder headerBuilder, Config existConfig) {
+  private void overrideNewAccessTokenToConfig(String newAccessToken, Instant expiration, Config existConfig) {
     if (Utils.isNotNullOrEmpty(newAccessToken)) {
-      headerBuilder.setHeader(AUTHORIZATION, "Bearer " + newAccessToken);
       existConfig.setOauthToken(newAccessToken);
-
-      updateLatestRefreshTimestamp();
-
-      return true;
+      existConfig.setOauthTokenExpiration(expiration);
     }
-
-    return false;
   }
 
   private void updateLatestRefreshTimestamp() {
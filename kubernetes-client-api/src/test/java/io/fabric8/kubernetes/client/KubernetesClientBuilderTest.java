@@ -21,8 +21,14 @@ import io.fabric8.kubernetes.client.http.HttpClient.Factory;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class KubernetesClientBuilderTest {
 
@@ -55,4 +61,24 @@ class KubernetesClientBuilderTest {
       Thread.currentThread().setContextClassLoader(currContextClassLoader);
     }
   }
+
+  @Test
+  void testVirtualThreadTaskExecutor() throws Exception {
+    VirtualThreadExecutorSupplier supplier = VirtualThreadExecutorSupplier.INSTANCE;
+    Executor executor = supplier.get();
+    try {
+      CompletableFuture<Thread> thread = new CompletableFuture<>();
+      executor.execute(() -> thread.complete(Thread.currentThread()));
+      Thread taskThread = thread.get(10, TimeUnit.SECONDS);
+      if (supplier.isSupported()) {
+        assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(taskThread));
+      } else {
+        // falls back to a daemon thread pool
+        assertTrue(taskThread.isDaemon());
+      }
+    } finally {
+      supplier.onClose(executor);
+    }
+    assertTrue(((ExecutorService) executor).isShutdown());
+  }
 }
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLimiterTest {
+
+  private static final URI HOST_A = URI.create("https://a:6443/api/v1/pods");
+  private static final URI HOST_B = URI.create("https://b:6443/api/v1/pods");
+
+  @Test
+  void inFlightLimits() {
+    RequestLimiter limiter = new RequestLimiter(0, 0, 3, 2);
+
+    CompletableFuture<Runnable> a1 = limiter.acquire(HOST_A, false);
+    CompletableFuture<Runnable> a2 = limiter.acquire(HOST_A, false);
+    CompletableFuture<Runnable> a3 = limiter.acquire(HOST_A, false);
+    CompletableFuture<Runnable> b1 = limiter.acquire(HOST_B, false);
+    CompletableFuture<Runnable> b2 = limiter.acquire(HOST_B, false);
+    CompletableFuture<Runnable> watch = limiter.acquire(HOST_A, true);
+
+    // a3 is over the host limit, b2 is over the total limit, but the watch is not counted
+    assertThat(a1).isDone();
+    assertThat(a2).isDone();
+    assertThat(a3).isNotDone();
+    assertThat(b1).isDone();
+    assertThat(b2).isNotDone();
+    assertThat(watch).isDone();
+    assertThat(limiter.getInFlightCount()).isEqualTo(3);
+    assertThat(limiter.getQueuedCount()).isEqualTo(2);
+
+    // releasing a host a request admits the waiting host a request
+    a1.join().run();
+    a1.join().run(); // releasing twice has no effect
+    assertThat(a3).isDone();
+    assertThat(b2).isNotDone();
+
+    b1.join().run();
+    assertThat(b2).isDone();
+    assertThat(limiter.getQueuedCount()).isZero();
+    assertThat(limiter.getAdmittedCount()).isEqualTo(6);
+  }
+
+  @Test
+  void cancelledWhileWaiting() {
+    RequestLimiter limiter = new RequestLimiter(0, 0, 1, 0);
+
+    CompletableFuture<Runnable> first = limiter.acquire(HOST_A, false);
+    CompletableFuture<Runnable> cancelled = limiter.acquire(HOST_A, false);
+    CompletableFuture<Runnable> last = limiter.acquire(HOST_B, false);
+    cancelled.cancel(true);
+
+    first.join().run();
+
+    assertThat(last).isDone();
+    assertThat(limiter.getInFlightCount()).isEqualTo(1);
+  }
+
+  @Test
+  void rateLimitAfterBurst() {
+    AtomicLong now = new AtomicLong();
+    List<Runnable> scheduled = new ArrayList<>();
+    List<Long> delays = new ArrayList<>();
+    RequestLimiter limiter = new RequestLimiter(10, 2, 0, 0, now::get, (task, delayNanos) -> {
+      scheduled.add(task);
+      delays.add(delayNanos);
+    });
+
+    CompletableFuture<Runnable> first = limiter.acquire(HOST_A, false);
+    CompletableFuture<Runnable> second = limiter.acquire(HOST_A, true);
+    CompletableFuture<Runnable> third = limiter.acquire(HOST_A, false);
+    CompletableFuture<Runnable> fourth = limiter.acquire(HOST_A, false);
+
+    // the burst admits two requests, the others wait for a token each at 10 per second
+    assertThat(first).isDone();
+    assertThat(second).isDone();
+    assertThat(third).isNotDone();
+    assertThat(fourth).isNotDone();
+    assertThat(limiter.getQueuedCount()).isEqualTo(2);
+    assertThat(delays).containsExactly(TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(200));
+
+    now.set(TimeUnit.MILLISECONDS.toNanos(100));
+    scheduled.get(0).run();
+    assertThat(third).isDone();
+    assertThat(fourth).isNotDone();
+
+    now.set(TimeUnit.MILLISECONDS.toNanos(200));
+    scheduled.get(1).run();
+    assertThat(fourth).isDone();
+    assertThat(limiter.getMaxQueueWaitMillis()).isEqualTo(200);
+    assertThat(limiter.getTotalQueueWaitMillis()).isEqualTo(300);
+    assertThat(limiter.getQueuedCount()).isZero();
+  }
+
+  @Test
+  void defaultInFlightLimitsAreNotEnforced() {
+    assertThat(RequestLimiter.from(Config.empty())).isNull();
+
+    Config config = new ConfigBuilder(Config.empty()).withMaxConcurrentRequestsPerHost(2).build();
+    RequestLimiter limiter = RequestLimiter.from(config);
+
+    limiter.acquire(HOST_A, false);
+    limiter.acquire(HOST_A, false);
+    assertThat(limiter.acquire(HOST_A, false)).isNotDone();
+    assertThat(limiter.acquire(HOST_B, false)).isDone();
+
+    config = new ConfigBuilder(Config.empty()).withMaxRequestsPerSecond(5).withMaxRequestBurst(10).build();
+    assertThat(RequestLimiter.from(config)).isNotNull();
+  }
+
+}
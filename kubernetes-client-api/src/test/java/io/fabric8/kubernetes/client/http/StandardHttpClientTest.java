@@ -24,6 +24,7 @@ import org.mockito.Mockito;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -184,4 +185,64 @@ class StandardHttpClientTest {
     assertEquals(3, client.getWsFutures().size());
   }
 
+  @Test
+  void testHttpRetryAfterTooManyRequests() throws Exception {
+    client = client.newBuilder().tag(new RequestConfigBuilder()
+        .withRequestRetryBackoffLimit(3)
+        .withRequestRetryBackoffInterval(50).build())
+        .build();
+
+    client.getRespFutures().add(CompletableFuture.completedFuture(new TestHttpResponse<AsyncBody>(
+        Collections.singletonMap(StandardHttpClient.RETRY_AFTER, Collections.singletonList("1")))
+        .withCode(429)));
+    client.getRespFutures().add(CompletableFuture.completedFuture(new TestHttpResponse<AsyncBody>().withCode(200)));
+
+    long start = System.currentTimeMillis();
+    CompletableFuture<HttpResponse<AsyncBody>> consumeFuture = client.consumeBytes(
+        client.newHttpRequestBuilder().uri("http://localhost").build(),
+        (value, asyncBody) -> {
+        });
+
+    assertEquals(200, consumeFuture.get().code());
+    // waited for the Retry-After rather than the 50ms backoff
+    assertTrue(System.currentTimeMillis() - start >= 1000);
+    assertEquals(2, client.getRespFutures().size());
+  }
+
+  @Test
+  void testHttpTooManyRequestsWithoutRetryAfterIsNotRetried() throws Exception {
+    client.getRespFutures().add(CompletableFuture.completedFuture(new TestHttpResponse<AsyncBody>().withCode(429)));
+
+    CompletableFuture<HttpResponse<AsyncBody>> consumeFuture = client.consumeBytes(
+        client.newHttpRequestBuilder().uri("http://localhost").build(),
+        (value, asyncBody) -> {
+        });
+
+    assertEquals(429, consumeFuture.get().code());
+    assertEquals(1, client.getRespFutures().size());
+  }
+
+  @Test
+  void testRequestLimiterExcludesWatches() {
+    client = client.newBuilder().tag(new RequestLimiter(0, 0, 1, 1)).build();
+
+    client.consumeBytes(client.newHttpRequestBuilder().uri("http://localhost/api/v1/pods?watch=true").build(),
+        (value, asyncBody) -> {
+        });
+    CompletableFuture<HttpResponse<AsyncBody>> first = client.consumeBytes(
+        client.newHttpRequestBuilder().uri("http://localhost/api/v1/pods").build(), (value, asyncBody) -> {
+        });
+    client.consumeBytes(client.newHttpRequestBuilder().uri("http://localhost/api/v1/pods").build(),
+        (value, asyncBody) -> {
+        });
+
+    // the second request waits for the first
+    assertEquals(2, client.getRespFutures().size());
+
+    client.getRespFutures().get(1).complete(new TestHttpResponse<AsyncBody>().withCode(200));
+
+    assertTrue(first.isDone());
+    assertEquals(3, client.getRespFutures().size());
+  }
+
 }
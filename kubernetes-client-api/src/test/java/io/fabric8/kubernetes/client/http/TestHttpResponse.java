@@ -15,8 +15,14 @@
  */
 package io.fabric8.kubernetes.client.http;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Basic {@link HttpResponse} implementation to be used in tests instead of mocks or real responses.
@@ -30,6 +36,14 @@ public class TestHttpResponse<T> extends StandardHttpHeaders implements HttpResp
   private HttpRequest request;
   private HttpResponse<T> previousResponse;
 
+  public TestHttpResponse() {
+    this(new LinkedHashMap<>());
+  }
+
+  public TestHttpResponse(Map<String, List<String>> headers) {
+    super(headers);
+  }
+
   @Override
   public int code() {
     return code;
@@ -85,4 +99,47 @@ public class TestHttpResponse<T> extends StandardHttpHeaders implements HttpResp
   public static TestHttpResponse<byte[]> from(int code, String body) {
     return new TestHttpResponse<byte[]>().withCode(code).withBody(body.getBytes(StandardCharsets.UTF_8));
   }
+
+  /**
+   * Deliver the body to the consumer, a chunk for each call to {@link AsyncBody#consume()}, as
+   * {@link HttpClient#consumeBytes(HttpRequest, AsyncBody.Consumer)} would.
+   */
+  public static CompletableFuture<HttpResponse<AsyncBody>> consumeBytes(int code, String body, int chunkSize,
+      AsyncBody.Consumer<List<ByteBuffer>> consumer) {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    AsyncBody asyncBody = new AsyncBody() {
+      private int offset;
+
+      @Override
+      public void consume() {
+        if (done.isDone()) {
+          return;
+        }
+        if (offset == bytes.length) {
+          done.complete(null);
+          return;
+        }
+        int length = Math.min(chunkSize, bytes.length - offset);
+        ByteBuffer chunk = ByteBuffer.wrap(bytes, offset, length);
+        offset += length;
+        try {
+          consumer.consume(Collections.singletonList(chunk), this);
+        } catch (Exception e) {
+          done.completeExceptionally(e);
+        }
+      }
+
+      @Override
+      public CompletableFuture<Void> done() {
+        return done;
+      }
+
+      @Override
+      public void cancel() {
+        done.cancel(false);
+      }
+    };
+    return CompletableFuture.completedFuture(new TestHttpResponse<AsyncBody>().withCode(code).withBody(asyncBody));
+  }
 }
@@ -34,6 +34,7 @@ import io.fabric8.kubernetes.api.model.Namespace;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodSpec;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.Service;
@@ -41,11 +42,13 @@ import io.fabric8.kubernetes.api.model.Toleration;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.JSONSchemaProps;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
 import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
 import io.fabric8.kubernetes.api.model.coordination.v1.LeaseSpec;
 import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -168,6 +171,84 @@ class SerializationTest {
         .hasFieldOrPropertyWithValue("metadata.name", "pod");
   }
 
+  @Test
+  void cloneGenericResourceCopiesNestedValues() {
+    // Given
+    GenericKubernetesResource resource = Serialization.unmarshal(
+        "{\"apiVersion\":\"example.com/v1\",\"kind\":\"Example\",\"metadata\":{\"name\":\"example\"},"
+            + "\"spec\":{\"replicas\":1,\"ports\":[80]}}",
+        GenericKubernetesResource.class);
+    // When
+    GenericKubernetesResource clone = Serialization.clone(resource);
+    clone.<Map<String, Object>> get("spec").put("replicas", 2);
+    clone.<List<Object>> get("spec", "ports").add(443);
+    // Then
+    assertThat(clone).isNotSameAs(resource);
+    assertThat(clone.getMetadata()).isEqualTo(resource.getMetadata()).isNotSameAs(resource.getMetadata());
+    assertThat(resource.<Integer> get("spec", "replicas")).isEqualTo(1);
+    assertThat(resource.<List<Object>> get("spec", "ports")).containsExactly(80);
+    assertThat(clone.<Integer> get("spec", "replicas")).isEqualTo(2);
+  }
+
+  @Test
+  void cloneGeneratedResourceCopiesNestedValues() {
+    // Given
+    Deployment deployment = new DeploymentBuilder()
+        .withNewMetadata().withName("deployment").addToLabels("app", "example").endMetadata()
+        .withNewSpec().withNewTemplate().withNewSpec()
+        .addNewContainer().withName("main").withImage("example:1").endContainer()
+        .endSpec().endTemplate().endSpec()
+        .build();
+    // When
+    Deployment clone = Serialization.clone(deployment);
+    clone.getMetadata().getLabels().put("app", "changed");
+    clone.getSpec().getTemplate().getSpec().getContainers().get(0).setImage("example:2");
+    // Then
+    assertThat(deployment).isInstanceOf(DeepCopyable.class);
+    assertThat(deployment.getMetadata().getLabels()).containsEntry("app", "example");
+    assertThat(deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getImage()).isEqualTo("example:1");
+    assertThat(clone.getSpec().getTemplate().getSpec().getContainers().get(0).getImage()).isEqualTo("example:2");
+  }
+
+  @Test
+  void listWatchJsonMapperWithStringDeduplicationSharesRepeatedValues() throws Exception {
+    try {
+      // Given
+      Serialization.setStringDeduplicationMaxEntries(1024);
+      final String json = "{\"kind\":\"PodList\",\"items\":["
+          + "{\"metadata\":{\"name\":\"a\",\"namespace\":\"ns\",\"labels\":{\"app\":\"web\"}},\"spec\":{\"nodeName\":\"node-1\"}},"
+          + "{\"metadata\":{\"name\":\"b\",\"namespace\":\"ns\",\"labels\":{\"app\":\"web\"}},\"spec\":{\"nodeName\":\"node-1\"}}]}";
+      // When
+      final List<Pod> pods = Serialization.listWatchJsonMapper().readValue(json, PodList.class).getItems();
+      // Then
+      assertThat(Serialization.listWatchJsonMapper()).isNotSameAs(Serialization.jsonMapper());
+      assertThat(pods.get(0).getMetadata().getName()).isEqualTo("a");
+      assertThat(pods.get(1).getMetadata().getName()).isEqualTo("b");
+      assertThat(pods.get(0).getMetadata().getNamespace()).isSameAs(pods.get(1).getMetadata().getNamespace());
+      assertThat(pods.get(0).getMetadata().getLabels().get("app")).isSameAs(pods.get(1).getMetadata().getLabels().get("app"));
+      assertThat(pods.get(0).getSpec().getNodeName()).isSameAs(pods.get(1).getSpec().getNodeName());
+    } finally {
+      Serialization.setStringDeduplicationMaxEntries(0);
+    }
+  }
+
+  @Test
+  void jsonMapperDoesNotDeduplicateStrings() throws Exception {
+    try {
+      // Given
+      Serialization.setStringDeduplicationMaxEntries(1024);
+      final String json = "{\"kind\":\"PodList\",\"items\":["
+          + "{\"metadata\":{\"name\":\"a\",\"namespace\":\"ns\"}},{\"metadata\":{\"name\":\"b\",\"namespace\":\"ns\"}}]}";
+      // When
+      final List<Pod> pods = Serialization.unmarshal(json, PodList.class).getItems();
+      // Then
+      assertThat(pods.get(0).getMetadata().getNamespace()).isNotSameAs(pods.get(1).getMetadata().getNamespace());
+    } finally {
+      Serialization.setStringDeduplicationMaxEntries(0);
+    }
+    assertThat(Serialization.listWatchJsonMapper()).isSameAs(Serialization.jsonMapper());
+  }
+
   @Test
   void cloneNonResourceReturnsDifferentInstance() {
     // Given
@@ -31,7 +31,13 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.fabric8.kubernetes.client.Config.KUBERNETES_AUTH_SERVICEACCOUNT_TOKEN_FILE_SYSTEM_PROPERTY;
 import static io.fabric8.kubernetes.client.Config.KUBERNETES_AUTH_TRYKUBECONFIG_SYSTEM_PROPERTY;
@@ -87,8 +93,14 @@ class TokenRefreshInterceptorTest {
       // Replace kubeconfig file
       Files.copy(Objects.requireNonNull(getClass().getResourceAsStream("/token-refresh-interceptor/kubeconfig.new")),
           Paths.get(tempFile.getPath()), StandardCopyOption.REPLACE_EXISTING);
+      // the refresh happens in the background, the current token is used until it completes
       tokenRefreshInterceptor.before(builder, null, null);
-      Mockito.verify(builder).setHeader("Authorization", "Bearer new token");
+      Mockito.verify(builder).header("Authorization", "Bearer token");
+      tokenRefreshInterceptor.refreshToken().get(10, TimeUnit.SECONDS);
+
+      HttpRequest.Builder next = Mockito.mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF);
+      tokenRefreshInterceptor.before(next, null, null);
+      Mockito.verify(next).header("Authorization", "Bearer new token");
     } finally {
       // Remove any side effect
       System.clearProperty(KUBERNETES_KUBECONFIG_FILE);
@@ -203,4 +215,118 @@ class TokenRefreshInterceptorTest {
     }
 
   }
+
+  @Test
+  void beforeShouldNotWaitForRefresh() throws Exception {
+    // Given
+    final Config originalConfig = spy(new ConfigBuilder(Config.empty())
+        .withOauthToken("existing-token")
+        .build());
+    final CountDownLatch refreshing = new CountDownLatch(1);
+    when(originalConfig.refresh()).thenAnswer(invocation -> {
+      refreshing.await(10, TimeUnit.SECONDS);
+      return new ConfigBuilder(Config.empty()).withOauthToken("new-token").build();
+    });
+    final TokenRefreshInterceptor tokenRefreshInterceptor = new TokenRefreshInterceptor(
+        originalConfig, null, Instant.now().minusSeconds(61));
+    final HttpRequest.Builder builder = Mockito.mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF);
+    // When
+    tokenRefreshInterceptor.before(builder, null, null);
+    // Then
+    Mockito.verify(builder).header("Authorization", "Bearer existing-token");
+    refreshing.countDown();
+    assertThat(tokenRefreshInterceptor.refreshToken().get(10, TimeUnit.SECONDS)).isEqualTo("new-token");
+    assertThat(originalConfig.getOauthToken()).isEqualTo("new-token");
+  }
+
+  @Test
+  void concurrentUnauthorizedShouldShareRefresh() throws Exception {
+    // Given
+    final Config originalConfig = spy(new ConfigBuilder(Config.empty())
+        .withOauthToken("existing-token")
+        .build());
+    final CountDownLatch refreshing = new CountDownLatch(1);
+    final AtomicInteger refreshes = new AtomicInteger();
+    when(originalConfig.refresh()).thenAnswer(invocation -> {
+      refreshes.incrementAndGet();
+      refreshing.await(10, TimeUnit.SECONDS);
+      return new ConfigBuilder(Config.empty()).withOauthToken("new-token").build();
+    });
+    final TokenRefreshInterceptor tokenRefreshInterceptor = new TokenRefreshInterceptor(
+        originalConfig, null, Instant.now());
+    final List<CompletableFuture<Boolean>> results = new ArrayList<>();
+    final List<HttpRequest.Builder> builders = new ArrayList<>();
+    // When
+    for (int i = 0; i < 5; i++) {
+      HttpRequest.Builder builder = Mockito.mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF);
+      builders.add(builder);
+      results.add(tokenRefreshInterceptor.afterFailure(builder, new TestHttpResponse<>().withCode(401), null));
+    }
+    refreshing.countDown();
+    // Then
+    for (CompletableFuture<Boolean> result : results) {
+      assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+    builders.forEach(builder -> Mockito.verify(builder).setHeader("Authorization", "Bearer new-token"));
+    assertThat(refreshes).hasValue(1);
+  }
+
+  @Test
+  void shouldNotRefreshBeforeExpiration() {
+    // Given
+    final Config originalConfig = spy(new ConfigBuilder(Config.empty())
+        .withOauthToken("existing-token")
+        .build());
+    originalConfig.setOauthTokenExpiration(Instant.now().plus(10, ChronoUnit.MINUTES));
+    final TokenRefreshInterceptor tokenRefreshInterceptor = new TokenRefreshInterceptor(
+        originalConfig, null, Instant.now().minusSeconds(61));
+    // When
+    tokenRefreshInterceptor.before(Mockito.mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF), null, null);
+    // Then
+    Mockito.verify(originalConfig, Mockito.never()).refresh();
+  }
+
+  @Test
+  void shouldRefreshAheadOfExpiration() throws Exception {
+    // Given
+    final Config originalConfig = spy(new ConfigBuilder(Config.empty())
+        .withOauthToken("existing-token")
+        .build());
+    originalConfig.setOauthTokenExpiration(Instant.now().plusSeconds(30));
+    final Instant newExpiration = Instant.now().plus(1, ChronoUnit.HOURS);
+    final Config autoConfig = new ConfigBuilder(Config.empty())
+        .withOauthToken("new-token")
+        .build();
+    autoConfig.setOauthTokenExpiration(newExpiration);
+    when(originalConfig.refresh()).thenReturn(autoConfig);
+    final TokenRefreshInterceptor tokenRefreshInterceptor = new TokenRefreshInterceptor(
+        originalConfig, null, Instant.now().minusSeconds(61));
+    // When
+    tokenRefreshInterceptor.before(Mockito.mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF), null, null);
+    tokenRefreshInterceptor.refreshToken().get(10, TimeUnit.SECONDS);
+    // Then
+    assertThat(originalConfig.getOauthToken()).isEqualTo("new-token");
+    assertThat(originalConfig.getOauthTokenExpiration()).isEqualTo(newExpiration);
+  }
+
+  @Test
+  void shouldRefreshOnDedicatedDaemonThread() throws Exception {
+    // Given
+    final Config originalConfig = spy(new ConfigBuilder(Config.empty())
+        .withOauthToken("existing-token")
+        .build());
+    final CompletableFuture<Thread> refreshThread = new CompletableFuture<>();
+    when(originalConfig.refresh()).thenAnswer(invocation -> {
+      refreshThread.complete(Thread.currentThread());
+      return new ConfigBuilder(Config.empty()).withOauthToken("new-token").build();
+    });
+    final TokenRefreshInterceptor tokenRefreshInterceptor = new TokenRefreshInterceptor(
+        originalConfig, null, Instant.now());
+    // When
+    tokenRefreshInterceptor.refreshToken().get(10, TimeUnit.SECONDS);
+    // Then
+    assertThat(refreshThread.get(10, TimeUnit.SECONDS))
+        .matches(Thread::isDaemon)
+        .matches(thread -> thread.getName().startsWith(TokenRefreshInterceptor.class.getSimpleName()));
+  }
 }
@@ -28,7 +28,8 @@ echo   "kind": "ExecCredential",
 echo   "apiVersion": "client.authentication.k8s.io/v1alpha1",
 echo   "spec": {},
 echo   "status": {
-echo     "token": "%token%"
+echo     "token": "%token%",
+echo     "expirationTimestamp": "2030-01-02T03:04:05Z"
 echo   }
 echo }
 GOTO :EOF
@@ -15,7 +15,9 @@
  */
 package io.fabric8.kubernetes.client.dsl.internal;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
@@ -36,15 +38,20 @@ import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import static java.net.HttpURLConnection.HTTP_GONE;
@@ -87,6 +94,11 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     }
   }
 
+  @FunctionalInterface
+  private interface ParserSupplier {
+    JsonParser get() throws IOException;
+  }
+
   public static class WatchRequestState {
 
     private final AtomicBoolean reconnected = new AtomicBoolean();
@@ -96,13 +108,23 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
   private static final Logger logger = LoggerFactory.getLogger(AbstractWatchManager.class);
 
+  /**
+   * The number of events that may be pending delivery to the watcher before no more are requested from the
+   * connection
+   */
+  static final int MAX_PENDING_EVENTS = 1000;
+
   final Watcher<T> watcher;
+  private final SerialExecutor serialExecutor;
   final AtomicReference<String> resourceVersion;
 
   final AtomicBoolean forceClosed;
   private final int reconnectLimit;
   private final ExponentialBackoffIntervalCalculator retryIntervalCalculator;
   private Future<?> reconnectAttempt;
+  // a lock rather than a monitor, so that virtual threads are not pinned while reconnecting - subclasses
+  // guard their request state with the same lock, as reconnecting starts and closes requests while holding it
+  protected final ReentrantLock lock = new ReentrantLock();
 
   protected final HttpClient client;
   protected BaseOperation<T, ?, ?> baseOperation;
@@ -117,7 +139,8 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
       Watcher<T> watcher, BaseOperation<T, ?, ?> baseOperation, ListOptions listOptions, int reconnectLimit,
       int reconnectInterval, Supplier<HttpClient> clientSupplier) throws MalformedURLException {
     // prevent the callbacks from happening in the httpclient thread
-    this.watcher = new SerialWatcher<>(watcher, new SerialExecutor(baseOperation.getOperationContext().getExecutor()));
+    this.serialExecutor = new SerialExecutor(baseOperation.getOperationContext().getExecutor());
+    this.watcher = new SerialWatcher<>(watcher, serialExecutor);
     this.reconnectLimit = reconnectLimit;
     this.retryIntervalCalculator = new ExponentialBackoffIntervalCalculator(reconnectInterval, reconnectLimit);
     this.resourceVersion = new AtomicReference<>(listOptions.getResourceVersion());
@@ -172,9 +195,14 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     watcher.onClose();
   }
 
-  final synchronized void cancelReconnect() {
-    if (reconnectAttempt != null) {
-      reconnectAttempt.cancel(true);
+  final void cancelReconnect() {
+    lock.lock();
+    try {
+      if (reconnectAttempt != null) {
+        reconnectAttempt.cancel(true);
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -199,15 +227,19 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
     long delay = nextReconnectInterval();
 
-    synchronized (this) {
+    lock.lock();
+    try {
       reconnectAttempt = Utils.schedule(baseOperation.context.getExecutor(), this::reconnect, delay, TimeUnit.MILLISECONDS);
       if (isForceClosed()) {
         cancelReconnect();
       }
+    } finally {
+      lock.unlock();
     }
   }
 
-  synchronized void reconnect() {
+  void reconnect() {
+    lock.lock();
     try {
       startWatch();
       if (isForceClosed()) {
@@ -217,6 +249,8 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
       // An unexpected error occurred and we didn't even get an onFailure callback.
       logger.error("Exception in reconnect", e);
       close(new WatcherException("Unhandled exception in reconnect attempt", e));
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -261,6 +295,22 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     }
   }
 
+  /**
+   * Run the request for more events immediately, or if the watcher has fallen behind, once the
+   * pending events have been delivered - so that the backpressure reaches the connection.
+   */
+  void requestMoreEvents(Runnable request) {
+    if (serialExecutor.getPendingCount() < MAX_PENDING_EVENTS) {
+      request.run();
+      return;
+    }
+    try {
+      serialExecutor.execute(request);
+    } catch (RejectedExecutionException e) {
+      // the watcher has been closed, no more events are needed
+    }
+  }
+
   void updateResourceVersion(final String newResourceVersion) {
     resourceVersion.set(newResourceVersion);
   }
@@ -307,19 +357,71 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
       }
 
       WatchEvent watchEvent = Serialization.jsonMapper().treeToValue(json, WatchEvent.class);
-      KubernetesResource object = Serialization.jsonMapper().treeToValue(objectJson, baseOperation.getType());
+      KubernetesResource object = Serialization.listWatchJsonMapper().treeToValue(objectJson, baseOperation.getType());
 
       watchEvent.setObject(object);
       return watchEvent;
     }
   }
 
+  /**
+   * Read the event in a single pass directly into the operation type. This relies on the
+   * type field preceding the object field, which is how the api server writes watch events.
+   * <br>
+   * Will return null if the event does not have the expected form.
+   */
+  private WatchEvent typedWatchEventDeserializer(JsonParser parser) throws IOException {
+    Class<T> type = baseOperation.getType();
+    if (type == null || type.isInterface() || Modifier.isAbstract(type.getModifiers())
+        || parser.nextToken() != JsonToken.START_OBJECT || !"type".equals(parser.nextFieldName())) {
+      return null;
+    }
+    String action = parser.nextTextValue();
+    if (action == null || !"object".equals(parser.nextFieldName()) || parser.nextToken() != JsonToken.START_OBJECT) {
+      return null;
+    }
+    Class<? extends KubernetesResource> objectType = Action.ERROR.name().equals(action) ? Status.class : type;
+    KubernetesResource object = Serialization.listWatchJsonMapper().readValue(parser, objectType);
+    if (parser.nextToken() != JsonToken.END_OBJECT) {
+      return null;
+    }
+    WatchEvent watchEvent = new WatchEvent();
+    watchEvent.setType(action);
+    watchEvent.setObject(object);
+    return watchEvent;
+  }
+
+  private WatchEvent deserializeWatchEvent(ParserSupplier parserSupplier, Supplier<String> message)
+      throws JsonProcessingException {
+    try (JsonParser parser = parserSupplier.get()) {
+      WatchEvent watchEvent = typedWatchEventDeserializer(parser);
+      if (watchEvent != null) {
+        return watchEvent;
+      }
+    } catch (IOException | RuntimeException e) {
+      logger.debug("Could not directly read the watch event, falling back to lenient deserialization", e);
+    }
+    return contextAwareWatchEventDeserializer(message.get());
+  }
+
   protected void onMessage(String message, WatchRequestState state) {
+    onMessage(() -> Serialization.jsonMapper().getFactory().createParser(message), () -> message, state);
+  }
+
+  /**
+   * Process the message without first decoding it to a String - the bytes may be reused once this method returns.
+   */
+  protected void onMessage(byte[] message, int offset, int length, WatchRequestState state) {
+    onMessage(() -> Serialization.jsonMapper().getFactory().createParser(message, offset, length),
+        () -> new String(message, offset, length, StandardCharsets.UTF_8), state);
+  }
+
+  private void onMessage(ParserSupplier parserSupplier, Supplier<String> messageSupplier, WatchRequestState state) {
     if (state.closed.get() || forceClosed.get()) {
       return;
     }
     try {
-      WatchEvent event = contextAwareWatchEventDeserializer(message);
+      WatchEvent event = deserializeWatchEvent(parserSupplier, messageSupplier);
       Object object = event.getObject();
       Action action = Action.valueOf(event.getType());
       if (action == Action.ERROR) {
@@ -336,18 +438,20 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
         updateResourceVersion(hasMetadata.getMetadata().getResourceVersion());
         eventReceived(action, hasMetadata);
       } else {
+        final String message = messageSupplier.get();
         final String msg = String.format("Invalid object received: %s", message);
         close(new WatcherException(msg, null, message));
       }
     } catch (ClassCastException e) {
       final String msg = "Received wrong type of object for watch";
-      close(new WatcherException(msg, e, message));
+      close(new WatcherException(msg, e, messageSupplier.get()));
     } catch (JsonProcessingException e) {
+      final String message = messageSupplier.get();
       final String msg = "Couldn't deserialize watch event: " + message;
       close(new WatcherException(msg, e, message));
     } catch (Exception e) {
       final String msg = "Unexpected exception processing watch event";
-      close(new WatcherException(msg, e, message));
+      close(new WatcherException(msg, e, messageSupplier.get()));
     }
   }
 
@@ -15,7 +15,10 @@
  */
 package io.fabric8.kubernetes.client.dsl.internal;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.fabric8.kubernetes.api.builder.TypedVisitor;
 import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.DefaultKubernetesResourceList;
@@ -24,6 +27,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
@@ -50,6 +54,7 @@ import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.extension.ExtensibleResource;
 import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
@@ -61,6 +66,7 @@ import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.URLUtils.URLBuilder;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.AsyncFanOut;
 import io.fabric8.kubernetes.client.utils.internal.CreateOrReplaceHelper;
 import io.fabric8.kubernetes.client.utils.internal.WatcherToggle;
 
@@ -68,27 +74,33 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceList<T>, R extends Resource<T>>
     extends CreateOnlyResourceOperation<T, T>
@@ -101,6 +113,24 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   private static final String WATCH = "watch";
   private static final String READ_ONLY_UPDATE_EXCEPTION_MESSAGE = "Cannot update read-only resources";
   private static final String READ_ONLY_EDIT_EXCEPTION_MESSAGE = "Cannot edit read-only resources";
+  private static final String METADATA_ONLY_ACCEPT = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json";
+
+  /**
+   * Only the metadata of a list item, the rest is skipped when reading
+   */
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  static class ItemMetadata {
+    public ObjectMeta metadata;
+  }
+
+  /**
+   * Only the list and item metadata of a list
+   */
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  static class ItemMetadataList {
+    public ListMeta metadata;
+    public List<ItemMetadata> items;
+  }
 
   private final T item;
 
@@ -402,16 +432,12 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     try {
       URL fetchListUrl = fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null));
       HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder().url(fetchListUrl);
-      Type refinedType = listType.equals(DefaultKubernetesResourceList.class)
-          ? Serialization.jsonMapper().getTypeFactory().constructParametricType(listType, type)
-          : listType;
-      TypeReference<L> listTypeReference = new TypeReference<L>() {
-        @Override
-        public Type getType() {
-          return refinedType;
-        }
-      };
-      CompletableFuture<L> futureAnswer = handleResponse(httpClient, requestBuilder, listTypeReference);
+      TypeFactory typeFactory = Serialization.jsonMapper().getTypeFactory();
+      JavaType refinedType = listType.equals(DefaultKubernetesResourceList.class)
+          ? typeFactory.constructParametricType(listType, type)
+          : typeFactory.constructType(listType);
+      CompletableFuture<L> futureAnswer = handleStreamingResponse(httpClient, requestBuilder, refinedType,
+          typeFactory.constructType(type));
       return futureAnswer.thenApply(updateApiVersion());
     } catch (IOException e) {
       throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
@@ -427,6 +453,22 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public Stream<T> streamItems() {
+    return streamItems(new ListOptions());
+  }
+
+  @Override
+  public Stream<T> streamItems(ListOptions listOptions) {
+    ListOptions options = defaultListOptions(listOptions, null);
+    ListItemIterator<T> iterator = new ListItemIterator<>(Serialization.jsonMapper(), type, listPages(options, null));
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+        false).onClose(iterator::close).map(item -> {
+          updateApiVersion(item);
+          return item;
+        });
+  }
+
   /**
    * Override the options based upon the context / call
    */
@@ -468,6 +510,33 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  /**
+   * @param accept the Accept header value, or null for the default
+   * @return the list response body for the given continue value
+   */
+  private Function<String, InputStream> listPages(ListOptions options, String accept) {
+    return continueVal -> {
+      options.setContinue(continueVal);
+      try {
+        HttpRequest.Builder builder = httpClient.newHttpRequestBuilder().url(fetchListUrl(getNamespacedUrl(), options));
+        if (accept != null) {
+          builder.header("Accept", accept);
+        }
+        HttpRequest request = builder.build();
+        HttpResponse<InputStream> response = waitForResult(httpClient.sendAsync(request, InputStream.class));
+        try {
+          assertResponseCode(request, response);
+        } catch (KubernetesClientException e) {
+          Utils.closeQuietly(response.body());
+          throw e;
+        }
+        return response.body();
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+      }
+    };
+  }
+
   @Override
   public List<StatusDetails> delete() {
     List<StatusDetails> deleted = deleteAll();
@@ -484,8 +553,31 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public CompletableFuture<List<StatusDetails>> submitDelete() {
+    return submitDeleteAll();
+  }
+
   protected List<StatusDetails> deleteAll() {
+    CompletableFuture<List<StatusDetails>> future = submitDeleteAll();
+    if (Utils.isNotNullOrEmpty(name)) {
+      // a single request, bounded by the request timeout
+      try {
+        return waitForResult(future);
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(forOperationType("delete"), e);
+      }
+    }
+    return awaitDeletes(future);
+  }
+
+  /**
+   * Delete without waiting - if there is no name nor namespace and this is a namespaced resource, the applicable
+   * namespaces are found first and deleted from concurrently
+   */
+  protected CompletableFuture<List<StatusDetails>> submitDeleteAll() {
     if (Utils.isNotNullOrEmpty(name) || Utils.isNotNullOrEmpty(namespace) || !isResourceNamespaced()) {
+      CompletableFuture<KubernetesResource> future;
       try {
         URL resourceURLForWriteOperation = getResourceURLForWriteOperation(getResourceUrl());
         ListOptions options = new ListOptions();
@@ -505,46 +597,117 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
         if (useOptions) {
           resourceURLForWriteOperation = appendListOptionParams(resourceURLForWriteOperation, options);
         }
-        KubernetesResource result = handleDelete(resourceURLForWriteOperation, gracePeriodSeconds, propagationPolicy,
+        future = handleDelete(httpClient, resourceURLForWriteOperation, gracePeriodSeconds, propagationPolicy,
             resourceVersion);
-        ArrayList<StatusDetails> details = new ArrayList<>();
-        toStatusDetails(result, details);
-        return details;
-      } catch (Exception e) {
-        RuntimeException re = KubernetesClientException.launderThrowable(forOperationType("delete"), e);
-        if (re instanceof KubernetesClientException) {
-          KubernetesClientException ke = (KubernetesClientException) re;
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(forOperationType("delete"), e);
+      }
+      return future.handle((result, e) -> {
+        if (e == null) {
+          ArrayList<StatusDetails> details = new ArrayList<>();
+          toStatusDetails(result, details);
+          return CompletableFuture.completedFuture((List<StatusDetails>) details);
+        }
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof KubernetesClientException) {
+          KubernetesClientException ke = (KubernetesClientException) cause;
           if (Utils.isNotNullOrEmpty(name)) {
             if (ke.getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
-              return Collections.emptyList();
+              return CompletableFuture.completedFuture(Collections.<StatusDetails> emptyList());
             }
           } else if (ke.getCode() == HttpURLConnection.HTTP_BAD_METHOD) {
             // collection delete may not be supported, fall-back to single item delete
-            return list().getItems().stream().flatMap(i -> resource(i).delete().stream()).collect(Collectors.toList());
+            return submitList(new ListOptions()).thenCompose(list -> deleteConcurrently(list.getItems(),
+                item -> itemOperation(item).submitDeleteAll()));
           }
         }
-        throw re;
+        CompletableFuture<List<StatusDetails>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(cause);
+        return failed;
+      }).thenCompose(Function.identity());
+    }
+    // find each applicable namespace and issue a delete
+    return listNamespaces(defaultListOptions(new ListOptions(), null), new LinkedHashSet<>())
+        .thenCompose(namespaces -> deleteConcurrently(namespaces, n -> inNamespace(n).submitDeleteAll()));
+  }
+
+  /**
+   * Find the namespaces of the matching items - only the item metadata is requested and read
+   */
+  private CompletableFuture<Set<String>> listNamespaces(ListOptions options, Set<String> namespaces) {
+    HttpRequest.Builder requestBuilder;
+    try {
+      requestBuilder = httpClient.newHttpRequestBuilder().url(fetchListUrl(getNamespacedUrl(), options))
+          .header("Accept", METADATA_ONLY_ACCEPT);
+    } catch (MalformedURLException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+    return handleResponse(httpClient, requestBuilder, new TypeReference<ItemMetadataList>() {
+    }).thenCompose(list -> {
+      if (list.items != null) {
+        list.items.stream().filter(i -> i.metadata != null).forEach(i -> namespaces.add(i.metadata.getNamespace()));
+      }
+      String continueVal = list.metadata == null ? null : list.metadata.getContinue();
+      if (Utils.isNullOrEmpty(continueVal)) {
+        return CompletableFuture.completedFuture(namespaces);
       }
+      options.setContinue(continueVal);
+      return listNamespaces(options, namespaces);
+    });
+  }
+
+  /**
+   * Perform the deletes concurrently, with at most {@link Config#getMaxConcurrentRequestsPerHost()} in flight
+   */
+  private <I> CompletableFuture<List<StatusDetails>> deleteConcurrently(Collection<I> targets,
+      Function<I, CompletableFuture<List<StatusDetails>>> delete) {
+    return AsyncFanOut.apply(new ArrayList<>(targets), config.getMaxConcurrentRequestsPerHost(), delete)
+        .thenApply(deleted -> deleted.stream().flatMap(List::stream).collect(Collectors.toList()));
+  }
+
+  /**
+   * Wait for fanned out deletes - each of their requests is bounded by the request timeout, but not the whole
+   */
+  private <X> X awaitDeletes(CompletableFuture<X> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(forOperationType("delete"), e);
+    } catch (ExecutionException e) {
+      throw deleteException(e.getCause());
     }
-    // if there is no name nor namespace and this is a namespaced resource, find each applicable namespace and issue a delete
-    Set<String> namespaces = list().getItems().stream().map(i -> i.getMetadata().getNamespace()).collect(Collectors.toSet());
-    return namespaces.stream().flatMap(n -> inNamespace(n).delete().stream()).collect(Collectors.toList());
+  }
+
+  private RuntimeException deleteException(Throwable t) {
+    if (t instanceof CompletionException && t.getCause() != null) {
+      t = t.getCause();
+    }
+    if (t instanceof KubernetesClientException) {
+      return ((KubernetesClientException) t).copyAsCause();
+    }
+    return KubernetesClientException.launderThrowable(forOperationType("delete"), t);
   }
 
   @Override
   public boolean delete(List<T> items) {
     if (items != null) {
-      for (T toDelete : items) {
-        if (toDelete == null) {
-          continue;
-        }
-        try {
-          resource(toDelete).delete();
-        } catch (KubernetesClientException e) {
-          if (e.getCode() != HttpURLConnection.HTTP_NOT_FOUND) {
-            throw e;
-          }
-        }
+      List<BaseOperation<T, L, R>> operations = items.stream().filter(Objects::nonNull).map(this::itemOperation)
+          .collect(Collectors.toList());
+      // a failure is only reported once the other deletes have been attempted
+      AtomicReference<Throwable> failure = new AtomicReference<>();
+      List<List<StatusDetails>> deleted = awaitDeletes(AsyncFanOut.apply(operations,
+          config.getMaxConcurrentRequestsPerHost(), operation -> operation.submitDeleteAll().exceptionally(e -> {
+            failure.compareAndSet(null, e);
+            return Collections.emptyList();
+          })));
+      if (failure.get() != null) {
+        throw deleteException(failure.get());
+      }
+      for (int i = 0; i < operations.size(); i++) {
+        BaseOperation<T, L, R> operation = operations.get(i);
+        waitForDelete(deleted.get(i), operation.context, operation);
       }
     }
     return true;
@@ -580,6 +743,14 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   @Override
   public R resource(T item) {
+    return newResource(itemContext(item));
+  }
+
+  private BaseOperation<T, L, R> itemOperation(T item) {
+    return newInstance(itemContext(item));
+  }
+
+  private OperationContext itemContext(T item) {
     // set the name, namespace, and item - not all operations are looking at the item for the name
     // things like configMaps().load(...).watch(...) for example
     item = correctNamespace(item);
@@ -589,7 +760,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     if (Utils.isNotNullOrEmpty(itemNs)) {
       ctx = ctx.withNamespace(itemNs);
     }
-    return newResource(ctx);
+    return ctx;
   }
 
   @Override
@@ -877,12 +1048,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   @Override
   public T waitUntilCondition(Predicate<T> condition, long amount, TimeUnit timeUnit) {
-    CompletableFuture<List<T>> futureCondition = informOnCondition(l -> {
-      if (l.isEmpty()) {
-        return condition.test(null);
-      }
-      return l.stream().allMatch(condition);
-    });
+    CompletableFuture<T> futureCondition = waitForCondition(new ConditionInformers.ItemCondition<>(condition));
 
     if (!Utils.waitUntilReady(futureCondition, amount, timeUnit)) {
       futureCondition.cancel(true);
@@ -892,59 +1058,32 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
       }
       throw new KubernetesClientTimeoutException(getKind(), getName(), getNamespace(), amount, timeUnit);
     }
-    return futureCondition.thenApply(l -> l.isEmpty() ? null : l.get(0)).getNow(null);
+    return futureCondition.getNow(null);
   }
 
   @Override
   public CompletableFuture<List<T>> informOnCondition(Predicate<List<T>> condition) {
-    CompletableFuture<List<T>> future = new CompletableFuture<>();
-
-    // create an informer that supplies the tester with events and empty list handling
-    SharedIndexInformer<T> informer = this.createInformer(0, Runnable::run);
-
-    informer.initialState(Stream.empty());
-
-    // prevent unnecessary watches and handle closure
-    future.whenComplete((r, t) -> informer.stop());
-
-    // use the cache to evaluate the list predicate, trapping any exceptions
-    Consumer<List<T>> test = list -> {
-      try {
-        // could skip if lastResourceVersion has not changed
-        if (condition.test(list)) {
-          future.complete(list);
-        }
-      } catch (Exception e) {
-        future.completeExceptionally(e);
-      }
-    };
-
-    informer.addEventHandler(new ResourceEventHandler<T>() {
-      @Override
-      public void onAdd(T obj) {
-        test.accept(informer.getStore().list());
-      }
-
-      @Override
-      public void onDelete(T obj, boolean deletedFinalStateUnknown) {
-        test.accept(informer.getStore().list());
-      }
-
-      @Override
-      public void onUpdate(T oldObj, T newObj) {
-        test.accept(informer.getStore().list());
-      }
+    return waitForCondition(new ConditionInformers.ListCondition<>(condition));
+  }
 
-      @Override
-      public void onNothing() {
-        test.accept(informer.getStore().list());
-      }
-    }).start().whenComplete((v, t) -> {
-      if (t != null) {
-        future.completeExceptionally(t);
-      }
-    });
-    return future;
+  /**
+   * Evaluate the condition with an informer shared by all of the waits for the same type and list request
+   */
+  <R> CompletableFuture<R> waitForCondition(ConditionInformers.Condition<T, R> condition) {
+    String key;
+    try {
+      ListOptions options = defaultListOptions(new ListOptions(), null);
+      options.setResourceVersion(null);
+      key = getType().getName() + " " + fetchListUrl(getNamespacedUrl(), options);
+    } catch (MalformedURLException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+    return context.getConditionInformers().waitFor(key, () -> {
+      // an informer that supplies the condition with events and empty list handling
+      SharedIndexInformer<T> informer = this.createInformer(0, Runnable::run);
+      informer.initialState(Stream.empty());
+      return informer;
+    }, condition);
   }
 
   public void setType(Class<T> type) {
@@ -0,0 +1,235 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.BulkResult;
+import io.fabric8.kubernetes.client.dsl.BulkWritable;
+import io.fabric8.kubernetes.client.dsl.NamespaceableResource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Performs an operation over the resources with at most parallelism requests in flight.
+ * <br>
+ * The resources are split into two tiers - Namespaces and CustomResourceDefinitions, which other
+ * resources may depend upon, and everything else. A tier is completed before the next is started. When
+ * writing, the next tier also waits for the Namespaces to be Active and the CustomResourceDefinitions to be
+ * Established, as the server rejects the dependent resources until then.
+ * <br>
+ * The operations are blocking, so they are run by threads dedicated to the bulk operation, together with the
+ * calling thread, rather than by the client executor.
+ */
+class BulkOperation implements BulkWritable<HasMetadata> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BulkOperation.class);
+  static final long DEFAULT_READY_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  private final NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl list;
+  private final OperationContext context;
+  private final int parallelism;
+
+  BulkOperation(NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl list, OperationContext context,
+      int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be at least 1");
+    }
+    this.list = list;
+    this.context = context;
+    this.parallelism = parallelism;
+  }
+
+  @Override
+  public List<BulkResult<HasMetadata, HasMetadata>> create() {
+    return perform(NamespaceableResource::create, false);
+  }
+
+  @Override
+  public List<BulkResult<HasMetadata, HasMetadata>> createOrReplace() {
+    return perform(NamespaceableResource::createOrReplace, false);
+  }
+
+  @Override
+  public List<BulkResult<HasMetadata, HasMetadata>> serverSideApply() {
+    return perform(NamespaceableResource::serverSideApply, false);
+  }
+
+  @Override
+  public List<BulkResult<HasMetadata, List<StatusDetails>>> delete() {
+    List<BulkResult<HasMetadata, List<StatusDetails>>> results = perform(NamespaceableResource::delete, true);
+    BaseOperation.waitForDelete(results.stream()
+        .filter(BulkResult::isSuccessful)
+        .flatMap(r -> r.getResult().stream())
+        .collect(Collectors.toList()), context, list);
+    return results;
+  }
+
+  /**
+   * @param reverse if the dependent resources should be handled first, as is needed for deletion
+   */
+  <R> List<BulkResult<HasMetadata, R>> perform(Function<NamespaceableResource<HasMetadata>, R> operation,
+      boolean reverse) {
+    List<NamespaceableResource<HasMetadata>> resources = list.getResources();
+    AtomicReferenceArray<BulkResult<HasMetadata, R>> results = new AtomicReferenceArray<>(resources.size());
+    List<Integer> first = new ArrayList<>();
+    List<Integer> second = new ArrayList<>();
+    for (int i = 0; i < resources.size(); i++) {
+      (isDependency(resources.get(i).item()) != reverse ? first : second).add(i);
+    }
+    performTier(first, resources, operation, results);
+    if (!reverse) {
+      awaitReady(first, resources, results);
+    }
+    performTier(second, resources, operation, results);
+    List<BulkResult<HasMetadata, R>> result = new ArrayList<>(resources.size());
+    for (int i = 0; i < resources.size(); i++) {
+      result.add(results.get(i));
+    }
+    return result;
+  }
+
+  private <R> void performTier(List<Integer> tier, List<NamespaceableResource<HasMetadata>> resources,
+      Function<NamespaceableResource<HasMetadata>, R> operation, AtomicReferenceArray<BulkResult<HasMetadata, R>> results) {
+    forEach(tier, i -> {
+      NamespaceableResource<HasMetadata> resource = resources.get(i);
+      try {
+        results.set(i, BulkResult.success(resource.item(), operation.apply(resource)));
+      } catch (KubernetesClientException e) {
+        results.set(i, BulkResult.failure(resource.item(), e));
+      } catch (RuntimeException e) {
+        results.set(i, BulkResult.failure(resource.item(), new KubernetesClientException(e.getMessage(), e)));
+      }
+    });
+  }
+
+  /**
+   * Wait for the written dependencies to be usable. A dependency that does not become ready is only logged - the
+   * dependent resources then fail, and report, on their own.
+   */
+  private <R> void awaitReady(List<Integer> tier, List<NamespaceableResource<HasMetadata>> resources,
+      AtomicReferenceArray<BulkResult<HasMetadata, R>> results) {
+    List<Integer> pending = tier.stream()
+        .filter(i -> results.get(i).isSuccessful() && !isReady(asResource(results.get(i).getResult())))
+        .collect(Collectors.toList());
+    long timeout = context.getTimeout() > 0 ? context.getTimeoutUnit().toMillis(context.getTimeout())
+        : DEFAULT_READY_TIMEOUT_MILLIS;
+    forEach(pending, i -> {
+      NamespaceableResource<HasMetadata> resource = resources.get(i);
+      try {
+        resource.waitUntilCondition(BulkOperation::isReady, timeout, TimeUnit.MILLISECONDS);
+      } catch (KubernetesClientException e) {
+        LOGGER.warn("{} {} is not ready, the resources depending on it may fail", resource.item().getKind(),
+            resource.item().getMetadata().getName(), e);
+      }
+    });
+  }
+
+  private static HasMetadata asResource(Object result) {
+    return result instanceof HasMetadata ? (HasMetadata) result : null;
+  }
+
+  /**
+   * Run the task for each index, with at most parallelism running at a time
+   */
+  private void forEach(List<Integer> indices, IntConsumer task) {
+    AtomicInteger next = new AtomicInteger();
+    Runnable worker = () -> {
+      int index;
+      while ((index = next.getAndIncrement()) < indices.size()) {
+        task.accept(indices.get(index));
+      }
+    };
+    int workers = Math.min(parallelism, indices.size());
+    if (workers == 0) {
+      return;
+    }
+    if (workers == 1) {
+      worker.run();
+      return;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(workers - 1, Utils.daemonThreadFactory(this));
+    try {
+      List<Future<?>> futures = new ArrayList<>(workers - 1);
+      for (int i = 0; i < workers - 1; i++) {
+        futures.add(executor.submit(worker));
+      }
+      // the calling thread participates as well
+      worker.run();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(e);
+    } catch (ExecutionException e) {
+      throw KubernetesClientException.launderThrowable(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * @return true if the item is a dependency that can be used - an Active Namespace or an Established
+   *         CustomResourceDefinition - or is not a dependency
+   */
+  static boolean isReady(HasMetadata item) {
+    if (item == null) {
+      return false;
+    }
+    if (!isDependency(item)) {
+      return true;
+    }
+    JsonNode status = Serialization.jsonMapper().valueToTree(item).path("status");
+    if ("Namespace".equals(item.getKind())) {
+      return "Active".equals(status.path("phase").asText());
+    }
+    for (JsonNode condition : status.path("conditions")) {
+      if ("Established".equals(condition.path("type").asText()) && "True".equals(condition.path("status").asText())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static boolean isDependency(HasMetadata item) {
+    String kind = item.getKind();
+    String apiVersion = item.getApiVersion();
+    if ("Namespace".equals(kind)) {
+      return "v1".equals(apiVersion);
+    }
+    return "CustomResourceDefinition".equals(kind) && apiVersion != null
+        && apiVersion.startsWith("apiextensions.k8s.io/");
+  }
+
+}
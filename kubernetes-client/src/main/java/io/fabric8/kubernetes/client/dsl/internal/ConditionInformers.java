@@ -0,0 +1,372 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Shares informers between the waits for a condition on the same resources, so that concurrent waits
+ * on the same type, namespace and selector use a single list and watch. The informer is stopped once
+ * the last wait using it has completed.
+ * <br>
+ * A wait only joins an informer that has not yet completed its initial list. Later waits start a new informer,
+ * which replaces the previous one for the waits that follow - as with an informer of its own, a wait issued after
+ * a write is then never evaluated against a store populated before the wait was registered.
+ * <br>
+ * A wait is evaluated against the whole store once, on the first event it sees. After that it is only told the
+ * key of the item that changed.
+ * <br>
+ * Futures are only completed once no lock is held, as their dependent actions - including leaving the
+ * shared informer - may run inline.
+ */
+public class ConditionInformers {
+
+  /**
+   * A condition being waited on. All calls for the same informer are made while holding its lock, so
+   * the outcome is only recorded, and applied to the future once the lock is released.
+   */
+  abstract static class Condition<T, R> {
+
+    final CompletableFuture<R> future = new CompletableFuture<>();
+    private boolean synced;
+    private Runnable outcome;
+
+    /**
+     * Evaluate the condition against all of the items in the store
+     */
+    abstract void sync(Store<T> store);
+
+    /**
+     * Evaluate the condition after the item with the given key has been added, updated or deleted
+     */
+    abstract void changed(Store<T> store, String key);
+
+    void complete(R result) {
+      if (outcome == null) {
+        outcome = () -> future.complete(result);
+      }
+    }
+
+    private void test(Runnable evaluation, List<Runnable> outcomes) {
+      if (outcome != null || future.isDone()) {
+        return;
+      }
+      try {
+        evaluation.run();
+      } catch (Exception e) {
+        outcome = () -> future.completeExceptionally(e);
+      }
+      if (outcome != null) {
+        outcomes.add(outcome);
+      }
+    }
+
+  }
+
+  /**
+   * Tests the whole list of items on every change.
+   */
+  static class ListCondition<T> extends Condition<T, List<T>> {
+
+    private final Predicate<List<T>> condition;
+
+    ListCondition(Predicate<List<T>> condition) {
+      this.condition = condition;
+    }
+
+    @Override
+    void sync(Store<T> store) {
+      List<T> list = store.list();
+      if (condition.test(list)) {
+        complete(list);
+      }
+    }
+
+    @Override
+    void changed(Store<T> store, String key) {
+      sync(store);
+    }
+
+  }
+
+  /**
+   * Tests only the changed item, keeping track of the items that do not yet satisfy the condition.
+   * The condition is met when it holds for all items, or when there are none and it holds for null.
+   */
+  static class ItemCondition<T> extends Condition<T, T> {
+
+    private final Predicate<T> condition;
+    private final Set<String> present = new HashSet<>();
+    private final Set<String> unsatisfied = new HashSet<>();
+    private T last;
+
+    ItemCondition(Predicate<T> condition) {
+      this.condition = condition;
+    }
+
+    @Override
+    void sync(Store<T> store) {
+      present.clear();
+      unsatisfied.clear();
+      for (String key : store.listKeys()) {
+        update(key, store.getByKey(key));
+      }
+      complete();
+    }
+
+    @Override
+    void changed(Store<T> store, String key) {
+      update(key, store.getByKey(key));
+      complete();
+    }
+
+    private void update(String key, T item) {
+      if (item == null) {
+        present.remove(key);
+        unsatisfied.remove(key);
+        return;
+      }
+      present.add(key);
+      last = item;
+      if (condition.test(item)) {
+        unsatisfied.remove(key);
+      } else {
+        unsatisfied.add(key);
+      }
+    }
+
+    private void complete() {
+      if (present.isEmpty()) {
+        if (condition.test(null)) {
+          complete(null);
+        }
+      } else if (unsatisfied.isEmpty()) {
+        complete(last);
+      }
+    }
+
+  }
+
+  private final class Shared<T> implements ResourceEventHandler<T> {
+
+    private final String key;
+    private final SharedIndexInformer<T> informer;
+    private final Set<Condition<T, ?>> conditions = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile CompletableFuture<Void> startFuture;
+    private volatile boolean listed;
+
+    private Shared(String key, SharedIndexInformer<T> informer) {
+      this.key = key;
+      this.informer = informer;
+    }
+
+    private void start() {
+      informer.addEventHandler(this);
+      startFuture = informer.start().toCompletableFuture();
+      startFuture.whenComplete((v, t) -> {
+        if (t != null) {
+          failAll(t);
+        } else {
+          syncAll();
+        }
+      });
+      informer.stopped().whenComplete((v, t) -> {
+        if (t != null) {
+          failAll(t);
+        }
+      });
+    }
+
+    /**
+     * @return true once the store has been populated, after which new waits must not join
+     */
+    private boolean isListed() {
+      return listed || informer.hasSynced();
+    }
+
+    private boolean isStopped() {
+      CompletableFuture<Void> started = startFuture;
+      // not yet started by the first waiter, which will do so once it has released the registry lock
+      if (started == null) {
+        return false;
+      }
+      return started.isCompletedExceptionally() || informer.stopped().toCompletableFuture().isDone();
+    }
+
+    private void failAll(Throwable t) {
+      conditions.forEach(c -> c.future.completeExceptionally(t));
+    }
+
+    private void syncAll() {
+      List<Runnable> outcomes = new ArrayList<>();
+      lock.lock();
+      try {
+        listed = true;
+        conditions.forEach(condition -> sync(condition, outcomes));
+      } finally {
+        lock.unlock();
+      }
+      outcomes.forEach(Runnable::run);
+    }
+
+    private void sync(Condition<T, ?> condition, List<Runnable> outcomes) {
+      condition.synced = true;
+      condition.test(() -> condition.sync(informer.getStore()), outcomes);
+    }
+
+    private void join(Condition<T, ?> condition) {
+      List<Runnable> outcomes = new ArrayList<>();
+      lock.lock();
+      try {
+        // the initial list may have completed since the wait was registered, in which case it missed the sync
+        if (isListed()) {
+          sync(condition, outcomes);
+        }
+      } finally {
+        lock.unlock();
+      }
+      outcomes.forEach(Runnable::run);
+    }
+
+    private void changed(T obj) {
+      List<Runnable> outcomes = new ArrayList<>();
+      lock.lock();
+      try {
+        listed = true;
+        String itemKey = informer.getStore().getKey(obj);
+        for (Condition<T, ?> condition : conditions) {
+          if (condition.synced) {
+            condition.test(() -> condition.changed(informer.getStore(), itemKey), outcomes);
+          } else {
+            sync(condition, outcomes);
+          }
+        }
+      } finally {
+        lock.unlock();
+      }
+      outcomes.forEach(Runnable::run);
+    }
+
+    @Override
+    public void onAdd(T obj) {
+      changed(obj);
+    }
+
+    @Override
+    public void onUpdate(T oldObj, T newObj) {
+      changed(newObj);
+    }
+
+    @Override
+    public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+      changed(obj);
+    }
+
+    @Override
+    public void onNothing() {
+      syncAll();
+    }
+
+  }
+
+  private final Map<String, Shared<?>> informers = new HashMap<>();
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Wait for the condition using the informer shared under the given key, creating and starting one
+   * if there is none, or if it has already completed its initial list
+   *
+   * @param key identifies the type and the list request of the informer
+   * @param informerSupplier creates a new informer, which will be stopped by this registry
+   * @param condition the condition to evaluate
+   * @return the future for the condition, which may be cancelled to stop waiting
+   */
+  @SuppressWarnings("unchecked")
+  <T extends HasMetadata, R> CompletableFuture<R> waitFor(String key, Supplier<SharedIndexInformer<T>> informerSupplier,
+      Condition<T, R> condition) {
+    Shared<T> shared;
+    boolean created = false;
+    lock.lock();
+    try {
+      shared = (Shared<T>) informers.get(key);
+      if (shared == null || shared.isStopped() || shared.isListed()) {
+        shared = new Shared<>(key, informerSupplier.get());
+        informers.put(key, shared);
+        created = true;
+      }
+      shared.conditions.add(condition);
+    } finally {
+      lock.unlock();
+    }
+    // the informer is started without holding the registry lock, as its callbacks may run inline
+    Shared<T> joined = shared;
+    condition.future.whenComplete((r, t) -> leave(joined, condition));
+    if (created) {
+      try {
+        joined.start();
+      } catch (RuntimeException e) {
+        // also fails any waits that have joined in the meantime
+        joined.failAll(e);
+        throw e;
+      }
+    }
+    joined.join(condition);
+    return condition.future;
+  }
+
+  private <T> void leave(Shared<T> shared, Condition<T, ?> condition) {
+    boolean stop = false;
+    lock.lock();
+    try {
+      shared.conditions.remove(condition);
+      if (shared.conditions.isEmpty()) {
+        informers.remove(shared.key, shared);
+        stop = true;
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (stop) {
+      shared.informer.stop();
+    }
+  }
+
+  int size() {
+    lock.lock();
+    try {
+      return informers.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+}
@@ -24,6 +24,8 @@ import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Provides an InputStream that is non-blocking to the producer
@@ -32,6 +34,9 @@ import java.util.List;
 public class ExecWatchInputStream extends InputStream {
 
   private final LinkedList<ByteBuffer> buffers = new LinkedList<>();
+  // a lock rather than a monitor, so that a virtual thread waiting for input is not pinned to its carrier
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
   private boolean complete;
   private boolean closed;
   private Throwable failed;
@@ -44,7 +49,8 @@ public class ExecWatchInputStream extends InputStream {
   }
 
   void onExit(Integer exitCode, Throwable t) {
-    synchronized (buffers) {
+    lock.lock();
+    try {
       if (complete) {
         return;
       }
@@ -54,12 +60,15 @@ public class ExecWatchInputStream extends InputStream {
       } else if (exitCode != null && exitCode != 0) {
         failed = new KubernetesClientException("process exited with a non-zero exit code: " + exitCode);
       }
-      buffers.notifyAll();
+      changed.signalAll();
+    } finally {
+      lock.unlock();
     }
   }
 
   void consume(List<ByteBuffer> value) {
-    synchronized (buffers) {
+    lock.lock();
+    try {
       if (closed) {
         // even if closed there may be other streams
         // so keep pulling
@@ -68,12 +77,15 @@ public class ExecWatchInputStream extends InputStream {
       }
       assert !complete || failed == null;
       buffers.addAll(value);
-      buffers.notifyAll();
+      changed.signalAll();
+    } finally {
+      lock.unlock();
     }
   }
 
   private ByteBuffer current() throws IOException {
-    synchronized (buffers) {
+    lock.lock();
+    try {
       while (currentBuffer == null || !currentBuffer.hasRemaining()) {
         // Check whether the stream is closed or exhausted
         if (closed) {
@@ -93,7 +105,7 @@ public class ExecWatchInputStream extends InputStream {
 
         if (currentBuffer == null && !complete) {
           try {
-            buffers.wait();
+            changed.await();
           } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new InterruptedIOException();
@@ -101,6 +113,8 @@ public class ExecWatchInputStream extends InputStream {
         }
       }
       return currentBuffer;
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -137,14 +151,17 @@ public class ExecWatchInputStream extends InputStream {
 
   @Override
   public void close() throws IOException {
-    synchronized (buffers) {
+    lock.lock();
+    try {
       if (this.closed) {
         return;
       }
       this.closed = true;
       requestMoreIfNeeded();
       this.buffers.clear();
-      buffers.notifyAll();
+      changed.signalAll();
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Computes the RFC 6902 JSON patch between two trees, writing each operation as soon as it is found.
+ * <br>
+ * Objects are compared field by field in a single pass, without first testing each level for equality.
+ * Arrays that are equal are skipped, otherwise the operations are derived from the longest common
+ * subsequence of the elements - the same way as zjsonpatch does, but removals and additions of the
+ * same value are not combined into moves.
+ */
+final class JsonPatchDiff {
+
+  /**
+   * Beyond this number of element comparisons, arrays are diffed by position rather than by their
+   * longest common subsequence. The patch is still correct, it may just not be as small.
+   */
+  static final int MAX_LCS_COMPARISONS = 1 << 20;
+
+  private final ObjectMapper mapper;
+  private final JsonGenerator generator;
+
+  private JsonPatchDiff(ObjectMapper mapper, JsonGenerator generator) {
+    this.mapper = mapper;
+    this.generator = generator;
+  }
+
+  /**
+   * Compute the patch that transforms the source into the target
+   *
+   * @param mapper the mapper used to write the values
+   * @param source the source tree
+   * @param target the target tree
+   * @return the json patch as a string
+   */
+  static String diff(ObjectMapper mapper, JsonNode source, JsonNode target) {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+      generator.writeStartArray();
+      new JsonPatchDiff(mapper, generator).diff("", source, target);
+      generator.writeEndArray();
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+    return writer.toString();
+  }
+
+  private void diff(String path, JsonNode source, JsonNode target) throws IOException {
+    if (source.isObject() && target.isObject()) {
+      diffObjects(path, source, target);
+    } else if (source.isArray() && target.isArray()) {
+      if (!source.equals(target)) {
+        diffArrays(path, source, target);
+      }
+    } else if (!source.equals(target)) {
+      write("replace", path, target);
+    }
+  }
+
+  private void diffObjects(String path, JsonNode source, JsonNode target) throws IOException {
+    for (Iterator<Map.Entry<String, JsonNode>> fields = source.fields(); fields.hasNext();) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      JsonNode targetValue = target.get(field.getKey());
+      if (targetValue == null) {
+        write("remove", child(path, field.getKey()), null);
+      } else {
+        diff(child(path, field.getKey()), field.getValue(), targetValue);
+      }
+    }
+    for (Iterator<Map.Entry<String, JsonNode>> fields = target.fields(); fields.hasNext();) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      if (!source.has(field.getKey())) {
+        write("add", child(path, field.getKey()), field.getValue());
+      }
+    }
+  }
+
+  private void diffArrays(String path, JsonNode source, JsonNode target) throws IOException {
+    // the common prefix and suffix are part of the longest common subsequence
+    int start = 0;
+    int sourceEnd = source.size();
+    int targetEnd = target.size();
+    while (start < sourceEnd && start < targetEnd && source.get(start).equals(target.get(start))) {
+      start++;
+    }
+    while (sourceEnd > start && targetEnd > start && source.get(sourceEnd - 1).equals(target.get(targetEnd - 1))) {
+      sourceEnd--;
+      targetEnd--;
+    }
+    int[] matches = longestCommonSubsequence(source, target, start, sourceEnd, targetEnd);
+    int position = start;
+    int sourceIndex = start;
+    int targetIndex = start;
+    for (int i = 0; i < matches.length; i += 2) {
+      position = diffRange(path, position, source, sourceIndex, matches[i], target, targetIndex, matches[i + 1]) + 1;
+      sourceIndex = matches[i] + 1;
+      targetIndex = matches[i + 1] + 1;
+    }
+    diffRange(path, position, source, sourceIndex, sourceEnd, target, targetIndex, targetEnd);
+  }
+
+  /**
+   * Diff elements of the source and target that are not part of the common subsequence. They are
+   * paired by position, then the remaining target elements are added or the remaining source
+   * elements removed.
+   *
+   * @return the position in the patched array after the range
+   */
+  private int diffRange(String path, int position, JsonNode source, int sourceIndex, int sourceEnd, JsonNode target,
+      int targetIndex, int targetEnd) throws IOException {
+    for (; sourceIndex < sourceEnd && targetIndex < targetEnd; sourceIndex++, targetIndex++, position++) {
+      diff(path + '/' + position, source.get(sourceIndex), target.get(targetIndex));
+    }
+    for (; targetIndex < targetEnd; targetIndex++, position++) {
+      write("add", path + '/' + position, target.get(targetIndex));
+    }
+    for (; sourceIndex < sourceEnd; sourceIndex++) {
+      write("remove", path + '/' + position, null);
+    }
+    return position;
+  }
+
+  /**
+   * @return the matched source and target indexes, as consecutive pairs
+   */
+  private static int[] longestCommonSubsequence(JsonNode source, JsonNode target, int start, int sourceEnd, int targetEnd) {
+    int rows = sourceEnd - start;
+    int columns = targetEnd - start;
+    if (rows == 0 || columns == 0 || (long) rows * columns > MAX_LCS_COMPARISONS) {
+      return new int[0];
+    }
+    // lengths[i][j] is the length of the longest common subsequence of source[i..] and target[j..]
+    int[][] lengths = new int[rows + 1][columns + 1];
+    for (int i = rows - 1; i >= 0; i--) {
+      JsonNode sourceValue = source.get(start + i);
+      for (int j = columns - 1; j >= 0; j--) {
+        if (sourceValue.equals(target.get(start + j))) {
+          lengths[i][j] = lengths[i + 1][j + 1] + 1;
+        } else {
+          lengths[i][j] = Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+        }
+      }
+    }
+    int[] matches = new int[lengths[0][0] * 2];
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (count < matches.length) {
+      if (lengths[i][j] == lengths[i + 1][j + 1] + 1 && source.get(start + i).equals(target.get(start + j))) {
+        matches[count++] = start + i++;
+        matches[count++] = start + j++;
+      } else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return matches;
+  }
+
+  private static String child(String path, String name) {
+    if (name.indexOf('~') < 0 && name.indexOf('/') < 0) {
+      return path + '/' + name;
+    }
+    return path + '/' + name.replace("~", "~0").replace("/", "~1");
+  }
+
+  private void write(String op, String path, JsonNode value) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("op", op);
+    generator.writeStringField("path", path);
+    if (value != null) {
+      generator.writeFieldName("value");
+      mapper.writeTree(generator, value);
+    }
+    generator.writeEndObject();
+  }
+
+}
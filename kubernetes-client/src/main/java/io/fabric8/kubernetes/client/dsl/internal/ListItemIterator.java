@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Reads the items of a list response one at a time, without materializing the list.
+ * <br>
+ * When the list metadata has a continue value, the next page is requested once the
+ * items of the current page are exhausted - so that all pages appear as a single sequence.
+ */
+class ListItemIterator<T> implements Iterator<T>, Closeable {
+
+  private final ObjectMapper mapper;
+  private final Class<T> type;
+  private final Function<String, InputStream> pageRequest;
+
+  private JsonParser parser;
+  private boolean inItems;
+  private String continueVal;
+  private boolean done;
+  private T next;
+
+  /**
+   * @param mapper the mapper to read items and metadata
+   * @param type the item type
+   * @param pageRequest provides the response body for the given continue value, which will be null for the first page
+   */
+  ListItemIterator(ObjectMapper mapper, Class<T> type, Function<String, InputStream> pageRequest) {
+    this.mapper = mapper;
+    this.type = type;
+    this.pageRequest = pageRequest;
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      while (next == null && !done) {
+        if (parser == null) {
+          parser = mapper.getFactory().createParser(pageRequest.apply(continueVal));
+          continueVal = null;
+          if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new KubernetesClientException("Expected a list object, but found " + parser.currentToken());
+          }
+        }
+        next = readItem();
+        if (next == null) {
+          closeParser();
+          done = Utils.isNullOrEmpty(continueVal);
+        }
+      }
+      return next != null;
+    } catch (IOException e) {
+      close();
+      throw KubernetesClientException.launderThrowable(e);
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T result = next;
+    next = null;
+    return result;
+  }
+
+  /**
+   * Read the next item of the current page, capturing the list metadata along the way.
+   *
+   * @return the item or null if the page has no more items
+   */
+  private T readItem() throws IOException {
+    while (true) {
+      if (inItems) {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+          return mapper.readValue(parser, type);
+        }
+        if (token == JsonToken.VALUE_NULL) {
+          continue;
+        }
+        inItems = false;
+      }
+      if (parser.nextToken() != JsonToken.FIELD_NAME) {
+        return null; // end of the list object
+      }
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+        inItems = true;
+      } else if ("metadata".equals(field) && value == JsonToken.START_OBJECT) {
+        ListMeta listMeta = mapper.readValue(parser, ListMeta.class);
+        continueVal = listMeta.getContinue();
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private void closeParser() throws IOException {
+    if (parser != null) {
+      try {
+        parser.close();
+      } finally {
+        parser = null;
+        inItems = false;
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    done = true;
+    next = null;
+    try {
+      closeParser();
+    } catch (IOException e) {
+      // ignore
+    }
+  }
+
+}
@@ -523,6 +523,15 @@ public class OperationContext {
     return getClient().adapt(BaseClient.class).getExecutor();
   }
 
+  ConditionInformers getConditionInformers() {
+    ConditionInformers result = getClient().adapt(BaseClient.class).getConditionInformers();
+    if (result == null) {
+      // no registry to share with, so the informer will be used by this wait alone
+      return new ConditionInformers();
+    }
+    return result;
+  }
+
   public OperationContext withFieldValidation(Validation fieldValidation) {
     if (this.fieldValidation == fieldValidation) {
       return this;
@@ -16,11 +16,13 @@
 package io.fabric8.kubernetes.client.dsl.internal;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.api.model.DeleteOptions;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.Preconditions;
 import io.fabric8.kubernetes.api.model.Status;
@@ -309,6 +311,22 @@ public class OperationSupport {
 
   protected KubernetesResource handleDelete(URL requestUrl, long gracePeriodSeconds, DeletionPropagation propagationPolicy,
       String resourceVersion) throws InterruptedException, IOException {
+    return waitForResult(handleDelete(httpClient, requestUrl, gracePeriodSeconds, propagationPolicy, resourceVersion));
+  }
+
+  /**
+   * Send a delete request without waiting for the response.
+   *
+   * @param client the client
+   * @param requestUrl the url to delete
+   * @param gracePeriodSeconds the grace period, or a negative value for the default
+   * @param propagationPolicy the propagation policy, or null for the default
+   * @param resourceVersion the resourceVersion precondition, or null for none
+   * @return a future for the deleted resource or the Status returned by the api server
+   * @throws IOException if the delete options cannot be serialized
+   */
+  protected CompletableFuture<KubernetesResource> handleDelete(HttpClient client, URL requestUrl, long gracePeriodSeconds,
+      DeletionPropagation propagationPolicy, String resourceVersion) throws IOException {
     DeleteOptions deleteOptions = new DeleteOptions();
     if (gracePeriodSeconds >= 0) {
       deleteOptions.setGracePeriodSeconds(gracePeriodSeconds);
@@ -324,10 +342,11 @@ public class OperationSupport {
       deleteOptions.setDryRun(Collections.singletonList("All"));
     }
 
-    HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
+    HttpRequest.Builder requestBuilder = client.newHttpRequestBuilder()
         .delete(JSON, JSON_MAPPER.writeValueAsString(deleteOptions)).url(requestUrl);
 
-    return handleResponse(requestBuilder, KubernetesResource.class);
+    return handleResponse(client, requestBuilder, new TypeReference<KubernetesResource>() {
+    });
   }
 
   /**
@@ -602,6 +621,48 @@ public class OperationSupport {
     });
   }
 
+  /**
+   * Send an http request and handle the list response by parsing the JSON body as it's received, rather than first
+   * buffering the whole body. Preferable for potentially large responses.
+   * <p>
+   * The parsing is non-blocking, and is performed by the thread delivering the body.
+   *
+   * @param client the client
+   * @param requestBuilder Request builder
+   * @param listType Type of the list
+   * @param itemType Type of the list items
+   * @param <L> Template argument provided
+   *
+   * @return Returns a de-serialized list as api server response of provided type.
+   */
+  protected <L extends KubernetesResourceList<?>> CompletableFuture<L> handleStreamingResponse(HttpClient client,
+      HttpRequest.Builder requestBuilder, JavaType listType, JavaType itemType) {
+    VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
+    HttpRequest request = requestBuilder.build();
+    StreamingListBodyHandler<L> handler = new StreamingListBodyHandler<>(Serialization.listWatchJsonMapper(), listType,
+        itemType);
+
+    return client.consumeBytes(request, handler).thenCompose(response -> {
+      if (!response.isSuccessful()) {
+        return handler.readError(response).<L> thenApply(errorResponse -> {
+          // throws as the response was not successful
+          assertResponseCode(request, errorResponse);
+          return null;
+        });
+      }
+      assertResponseCode(request, response);
+      return handler.parse(response).handle((list, e) -> {
+        if (e instanceof KubernetesClientException) {
+          throw (KubernetesClientException) e;
+        }
+        if (e != null) {
+          throw requestException(request, e, null);
+        }
+        return list;
+      });
+    });
+  }
+
   /**
    * Checks if the response status code is the expected and throws the appropriate KubernetesClientException if not.
    *
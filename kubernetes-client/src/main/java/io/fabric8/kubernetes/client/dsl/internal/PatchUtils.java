@@ -23,7 +23,6 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.utils.ResourceCompare;
 import io.fabric8.kubernetes.client.utils.Serialization;
-import io.fabric8.zjsonpatch.JsonDiff;
 
 import java.util.Optional;
 
@@ -75,12 +74,12 @@ public class PatchUtils {
   }
 
   public static String jsonDiff(Object current, Object updated, boolean omitStatus) {
-    try {
-      return Serialization.jsonMapper().writeValueAsString(
-          JsonDiff.asJson(withoutRuntimeState(current, omitStatus), withoutRuntimeState(updated, omitStatus)));
-    } catch (JsonProcessingException e) {
-      throw KubernetesClientException.launderThrowable(e);
+    if (current != null && current.equals(updated)) {
+      // nothing changed, there's no need to convert either object
+      return "[]";
     }
+    return JsonPatchDiff.diff(Serialization.jsonMapper(), withoutRuntimeState(current, omitStatus),
+        withoutRuntimeState(updated, omitStatus));
   }
 
 }
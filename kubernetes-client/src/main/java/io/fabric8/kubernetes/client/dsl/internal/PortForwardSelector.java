@@ -0,0 +1,213 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the non-blocking channels of all port forwards from a single daemon thread, which
+ * terminates when there are no channels left to select on.
+ * <br>
+ * Readiness callbacks are one-shot and run on the selector thread, so they must not block.
+ */
+class PortForwardSelector {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PortForwardSelector.class);
+
+  private static final long IDLE_TTL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+  private static final PortForwardSelector INSTANCE = new PortForwardSelector();
+
+  private static final int[] OPS = { SelectionKey.OP_ACCEPT, SelectionKey.OP_READ, SelectionKey.OP_WRITE };
+
+  /**
+   * The callbacks waiting for readiness of a channel, by index in {@link #OPS}
+   */
+  private static final class Callbacks {
+    private final Runnable[] callbacks = new Runnable[OPS.length];
+  }
+
+  private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+  private Selector selector;
+
+  static PortForwardSelector get() {
+    return INSTANCE;
+  }
+
+  /**
+   * Call the callback on the selector thread once the channel is ready for the operation.
+   * <br>
+   * The channel is switched to non-blocking mode. If the channel is closed the callback is called
+   * right away, so that it observes the failure by performing the operation.
+   *
+   * @param channel the channel
+   * @param op one of {@link SelectionKey#OP_ACCEPT}, {@link SelectionKey#OP_READ} or {@link SelectionKey#OP_WRITE}
+   * @param callback to call once
+   */
+  void whenReady(SelectableChannel channel, int op, Runnable callback) {
+    execute(selected -> {
+      try {
+        SelectionKey key = channel.keyFor(selected);
+        if (key == null || !key.isValid()) {
+          if (!channel.isOpen()) {
+            callback.run();
+            return;
+          }
+          if (key != null) {
+            // cancelled, but not yet deregistered
+            selected.selectNow();
+          }
+          channel.configureBlocking(false);
+          key = channel.register(selected, 0, new Callbacks());
+        }
+        ((Callbacks) key.attachment()).callbacks[indexOf(op)] = callback;
+        key.interestOps(key.interestOps() | op);
+      } catch (IOException | RuntimeException e) {
+        LOG.debug("Could not select on the channel", e);
+        callback.run();
+      }
+    });
+  }
+
+  /**
+   * Wake up the selector thread, so that closed channels are deregistered and their sockets released
+   */
+  void wakeup() {
+    execute(selected -> {
+    });
+  }
+
+  private static int indexOf(int op) {
+    for (int i = 0; i < OPS.length; i++) {
+      if (OPS[i] == op) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported operation " + op);
+  }
+
+  private interface Task {
+    void run(Selector selector) throws IOException;
+  }
+
+  private synchronized void execute(Task task) {
+    tasks.add(task);
+    if (selector == null) {
+      try {
+        selector = Selector.open();
+      } catch (IOException e) {
+        tasks.clear();
+        throw KubernetesClientException.launderThrowable(e);
+      }
+      Utils.daemonThreadFactory(this).newThread(this::run).start();
+    } else {
+      selector.wakeup();
+    }
+  }
+
+  private void run() {
+    Selector selected;
+    synchronized (this) {
+      selected = selector;
+    }
+    long idleSince = System.nanoTime();
+    try {
+      while (true) {
+        runTasks(selected);
+        int count = selected.select(IDLE_TTL_MILLIS);
+        if (count > 0 || !selected.keys().isEmpty()) {
+          idleSince = System.nanoTime();
+        } else if (System.nanoTime() - idleSince >= TimeUnit.MILLISECONDS.toNanos(IDLE_TTL_MILLIS)
+            && shutdownIfIdle(selected)) {
+          return;
+        }
+        Iterator<SelectionKey> keys = selected.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          SelectionKey key = keys.next();
+          keys.remove();
+          ready(key);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Port forward selector failed", e);
+      synchronized (this) {
+        tasks.clear();
+        selector = null;
+      }
+      Utils.closeQuietly(selected);
+    }
+  }
+
+  private synchronized boolean shutdownIfIdle(Selector selected) {
+    if (!tasks.isEmpty()) {
+      return false;
+    }
+    selector = null;
+    Utils.closeQuietly(selected);
+    return true;
+  }
+
+  private void runTasks(Selector selected) {
+    Task task;
+    while ((task = tasks.poll()) != null) {
+      try {
+        task.run(selected);
+      } catch (IOException | RuntimeException e) {
+        LOG.warn("Port forward selector task failed", e);
+      }
+    }
+  }
+
+  private static void ready(SelectionKey key) {
+    Callbacks callbacks = (Callbacks) key.attachment();
+    int readyOps;
+    try {
+      readyOps = key.readyOps();
+      key.interestOps(key.interestOps() & ~readyOps);
+    } catch (RuntimeException e) {
+      // cancelled, let the callbacks observe the closed channel
+      readyOps = -1;
+    }
+    for (int i = 0; i < OPS.length; i++) {
+      Runnable callback = callbacks.callbacks[i];
+      if (callback != null && (readyOps & OPS[i]) != 0) {
+        callbacks.callbacks[i] = null;
+        runSafely(callback);
+      }
+    }
+  }
+
+  private static void runSafely(Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (RuntimeException e) {
+      LOG.warn("Port forward callback failed", e);
+    }
+  }
+
+}
@@ -30,6 +30,7 @@ import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URL;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectionKey;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
@@ -38,8 +39,6 @@ import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -77,8 +76,6 @@ public class PortForwarderWebsocket implements PortForwarder {
       final AtomicBoolean alive = new AtomicBoolean(true);
       final CopyOnWriteArrayList<PortForward> handles = new CopyOnWriteArrayList<>();
 
-      final ExecutorService executorService = Executors.newSingleThreadExecutor();
-
       // Create a handle that can be used to retrieve information and stop the port-forward
       final LocalPortForward localPortForwardHandle = new LocalPortForward() {
         @Override
@@ -88,7 +85,7 @@ public class PortForwarderWebsocket implements PortForwarder {
             server.close();
           } finally {
             Utils.closeQuietly(handles);
-            executorService.shutdownNow();
+            PortForwardSelector.get().wakeup();
           }
         }
 
@@ -146,12 +143,27 @@ public class PortForwarderWebsocket implements PortForwarder {
 
       // Start listening on localhost for new connections.
       // Every new connection will open its own stream on the remote resource.
-      executorService.execute(() -> {
-        // accept cycle
-        while (alive.get()) {
+      // All connections, of all port forwards, are served by a shared selector thread.
+      PortForwardSelector.get().whenReady(server, SelectionKey.OP_ACCEPT, new Runnable() {
+        @Override
+        public void run() {
+          if (!alive.get()) {
+            return;
+          }
           try {
-            SocketChannel socket = server.accept();
-            handles.add(forward(resourceBaseUrl, port, socket, socket));
+            SocketChannel socket;
+            while ((socket = server.accept()) != null) {
+              socket.configureBlocking(false);
+              SocketChannel accepted = socket;
+              executor.execute(() -> {
+                if (alive.get()) {
+                  handles.add(forward(resourceBaseUrl, port, accepted, accepted));
+                } else {
+                  Utils.closeQuietly(accepted);
+                }
+              });
+            }
+            PortForwardSelector.get().whenReady(server, SelectionKey.OP_ACCEPT, this);
           } catch (IOException e) {
             if (alive.get()) {
               LOG.error("Error while listening for connections", e);
@@ -25,6 +25,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
@@ -42,8 +44,11 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
   private static final String PROTOCOL_ERROR = "Protocol error";
   private static final int BUFFER_SIZE = 4096;
 
+  // only used to pump channels that cannot be selected on
   private final ExecutorService pumperService = Executors.newSingleThreadExecutor();
 
+  private final PortForwardSelector selector = PortForwardSelector.get();
+
   private final SerialExecutor serialExecutor;
 
   private final AtomicBoolean alive = new AtomicBoolean(true);
@@ -67,7 +72,9 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
   @Override
   public void onOpen(final WebSocket webSocket) {
     logger.debug("{}: onOpen", LOG_PREFIX);
-    if (in != null) {
+    if (in instanceof SelectableChannel) {
+      selector.whenReady((SelectableChannel) in, SelectionKey.OP_READ, () -> read(webSocket));
+    } else if (in != null) {
       pumperService.execute(() -> {
         try {
           pipe(in, webSocket, alive::get);
@@ -75,16 +82,43 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
           if (e instanceof InterruptedException) {
             Thread.currentThread().interrupt();
           }
-          logger.debug("Error while writing client data");
-          if (alive.get()) {
-            clientThrowables.add(e);
-            closeBothWays(webSocket, 1001, "Client error");
-          }
+          onClientError(webSocket, e);
         }
       });
     }
   }
 
+  /**
+   * Read what is available from the selectable in channel, then wait for more
+   */
+  private void read(WebSocket webSocket) {
+    if (!alive.get()) {
+      return;
+    }
+    try {
+      ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+      buffer.put((byte) 0); // channel byte
+      int read = in.read(buffer);
+      if (read > 0) {
+        buffer.flip();
+        webSocket.send(buffer);
+      }
+      if (read >= 0) {
+        selector.whenReady((SelectableChannel) in, SelectionKey.OP_READ, () -> read(webSocket));
+      }
+    } catch (IOException e) {
+      onClientError(webSocket, e);
+    }
+  }
+
+  private void onClientError(WebSocket webSocket, Exception e) {
+    logger.debug("Error while writing client data");
+    if (alive.get()) {
+      clientThrowables.add(e);
+      closeBothWays(webSocket, 1001, "Client error");
+    }
+  }
+
   @Override
   public void onMessage(WebSocket webSocket, String text) {
     logger.debug("{}: onMessage(String)", LOG_PREFIX);
@@ -126,27 +160,37 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
     } else {
       // Data
       if (out != null) {
-        serialExecutor.execute(() -> {
-          try {
-            while (buffer.hasRemaining()) {
-              int written = out.write(buffer); // channel byte already skipped
-              if (written == 0) {
-                // out is non-blocking, prevent a busy loop
-                Thread.sleep(50);
-              }
-            }
-            webSocket.request();
-          } catch (IOException | InterruptedException e) {
-            if (e instanceof InterruptedException) {
-              Thread.currentThread().interrupt();
-            }
-            if (alive.get()) {
-              clientThrowables.add(e);
-              logger.debug("Error while forwarding data to the client", e);
-              closeBothWays(webSocket, 1002, PROTOCOL_ERROR);
-            }
-          }
-        });
+        serialExecutor.execute(() -> write(webSocket, buffer));
+      }
+    }
+  }
+
+  /**
+   * Write the buffer to the out channel, waiting for the selectable out channel to become writable
+   * as needed, or backing off if a non-blocking out channel cannot be selected on. The next message
+   * is only requested once the buffer has been fully written.
+   */
+  private void write(WebSocket webSocket, ByteBuffer buffer) {
+    try {
+      while (buffer.hasRemaining()) {
+        int written = out.write(buffer); // channel byte already skipped
+        if (written == 0 && out instanceof SelectableChannel) {
+          selector.whenReady((SelectableChannel) out, SelectionKey.OP_WRITE, () -> write(webSocket, buffer));
+          return;
+        } else if (written == 0) {
+          // out is non-blocking, prevent a busy loop
+          Thread.sleep(50);
+        }
+      }
+      webSocket.request();
+    } catch (IOException | InterruptedException e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      if (alive.get()) {
+        clientThrowables.add(e);
+        logger.debug("Error while forwarding data to the client", e);
+        closeBothWays(webSocket, 1002, PROTOCOL_ERROR);
       }
     }
   }
@@ -205,17 +249,22 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
       if (out != null && out != in) {
         Utils.closeQuietly(out);
       }
+      if (in instanceof SelectableChannel || out instanceof SelectableChannel) {
+        selector.wakeup();
+      }
       pumperService.shutdownNow();
       serialExecutor.shutdownNow();
     });
   }
 
+  /**
+   * Pump a channel that cannot be selected on, backing off if it is non-blocking and has no data available
+   */
   private static void pipe(ReadableByteChannel in, WebSocket webSocket, BooleanSupplier isAlive)
       throws IOException, InterruptedException {
-    final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
     int read;
     do {
-      buffer.clear();
+      ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
       buffer.put((byte) 0); // channel byte
       read = in.read(buffer);
       if (read > 0) {
@@ -0,0 +1,240 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.BufferUtil;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Parses a list response as its bytes are delivered, with a non-blocking parser on the thread delivering them.
+ * <br>
+ * Only the tokens of the current item are buffered - each item is bound as soon as it is complete, so the raw
+ * response is never held in memory. The other fields of the list are bound once the body is done.
+ * <br>
+ * An unsuccessful response is instead buffered, so that its Status can be read.
+ */
+class StreamingListBodyHandler<L extends KubernetesResourceList<?>> implements AsyncBody.Consumer<List<ByteBuffer>> {
+
+  private final ObjectMapper mapper;
+  private final JavaType listType;
+  private final JavaType itemType;
+  private final CompletableFuture<L> result = new CompletableFuture<>();
+
+  private JsonParser parser;
+  private ByteBufferFeeder feeder;
+  private TokenBuffer list;
+  private TokenBuffer item;
+  private final List<Object> items = new ArrayList<>();
+  private int depth;
+  private boolean inItems;
+
+  private List<ByteBuffer> errorBody;
+
+  StreamingListBodyHandler(ObjectMapper mapper, JavaType listType, JavaType itemType) {
+    this.mapper = mapper;
+    this.listType = listType;
+    this.itemType = itemType;
+  }
+
+  @Override
+  public synchronized void consume(List<ByteBuffer> value, AsyncBody asyncBody) throws Exception {
+    if (result.isDone()) {
+      asyncBody.cancel();
+      return;
+    }
+    if (errorBody != null) {
+      errorBody.addAll(value);
+    } else {
+      try {
+        for (ByteBuffer buffer : value) {
+          feeder.feedInput(buffer);
+          parseAvailable();
+        }
+      } catch (IOException | RuntimeException e) {
+        result.completeExceptionally(e);
+        asyncBody.cancel();
+        return;
+      }
+    }
+    asyncBody.consume();
+  }
+
+  /**
+   * Start parsing the body of a successful response
+   *
+   * @return the future list
+   */
+  CompletableFuture<L> parse(HttpResponse<AsyncBody> response) {
+    try {
+      parser = mapper.getFactory().createNonBlockingByteBufferParser();
+      feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+      list = new TokenBuffer(parser);
+    } catch (IOException e) {
+      result.completeExceptionally(e);
+      return result;
+    }
+    AsyncBody body = response.body();
+    body.done().whenComplete((v, t) -> {
+      if (t != null) {
+        result.completeExceptionally(t);
+      } else {
+        complete();
+      }
+    });
+    body.consume();
+    return result;
+  }
+
+  /**
+   * Buffer the body of an unsuccessful response
+   *
+   * @return the future response with the body as a byte[]
+   */
+  CompletableFuture<HttpResponse<byte[]>> readError(HttpResponse<AsyncBody> response) {
+    errorBody = new ArrayList<>();
+    AsyncBody body = response.body();
+    CompletableFuture<HttpResponse<byte[]>> error = body.done().thenApply(v -> {
+      synchronized (this) {
+        return new BufferedResponse(response, BufferUtil.toArray(errorBody));
+      }
+    });
+    body.consume();
+    return error;
+  }
+
+  private void parseAvailable() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+      if (item != null) {
+        item.copyCurrentEvent(parser);
+        if (token.isStructEnd() && --depth == 2) {
+          items.add(mapper.readValue(item.asParser(mapper), itemType));
+          item = null;
+        } else if (token.isStructStart()) {
+          depth++;
+        }
+        continue;
+      }
+      if (inItems && depth == 2) {
+        if (token == JsonToken.START_OBJECT) {
+          item = new TokenBuffer(parser);
+          item.copyCurrentEvent(parser);
+          depth++;
+          continue;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+          items.add(null);
+          continue;
+        }
+        if (token == JsonToken.END_ARRAY) {
+          inItems = false;
+        }
+      }
+      if (token.isStructStart()) {
+        depth++;
+      } else if (token.isStructEnd()) {
+        depth--;
+      }
+      if (depth == 2 && token == JsonToken.START_ARRAY && "items".equals(parser.currentName())) {
+        inItems = true;
+      }
+      list.copyCurrentEvent(parser);
+    }
+  }
+
+  private synchronized void complete() {
+    try {
+      feeder.endOfInput();
+      parseAvailable();
+      if (depth != 0 || item != null) {
+        throw new IOException("Unexpected end of the list response");
+      }
+      L value = mapper.readValue(list.asParser(mapper), listType);
+      if (!items.isEmpty()) {
+        ((List<Object>) value.getItems()).addAll(items);
+      }
+      result.complete(value);
+    } catch (IOException | RuntimeException e) {
+      result.completeExceptionally(e);
+    } finally {
+      items.clear();
+    }
+  }
+
+  private static final class BufferedResponse implements HttpResponse<byte[]> {
+
+    private final HttpResponse<?> response;
+    private final byte[] body;
+
+    private BufferedResponse(HttpResponse<?> response, byte[] body) {
+      this.response = response;
+      this.body = body;
+    }
+
+    @Override
+    public List<String> headers(String key) {
+      return response.headers(key);
+    }
+
+    @Override
+    public Map<String, List<String>> headers() {
+      return response.headers();
+    }
+
+    @Override
+    public int code() {
+      return response.code();
+    }
+
+    @Override
+    public String message() {
+      return response.message();
+    }
+
+    @Override
+    public byte[] body() {
+      return body;
+    }
+
+    @Override
+    public HttpRequest request() {
+      return response.request();
+    }
+
+    @Override
+    public Optional<HttpResponse<?>> previousResponse() {
+      return response.previousResponse();
+    }
+  }
+
+}
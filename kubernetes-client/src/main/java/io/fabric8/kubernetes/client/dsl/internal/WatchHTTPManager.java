@@ -29,13 +29,64 @@ import org.slf4j.LoggerFactory;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourceList<T>> extends AbstractWatchManager<T> {
+
+  @FunctionalInterface
+  interface LineHandler {
+    void onLine(byte[] bytes, int offset, int length);
+  }
+
+  /**
+   * Splits the raw bytes of the watch response into newline delimited events. '\n' cannot
+   * appear within a multi-byte UTF-8 sequence, so no decoding is needed to find the event boundaries.
+   * <br>
+   * Events fully contained within an array backed buffer are passed along without copying.
+   */
+  static class LineBuffer {
+    private byte[] bytes = new byte[1024];
+    private int length;
+
+    void append(ByteBuffer content, LineHandler handler) {
+      int start = content.position();
+      int limit = content.limit();
+      for (int i = start; i < limit; i++) {
+        if (content.get(i) != '\n') {
+          continue;
+        }
+        if (length == 0 && content.hasArray()) {
+          handler.onLine(content.array(), content.arrayOffset() + start, i - start);
+        } else {
+          copy(content, start, i);
+          handler.onLine(bytes, 0, length);
+          length = 0;
+        }
+        start = i + 1;
+      }
+      copy(content, start, limit);
+      content.position(limit);
+    }
+
+    private void copy(ByteBuffer content, int from, int to) {
+      int toCopy = to - from;
+      if (toCopy == 0) {
+        return;
+      }
+      if (length + toCopy > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + toCopy));
+      }
+      ByteBuffer source = content.duplicate();
+      source.position(from);
+      source.get(bytes, length, toCopy);
+      length += toCopy;
+    }
+  }
+
   private static final Logger logger = LoggerFactory.getLogger(WatchHTTPManager.class);
   private CompletableFuture<HttpResponse<AsyncBody>> call;
   private volatile AsyncBody body;
@@ -54,22 +105,24 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
   }
 
   @Override
-  protected synchronized void start(URL url, Map<String, String> headers, WatchRequestState state) {
+  protected void start(URL url, Map<String, String> headers, WatchRequestState state) {
+    lock.lock();
+    try {
+      startRequest(url, headers, state);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void startRequest(URL url, Map<String, String> headers, WatchRequestState state) {
     HttpRequest.Builder builder = client.newHttpRequestBuilder().url(url);
     headers.forEach(builder::header);
-    StringBuffer buffer = new StringBuffer();
+    LineBuffer buffer = new LineBuffer();
     call = client.consumeBytes(builder.build(), (b, a) -> {
       for (ByteBuffer content : b) {
-        for (char c : StandardCharsets.UTF_8.decode(content).array()) {
-          if (c == '\n') {
-            onMessage(buffer.toString(), state);
-            buffer.setLength(0);
-          } else {
-            buffer.append(c);
-          }
-        }
+        buffer.append(content, (bytes, offset, length) -> onMessage(bytes, offset, length, state));
       }
-      a.consume();
+      requestMoreEvents(a::consume);
     });
     call.whenComplete((response, t) -> {
       if (t != null) {
@@ -99,10 +152,15 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
   }
 
   @Override
-  protected synchronized void closeCurrentRequest() {
-    Optional.ofNullable(call).ifPresent(theFuture -> {
-      theFuture.cancel(true);
-    });
-    Optional.ofNullable(body).ifPresent(AsyncBody::cancel);
+  protected void closeCurrentRequest() {
+    lock.lock();
+    try {
+      Optional.ofNullable(call).ifPresent(theFuture -> {
+        theFuture.cancel(true);
+      });
+      Optional.ofNullable(body).ifPresent(AsyncBody::cancel);
+    } finally {
+      lock.unlock();
+    }
   }
 }
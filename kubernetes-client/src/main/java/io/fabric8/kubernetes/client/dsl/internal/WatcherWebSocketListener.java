@@ -52,7 +52,7 @@ class WatcherWebSocketListener<T extends HasMetadata> implements WebSocket.Liste
     try {
       manager.onMessage(text, state);
     } finally {
-      webSocket.request();
+      manager.requestMoreEvents(webSocket::request);
     }
   }
 
@@ -32,6 +32,7 @@ import io.fabric8.kubernetes.client.VersionInfo;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.dsl.internal.ConditionInformers;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
@@ -76,6 +77,7 @@ public abstract class BaseClient implements Client {
   private Predicate<String> matchingGroupPredicate;
   private final Adapters adapters;
   private final Handlers handlers;
+  private ConditionInformers conditionInformers;
   protected Config config;
   protected HttpClient httpClient;
   private OperationSupport operationSupport;
@@ -89,6 +91,7 @@ public abstract class BaseClient implements Client {
     this.httpClient = baseClient.httpClient;
     this.adapters = baseClient.adapters;
     this.handlers = baseClient.handlers;
+    this.conditionInformers = baseClient.conditionInformers;
     this.matchingGroupPredicate = baseClient.matchingGroupPredicate;
     this.executorSupplier = baseClient.executorSupplier;
     this.executor = baseClient.executor;
@@ -103,6 +106,7 @@ public abstract class BaseClient implements Client {
     this.httpClient = httpClient;
     this.handlers = new Handlers();
     this.adapters = new Adapters(this.handlers);
+    this.conditionInformers = new ConditionInformers();
     setDerivedFields();
     if (executorSupplier == null) {
       executorSupplier = DEFAULT_EXECUTOR_SUPPLIER;
@@ -320,6 +324,10 @@ public abstract class BaseClient implements Client {
     return handlers;
   }
 
+  public ConditionInformers getConditionInformers() {
+    return conditionInformers;
+  }
+
   /**
    * Return the default operation context
    */
@@ -345,6 +353,8 @@ public abstract class BaseClient implements Client {
     // set the ReqeustConfig if different
     if (newContext.getRequestConfig() != null && newContext.getConfig().getRequestConfig() != newContext.getRequestConfig()) {
       copy.httpClient = copy.httpClient.newBuilder().tag(newContext.getRequestConfig()).build();
+      // informers are only shared by clients with the same request config
+      copy.conditionInformers = new ConditionInformers();
     }
     newContext = newContext.withClient(copy);
     return copy.operationContext(newContext).adapt(clazz);
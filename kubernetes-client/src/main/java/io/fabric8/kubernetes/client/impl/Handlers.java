@@ -21,6 +21,7 @@ import io.fabric8.kubernetes.api.model.APIResourceList;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.KubernetesClientException;
@@ -30,7 +31,7 @@ import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperation;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
-import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.internal.KubernetesDeserializer;
 
 import java.util.Arrays;
 import java.util.List;
@@ -42,6 +43,8 @@ public final class Handlers {
 
   private final Map<Class<?>, ResourceHandler<?, ?>> resourceHandlers = new ConcurrentHashMap<>();
   private final Map<List<String>, ResourceDefinitionContext> genericDefinitions = new ConcurrentHashMap<>();
+  // by apiVersion then kind, so that lookups need no key allocation
+  private final Map<String, Map<String, ResourceDefinitionContext>> builtInDefinitions = new ConcurrentHashMap<>();
 
   public <T extends HasMetadata, L extends KubernetesResourceList<T>, R extends Resource<T>> void register(Class<T> type,
       Function<Client, HasMetadataOperation<T, L, R>> operationConstructor) {
@@ -88,20 +91,15 @@ public final class Handlers {
 
   public <T extends HasMetadata> ResourceDefinitionContext getResourceDefinitionContext(GenericKubernetesResource meta,
       Client client) {
+    String kind = meta.getKind();
+    String apiVersion = meta.getApiVersion();
+    if (kind == null || apiVersion == null) {
+      return null;
+    }
     // check if it's built-in
-    Object value = Serialization.unmarshal(Serialization.asJson(meta));
-    Class<T> parsedType = (Class<T>) value.getClass();
-
-    ResourceDefinitionContext rdc = null;
-    if (!parsedType.equals(GenericKubernetesResource.class)) {
-      rdc = ResourceDefinitionContext.fromResourceType(parsedType);
-    } else if (client != null) {
+    ResourceDefinitionContext rdc = getBuiltInResourceDefinitionContext(apiVersion, kind);
+    if (rdc == null && client != null) {
       // if a client has been supplied, we can try to look this up from the server
-      String kind = meta.getKind();
-      String apiVersion = meta.getApiVersion();
-      if (kind == null || apiVersion == null) {
-        return null;
-      }
       String api = ApiVersionUtil.trimGroupOrNull(apiVersion);
       if (api == null) {
         return null;
@@ -129,6 +127,25 @@ public final class Handlers {
     return rdc;
   }
 
+  /**
+   * Resolve the context from the type registered for deserialization. Only found contexts are remembered,
+   * so that kinds registered later are still seen.
+   */
+  private ResourceDefinitionContext getBuiltInResourceDefinitionContext(String apiVersion, String kind) {
+    Map<String, ResourceDefinitionContext> byKind = builtInDefinitions.get(apiVersion);
+    ResourceDefinitionContext rdc = byKind != null ? byKind.get(kind) : null;
+    if (rdc != null) {
+      return rdc;
+    }
+    Class<? extends KubernetesResource> type = KubernetesDeserializer.getRegisteredType(apiVersion, kind);
+    if (type == null || type.equals(GenericKubernetesResource.class)) {
+      return null;
+    }
+    rdc = ResourceDefinitionContext.fromResourceType(type);
+    builtInDefinitions.computeIfAbsent(apiVersion, k -> new ConcurrentHashMap<>()).put(kind, rdc);
+    return rdc;
+  }
+
   private <T extends HasMetadata, V extends VisitableBuilder<T, V>> ResourceHandler<T, V> get(Class<T> type) {
     if (type.equals(GenericKubernetesResource.class)) {
       return null;
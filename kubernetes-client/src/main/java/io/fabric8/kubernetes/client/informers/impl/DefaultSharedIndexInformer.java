@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.informers.impl;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.EventQueueStats;
 import io.fabric8.kubernetes.client.informers.ExceptionHandler;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
@@ -289,6 +290,29 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return this.reflector.getStopFuture();
   }
 
+  @Override
+  public synchronized DefaultSharedIndexInformer<T, L> eventQueueLimit(int limit) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when the event queue limit is set");
+    }
+    this.processor.setMaxPending(limit);
+    return this;
+  }
+
+  @Override
+  public synchronized DefaultSharedIndexInformer<T, L> coalesceEvents(boolean coalesce) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when event coalescing is set");
+    }
+    this.processor.setCoalescing(coalesce ? this.indexer::getKey : null);
+    return this;
+  }
+
+  @Override
+  public EventQueueStats getEventQueueStats() {
+    return this.processor;
+  }
+
   @Override
   public synchronized DefaultSharedIndexInformer<T, L> exceptionHandler(ExceptionHandler handler) {
     if (started.get()) {
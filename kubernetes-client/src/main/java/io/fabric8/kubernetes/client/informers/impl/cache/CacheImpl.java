@@ -16,26 +16,29 @@
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
-import io.fabric8.kubernetes.client.utils.ReflectUtils;
-import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * It basically saves and indexes all the entries.
+ * <p>
+ * Modifications are serialized, but reads - including the index lookups - are not
+ * blocked by them. Reads see a weakly consistent view of the cache, in the same way
+ * as iterating a {@link ConcurrentHashMap}.
  *
  * @param <T> type for cache object
  */
@@ -43,17 +46,23 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
   // NAMESPACE_INDEX is the default index function for caching objects
   public static final String NAMESPACE_INDEX = "namespace";
 
+  // the concurrent index maps do not allow null keys, such as the namespace of cluster scoped objects
+  private static final String NULL_INDEX_VALUE = "\u0000null";
+
   // indexers stores index functions by their names
-  private final Map<String, Function<T, List<String>>> indexers = new HashMap<>();
+  private final Map<String, Function<T, List<String>>> indexers = new ConcurrentHashMap<>();
 
   // items stores object instances
-  private ItemStore<T> items;
+  private volatile ItemStore<T> items;
 
   // indices stores objects' key by their indices
-  private final Map<String, Map<String, Set<String>>> indices = new HashMap<>();
+  private final Map<String, Map<String, Set<String>>> indices = new ConcurrentHashMap<>();
+
+  // serializes modifications - a lock rather than a monitor, so that virtual threads are not pinned while waiting
+  private final ReentrantLock lock = new ReentrantLock();
 
   public CacheImpl() {
-    this(NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc, Cache::metaNamespaceKeyFunc);
+    this(NAMESPACE_INDEX, (SingleValueIndexFunc<T>) Cache::metaNamespaceIndexValue, Cache::metaNamespaceKeyFunc);
   }
 
   public CacheImpl(String indexName, Function<T, List<String>> indexFunc, Function<T, String> keyFunc) {
@@ -71,20 +80,25 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return registered indexers
    */
   @Override
-  public synchronized Map<String, Function<T, List<String>>> getIndexers() {
+  public Map<String, Function<T, List<String>>> getIndexers() {
     return Collections.unmodifiableMap(indexers);
   }
 
   @Override
-  public synchronized void addIndexers(Map<String, Function<T, List<String>>> indexersNew) {
-    Set<String> intersection = new HashSet<>(indexers.keySet());
-    intersection.retainAll(indexersNew.keySet());
-    if (!intersection.isEmpty()) {
-      throw new IllegalArgumentException("Indexer conflict: " + intersection);
-    }
+  public void addIndexers(Map<String, Function<T, List<String>>> indexersNew) {
+    lock.lock();
+    try {
+      Set<String> intersection = new HashSet<>(indexers.keySet());
+      intersection.retainAll(indexersNew.keySet());
+      if (!intersection.isEmpty()) {
+        throw new IllegalArgumentException("Indexer conflict: " + intersection);
+      }
 
-    for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexersNew.entrySet()) {
-      addIndexFunc(indexEntry.getKey(), indexEntry.getValue());
+      for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexersNew.entrySet()) {
+        addIndexFunc(indexEntry.getKey(), indexEntry.getValue());
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -94,14 +108,32 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param obj the object
    * @return the old object
    */
-  public synchronized T put(T obj) {
+  public T put(T obj) {
     if (obj == null) {
       return null;
     }
-    String key = getKey(obj);
-    T oldObj = this.items.put(key, obj);
-    this.updateIndices(oldObj, obj, key);
-    return oldObj;
+    return put(getKey(obj), obj);
+  }
+
+  /**
+   * Update the object, with its already computed key.
+   *
+   * @param key the key of the object
+   * @param obj the object
+   * @return the old object
+   */
+  public T put(String key, T obj) {
+    lock.lock();
+    try {
+      if (obj == null) {
+        return null;
+      }
+      T oldObj = this.items.put(key, obj);
+      this.updateIndices(oldObj, obj, key);
+      return oldObj;
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
@@ -110,13 +142,27 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param obj object
    * @return the old object
    */
-  public synchronized T remove(T obj) {
-    String key = getKey(obj);
-    T old = this.items.remove(key);
-    if (old != null) {
-      this.deleteFromIndices(old, key);
+  public T remove(T obj) {
+    return removeByKey(getKey(obj));
+  }
+
+  /**
+   * Delete the object with the given key.
+   *
+   * @param key the key of the object
+   * @return the old object
+   */
+  public T removeByKey(String key) {
+    lock.lock();
+    try {
+      T old = this.items.remove(key);
+      if (old != null) {
+        this.deleteFromIndices(old, key);
+      }
+      return old;
+    } finally {
+      lock.unlock();
     }
-    return old;
   }
 
   /**
@@ -179,31 +225,29 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> index(String indexName, T obj) {
-    if (!this.indexers.containsKey(indexName)) {
+  public List<T> index(String indexName, T obj) {
+    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
+    Map<String, Set<String>> index = this.indices.get(indexName);
+    if (indexFunc == null || index == null) {
       throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
     }
-    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
+    if (indexFunc instanceof SingleValueIndexFunc) {
+      return byIndex(indexName, ((SingleValueIndexFunc<T>) indexFunc).getIndexValue(obj));
+    }
     List<String> indexKeys = indexFunc.apply(obj);
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    if (index.isEmpty()) {
+    if (index.isEmpty() || indexKeys == null) {
       return new ArrayList<>();
     }
 
     Set<String> returnKeySet = new HashSet<>();
     for (String indexKey : indexKeys) {
-      Set<String> set = index.get(indexKey);
-      if (set.isEmpty()) {
-        continue;
+      Set<String> set = index.get(toIndexValue(indexKey));
+      if (set != null) {
+        returnKeySet.addAll(set);
       }
-      returnKeySet.addAll(set);
     }
 
-    List<T> items = new ArrayList<>(returnKeySet.size());
-    for (String absoluteKey : returnKeySet) {
-      items.add(this.items.get(absoluteKey));
-    }
-    return items;
+    return getItems(returnKeySet);
   }
 
   /**
@@ -214,17 +258,12 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<String> indexKeys(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    Set<String> set = index.get(indexKey);
-    List<String> keys = new ArrayList<>(set.size());
-    for (String key : set) {
-      keys.add(key);
+  public List<String> indexKeys(String indexName, String indexKey) {
+    Set<String> set = getIndex(indexName).get(toIndexValue(indexKey));
+    if (set == null) {
+      return new ArrayList<>();
     }
-    return keys;
+    return new ArrayList<>(set);
   }
 
   /**
@@ -235,53 +274,101 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> byIndex(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    Set<String> set = index.get(indexKey);
+  public List<T> byIndex(String indexName, String indexKey) {
+    Set<String> set = getIndex(indexName).get(toIndexValue(indexKey));
     if (set == null) {
       return Arrays.asList();
     }
-    List<T> items = new ArrayList<>(set.size());
-    for (String key : set) {
-      items.add(this.items.get(key));
+    return getItems(set);
+  }
+
+  private static String toIndexValue(String indexValue) {
+    return indexValue == null ? NULL_INDEX_VALUE : indexValue;
+  }
+
+  private Map<String, Set<String>> getIndex(String indexName) {
+    Map<String, Set<String>> index = this.indices.get(indexName);
+    if (index == null) {
+      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
+    }
+    return index;
+  }
+
+  /**
+   * Resolve the keys against the item store. As reads are not synchronized with
+   * modifications a key may no longer be present, in which case it is skipped.
+   */
+  private List<T> getItems(Set<String> keys) {
+    List<T> result = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      T item = this.items.get(key);
+      if (item != null) {
+        result.add(item);
+      }
     }
-    return items;
+    return result;
   }
 
   /**
    * UpdateIndices modifies the objects location in the managed indexes, if there is
    * an update, you must provide an oldObj
-   *
+   * <p>
+   * The key is added to the new index values before it is removed from the stale ones,
+   * so that concurrent readers never miss an object that remains under the same index value.
    *
    * @param oldObj old object
    * @param newObj new object
    * @param key the key
    */
   void updateIndices(T oldObj, T newObj, String key) {
-    if (oldObj != null) {
-      deleteFromIndices(oldObj, key);
-    }
-
     for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexers.entrySet()) {
       String indexName = indexEntry.getKey();
       Function<T, List<String>> indexFunc = indexEntry.getValue();
       Map<String, Set<String>> index = this.indices.get(indexName);
 
-      updateIndex(key, newObj, indexFunc, index);
+      if (indexFunc instanceof SingleValueIndexFunc) {
+        SingleValueIndexFunc<T> singleValueIndexFunc = (SingleValueIndexFunc<T>) indexFunc;
+        String newValue = singleValueIndexFunc.getIndexValue(newObj);
+        addToIndex(key, newValue, index);
+        if (oldObj != null) {
+          String oldValue = singleValueIndexFunc.getIndexValue(oldObj);
+          if (!Objects.equals(oldValue, newValue)) {
+            deleteFromIndex(key, oldValue, index);
+          }
+        }
+        continue;
+      }
+
+      List<String> newValues = updateIndex(key, newObj, indexFunc, index);
+      if (oldObj != null) {
+        List<String> oldValues = indexFunc.apply(oldObj);
+        if (oldValues != null) {
+          for (String oldValue : oldValues) {
+            if (newValues == null || !newValues.contains(oldValue)) {
+              deleteFromIndex(key, oldValue, index);
+            }
+          }
+        }
+      }
     }
   }
 
-  private void updateIndex(String key, T newObj, Function<T, List<String>> indexFunc, Map<String, Set<String>> index) {
+  private List<String> updateIndex(String key, T newObj, Function<T, List<String>> indexFunc, Map<String, Set<String>> index) {
+    if (indexFunc instanceof SingleValueIndexFunc) {
+      addToIndex(key, ((SingleValueIndexFunc<T>) indexFunc).getIndexValue(newObj), index);
+      return null;
+    }
     List<String> indexValues = indexFunc.apply(newObj);
-    if (indexValues != null && !indexValues.isEmpty()) {
+    if (indexValues != null) {
       for (String indexValue : indexValues) {
-        Set<String> indexSet = index.computeIfAbsent(indexValue, k -> new HashSet<>());
-        indexSet.add(key);
+        addToIndex(key, indexValue, index);
       }
     }
+    return indexValues;
+  }
+
+  private static void addToIndex(String key, String indexValue, Map<String, Set<String>> index) {
+    index.computeIfAbsent(toIndexValue(indexValue), k -> ConcurrentHashMap.newKeySet()).add(key);
   }
 
   /**
@@ -294,38 +381,55 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   private void deleteFromIndices(T oldObj, String key) {
     for (Map.Entry<String, Function<T, List<String>>> indexEntry : this.indexers.entrySet()) {
-      Function<T, List<String>> indexFunc = indexEntry.getValue();
-      List<String> indexValues = indexFunc.apply(oldObj);
-      if (indexValues == null || indexValues.isEmpty()) {
-        continue;
-      }
-
       Map<String, Set<String>> index = this.indices.get(indexEntry.getKey());
       if (index == null) {
         continue;
       }
-      for (String indexValue : indexValues) {
-        Set<String> indexSet = index.get(indexValue);
-        if (indexSet != null) {
-          indexSet.remove(key);
+      Function<T, List<String>> indexFunc = indexEntry.getValue();
+      if (indexFunc instanceof SingleValueIndexFunc) {
+        deleteFromIndex(key, ((SingleValueIndexFunc<T>) indexFunc).getIndexValue(oldObj), index);
+        continue;
+      }
+      List<String> indexValues = indexFunc.apply(oldObj);
+      if (indexValues != null) {
+        for (String indexValue : indexValues) {
+          deleteFromIndex(key, indexValue, index);
         }
       }
     }
   }
 
+  private static void deleteFromIndex(String key, String value, Map<String, Set<String>> index) {
+    String indexValue = toIndexValue(value);
+    Set<String> indexSet = index.get(indexValue);
+    if (indexSet != null) {
+      indexSet.remove(key);
+      // writers hold the lock, so it's safe to drop the empty set - readers will simply see no matches
+      if (indexSet.isEmpty()) {
+        index.remove(indexValue);
+      }
+    }
+  }
+
   /**
    * Add index func.
    *
    * @param indexName the index name
    * @param indexFunc the index func
    */
-  public synchronized CacheImpl<T> addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
-    HashMap<String, Set<String>> index = new HashMap<>();
-    this.indices.put(indexName, index);
-    this.indexers.put(indexName, indexFunc);
-
-    items.values().forEach(v -> updateIndex(getKey(v), v, indexFunc, index));
-    return this;
+  public CacheImpl<T> addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
+    lock.lock();
+    try {
+      Map<String, Set<String>> index = new ConcurrentHashMap<>();
+      items.values().forEach(v -> updateIndex(getKey(v), v, indexFunc, index));
+
+      // publish the index only once it is fully populated
+      this.indices.put(indexName, index);
+      this.indexers.put(indexName, indexFunc);
+      return this;
+    } finally {
+      lock.unlock();
+    }
   }
 
   /**
@@ -337,26 +441,7 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the key
    */
   public static String metaNamespaceKeyFunc(Object obj) {
-    try {
-      if (obj == null) {
-        return "";
-      }
-      ObjectMeta metadata;
-      if (obj instanceof String) {
-        return (String) obj;
-      } else if (obj instanceof ObjectMeta) {
-        metadata = (ObjectMeta) obj;
-      } else {
-        metadata = ReflectUtils.objectMetadata(obj);
-        if (metadata == null) {
-          throw new RuntimeException("Object is bad :" + obj);
-        }
-      }
-
-      return namespaceKeyFunc(metadata.getNamespace(), metadata.getName());
-    } catch (ReflectiveOperationException e) {
-      throw new RuntimeException(e);
-    }
+    return Cache.metaNamespaceKeyFunc(obj);
   }
 
   /**
@@ -365,10 +450,7 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @see #metaNamespaceKeyFunc
    */
   public static String namespaceKeyFunc(String objectNamespace, String objectName) {
-    if (Utils.isNullOrEmpty(objectNamespace)) {
-      return objectName;
-    }
-    return objectNamespace + "/" + objectName;
+    return Cache.namespaceKeyFunc(objectNamespace, objectName);
   }
 
   /**
@@ -378,18 +460,18 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the indexed value
    */
   public static List<String> metaNamespaceIndexFunc(Object obj) {
-    try {
-      ObjectMeta metadata = ReflectUtils.objectMetadata(obj);
-      return metadata == null ? Collections.emptyList() : Collections.singletonList(metadata.getNamespace());
-    } catch (ReflectiveOperationException e) {
-      throw new RuntimeException(e);
-    }
+    return Cache.metaNamespaceIndexFunc(obj);
   }
 
   @Override
-  public synchronized void removeIndexer(String name) {
-    this.indices.remove(name);
-    this.indexers.remove(name);
+  public void removeIndexer(String name) {
+    lock.lock();
+    try {
+      this.indices.remove(name);
+      this.indexers.remove(name);
+    } finally {
+      lock.unlock();
+    }
   }
 
   public boolean isFullState() {
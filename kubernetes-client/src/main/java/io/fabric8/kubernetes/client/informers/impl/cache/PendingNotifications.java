@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.AddNotification;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.DeleteNotification;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.Notification;
+import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.UpdateNotification;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Tracks the notifications waiting to be delivered by object key, so that a notification for an
+ * object that already has one pending is merged into it rather than queued separately.
+ * <br>
+ * Merging spans from the oldest old object to the newest new object:
+ * <ul>
+ * <li>add then update becomes an add of the newest object
+ * <li>update then update becomes an update from the oldest to the newest object
+ * <li>add then delete is dropped entirely
+ * <li>update then delete becomes the delete
+ * </ul>
+ * Nothing is merged into a pending delete, so that a re-creation is still seen as a delete and an add.
+ *
+ * @param <T> the object type
+ */
+class PendingNotifications<T> {
+
+  /**
+   * A slot in the delivery queue. Once taken, further notifications can no longer be merged into it.
+   */
+  static final class Pending<T> {
+    private final String key;
+    private Notification<T> notification;
+    private final boolean isSync;
+    private boolean taken;
+
+    private Pending(String key, Notification<T> notification, boolean isSync) {
+      this.key = key;
+      this.notification = notification;
+      this.isSync = isSync;
+    }
+
+    private boolean merge(Notification<T> next, boolean nextIsSync) {
+      if (taken || isSync != nextIsSync || notification instanceof DeleteNotification) {
+        return false;
+      }
+      if (notification == null || next instanceof DeleteNotification) {
+        notification = notification instanceof AddNotification ? null : next;
+        return true;
+      }
+      if (next instanceof UpdateNotification) {
+        if (notification instanceof AddNotification) {
+          notification = new AddNotification<>(next.getNewObject());
+        } else {
+          notification = new UpdateNotification<>(notification.getOldObject(), next.getNewObject());
+        }
+        return true;
+      }
+      return false;
+    }
+  }
+
+  private final Map<String, Pending<T>> pending = new HashMap<>();
+  private final Function<T, String> keyFunction;
+
+  PendingNotifications(Function<T, String> keyFunction) {
+    this.keyFunction = keyFunction;
+  }
+
+  /**
+   * Add the notification
+   *
+   * @return the new slot that must be queued for delivery, or null if the notification was merged
+   *         into an already queued slot
+   */
+  synchronized Pending<T> add(Notification<T> notification, boolean isSync) {
+    T obj = notification.getNewObject() != null ? notification.getNewObject() : notification.getOldObject();
+    String key = keyFunction.apply(obj);
+    Pending<T> existing = pending.get(key);
+    if (existing != null && existing.merge(notification, isSync)) {
+      return null;
+    }
+    Pending<T> result = new Pending<>(key, notification, isSync);
+    pending.put(key, result);
+    return result;
+  }
+
+  /**
+   * Take the notification from the slot for delivery
+   *
+   * @return the notification, or null if there is nothing left to deliver
+   */
+  synchronized Notification<T> take(Pending<T> slot) {
+    slot.taken = true;
+    pending.remove(slot.key, slot);
+    return slot.notification;
+  }
+
+  synchronized int size() {
+    return pending.size();
+  }
+
+}
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Wraps a {@link Cache} and a {@link SharedProcessor} to distribute events related to changes and syncs
@@ -47,12 +48,18 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
   }
 
   @Override
-  public void update(List<T> items) {
-    items.stream().map(this::updateInternal).filter(Objects::nonNull).forEach(n -> this.processor.distribute(n, false));
+  public void update(List<T> items, Consumer<String> keys) {
+    for (T item : items) {
+      String key = cache.getKey(item);
+      keys.accept(key);
+      distribute(updateInternal(item, cache.put(key, item), key));
+    }
   }
 
-  private Notification<T> updateInternal(T obj) {
-    T oldObj = this.cache.put(obj);
+  /**
+   * @param key the key of the object if already known, otherwise null
+   */
+  private Notification<T> updateInternal(T obj, T oldObj, String key) {
     Notification<T> notification = null;
     if (oldObj != null) {
       if (!Objects.equals(oldObj.getMetadata().getResourceVersion(), obj.getMetadata().getResourceVersion())) {
@@ -61,19 +68,22 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
     } else if (synced.get() || !cache.isFullState()) {
       notification = new ProcessorListener.AddNotification<>(obj);
     } else {
-      deferredAdd.add(getKey(obj));
+      deferredAdd.add(key != null ? key : getKey(obj));
     }
     return notification;
   }
 
-  @Override
-  public void update(T obj) {
-    Notification<T> notification = updateInternal(obj);
+  private void distribute(Notification<T> notification) {
     if (notification != null) {
       this.processor.distribute(notification, false);
     }
   }
 
+  @Override
+  public void update(T obj) {
+    distribute(updateInternal(obj, this.cache.put(obj), null));
+  }
+
   @Override
   public void delete(T obj) {
     Object oldObj = this.cache.remove(obj);
@@ -109,16 +119,17 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
           .forEach(v -> this.processor.distribute(new ProcessorListener.AddNotification<>(v), false));
       deferredAdd.clear();
     }
-    List<T> current = cache.list();
+    List<String> current = cache.listKeys();
     if (nextKeys.isEmpty() && current.isEmpty()) {
       this.processor.distribute(l -> l.getHandler().onNothing(), false);
       return;
     }
-    current.forEach(v -> {
-      String key = cache.getKey(v);
+    current.forEach(key -> {
       if (!nextKeys.contains(key)) {
-        cache.remove(v);
-        this.processor.distribute(new ProcessorListener.DeleteNotification<>(v, true), false);
+        T v = cache.removeByKey(key);
+        if (v != null) {
+          this.processor.distribute(new ProcessorListener.DeleteNotification<>(v, true), false);
+        }
       }
     });
   }
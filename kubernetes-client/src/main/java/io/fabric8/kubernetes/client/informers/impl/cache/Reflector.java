@@ -175,11 +175,7 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
                 .build());
 
     return futureResult.thenCompose(result -> {
-      result.getItems().forEach(i -> {
-        String key = store.getKey(i);
-        nextKeys.add(key);
-      });
-      store.update(result.getItems());
+      store.update(result.getItems(), nextKeys::add);
       String nextContinueVal = result.getMetadata().getContinue();
       if (Utils.isNotNullOrEmpty(nextContinueVal)) {
         return processList(nextKeys, nextContinueVal);
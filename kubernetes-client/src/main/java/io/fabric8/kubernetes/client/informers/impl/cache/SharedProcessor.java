@@ -15,6 +15,7 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.client.informers.EventQueueStats;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
 import org.slf4j.Logger;
@@ -29,7 +30,9 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 /**
  * SharedProcessor class manages all the registered ProcessListener and distributes
@@ -40,26 +43,118 @@ import java.util.function.Supplier;
  *
  * <br>
  * Modified to simplify threading
+ * <br>
+ * Each listener has its own serial lane on the shared executor, so that notifications are delivered in
+ * order to each listener, but a slow listener does not delay the others.
  */
-public class SharedProcessor<T> {
+public class SharedProcessor<T> implements EventQueueStats {
   private static final Logger log = LoggerFactory.getLogger(SharedProcessor.class);
 
+  /**
+   * The serial delivery of notifications to a single listener
+   */
+  private final class Lane {
+    private final ProcessorListener<T> listener;
+    private volatile SerialExecutor executor;
+    private volatile PendingNotifications<T> pendingNotifications;
+
+    private Lane(ProcessorListener<T> listener) {
+      this.listener = listener;
+      configure();
+    }
+
+    private void configure() {
+      this.executor = new SerialExecutor(baseExecutor, maxPending);
+      this.pendingNotifications = keyFunction == null ? null : new PendingNotifications<>(keyFunction);
+    }
+
+    private void add(ProcessorListener.Notification<T> notification, boolean isSync) {
+      PendingNotifications<T> pending = this.pendingNotifications;
+      if (pending == null) {
+        execute(l -> l.add(notification));
+        return;
+      }
+      PendingNotifications.Pending<T> slot = pending.add(notification, isSync);
+      if (slot != null) {
+        execute(l -> {
+          ProcessorListener.Notification<T> merged = pending.take(slot);
+          if (merged != null) {
+            l.add(merged);
+          }
+        });
+      }
+    }
+
+    private void execute(Consumer<ProcessorListener<T>> operation) {
+      try {
+        executor.execute(() -> {
+          try {
+            operation.accept(listener);
+          } catch (Exception ex) {
+            log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
+                ex);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        // do nothing
+      }
+    }
+  }
+
   private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
-  private final List<ProcessorListener<T>> listeners = new ArrayList<>();
-  private final List<ProcessorListener<T>> syncingListeners = new ArrayList<>();
-  private final SerialExecutor executor;
+  private final List<Lane> listeners = new ArrayList<>();
+  private final List<Lane> syncingListeners = new ArrayList<>();
+  private final Executor baseExecutor;
   private final String informerDescription;
+  private int maxPending;
+  private Function<T, String> keyFunction;
 
   public SharedProcessor() {
     this(Runnable::run, "informer");
   }
 
   public SharedProcessor(Executor executor, String informerDescription) {
-    this.executor = new SerialExecutor(executor);
+    this.baseExecutor = executor;
     this.informerDescription = informerDescription;
   }
 
+  /**
+   * Bound the number of pending notifications for each listener. Once reached, {@link #distribute(Consumer, boolean)}
+   * will block until the listener catches up.
+   * <p>
+   * Should only be called before notifications are distributed.
+   *
+   * @param maxPending the maximum number of pending notifications, or 0 for unbounded
+   */
+  public void setMaxPending(int maxPending) {
+    if (maxPending < 0) {
+      throw new IllegalArgumentException("maxPending must not be negative");
+    }
+    reconfigure(() -> this.maxPending = maxPending);
+  }
+
+  /**
+   * Coalesce the pending notifications for the same object, see {@link PendingNotifications}.
+   * <p>
+   * Should only be called before notifications are distributed.
+   *
+   * @param keyFunction the function to determine the object key, or null to disable coalescing
+   */
+  public void setCoalescing(Function<T, String> keyFunction) {
+    reconfigure(() -> this.keyFunction = keyFunction);
+  }
+
+  private void reconfigure(Runnable change) {
+    lock.writeLock().lock();
+    try {
+      change.run();
+      listeners.forEach(Lane::configure);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
   /**
    * Adds the specific processorListener
    *
@@ -68,9 +163,10 @@ public class SharedProcessor<T> {
   public void addListener(final ProcessorListener<T> processorListener) {
     lock.writeLock().lock();
     try {
-      this.listeners.add(processorListener);
+      Lane lane = new Lane(processorListener);
+      this.listeners.add(lane);
       if (processorListener.isReSync()) {
-        this.syncingListeners.add(processorListener);
+        this.syncingListeners.add(lane);
       }
     } finally {
       lock.writeLock().unlock();
@@ -84,39 +180,31 @@ public class SharedProcessor<T> {
    * @param isSync whether in sync or not
    */
   public void distribute(ProcessorListener.Notification<T> obj, boolean isSync) {
-    distribute(l -> l.add(obj), isSync);
+    for (Lane lane : getLanes(isSync)) {
+      lane.add(obj, isSync);
+    }
   }
 
   /**
    * Distribute the operation to the respective listeners
    */
   public void distribute(Consumer<ProcessorListener<T>> operation, boolean isSync) {
+    for (Lane lane : getLanes(isSync)) {
+      lane.execute(operation);
+    }
+  }
+
+  private List<Lane> getLanes(boolean isSync) {
     // obtain the list to call outside before submitting
     lock.readLock().lock();
-    List<ProcessorListener<T>> toCall;
     try {
       if (isSync) {
-        toCall = new ArrayList<>(syncingListeners);
-      } else {
-        toCall = new ArrayList<>(listeners);
+        return new ArrayList<>(syncingListeners);
       }
+      return new ArrayList<>(listeners);
     } finally {
       lock.readLock().unlock();
     }
-    try {
-      executor.execute(() -> {
-        for (ProcessorListener<T> listener : toCall) {
-          try {
-            operation.accept(listener);
-          } catch (Exception ex) {
-            log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
-                ex);
-          }
-        }
-      });
-    } catch (RejectedExecutionException e) {
-      // do nothing
-    }
   }
 
   public boolean shouldResync() {
@@ -126,10 +214,11 @@ public class SharedProcessor<T> {
       this.syncingListeners.clear();
 
       ZonedDateTime now = ZonedDateTime.now();
-      for (ProcessorListener<T> listener : this.listeners) {
+      for (Lane lane : this.listeners) {
+        ProcessorListener<T> listener = lane.listener;
         if (listener.shouldResync(now)) {
           resyncNeeded = true;
-          this.syncingListeners.add(listener);
+          this.syncingListeners.add(lane);
           listener.determineNextResync(now);
         }
       }
@@ -139,10 +228,43 @@ public class SharedProcessor<T> {
     return resyncNeeded;
   }
 
+  @Override
+  public int getPendingCount() {
+    return (int) sum(lane -> lane.executor.getPendingCount());
+  }
+
+  @Override
+  public int getMaxPendingCount() {
+    return (int) max(lane -> lane.executor.getMaxPendingCount());
+  }
+
+  @Override
+  public long getCompletedCount() {
+    return sum(lane -> lane.executor.getCompletedCount());
+  }
+
+  @Override
+  public long getSkippedCount() {
+    return sum(lane -> lane.executor.getSkippedCount());
+  }
+
+  @Override
+  public long getMaxLatencyMillis() {
+    return max(lane -> lane.executor.getMaxLatencyMillis());
+  }
+
+  private long sum(ToLongFunction<Lane> stat) {
+    return getLanes(false).stream().mapToLong(stat).sum();
+  }
+
+  private long max(ToLongFunction<Lane> stat) {
+    return getLanes(false).stream().mapToLong(stat).max().orElse(0);
+  }
+
   public void stop() {
-    executor.shutdownNow();
     lock.writeLock().lock();
     try {
+      listeners.forEach(lane -> lane.executor.shutdownNow());
       syncingListeners.clear();
       listeners.clear();
     } finally {
@@ -19,6 +19,7 @@ import io.fabric8.kubernetes.client.informers.cache.Store;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Extends a {@link Store}, but also has the responsibility of
@@ -64,6 +65,17 @@ public interface SyncableStore<T> extends Store<T> {
    * 
    * @param items
    */
-  void update(List<T> items);
+  default void update(List<T> items) {
+    update(items, key -> {
+    });
+  }
+
+  /**
+   * Process a batch of updates
+   *
+   * @param items
+   * @param keys receives the key of each item, so that it need not be computed again
+   */
+  void update(List<T> items, Consumer<String> keys);
 
 }
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Applies an asynchronous operation to a list of inputs, with a bounded number of the operations in flight.
+ * <p>
+ * No thread is blocked waiting: the next operation is started by the completion of a previous one.
+ */
+public class AsyncFanOut<I, O> {
+
+  private final List<I> inputs;
+  private final Function<I, CompletableFuture<O>> operation;
+  private final List<O> results;
+  private final AtomicInteger next = new AtomicInteger();
+  private final AtomicInteger remaining;
+  private final CompletableFuture<List<O>> result = new CompletableFuture<>();
+
+  private AsyncFanOut(List<I> inputs, Function<I, CompletableFuture<O>> operation) {
+    this.inputs = inputs;
+    this.operation = operation;
+    // pre-sized, each operation sets its own index
+    this.results = new ArrayList<>(Collections.nCopies(inputs.size(), null));
+    this.remaining = new AtomicInteger(inputs.size());
+  }
+
+  /**
+   * Apply the operation to each of the inputs, with at most parallelism operations in flight
+   *
+   * @param inputs the inputs
+   * @param parallelism the maximum number of operations in flight
+   * @param operation the operation
+   * @return a future completing with the results in the order of the inputs, or exceptionally with the first failure -
+   *         in which case no further operation is started
+   */
+  public static <I, O> CompletableFuture<List<O>> apply(List<I> inputs, int parallelism,
+      Function<I, CompletableFuture<O>> operation) {
+    if (inputs.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+    AsyncFanOut<I, O> fanOut = new AsyncFanOut<>(new ArrayList<>(inputs), operation);
+    for (int i = Math.min(Math.max(1, parallelism), inputs.size()); i > 0; i--) {
+      fanOut.startNext();
+    }
+    return fanOut.result;
+  }
+
+  /**
+   * Start the next operations - looping rather than recursing over those that complete immediately
+   */
+  private void startNext() {
+    while (!result.isDone()) {
+      int index = next.getAndIncrement();
+      if (index >= inputs.size()) {
+        return;
+      }
+      CompletableFuture<O> future;
+      try {
+        future = operation.apply(inputs.get(index));
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
+        return;
+      }
+      boolean completed = future.isDone();
+      future.whenComplete((value, e) -> {
+        if (e != null) {
+          result.completeExceptionally(e);
+          return;
+        }
+        results.set(index, value);
+        if (remaining.decrementAndGet() == 0) {
+          result.complete(results);
+        } else if (!completed) {
+          startNext();
+        }
+      });
+      if (!completed) {
+        return;
+      }
+    }
+  }
+
+}
@@ -20,6 +20,11 @@ import java.util.Queue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * See {@link Executor} docs
@@ -29,6 +34,11 @@ import java.util.concurrent.RejectedExecutionException;
  * This is a replacement for Executors.newSingleThreadExecutor() that uses threads in a non-dedicated way
  * <br>
  * Added shutdown support
+ * <br>
+ * Optionally the number of pending tasks may be bounded, in which case {@link #execute(Runnable)} will block
+ * until there is room for the task. Tasks submitted from within a running task are always accepted to prevent
+ * deadlocks. A shutdown releases the capacity held by the discarded tasks, so that blocked callers are rejected
+ * rather than left waiting.
  */
 public class SerialExecutor implements Executor {
   final Queue<Runnable> tasks = new LinkedBlockingDeque<>();
@@ -36,44 +46,157 @@ public class SerialExecutor implements Executor {
   Runnable active;
   private volatile boolean shutdown;
   private Thread thread;
-  private final Object threadLock = new Object();
+  // locks rather than monitors, so that virtual threads contending for them are not pinned to their carrier
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ReentrantLock threadLock = new ReentrantLock();
+
+  private final Semaphore capacity;
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicInteger maxPending = new AtomicInteger();
+  private final AtomicLong completed = new AtomicLong();
+  private final AtomicLong skipped = new AtomicLong();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
 
   public SerialExecutor(Executor executor) {
+    this(executor, 0);
+  }
+
+  /**
+   * @param executor the executor to run the tasks
+   * @param maxPending the maximum number of pending tasks, or 0 if unbounded
+   */
+  public SerialExecutor(Executor executor, int maxPending) {
+    if (maxPending < 0) {
+      throw new IllegalArgumentException("maxPending must not be negative");
+    }
     this.executor = executor;
+    this.capacity = maxPending > 0 ? new Semaphore(maxPending) : null;
   }
 
   @Override
-  public synchronized void execute(final Runnable r) {
+  public void execute(final Runnable r) {
+    final boolean permit = acquire();
+    try {
+      enqueue(r, permit);
+    } catch (RuntimeException e) {
+      release(permit);
+      throw e;
+    }
+  }
+
+  private boolean acquire() {
+    if (capacity == null || isExecutingThread()) {
+      return false;
+    }
     if (shutdown) {
       throw new RejectedExecutionException();
     }
-    tasks.offer(() -> {
+    try {
+      capacity.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException(e);
+    }
+    if (shutdown) {
+      // pass the permit on, so that the next blocked caller is rejected as well
+      capacity.release();
+      throw new RejectedExecutionException();
+    }
+    return true;
+  }
+
+  private void release(boolean permit) {
+    if (permit) {
+      capacity.release();
+    }
+  }
+
+  private boolean isExecutingThread() {
+    threadLock.lock();
+    try {
+      return thread == Thread.currentThread();
+    } finally {
+      threadLock.unlock();
+    }
+  }
+
+  private void enqueue(final Runnable r, final boolean permit) {
+    lock.lock();
+    try {
+      doEnqueue(r, permit);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void doEnqueue(final Runnable r, final boolean permit) {
+    if (shutdown) {
+      throw new RejectedExecutionException();
+    }
+    maxPending.accumulateAndGet(pending.incrementAndGet(), Math::max);
+    tasks.offer(new Task(r, permit));
+    if (active == null) {
+      scheduleNext();
+    }
+  }
+
+  private final class Task implements Runnable {
+    private final Runnable r;
+    private final boolean permit;
+    private final long queued = System.nanoTime();
+
+    private Task(Runnable r, boolean permit) {
+      this.r = r;
+      this.permit = permit;
+    }
+
+    @Override
+    public void run() {
+      if (shutdown) {
+        skip();
+        scheduleNext();
+        return;
+      }
       try {
-        if (shutdown) {
-          return;
-        }
-        synchronized (threadLock) {
-          thread = Thread.currentThread();
-        }
+        maxLatencyNanos.accumulateAndGet(System.nanoTime() - queued, Math::max);
+        setThread(Thread.currentThread());
         r.run();
       } catch (Throwable t) {
         thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
       } finally {
-        synchronized (threadLock) {
-          thread = null;
-        }
+        setThread(null);
+        completed.incrementAndGet();
+        pending.decrementAndGet();
+        release(permit);
         Thread.interrupted();
         scheduleNext();
       }
-    });
-    if (active == null) {
-      scheduleNext();
+    }
+
+    private void skip() {
+      skipped.incrementAndGet();
+      pending.decrementAndGet();
+      release(permit);
     }
   }
 
-  protected synchronized void scheduleNext() {
-    if ((active = tasks.poll()) != null) {
-      executor.execute(active);
+  private void setThread(Thread thread) {
+    threadLock.lock();
+    try {
+      this.thread = thread;
+    } finally {
+      threadLock.unlock();
+    }
+  }
+
+  protected void scheduleNext() {
+    lock.lock();
+    try {
+      if ((active = tasks.poll()) != null) {
+        executor.execute(active);
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -81,18 +204,65 @@ public class SerialExecutor implements Executor {
    * Shutdown the executor without executing any more tasks.
    * <p>
    * The the current task will be interrupting if it is not the thread that initiated the shutdown.
+   * <br>
+   * Queued tasks are discarded, and any caller blocked waiting for capacity is rejected.
    */
   public void shutdownNow() {
     this.shutdown = true;
-    tasks.clear();
-    synchronized (threadLock) {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      ((Task) task).skip();
+    }
+    if (capacity != null) {
+      // wake the callers blocked on the capacity held by the running task, each passes the permit on
+      capacity.release();
+    }
+    threadLock.lock();
+    try {
       if (thread != null && thread != Thread.currentThread()) {
         thread.interrupt();
       }
+    } finally {
+      threadLock.unlock();
     }
   }
 
   public boolean isShutdown() {
     return shutdown;
   }
+
+  /**
+   * @return the number of tasks that are queued or running
+   */
+  public int getPendingCount() {
+    return pending.get();
+  }
+
+  /**
+   * @return the highest number of tasks that have been queued or running at the same time
+   */
+  public int getMaxPendingCount() {
+    return maxPending.get();
+  }
+
+  /**
+   * @return the number of tasks that have completed
+   */
+  public long getCompletedCount() {
+    return completed.get();
+  }
+
+  /**
+   * @return the number of tasks that were discarded by a shutdown rather than run
+   */
+  public long getSkippedCount() {
+    return skipped.get();
+  }
+
+  /**
+   * @return the longest time in milliseconds a task has waited to start running
+   */
+  public long getMaxLatencyMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+  }
 }
@@ -45,13 +45,11 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Predicate;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -290,14 +288,14 @@ class BaseOperationTest {
   void testWaitUntilFailureCompletion() {
     final AtomicInteger httpExecutionCounter = new AtomicInteger(0);
     HttpClient mockClient = newHttpClientWithSomeFailures(httpExecutionCounter, 2);
-    CompletableFuture<List<Pod>> future = new CompletableFuture<>();
+    CompletableFuture<Pod> future = new CompletableFuture<>();
     BaseOperation<Pod, PodList, Resource<Pod>> baseOp = new BaseOperation(new OperationContext()
         .withClient(mockClient(mockClient, new ConfigBuilder().withMasterUrl("https://172.17.0.2:8443").build()))
         .withPlural("pods")
         .withName("test-pod")) {
 
       @Override
-      public CompletableFuture<List<Pod>> informOnCondition(Predicate condition) {
+      CompletableFuture<Pod> waitForCondition(ConditionInformers.Condition condition) {
         return future;
       }
 
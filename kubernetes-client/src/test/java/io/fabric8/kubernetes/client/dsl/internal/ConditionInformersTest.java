@@ -0,0 +1,243 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConditionInformersTest {
+
+  @Mock
+  private SharedIndexInformer<Pod> informer;
+  @Captor
+  private ArgumentCaptor<ResourceEventHandler<Pod>> handlerCaptor;
+  private AutoCloseable mocks;
+  private ConditionInformers conditionInformers;
+  private CacheImpl<Pod> store;
+  private CompletableFuture<Void> started;
+  private AtomicInteger created;
+
+  @BeforeEach
+  void setUp() {
+    mocks = MockitoAnnotations.openMocks(this);
+    conditionInformers = new ConditionInformers();
+    store = new CacheImpl<>();
+    started = new CompletableFuture<>();
+    created = new AtomicInteger();
+    when(informer.getStore()).thenReturn(store);
+    when(informer.start()).thenReturn(started);
+    when(informer.stopped()).thenReturn(new CompletableFuture<>());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mocks.close();
+  }
+
+  @Test
+  void waitsShareTheInformer() {
+    CompletableFuture<Pod> running = waitFor(new ConditionInformers.ItemCondition<>(
+        p -> p != null && "Running".equals(p.getStatus().getPhase())));
+    CompletableFuture<List<Pod>> any = conditionInformers.waitFor("pods", this::createInformer,
+        new ConditionInformers.ListCondition<>(l -> !l.isEmpty()));
+    ResourceEventHandler<Pod> handler = handler();
+    started.complete(null);
+
+    Pod pending = pod("Pending");
+    store.put(pending);
+    handler.onAdd(pending);
+
+    assertThat(any).isCompletedWithValue(store.list());
+    assertThat(running).isNotDone();
+    verify(informer, never()).stop();
+
+    Pod ready = pod("Running");
+    store.put(ready);
+    handler.onUpdate(pending, ready);
+
+    assertThat(running).isCompletedWithValue(ready);
+    assertThat(created).hasValue(1);
+    verify(informer).stop();
+    assertThat(conditionInformers.size()).isZero();
+  }
+
+  @Test
+  void waitsAfterTheInitialListStartANewInformer() {
+    CompletableFuture<Pod> first = waitFor(new ConditionInformers.ItemCondition<>(p -> false));
+    started.complete(null);
+    store.put(pod("Running"));
+    started = new CompletableFuture<>();
+    when(informer.start()).thenReturn(started);
+
+    CompletableFuture<Pod> second = waitFor(new ConditionInformers.ItemCondition<>(p -> p != null));
+
+    // not evaluated against the store listed before the wait started
+    assertThat(second).isNotDone();
+    assertThat(created).hasValue(2);
+    verify(informer, times(2)).start();
+
+    started.complete(null);
+
+    assertThat(second).isCompletedWithValue(store.list().get(0));
+    assertThat(first).isNotDone();
+    verify(informer).stop();
+    assertThat(conditionInformers.size()).isZero();
+
+    first.cancel(true);
+
+    verify(informer, times(2)).stop();
+    assertThat(conditionInformers.size()).isZero();
+  }
+
+  @Test
+  void waitsAfterTheStoreHasSyncedStartANewInformer() {
+    waitFor(new ConditionInformers.ItemCondition<>(p -> false));
+    when(informer.hasSynced()).thenReturn(true);
+
+    waitFor(new ConditionInformers.ItemCondition<>(p -> false));
+
+    assertThat(created).hasValue(2);
+  }
+
+  @Test
+  void emptyStoreTestsNull() {
+    CompletableFuture<Pod> deleted = waitFor(new ConditionInformers.ItemCondition<>(p -> p == null));
+    store.put(pod("Running"));
+    ResourceEventHandler<Pod> handler = handler();
+    started.complete(null);
+
+    assertThat(deleted).isNotDone();
+
+    Pod pod = store.list().get(0);
+    store.remove(pod);
+    handler.onDelete(pod, false);
+
+    assertThat(deleted).isCompletedWithValue(null);
+  }
+
+  @Test
+  void nothingIsEvaluatedBeforeTheFirstEvent() {
+    AtomicInteger tests = new AtomicInteger();
+    CompletableFuture<Pod> future = waitFor(new ConditionInformers.ItemCondition<>(p -> tests.incrementAndGet() > 10));
+    Pod pod = pod("Pending");
+    store.put(pod);
+
+    assertThat(tests).hasValue(0);
+
+    handler().onAdd(pod);
+
+    assertThat(tests).hasValue(1);
+    assertThat(future).isNotDone();
+  }
+
+  @Test
+  void conditionExceptionFailsTheWait() {
+    CompletableFuture<Pod> future = waitFor(new ConditionInformers.ItemCondition<>(p -> {
+      throw new IllegalStateException("failed");
+    }));
+    store.put(pod("Running"));
+    started.complete(null);
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertThat(e).hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void startFailureFailsTheWaitsAndIsNotReused() {
+    CompletableFuture<Pod> future = waitFor(new ConditionInformers.ItemCondition<>(p -> true));
+    started.completeExceptionally(new KubernetesClientException("forbidden"));
+
+    assertThat(future).isCompletedExceptionally();
+    verify(informer).stop();
+
+    started = new CompletableFuture<>();
+    when(informer.start()).thenReturn(started);
+    waitFor(new ConditionInformers.ItemCondition<>(p -> true));
+
+    assertThat(created).hasValue(2);
+    verify(informer, times(2)).start();
+  }
+
+  @Test
+  void completionActionsRunWithoutHoldingTheLocks() {
+    CompletableFuture<Pod> first = waitFor(new ConditionInformers.ItemCondition<>(p -> p != null));
+    ResourceEventHandler<Pod> handler = handler();
+    started.complete(null);
+    // another thread waiting from a dependent action would deadlock if the completing thread held a lock
+    AtomicReference<Pod> joined = new AtomicReference<>();
+    first.thenAccept(p -> joined.set(getWithin(CompletableFuture
+        .supplyAsync(() -> waitFor(new ConditionInformers.ItemCondition<Pod>(o -> o != null)).join()))));
+
+    Pod pod = pod("Running");
+    store.put(pod);
+    handler.onAdd(pod);
+
+    assertThat(joined).hasValue(pod);
+  }
+
+  private static Pod getWithin(CompletableFuture<Pod> future) {
+    try {
+      return future.get(10, TimeUnit.SECONDS);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  private <R> CompletableFuture<R> waitFor(ConditionInformers.Condition<Pod, R> condition) {
+    return conditionInformers.waitFor("pods", this::createInformer, condition);
+  }
+
+  private SharedIndexInformer<Pod> createInformer() {
+    created.incrementAndGet();
+    return informer;
+  }
+
+  private ResourceEventHandler<Pod> handler() {
+    verify(informer, times(created.get())).addEventHandler(handlerCaptor.capture());
+    return handlerCaptor.getValue();
+  }
+
+  private static Pod pod(String phase) {
+    return new PodBuilder().withNewMetadata().withName("pod").withNamespace("test").endMetadata()
+        .withNewStatus().withPhase(phase).endStatus().build();
+  }
+
+}
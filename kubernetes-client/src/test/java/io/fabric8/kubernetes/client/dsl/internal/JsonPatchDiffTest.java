@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.fabric8.zjsonpatch.JsonPatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonPatchDiffTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "{}|{}",
+      "{\"a\":1}|{\"a\":2}",
+      "{\"a\":1,\"b\":{\"c\":\"x\"}}|{\"b\":{\"c\":\"y\",\"d\":null},\"e\":[1]}",
+      "{\"a\":{\"b\":1}}|{\"a\":[1]}",
+      "{\"a/b\":1,\"c~d\":2}|{\"a/b\":3,\"e~/\":4}",
+      "{\"a\":[1,2,3]}|{\"a\":[1,2,3,4]}",
+      "{\"a\":[1,2,3]}|{\"a\":[0,1,2,3]}",
+      "{\"a\":[1,2,3]}|{\"a\":[1,3]}",
+      "{\"a\":[1,2,3]}|{\"a\":[4,5]}",
+      "{\"a\":[{\"n\":1},{\"n\":2}]}|{\"a\":[{\"n\":1},{\"n\":3},{\"n\":4}]}",
+      "{\"a\":[\"x\"]}|{\"a\":[\"y\",\"z\",\"w\"]}",
+  })
+  void sameAsZjsonpatchWithoutMoves(String source, String target) throws IOException {
+    JsonNode sourceNode = MAPPER.readTree(source);
+    JsonNode targetNode = MAPPER.readTree(target);
+
+    String patch = JsonPatchDiff.diff(MAPPER, sourceNode, targetNode);
+
+    assertThat(MAPPER.readTree(patch)).isEqualTo(JsonDiff.asJson(sourceNode, targetNode));
+  }
+
+  @Test
+  void arraysAreDiffedByCommonSubsequence() throws IOException {
+    JsonNode source = MAPPER.readTree("{\"a\":[1,2,3,4,5,6]}");
+    JsonNode target = MAPPER.readTree("{\"a\":[1,7,3,4,8,9,6]}");
+
+    String patch = JsonPatchDiff.diff(MAPPER, source, target);
+
+    assertThat(patch).isEqualTo("[{\"op\":\"replace\",\"path\":\"/a/1\",\"value\":7},"
+        + "{\"op\":\"replace\",\"path\":\"/a/4\",\"value\":8},{\"op\":\"add\",\"path\":\"/a/5\",\"value\":9}]");
+    assertThat(JsonPatch.apply(MAPPER.readTree(patch), source)).isEqualTo(target);
+  }
+
+  @Test
+  void randomChangesApply() {
+    Random random = new Random(1);
+    for (int i = 0; i < 2000; i++) {
+      JsonNode source = randomObject(random, 3);
+      JsonNode target = mutate(random, source.deepCopy());
+
+      String patch = JsonPatchDiff.diff(MAPPER, source, target);
+
+      assertThat(JsonPatch.apply(readTree(patch), source)).as(patch).isEqualTo(target);
+    }
+  }
+
+  private static JsonNode readTree(String patch) {
+    try {
+      return MAPPER.readTree(patch);
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private static JsonNode mutate(Random random, JsonNode node) {
+    if (node.isObject()) {
+      ObjectNode object = (ObjectNode) node;
+      switch (random.nextInt(4)) {
+        case 0:
+          object.set("f" + random.nextInt(6), randomValue(random, 2));
+          break;
+        case 1:
+          object.remove("f" + random.nextInt(6));
+          break;
+        default:
+          object.fields().forEachRemaining(e -> e.setValue(mutate(random, e.getValue())));
+      }
+      return object;
+    }
+    if (node.isArray()) {
+      ArrayNode array = (ArrayNode) node;
+      int changes = random.nextInt(3);
+      for (int i = 0; i < changes; i++) {
+        int index = array.size() == 0 ? 0 : random.nextInt(array.size());
+        switch (random.nextInt(3)) {
+          case 0:
+            array.insert(index, randomValue(random, 1));
+            break;
+          case 1:
+            if (array.size() > 0) {
+              array.remove(index);
+            }
+            break;
+          default:
+            if (array.size() > 0) {
+              array.set(index, mutate(random, array.get(index)));
+            }
+        }
+      }
+      return array;
+    }
+    return random.nextInt(3) == 0 ? randomValue(random, 1) : node;
+  }
+
+  private static JsonNode randomValue(Random random, int depth) {
+    switch (depth == 0 ? random.nextInt(3) : random.nextInt(5)) {
+      case 0:
+        return JsonNodeFactory.instance.numberNode(random.nextInt(4));
+      case 1:
+        return JsonNodeFactory.instance.textNode("v" + random.nextInt(4));
+      case 2:
+        return JsonNodeFactory.instance.nullNode();
+      case 3:
+        return randomObject(random, depth - 1);
+      default:
+        ArrayNode array = JsonNodeFactory.instance.arrayNode();
+        int size = random.nextInt(6);
+        for (int i = 0; i < size; i++) {
+          array.add(randomValue(random, depth - 1));
+        }
+        return array;
+    }
+  }
+
+  private static ObjectNode randomObject(Random random, int depth) {
+    ObjectNode object = JsonNodeFactory.instance.objectNode();
+    int size = random.nextInt(6);
+    for (int i = 0; i < size; i++) {
+      object.set("f" + random.nextInt(6), randomValue(random, depth));
+    }
+    return object;
+  }
+
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListItemIteratorTest {
+
+  @Test
+  void iteratesAcrossPages() {
+    List<String> requested = new ArrayList<>();
+    ListItemIterator<Pod> iterator = new ListItemIterator<>(Serialization.jsonMapper(), Pod.class, continueVal -> {
+      requested.add(continueVal);
+      String page;
+      if (continueVal == null) {
+        page = "{\"kind\":\"PodList\",\"metadata\":{\"continue\":\"next\"},\"items\":[{\"metadata\":{\"name\":\"a\"}},null,"
+            + "{\"metadata\":{\"name\":\"b\"},\"spec\":{\"containers\":[]}}]}";
+      } else {
+        // metadata after the items, and an empty continue
+        page = "{\"items\":[{\"metadata\":{\"name\":\"c\"}}],\"metadata\":{\"continue\":\"\"},\"apiVersion\":\"v1\"}";
+      }
+      return new ByteArrayInputStream(page.getBytes(StandardCharsets.UTF_8));
+    });
+
+    List<String> names = new ArrayList<>();
+    iterator.forEachRemaining(p -> names.add(p.getMetadata().getName()));
+
+    assertThat(names).containsExactly("a", "b", "c");
+    assertThat(requested).isEqualTo(Arrays.asList(null, "next"));
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test
+  void emptyList() {
+    ListItemIterator<Pod> iterator = new ListItemIterator<>(Serialization.jsonMapper(), Pod.class,
+        continueVal -> new ByteArrayInputStream("{\"metadata\":{},\"items\":[]}".getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+}
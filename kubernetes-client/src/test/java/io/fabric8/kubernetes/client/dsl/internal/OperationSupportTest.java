@@ -17,15 +17,20 @@ package io.fabric8.kubernetes.client.dsl.internal;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.RequestConfigBuilder;
+import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.http.StandardHttpRequest;
 import io.fabric8.kubernetes.client.http.TestHttpResponse;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,12 +40,15 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -188,4 +196,44 @@ class OperationSupportTest {
             .hasFieldOrPropertyWithValue("requestTimeout", 1337);
   }
 
+  @Test
+  void handleStreamingResponseParsesItemsAsReceived() throws Exception {
+    // Given
+    PodList list = new PodListBuilder()
+        .withNewMetadata().withResourceVersion("10").withContinue("next").endMetadata()
+        .addNewItem().withNewMetadata().withName("pod-1").addToLabels("app", "a").endMetadata()
+        .withNewSpec().addNewContainer().withName("c").withArgs("x", "y").endContainer().endSpec().endItem()
+        .addNewItem().withNewMetadata().withName("pod-2").endMetadata().endItem()
+        .build();
+    HttpClient httpClient = mock(HttpClient.class);
+    when(httpClient.consumeBytes(any(), any()))
+        .thenAnswer(invocation -> TestHttpResponse.consumeBytes(200, Serialization.asJson(list), 7,
+            invocation.getArgument(1)));
+    // When
+    CompletableFuture<PodList> result = operationSupport.handleStreamingResponse(httpClient,
+        new StandardHttpRequest.Builder().uri("https://example.com"),
+        Serialization.jsonMapper().constructType(PodList.class), Serialization.jsonMapper().constructType(Pod.class));
+    // Then
+    assertThat(result.get()).isEqualTo(list);
+  }
+
+  @Test
+  void handleStreamingResponseWithErrorStatusThrowsException() {
+    // Given
+    String status = Serialization.asJson(new StatusBuilder().withCode(403).withMessage("pods is forbidden").build());
+    HttpClient httpClient = mock(HttpClient.class);
+    when(httpClient.consumeBytes(any(), any()))
+        .thenAnswer(invocation -> TestHttpResponse.consumeBytes(403, status, 7, invocation.getArgument(1)));
+    // When
+    CompletableFuture<PodList> result = operationSupport.handleStreamingResponse(httpClient,
+        new StandardHttpRequest.Builder().method("GET", null, null).uri("https://example.com"),
+        Serialization.jsonMapper().constructType(PodList.class), Serialization.jsonMapper().constructType(Pod.class));
+    // Then
+    ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+    assertThat(exception.getCause())
+        .isInstanceOf(KubernetesClientException.class)
+        .hasMessageContaining("Message: pods is forbidden")
+        .extracting(e -> ((KubernetesClientException) e).getCode()).isEqualTo(403);
+  }
+
 }
@@ -33,9 +33,11 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -86,7 +88,7 @@ class PortForwarderWebsocketListenerTest {
     assertThat(contentTypeCaptor.getValue())
         .extracting(StandardCharsets.UTF_8::decode)
         .extracting(CharBuffer::toString).asString()
-        .startsWith("THIS IS A TEST");
+        .startsWith("\0THIS IS A TEST");
     assertThat(in.isOpen()).isTrue();
     assertThat(out.isOpen()).isTrue();
   }
@@ -218,4 +220,53 @@ class PortForwarderWebsocketListenerTest {
     }
 
   }
+
+  @Test
+  void onOpen_withSelectableChannel_shouldPipeAsDataBecomesAvailable() throws IOException {
+    final Pipe pipe = Pipe.open();
+    try {
+      listener = new PortForwarderWebsocketListener(pipe.source(), out, CommonThreadPool.get());
+      listener.onOpen(webSocket);
+      // When
+      pipe.sink().write(ByteBuffer.wrap("FIRST".getBytes(StandardCharsets.UTF_8)));
+      verify(webSocket, timeout(10_000).times(1)).send(any());
+      pipe.sink().write(ByteBuffer.wrap("SECOND".getBytes(StandardCharsets.UTF_8)));
+      // Then
+      final ArgumentCaptor<ByteBuffer> captor = ArgumentCaptor.forClass(ByteBuffer.class);
+      verify(webSocket, timeout(10_000).times(2)).send(captor.capture());
+      assertThat(captor.getAllValues())
+          .extracting(b -> StandardCharsets.UTF_8.decode(b).toString())
+          .containsExactly("\0FIRST", "\0SECOND");
+    } finally {
+      pipe.sink().close();
+      pipe.source().close();
+    }
+  }
+
+  @Test
+  void onMessage_withSelectableChannel_shouldRequestOnceWritten() throws IOException {
+    final Pipe pipe = Pipe.open();
+    try {
+      pipe.sink().configureBlocking(false);
+      listener = new PortForwarderWebsocketListener(null, pipe.sink(), CommonThreadPool.get());
+      listener.onMessage(webSocket, "SKIP 1");
+      listener.onMessage(webSocket, "SKIP 2");
+      // larger than the pipe buffer, so that the write has to wait for the sink to become writable
+      final byte[] data = new byte[1 << 20];
+      Arrays.fill(data, (byte) 'x');
+      // When
+      listener.onMessage(webSocket, ByteBuffer.wrap(ByteBuffer.allocate(data.length + 1).put((byte) 0).put(data).array()));
+      // Then
+      verify(webSocket, timeout(10_000).times(2)).request();
+      final ByteBuffer received = ByteBuffer.allocate(data.length);
+      while (received.hasRemaining()) {
+        pipe.source().read(received);
+      }
+      verify(webSocket, timeout(10_000).times(3)).request();
+      assertThat(received.array()).isEqualTo(data);
+    } finally {
+      pipe.sink().close();
+      pipe.source().close();
+    }
+  }
 }
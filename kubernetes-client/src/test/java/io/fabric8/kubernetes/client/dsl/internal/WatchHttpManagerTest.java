@@ -30,10 +30,16 @@ import org.mockito.Mockito;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class WatchHttpManagerTest {
@@ -63,4 +69,21 @@ class WatchHttpManagerTest {
     assertTrue(reconnect.await(1, TimeUnit.SECONDS));
   }
 
+  @Test
+  void testLineBufferSplitsAcrossBuffers() {
+    WatchHTTPManager.LineBuffer buffer = new WatchHTTPManager.LineBuffer();
+    List<String> lines = new ArrayList<>();
+    byte[] bytes = "{\"a\":\"\u00e9\"}\n{\"b\":1}\n{\"c\"".getBytes(StandardCharsets.UTF_8);
+
+    // split within the multi-byte character
+    for (ByteBuffer content : Arrays.asList(ByteBuffer.wrap(bytes, 0, 7), ByteBuffer.wrap(bytes, 7, bytes.length - 7))) {
+      buffer.append(content.slice(), (b, offset, length) -> lines.add(new String(b, offset, length, StandardCharsets.UTF_8)));
+    }
+    ByteBuffer direct = ByteBuffer.allocateDirect(4);
+    direct.put(":2}\n".getBytes(StandardCharsets.UTF_8)).flip();
+    buffer.append(direct, (b, offset, length) -> lines.add(new String(b, offset, length, StandardCharsets.UTF_8)));
+
+    assertEquals(Arrays.asList("{\"a\":\"\u00e9\"}", "{\"b\":1}", "{\"c\":2}"), lines);
+  }
+
 }
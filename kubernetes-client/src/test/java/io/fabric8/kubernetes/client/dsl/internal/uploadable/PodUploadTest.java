@@ -101,6 +101,9 @@ class PodUploadTest {
         new PodOperationContext(), new OperationContext().withClient(client)).resource(item);
     when(mockClient.sendAsync(Mockito.any(), Mockito.eq(byte[].class)))
         .thenReturn(CompletableFuture.completedFuture(TestHttpResponse.from(200, Serialization.asJson(item))));
+    when(mockClient.consumeBytes(Mockito.any(), Mockito.any()))
+        .thenAnswer(invocation -> TestHttpResponse.consumeBytes(200, Serialization.asJson(item), 1024,
+            invocation.getArgument(1)));
   }
 
   @Test
@@ -15,18 +15,28 @@
  */
 package io.fabric8.kubernetes.client.impl;
 
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperation;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
+import io.fabric8.kubernetes.internal.KubernetesDeserializer;
+import io.fabric8.kubernetes.model.annotation.Group;
+import io.fabric8.kubernetes.model.annotation.Kind;
+import io.fabric8.kubernetes.model.annotation.Version;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class HandlersTest {
 
@@ -56,4 +66,40 @@ public class HandlersTest {
 
     assertThat(handlers.get(new MyPod(), null).operation(mock, null), Matchers.instanceOf(HasMetadataOperationsImpl.class));
   }
+
+  @Test
+  public void testBuiltInResourceDefinitionContext() {
+    Handlers handlers = new Handlers();
+    GenericKubernetesResource resource = new GenericKubernetesResource();
+    resource.setApiVersion("apps/v1");
+    resource.setKind("Deployment");
+
+    ResourceDefinitionContext rdc = handlers.getResourceDefinitionContext(resource, null);
+
+    assertEquals("deployments", rdc.getPlural());
+    assertEquals("apps", rdc.getGroup());
+    assertTrue(rdc.isNamespaceScoped());
+    assertSame(rdc, handlers.getResourceDefinitionContext(resource, null));
+  }
+
+  @Test
+  public void testResourceDefinitionContextForLaterRegisteredKind() {
+    Handlers handlers = new Handlers();
+    GenericKubernetesResource resource = new GenericKubernetesResource();
+    resource.setApiVersion("handlers.test/v1");
+    resource.setKind("MyPod");
+
+    assertNull(handlers.getResourceDefinitionContext(resource, null));
+
+    KubernetesDeserializer.registerCustomKind("handlers.test/v1", "MyPod", MyCustomPod.class);
+
+    assertEquals("mypods", handlers.getResourceDefinitionContext(resource, null).getPlural());
+  }
+
+  @Group("handlers.test")
+  @Version("v1")
+  @Kind("MyPod")
+  static class MyCustomPod extends Pod {
+
+  }
 }
@@ -149,6 +149,68 @@ class CacheTest {
     assertEquals(1, clusterNameIndexedPods.size());
   }
 
+  @Test
+  void testIndexUpdatedWhenValueChanges() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    String nodeIndex = "node-index";
+    podCache.addIndexers(Collections.singletonMap(nodeIndex, pod -> Collections.singletonList(pod.getSpec().getNodeName())));
+
+    Pod testPod = new PodBuilder()
+        .withNewMetadata().withNamespace("test").withName("test-pod").endMetadata()
+        .withNewSpec().withNodeName("node-1").endSpec()
+        .build();
+    podCache.put(testPod);
+
+    Pod updated = new PodBuilder(testPod).editSpec().withNodeName("node-2").endSpec().build();
+    podCache.put(updated);
+
+    assertEquals(0, podCache.byIndex(nodeIndex, "node-1").size());
+    assertEquals(0, podCache.indexKeys(nodeIndex, "node-1").size());
+    assertEquals(Collections.singletonList(updated), podCache.byIndex(nodeIndex, "node-2"));
+    assertEquals(Collections.singletonList(updated), podCache.byIndex(Cache.NAMESPACE_INDEX, "test"));
+
+    podCache.remove(updated);
+    assertEquals(0, podCache.byIndex(nodeIndex, "node-2").size());
+    assertEquals(0, podCache.byIndex(Cache.NAMESPACE_INDEX, "test").size());
+  }
+
+  @Test
+  void testClusterScopedNamespaceIndex() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    Pod testPod = new PodBuilder().withNewMetadata().withName("cluster-scoped").endMetadata().build();
+
+    podCache.put(testPod);
+
+    assertEquals(Collections.singletonList(testPod), podCache.byIndex(Cache.NAMESPACE_INDEX, null));
+    podCache.remove(testPod);
+    assertEquals(0, podCache.byIndex(Cache.NAMESPACE_INDEX, null).size());
+  }
+
+  @Test
+  void testSingleValueIndexFunc() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    String nodeIndex = "node-index";
+    podCache.addIndexFunc(nodeIndex, (Cache.SingleValueIndexFunc<Pod>) pod -> pod.getSpec().getNodeName());
+
+    Pod testPod = new PodBuilder()
+        .withNewMetadata().withNamespace("test").withName("test-pod").endMetadata()
+        .withNewSpec().withNodeName("node-1").endSpec()
+        .build();
+    podCache.put(Cache.metaNamespaceKeyFunc(testPod), testPod);
+    assertEquals(Collections.singletonList(testPod), podCache.index(nodeIndex, testPod));
+
+    Pod updated = new PodBuilder(testPod).editSpec().withNodeName("node-2").endSpec().build();
+    podCache.put(updated);
+
+    assertEquals(0, podCache.byIndex(nodeIndex, "node-1").size());
+    assertEquals(Collections.singletonList(updated), podCache.byIndex(nodeIndex, "node-2"));
+    assertEquals(Collections.singletonList("node-2"), podCache.getIndexers().get(nodeIndex).apply(updated));
+
+    assertEquals(updated, podCache.removeByKey("test/test-pod"));
+    assertEquals(0, podCache.byIndex(nodeIndex, "node-2").size());
+    assertEquals(0, podCache.byIndex(Cache.NAMESPACE_INDEX, "test").size());
+  }
+
   private static List<String> mockIndexFunction(Object obj) {
     if (obj == null) {
       return Collections.singletonList("null");
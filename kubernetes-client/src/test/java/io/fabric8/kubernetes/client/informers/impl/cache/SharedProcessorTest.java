@@ -18,9 +18,19 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class SharedProcessorTest {
   @Test
@@ -62,6 +72,87 @@ class SharedProcessorTest {
     sharedProcessor.distribute(addNotification, false);
   }
 
+  @Test
+  void testCoalescing() {
+    List<Runnable> tasks = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "test");
+    sharedProcessor.setCoalescing(Cache::metaNamespaceKeyFunc);
+
+    List<String> events = new ArrayList<>();
+    sharedProcessor.addListener(new ProcessorListener<>(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        events.add("add " + obj.getMetadata().getName() + " " + obj.getMetadata().getResourceVersion());
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+        events.add("update " + newObj.getMetadata().getName() + " " + oldObj.getMetadata().getResourceVersion() + "->"
+            + newObj.getMetadata().getResourceVersion());
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+        events.add("delete " + obj.getMetadata().getName() + " " + obj.getMetadata().getResourceVersion());
+      }
+    }, 0));
+
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("a", "1"), pod("a", "2")), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("b", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("a", "2"), pod("a", "3")), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("b", "1"), pod("b", "2")), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("c", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(pod("c", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(pod("a", "3")), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("a", "4")), false);
+
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+
+    assertEquals(Arrays.asList("delete a 3", "add b 2", "add a 4"), events);
+  }
+
+  @Test
+  void testSlowListenerDoesNotBlockOthers() throws InterruptedException {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(executor, "test");
+      CountDownLatch blocked = new CountDownLatch(1);
+      CountDownLatch delivered = new CountDownLatch(2);
+      sharedProcessor.addListener(new ExpectingNotificationHandler<Pod>(null) {
+        @Override
+        public void add(Notification<Pod> obj) {
+          try {
+            blocked.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      });
+      sharedProcessor.addListener(new ExpectingNotificationHandler<Pod>(null) {
+        @Override
+        public void add(Notification<Pod> obj) {
+          delivered.countDown();
+        }
+      });
+
+      sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("a", "1")), false);
+      sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("b", "1")), false);
+
+      // the second listener is not held up by the first
+      assertTrue(delivered.await(10, TimeUnit.SECONDS));
+      blocked.countDown();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace("default").withResourceVersion(resourceVersion)
+        .endMetadata().build();
+  }
+
   private static class ExpectingNotificationHandler<T> extends ProcessorListener<T> {
     ExpectingNotificationHandler(Notification<T> notification) {
       this(new ResourceEventHandler<T>() {
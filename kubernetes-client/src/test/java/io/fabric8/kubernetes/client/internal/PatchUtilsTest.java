@@ -55,4 +55,12 @@ class PatchUtilsTest {
         PatchUtils.jsonDiff(rc1, rc2, false));
   }
 
+  @Test
+  void testDiffUnchanged() {
+    ReplicationController rc1 = new ReplicationControllerBuilder().withNewMetadata().withName("x").endMetadata().build();
+    ReplicationController rc2 = new ReplicationControllerBuilder(rc1).build();
+
+    assertEquals("[]", PatchUtils.jsonDiff(rc1, rc2, false));
+  }
+
 }
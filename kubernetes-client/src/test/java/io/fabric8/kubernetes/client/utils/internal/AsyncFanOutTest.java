@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncFanOutTest {
+
+  @Test
+  void boundsTheOperationsInFlight() {
+    List<CompletableFuture<String>> started = new ArrayList<>();
+
+    CompletableFuture<List<String>> result = AsyncFanOut.apply(Arrays.asList(1, 2, 3, 4, 5), 2, i -> {
+      CompletableFuture<String> future = new CompletableFuture<>();
+      started.add(future);
+      return future;
+    });
+
+    assertThat(started).hasSize(2);
+    // completing out of order starts the next ones
+    started.get(1).complete("2");
+    assertThat(started).hasSize(3);
+    started.get(0).complete("1");
+    started.get(2).complete("3");
+    assertThat(started).hasSize(5);
+    started.get(4).complete("5");
+    assertThat(result).isNotDone();
+    started.get(3).complete("4");
+    assertThat(result).isCompletedWithValue(Arrays.asList("1", "2", "3", "4", "5"));
+  }
+
+  @Test
+  void completedOperationsDoNotRecurse() {
+    List<Integer> inputs = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+    CompletableFuture<List<Integer>> result = AsyncFanOut.apply(inputs, 1, CompletableFuture::completedFuture);
+
+    assertThat(result).isCompletedWithValue(inputs);
+  }
+
+  @Test
+  void failureStopsStartingOperations() {
+    List<CompletableFuture<String>> started = new ArrayList<>();
+    IllegalStateException failure = new IllegalStateException();
+
+    CompletableFuture<List<String>> result = AsyncFanOut.apply(Arrays.asList(1, 2, 3), 1, i -> {
+      CompletableFuture<String> future = new CompletableFuture<>();
+      started.add(future);
+      return future;
+    });
+    started.get(0).completeExceptionally(failure);
+
+    assertThat(result).isCompletedExceptionally();
+    assertThat(started).hasSize(1);
+  }
+
+  @Test
+  void emptyInputsCompleteImmediately() {
+    assertThat(AsyncFanOut.apply(Collections.emptyList(), 5, i -> new CompletableFuture<>()))
+        .isCompletedWithValue(Collections.emptyList());
+  }
+
+}
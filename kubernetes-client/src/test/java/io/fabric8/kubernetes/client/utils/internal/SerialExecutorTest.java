@@ -22,9 +22,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class SerialExecutorTest {
@@ -83,4 +85,96 @@ class SerialExecutorTest {
     }
   }
 
+  @Test
+  void boundedExecuteBlocksUntilCapacity() throws Exception {
+    final ExecutorService es = Executors.newCachedThreadPool();
+    try {
+      final SerialExecutor se = new SerialExecutor(es, 2);
+      final CountDownLatch release = new CountDownLatch(1);
+      se.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      se.execute(() -> {
+      });
+      assertThat(se.getPendingCount()).isEqualTo(2);
+
+      CompletableFuture<Void> third = CompletableFuture.runAsync(() -> se.execute(() -> {
+      }), es);
+      Thread.sleep(200L);
+      assertThat(third).isNotDone();
+
+      release.countDown();
+      third.get(1, TimeUnit.SECONDS);
+      final CountDownLatch done = new CountDownLatch(1);
+      se.execute(done::countDown);
+      assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(se.getMaxPendingCount()).isEqualTo(2);
+      assertThat(se.getMaxLatencyMillis()).isGreaterThan(0);
+    } finally {
+      es.shutdownNow();
+    }
+  }
+
+  @Test
+  void boundedExecuteRejectsAfterShutdown() throws Exception {
+    final ExecutorService es = Executors.newCachedThreadPool();
+    try {
+      final SerialExecutor se = new SerialExecutor(es, 1);
+      final CountDownLatch running = new CountDownLatch(1);
+      se.execute(() -> {
+        running.countDown();
+        try {
+          Thread.sleep(10000L);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      assertThat(running.await(1, TimeUnit.SECONDS)).isTrue();
+
+      CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> se.execute(() -> {
+      }), es);
+      se.shutdownNow();
+
+      assertThatThrownBy(() -> blocked.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(RejectedExecutionException.class);
+    } finally {
+      es.shutdownNow();
+    }
+  }
+
+  @Test
+  void shutdownCountsQueuedTasksAsSkipped() throws Exception {
+    final ExecutorService es = Executors.newCachedThreadPool();
+    try {
+      final SerialExecutor se = new SerialExecutor(es, 2);
+      final CountDownLatch running = new CountDownLatch(1);
+      final CountDownLatch finished = new CountDownLatch(1);
+      se.execute(() -> {
+        running.countDown();
+        try {
+          Thread.sleep(10000L);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        finished.countDown();
+      });
+      se.execute(() -> {
+      });
+      assertThat(running.await(1, TimeUnit.SECONDS)).isTrue();
+
+      se.shutdownNow();
+
+      assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+      assertThat(se.getSkippedCount()).isEqualTo(1);
+      assertThatThrownBy(() -> se.execute(() -> {
+      })).isInstanceOf(RejectedExecutionException.class);
+    } finally {
+      es.shutdownNow();
+    }
+  }
+
 }
@@ -28,6 +28,8 @@ import io.fabric8.kubernetes.api.model.apps.ReplicaSetList;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetList;
 import io.fabric8.kubernetes.api.model.version.Info;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -116,7 +118,8 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(io.fabric8.kubernetes.api.model.PersistentVolumeClaim.class)
 })
-public class ValidationSchema {
+public class ValidationSchema implements DeepCopyable<ValidationSchema>
+{
 
     @JsonProperty("APIGroup")
     private APIGroup aPIGroup;
@@ -929,4 +932,67 @@ public class ValidationSchema {
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ValidationSchema deepCopy() {
+        ValidationSchema copy = new ValidationSchema();
+        copy.aPIGroup = DeepCopy.copy(this.aPIGroup);
+        copy.aPIGroupList = DeepCopy.copy(this.aPIGroupList);
+        copy.baseKubernetesList = DeepCopy.copy(this.baseKubernetesList);
+        copy.binding = DeepCopy.copy(this.binding);
+        copy.componentStatusList = DeepCopy.copy(this.componentStatusList);
+        copy.configMap = DeepCopy.copy(this.configMap);
+        copy.configMapList = DeepCopy.copy(this.configMapList);
+        copy.containerStatus = DeepCopy.copy(this.containerStatus);
+        copy.controllerRevision = DeepCopy.copy(this.controllerRevision);
+        copy.controllerRevisionList = DeepCopy.copy(this.controllerRevisionList);
+        copy.createOptions = DeepCopy.copy(this.createOptions);
+        copy.daemonSet = DeepCopy.copy(this.daemonSet);
+        copy.daemonSetList = DeepCopy.copy(this.daemonSetList);
+        copy.deleteOptions = DeepCopy.copy(this.deleteOptions);
+        copy.deployment = DeepCopy.copy(this.deployment);
+        copy.deploymentList = DeepCopy.copy(this.deploymentList);
+        copy.endpointPort = DeepCopy.copy(this.endpointPort);
+        copy.endpoints = DeepCopy.copy(this.endpoints);
+        copy.endpointsList = DeepCopy.copy(this.endpointsList);
+        copy.envVar = DeepCopy.copy(this.envVar);
+        copy.getOptions = DeepCopy.copy(this.getOptions);
+        copy.info = DeepCopy.copy(this.info);
+        copy.limitRangeList = DeepCopy.copy(this.limitRangeList);
+        copy.listOptions = DeepCopy.copy(this.listOptions);
+        copy.namespace = DeepCopy.copy(this.namespace);
+        copy.namespaceList = DeepCopy.copy(this.namespaceList);
+        copy.node = DeepCopy.copy(this.node);
+        copy.nodeList = DeepCopy.copy(this.nodeList);
+        copy.objectMeta = DeepCopy.copy(this.objectMeta);
+        copy.patch = DeepCopy.copy(this.patch);
+        copy.patchOptions = DeepCopy.copy(this.patchOptions);
+        copy.persistentVolume = DeepCopy.copy(this.persistentVolume);
+        copy.persistentVolumeClaim = DeepCopy.copy(this.persistentVolumeClaim);
+        copy.persistentVolumeClaimList = DeepCopy.copy(this.persistentVolumeClaimList);
+        copy.persistentVolumeList = DeepCopy.copy(this.persistentVolumeList);
+        copy.podList = DeepCopy.copy(this.podList);
+        copy.podTemplateList = DeepCopy.copy(this.podTemplateList);
+        copy.quantity = DeepCopy.copy(this.quantity);
+        copy.replicaSet = DeepCopy.copy(this.replicaSet);
+        copy.replicaSetList = DeepCopy.copy(this.replicaSetList);
+        copy.replicationControllerList = DeepCopy.copy(this.replicationControllerList);
+        copy.resourceQuota = DeepCopy.copy(this.resourceQuota);
+        copy.resourceQuotaList = DeepCopy.copy(this.resourceQuotaList);
+        copy.rootPaths = DeepCopy.copy(this.rootPaths);
+        copy.secret = DeepCopy.copy(this.secret);
+        copy.secretList = DeepCopy.copy(this.secretList);
+        copy.serviceAccount = DeepCopy.copy(this.serviceAccount);
+        copy.serviceAccountList = DeepCopy.copy(this.serviceAccountList);
+        copy.serviceList = DeepCopy.copy(this.serviceList);
+        copy.statefulSet = DeepCopy.copy(this.statefulSet);
+        copy.statefulSetList = DeepCopy.copy(this.statefulSetList);
+        copy.status = DeepCopy.copy(this.status);
+        copy.time = DeepCopy.copy(this.time);
+        copy.toleration = DeepCopy.copy(this.toleration);
+        copy.typeMeta = DeepCopy.copy(this.typeMeta);
+        copy.updateOptions = DeepCopy.copy(this.updateOptions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ValidationSchema.class, this.additionalProperties);
+        return copy;
+    }
+
 }
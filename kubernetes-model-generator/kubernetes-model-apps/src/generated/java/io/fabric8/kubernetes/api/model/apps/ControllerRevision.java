@@ -23,8 +23,10 @@ import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.runtime.RawExtension;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import io.sundr.transform.annotations.TemplateTransformation;
@@ -68,7 +70,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("apps")
-public class ControllerRevision implements HasMetadata, Namespaced
+public class ControllerRevision implements HasMetadata, Namespaced, DeepCopyable<ControllerRevision>
 {
 
     /**
@@ -198,4 +200,16 @@ public class ControllerRevision implements HasMetadata, Namespaced
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ControllerRevision deepCopy() {
+        ControllerRevision copy = new ControllerRevision();
+        copy.apiVersion = this.apiVersion;
+        copy.data = DeepCopy.copy(this.data);
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.revision = DeepCopy.copy(this.revision);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ControllerRevision.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -20,6 +20,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -57,7 +59,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class DaemonSetCondition implements KubernetesResource
+public class DaemonSetCondition implements KubernetesResource, DeepCopyable<DaemonSetCondition>
 {
 
     @JsonProperty("lastTransitionTime")
@@ -157,4 +159,16 @@ public class DaemonSetCondition implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DaemonSetCondition deepCopy() {
+        DaemonSetCondition copy = new DaemonSetCondition();
+        copy.lastTransitionTime = DeepCopy.copy(this.lastTransitionTime);
+        copy.message = this.message;
+        copy.reason = this.reason;
+        copy.status = this.status;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DaemonSetCondition.class, this.additionalProperties);
+        return copy;
+    }
+
 }
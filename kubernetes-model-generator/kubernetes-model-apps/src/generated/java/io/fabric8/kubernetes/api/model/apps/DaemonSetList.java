@@ -24,8 +24,10 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import io.sundr.transform.annotations.TemplateTransformation;
@@ -66,7 +68,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("apps")
-public class DaemonSetList implements KubernetesResource, KubernetesResourceList<io.fabric8.kubernetes.api.model.apps.DaemonSet>
+public class DaemonSetList implements KubernetesResource, KubernetesResourceList<io.fabric8.kubernetes.api.model.apps.DaemonSet> , DeepCopyable<DaemonSetList>
 {
 
     /**
@@ -182,4 +184,15 @@ public class DaemonSetList implements KubernetesResource, KubernetesResourceList
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DaemonSetList deepCopy() {
+        DaemonSetList copy = new DaemonSetList();
+        copy.apiVersion = this.apiVersion;
+        copy.items = DeepCopy.copy(this.items);
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DaemonSetList.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -18,6 +18,8 @@ import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -55,7 +57,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class DaemonSetSpec implements KubernetesResource
+public class DaemonSetSpec implements KubernetesResource, DeepCopyable<DaemonSetSpec>
 {
 
     @JsonProperty("minReadySeconds")
@@ -155,4 +157,16 @@ public class DaemonSetSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DaemonSetSpec deepCopy() {
+        DaemonSetSpec copy = new DaemonSetSpec();
+        copy.minReadySeconds = this.minReadySeconds;
+        copy.revisionHistoryLimit = this.revisionHistoryLimit;
+        copy.selector = DeepCopy.copy(this.selector);
+        copy.template = DeepCopy.copy(this.template);
+        copy.updateStrategy = DeepCopy.copy(this.updateStrategy);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DaemonSetSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -22,6 +22,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -64,7 +66,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class DaemonSetStatus implements KubernetesResource
+public class DaemonSetStatus implements KubernetesResource, DeepCopyable<DaemonSetStatus>
 {
 
     @JsonProperty("collisionCount")
@@ -235,4 +237,21 @@ public class DaemonSetStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DaemonSetStatus deepCopy() {
+        DaemonSetStatus copy = new DaemonSetStatus();
+        copy.collisionCount = this.collisionCount;
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.currentNumberScheduled = this.currentNumberScheduled;
+        copy.desiredNumberScheduled = this.desiredNumberScheduled;
+        copy.numberAvailable = this.numberAvailable;
+        copy.numberMisscheduled = this.numberMisscheduled;
+        copy.numberReady = this.numberReady;
+        copy.numberUnavailable = this.numberUnavailable;
+        copy.observedGeneration = DeepCopy.copy(this.observedGeneration);
+        copy.updatedNumberScheduled = this.updatedNumberScheduled;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DaemonSetStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -20,6 +20,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -54,7 +56,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class DaemonSetUpdateStrategy implements KubernetesResource
+public class DaemonSetUpdateStrategy implements KubernetesResource, DeepCopyable<DaemonSetUpdateStrategy>
 {
 
     @JsonProperty("rollingUpdate")
@@ -112,4 +114,13 @@ public class DaemonSetUpdateStrategy implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DaemonSetUpdateStrategy deepCopy() {
+        DaemonSetUpdateStrategy copy = new DaemonSetUpdateStrategy();
+        copy.rollingUpdate = DeepCopy.copy(this.rollingUpdate);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DaemonSetUpdateStrategy.class, this.additionalProperties);
+        return copy;
+    }
+
 }
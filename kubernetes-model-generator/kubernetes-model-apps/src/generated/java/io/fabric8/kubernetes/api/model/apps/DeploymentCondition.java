@@ -20,6 +20,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -58,7 +60,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class DeploymentCondition implements KubernetesResource
+public class DeploymentCondition implements KubernetesResource, DeepCopyable<DeploymentCondition>
 {
 
     @JsonProperty("lastTransitionTime")
@@ -172,4 +174,17 @@ public class DeploymentCondition implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DeploymentCondition deepCopy() {
+        DeploymentCondition copy = new DeploymentCondition();
+        copy.lastTransitionTime = DeepCopy.copy(this.lastTransitionTime);
+        copy.lastUpdateTime = DeepCopy.copy(this.lastUpdateTime);
+        copy.message = this.message;
+        copy.reason = this.reason;
+        copy.status = this.status;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DeploymentCondition.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -18,6 +18,8 @@ import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -58,7 +60,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class DeploymentSpec implements KubernetesResource
+public class DeploymentSpec implements KubernetesResource, DeepCopyable<DeploymentSpec>
 {
 
     @JsonProperty("minReadySeconds")
@@ -200,4 +202,19 @@ public class DeploymentSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DeploymentSpec deepCopy() {
+        DeploymentSpec copy = new DeploymentSpec();
+        copy.minReadySeconds = this.minReadySeconds;
+        copy.paused = this.paused;
+        copy.progressDeadlineSeconds = this.progressDeadlineSeconds;
+        copy.replicas = this.replicas;
+        copy.revisionHistoryLimit = this.revisionHistoryLimit;
+        copy.selector = DeepCopy.copy(this.selector);
+        copy.strategy = DeepCopy.copy(this.strategy);
+        copy.template = DeepCopy.copy(this.template);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DeploymentSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
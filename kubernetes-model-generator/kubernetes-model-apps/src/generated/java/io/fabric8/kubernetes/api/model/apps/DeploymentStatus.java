@@ -22,6 +22,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -62,7 +64,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class DeploymentStatus implements KubernetesResource
+public class DeploymentStatus implements KubernetesResource, DeepCopyable<DeploymentStatus>
 {
 
     @JsonProperty("availableReplicas")
@@ -205,4 +207,19 @@ public class DeploymentStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DeploymentStatus deepCopy() {
+        DeploymentStatus copy = new DeploymentStatus();
+        copy.availableReplicas = this.availableReplicas;
+        copy.collisionCount = this.collisionCount;
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.observedGeneration = DeepCopy.copy(this.observedGeneration);
+        copy.readyReplicas = this.readyReplicas;
+        copy.replicas = this.replicas;
+        copy.unavailableReplicas = this.unavailableReplicas;
+        copy.updatedReplicas = this.updatedReplicas;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DeploymentStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -18,6 +18,8 @@ import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -54,7 +56,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class ReplicaSetSpec implements KubernetesResource
+public class ReplicaSetSpec implements KubernetesResource, DeepCopyable<ReplicaSetSpec>
 {
 
     @JsonProperty("minReadySeconds")
@@ -140,4 +142,15 @@ public class ReplicaSetSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ReplicaSetSpec deepCopy() {
+        ReplicaSetSpec copy = new ReplicaSetSpec();
+        copy.minReadySeconds = this.minReadySeconds;
+        copy.replicas = this.replicas;
+        copy.selector = DeepCopy.copy(this.selector);
+        copy.template = DeepCopy.copy(this.template);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ReplicaSetSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -22,6 +22,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -60,7 +62,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class ReplicaSetStatus implements KubernetesResource
+public class ReplicaSetStatus implements KubernetesResource, DeepCopyable<ReplicaSetStatus>
 {
 
     @JsonProperty("availableReplicas")
@@ -175,4 +177,17 @@ public class ReplicaSetStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ReplicaSetStatus deepCopy() {
+        ReplicaSetStatus copy = new ReplicaSetStatus();
+        copy.availableReplicas = this.availableReplicas;
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.fullyLabeledReplicas = this.fullyLabeledReplicas;
+        copy.observedGeneration = DeepCopy.copy(this.observedGeneration);
+        copy.readyReplicas = this.readyReplicas;
+        copy.replicas = this.replicas;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ReplicaSetStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
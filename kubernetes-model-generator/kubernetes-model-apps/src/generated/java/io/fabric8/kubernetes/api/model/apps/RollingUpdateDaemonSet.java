@@ -19,6 +19,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -53,7 +55,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class RollingUpdateDaemonSet implements KubernetesResource
+public class RollingUpdateDaemonSet implements KubernetesResource, DeepCopyable<RollingUpdateDaemonSet>
 {
 
     @JsonProperty("maxSurge")
@@ -111,4 +113,13 @@ public class RollingUpdateDaemonSet implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public RollingUpdateDaemonSet deepCopy() {
+        RollingUpdateDaemonSet copy = new RollingUpdateDaemonSet();
+        copy.maxSurge = DeepCopy.copy(this.maxSurge);
+        copy.maxUnavailable = DeepCopy.copy(this.maxUnavailable);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(RollingUpdateDaemonSet.class, this.additionalProperties);
+        return copy;
+    }
+
 }
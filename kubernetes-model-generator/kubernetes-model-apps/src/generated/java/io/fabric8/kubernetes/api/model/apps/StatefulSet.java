@@ -20,8 +20,10 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import io.sundr.transform.annotations.TemplateTransformation;
@@ -63,7 +65,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("apps")
-public class StatefulSet implements HasMetadata, Namespaced
+public class StatefulSet implements HasMetadata, Namespaced, DeepCopyable<StatefulSet>
 {
 
     /**
@@ -193,4 +195,16 @@ public class StatefulSet implements HasMetadata, Namespaced
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public StatefulSet deepCopy() {
+        StatefulSet copy = new StatefulSet();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.spec = DeepCopy.copy(this.spec);
+        copy.status = DeepCopy.copy(this.status);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StatefulSet.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -20,6 +20,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -57,7 +59,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class StatefulSetCondition implements KubernetesResource
+public class StatefulSetCondition implements KubernetesResource, DeepCopyable<StatefulSetCondition>
 {
 
     @JsonProperty("lastTransitionTime")
@@ -157,4 +159,16 @@ public class StatefulSetCondition implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public StatefulSetCondition deepCopy() {
+        StatefulSetCondition copy = new StatefulSetCondition();
+        copy.lastTransitionTime = DeepCopy.copy(this.lastTransitionTime);
+        copy.message = this.message;
+        copy.reason = this.reason;
+        copy.status = this.status;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StatefulSetCondition.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -20,6 +20,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -53,7 +55,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class StatefulSetOrdinals implements KubernetesResource
+public class StatefulSetOrdinals implements KubernetesResource, DeepCopyable<StatefulSetOrdinals>
 {
 
     @JsonProperty("start")
@@ -97,4 +99,12 @@ public class StatefulSetOrdinals implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public StatefulSetOrdinals deepCopy() {
+        StatefulSetOrdinals copy = new StatefulSetOrdinals();
+        copy.start = this.start;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StatefulSetOrdinals.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -20,6 +20,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -54,7 +56,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class StatefulSetPersistentVolumeClaimRetentionPolicy implements KubernetesResource
+public class StatefulSetPersistentVolumeClaimRetentionPolicy implements KubernetesResource, DeepCopyable<StatefulSetPersistentVolumeClaimRetentionPolicy>
 {
 
     @JsonProperty("whenDeleted")
@@ -112,4 +114,13 @@ public class StatefulSetPersistentVolumeClaimRetentionPolicy implements Kubernet
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public StatefulSetPersistentVolumeClaimRetentionPolicy deepCopy() {
+        StatefulSetPersistentVolumeClaimRetentionPolicy copy = new StatefulSetPersistentVolumeClaimRetentionPolicy();
+        copy.whenDeleted = this.whenDeleted;
+        copy.whenScaled = this.whenScaled;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StatefulSetPersistentVolumeClaimRetentionPolicy.class, this.additionalProperties);
+        return copy;
+    }
+
 }
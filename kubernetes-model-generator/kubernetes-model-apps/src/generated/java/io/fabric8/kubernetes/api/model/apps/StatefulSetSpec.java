@@ -19,6 +19,8 @@ import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -62,7 +64,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(io.fabric8.kubernetes.api.model.PersistentVolumeClaim.class)
 })
-public class StatefulSetSpec implements KubernetesResource
+public class StatefulSetSpec implements KubernetesResource, DeepCopyable<StatefulSetSpec>
 {
 
     @JsonProperty("minReadySeconds")
@@ -247,4 +249,22 @@ public class StatefulSetSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public StatefulSetSpec deepCopy() {
+        StatefulSetSpec copy = new StatefulSetSpec();
+        copy.minReadySeconds = this.minReadySeconds;
+        copy.ordinals = DeepCopy.copy(this.ordinals);
+        copy.persistentVolumeClaimRetentionPolicy = DeepCopy.copy(this.persistentVolumeClaimRetentionPolicy);
+        copy.podManagementPolicy = this.podManagementPolicy;
+        copy.replicas = this.replicas;
+        copy.revisionHistoryLimit = this.revisionHistoryLimit;
+        copy.selector = DeepCopy.copy(this.selector);
+        copy.serviceName = this.serviceName;
+        copy.template = DeepCopy.copy(this.template);
+        copy.updateStrategy = DeepCopy.copy(this.updateStrategy);
+        copy.volumeClaimTemplates = DeepCopy.copy(this.volumeClaimTemplates);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StatefulSetSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
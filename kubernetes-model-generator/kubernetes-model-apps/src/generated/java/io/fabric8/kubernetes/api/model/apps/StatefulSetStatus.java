@@ -22,6 +22,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -64,7 +66,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class StatefulSetStatus implements KubernetesResource
+public class StatefulSetStatus implements KubernetesResource, DeepCopyable<StatefulSetStatus>
 {
 
     @JsonProperty("availableReplicas")
@@ -235,4 +237,21 @@ public class StatefulSetStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public StatefulSetStatus deepCopy() {
+        StatefulSetStatus copy = new StatefulSetStatus();
+        copy.availableReplicas = this.availableReplicas;
+        copy.collisionCount = this.collisionCount;
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.currentReplicas = this.currentReplicas;
+        copy.currentRevision = this.currentRevision;
+        copy.observedGeneration = DeepCopy.copy(this.observedGeneration);
+        copy.readyReplicas = this.readyReplicas;
+        copy.replicas = this.replicas;
+        copy.updateRevision = this.updateRevision;
+        copy.updatedReplicas = this.updatedReplicas;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StatefulSetStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
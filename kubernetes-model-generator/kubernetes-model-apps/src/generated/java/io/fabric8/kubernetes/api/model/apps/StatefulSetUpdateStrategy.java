@@ -20,6 +20,8 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.EqualsAndHashCode;
@@ -54,7 +56,7 @@ import lombok.experimental.Accessors;
     @BuildableReference(LocalObjectReference.class),
     @BuildableReference(PersistentVolumeClaim.class)
 })
-public class StatefulSetUpdateStrategy implements KubernetesResource
+public class StatefulSetUpdateStrategy implements KubernetesResource, DeepCopyable<StatefulSetUpdateStrategy>
 {
 
     @JsonProperty("rollingUpdate")
@@ -112,4 +114,13 @@ public class StatefulSetUpdateStrategy implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public StatefulSetUpdateStrategy deepCopy() {
+        StatefulSetUpdateStrategy copy = new StatefulSetUpdateStrategy();
+        copy.rollingUpdate = DeepCopy.copy(this.rollingUpdate);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StatefulSetUpdateStrategy.class, this.additionalProperties);
+        return copy;
+    }
+
 }
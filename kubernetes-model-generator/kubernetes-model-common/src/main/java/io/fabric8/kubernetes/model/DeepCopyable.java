@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model;
+
+/**
+ * Implemented by model types that can copy themselves without a serialization round trip.
+ * <p>
+ * The generated model types implement it with type-specific code, see {@link io.fabric8.kubernetes.model.util.DeepCopy}
+ * for how the field values are copied.
+ *
+ * @param <T> the type of the copy
+ */
+public interface DeepCopyable<T> {
+
+  /**
+   * Create a copy of this object that shares no mutable state with it.
+   *
+   * @return the copy, which must be of the same class as this object
+   * @throws io.fabric8.kubernetes.model.util.DeepCopy.NotCopyableException if a nested value cannot be copied
+   */
+  T deepCopy();
+
+}
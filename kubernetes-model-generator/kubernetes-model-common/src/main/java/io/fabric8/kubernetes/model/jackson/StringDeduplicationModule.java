@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+
+/**
+ * Module that can canonicalize deserialized String values, so that objects held for a long time - such as those
+ * in an informer cache - share the instances of their repeated values, like namespaces, labels, images or node names.
+ * <p>
+ * Deduplication is disabled until {@link #setMaxEntries(int)} is called. It uses a bounded, lossy table: a value
+ * replaces any other value with the same slot, so that values which are not repeated are simply evicted. Values
+ * found in the table are returned without creating a new String.
+ *
+ * <pre>{@code
+ * StringDeduplicationModule module = new StringDeduplicationModule();
+ * module.setMaxEntries(8192);
+ * ObjectMapper mapper = new ObjectMapper();
+ * mapper.registerModule(module);
+ * }</pre>
+ *
+ * Field names, and therefore map keys, are already canonicalized by Jackson.
+ * <p>
+ * The module replaces Jackson's standard String deserializer, which some of Jackson's optimizations depend on, even
+ * while the deduplication is disabled - register it on a dedicated mapper, used to read the objects worth deduplicating.
+ */
+public class StringDeduplicationModule extends SimpleModule {
+
+  /**
+   * Longer values, such as large annotations, are unlikely to be repeated and are not deduplicated
+   */
+  static final int MAX_VALUE_LENGTH = 256;
+
+  private volatile String[] table;
+
+  public StringDeduplicationModule() {
+    addDeserializer(String.class, new DeduplicatingStringDeserializer());
+  }
+
+  /**
+   * Set the size of the table, which is rounded up to a power of two.
+   *
+   * @param maxEntries the maximum number of values retained by the table, or 0 to disable deduplication
+   */
+  public void setMaxEntries(int maxEntries) {
+    if (maxEntries < 0) {
+      throw new IllegalArgumentException("maxEntries must not be negative");
+    }
+    int size = 1;
+    while (size < maxEntries) {
+      size <<= 1;
+    }
+    table = maxEntries == 0 ? null : new String[size];
+  }
+
+  /**
+   * @return the size of the table, or 0 if deduplication is disabled
+   */
+  public int getMaxEntries() {
+    String[] current = table;
+    return current == null ? 0 : current.length;
+  }
+
+  private static String deduplicate(String[] table, char[] chars, int offset, int length) {
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + chars[i];
+    }
+    int index = slot(hash, table.length);
+    String existing = table[index];
+    if (existing != null && existing.length() == length) {
+      int i = 0;
+      while (i < length && existing.charAt(i) == chars[offset + i]) {
+        i++;
+      }
+      if (i == length) {
+        return existing;
+      }
+    }
+    // Strings are immutable, so the racy update can at worst lose an entry
+    String result = new String(chars, offset, length);
+    table[index] = result;
+    return result;
+  }
+
+  private static String deduplicate(String[] table, String value) {
+    int index = slot(value.hashCode(), table.length);
+    String existing = table[index];
+    if (value.equals(existing)) {
+      return existing;
+    }
+    table[index] = value;
+    return value;
+  }
+
+  private static int slot(int hash, int size) {
+    return (hash ^ (hash >>> 16)) & (size - 1);
+  }
+
+  private class DeduplicatingStringDeserializer extends StringDeserializer {
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      String[] current = table;
+      if (current != null && p.hasToken(JsonToken.VALUE_STRING) && p.getTextLength() <= MAX_VALUE_LENGTH) {
+        if (p.hasTextCharacters()) {
+          return deduplicate(current, p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+        return deduplicate(current, p.getText());
+      }
+      return super.deserialize(p, ctxt);
+    }
+
+  }
+
+}
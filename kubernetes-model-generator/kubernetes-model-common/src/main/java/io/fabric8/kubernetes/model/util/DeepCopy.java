@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.util;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.model.DeepCopyable;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copies the values held by model fields.
+ * <p>
+ * Immutable values are shared, {@link DeepCopyable} values copy themselves, and collections and maps
+ * are copied element by element. Any other value cannot be copied, so that the caller can fall back to
+ * a serialization round trip.
+ */
+public class DeepCopy {
+
+  /**
+   * Thrown when a value of an unknown mutable type is found
+   */
+  public static class NotCopyableException extends RuntimeException {
+
+    public NotCopyableException(Class<?> type) {
+      super("Cannot deep copy a value of type " + type.getName());
+    }
+
+    public NotCopyableException(String message) {
+      super(message);
+    }
+
+  }
+
+  private static final ClassValue<Set<String>> PROPERTIES = new ClassValue<Set<String>>() {
+    @Override
+    protected Set<String> computeValue(Class<?> type) {
+      Set<String> result = new HashSet<>();
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          JsonProperty property = field.getAnnotation(JsonProperty.class);
+          if (property != null) {
+            result.add(property.value().isEmpty() ? field.getName() : property.value());
+          }
+        }
+      }
+      return result;
+    }
+  };
+
+  private DeepCopy() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Create a deep copy of the value.
+   *
+   * @param value the value, may be null
+   * @return the copy, or the value itself if it is immutable
+   * @throws NotCopyableException if the value or one of its nested values cannot be copied
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T copy(T value) {
+    if (value == null || isImmutable(value)) {
+      return value;
+    }
+    if (value instanceof DeepCopyable) {
+      Object result = ((DeepCopyable<?>) value).deepCopy();
+      if (result == null || result.getClass() != value.getClass()) {
+        // a subclass that does not override deepCopy
+        throw new NotCopyableException(value.getClass());
+      }
+      return (T) result;
+    }
+    if (value instanceof List) {
+      List<Object> result = new ArrayList<>(((List<?>) value).size());
+      for (Object item : (List<?>) value) {
+        result.add(copy(item));
+      }
+      return (T) result;
+    }
+    if (value instanceof Set) {
+      Set<Object> result = new LinkedHashSet<>();
+      for (Object item : (Set<?>) value) {
+        result.add(copy(item));
+      }
+      return (T) result;
+    }
+    if (value instanceof Map) {
+      Map<Object, Object> result = new LinkedHashMap<>();
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        result.put(entry.getKey(), copy(entry.getValue()));
+      }
+      return (T) result;
+    }
+    if (value instanceof JsonNode) {
+      return (T) ((JsonNode) value).deepCopy();
+    }
+    throw new NotCopyableException(value.getClass());
+  }
+
+  /**
+   * Create a deep copy of the additional properties of a model object.
+   * <p>
+   * On a serialization round trip an additional property named as a property of the type takes the place of,
+   * or fails to be coerced into, that property - so that model objects holding one are left to serialization.
+   *
+   * @param type the type of the model object
+   * @param additionalProperties the additional properties, may be null
+   * @return the copy
+   * @throws NotCopyableException if an additional property is named as a property of the type, or its value cannot
+   *         be copied
+   */
+  public static Map<String, Object> copyAdditionalProperties(Class<?> type, Map<String, Object> additionalProperties) {
+    if (additionalProperties == null || additionalProperties.isEmpty()) {
+      return additionalProperties == null ? null : new LinkedHashMap<>();
+    }
+    Set<String> properties = PROPERTIES.get(type);
+    for (String name : additionalProperties.keySet()) {
+      if (properties.contains(name)) {
+        throw new NotCopyableException(
+            "Cannot deep copy the additional property " + name + " of type " + type.getName());
+      }
+    }
+    return copy(additionalProperties);
+  }
+
+  private static boolean isImmutable(Object value) {
+    return value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long
+        || value instanceof Double || value instanceof Float || value instanceof Short || value instanceof Byte
+        || value instanceof Character || value instanceof BigDecimal || value instanceof BigInteger
+        || value instanceof Enum;
+  }
+
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StringDeduplicationModuleTest {
+
+  private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAPS = new TypeReference<List<Map<String, Object>>>() {
+  };
+
+  private ObjectMapper objectMapper;
+  private StringDeduplicationModule stringDeduplicationModule;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    stringDeduplicationModule = new StringDeduplicationModule();
+    objectMapper.registerModule(stringDeduplicationModule);
+  }
+
+  @Test
+  @DisplayName("readValue, with deduplication disabled, repeated values are separate instances")
+  void readValueDisabled() throws JsonProcessingException {
+    // When
+    final List<Map<String, Object>> result = objectMapper.readValue(
+        "[{\"namespace\":\"default\"},{\"namespace\":\"default\"}]", LIST_OF_MAPS);
+    // Then
+    assertThat(result.get(0).get("namespace"))
+        .isEqualTo(result.get(1).get("namespace"))
+        .isNotSameAs(result.get(1).get("namespace"));
+  }
+
+  @Test
+  @DisplayName("readValue, with deduplication enabled, repeated values share an instance")
+  void readValueEnabled() throws JsonProcessingException {
+    // Given
+    stringDeduplicationModule.setMaxEntries(100);
+    // When
+    final List<Map<String, Object>> result = objectMapper.readValue(
+        "[{\"namespace\":\"default\",\"nested\":{\"image\":\"nginx\"},\"number\":1},"
+            + "{\"namespace\":\"default\",\"nested\":{\"image\":\"nginx\"},\"number\":1}]",
+        LIST_OF_MAPS);
+    final Example first = objectMapper.readValue("{\"value\":\"default\"}", Example.class);
+    // Then
+    assertThat(stringDeduplicationModule.getMaxEntries()).isEqualTo(128);
+    assertThat(result.get(0).get("namespace")).isEqualTo("default").isSameAs(result.get(1).get("namespace"));
+    assertThat(((Map<?, ?>) result.get(0).get("nested")).get("image"))
+        .isSameAs(((Map<?, ?>) result.get(1).get("nested")).get("image"));
+    assertThat(result.get(1).get("number")).isEqualTo(1);
+    assertThat(first.value).isSameAs(result.get(0).get("namespace"));
+  }
+
+  @Test
+  @DisplayName("readValue, with long values, values are not deduplicated")
+  void readValueLongValues() throws JsonProcessingException {
+    // Given
+    stringDeduplicationModule.setMaxEntries(100);
+    final StringBuilder longValue = new StringBuilder();
+    for (int i = 0; i <= StringDeduplicationModule.MAX_VALUE_LENGTH; i++) {
+      longValue.append('a');
+    }
+    // When
+    final List<Map<String, Object>> result = objectMapper.readValue(
+        "[{\"value\":\"" + longValue + "\"},{\"value\":\"" + longValue + "\"}]", LIST_OF_MAPS);
+    // Then
+    assertThat(result.get(0).get("value")).isEqualTo(longValue.toString()).isNotSameAs(result.get(1).get("value"));
+  }
+
+  @Test
+  @DisplayName("setMaxEntries, with 0, disables deduplication")
+  void setMaxEntriesZero() throws JsonProcessingException {
+    // Given
+    stringDeduplicationModule.setMaxEntries(100);
+    // When
+    stringDeduplicationModule.setMaxEntries(0);
+    final List<Map<String, Object>> result = objectMapper.readValue("[{\"a\":\"b\"},{\"a\":\"b\"}]", LIST_OF_MAPS);
+    // Then
+    assertThat(stringDeduplicationModule.getMaxEntries()).isZero();
+    assertThat(result.get(0).get("a")).isNotSameAs(result.get(1).get("a"));
+    assertThrows(IllegalArgumentException.class, () -> stringDeduplicationModule.setMaxEntries(-1));
+  }
+
+  private static final class Example {
+    public String value;
+  }
+
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.util;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.Scope;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeepCopyTest {
+
+  static class Item implements DeepCopyable<Item> {
+    Item child;
+    @JsonProperty("values")
+    List<Object> values = new ArrayList<>();
+
+    @Override
+    public Item deepCopy() {
+      Item copy = new Item();
+      copy.child = DeepCopy.copy(child);
+      copy.values = DeepCopy.copy(values);
+      return copy;
+    }
+  }
+
+  static class SubItem extends Item {
+  }
+
+  @Test
+  void immutableValuesAreShared() {
+    String value = "value";
+    assertThat(DeepCopy.copy(value)).isSameAs(value);
+    assertThat(DeepCopy.copy(Scope.CLUSTER)).isSameAs(Scope.CLUSTER);
+    assertThat(DeepCopy.<Object> copy(null)).isNull();
+  }
+
+  @Test
+  void nestedValuesAreCopied() {
+    Map<String, Object> nested = new HashMap<>();
+    nested.put("list", new ArrayList<>(Arrays.asList(1, "two", null)));
+    ObjectNode node = JsonNodeFactory.instance.objectNode().put("a", 1);
+    Item item = new Item();
+    item.child = new Item();
+    item.child.values.add(nested);
+    item.values.add(node);
+
+    Item copy = DeepCopy.copy(item);
+
+    assertThat(copy.child).isNotSameAs(item.child);
+    assertThat(copy.child.values).isEqualTo(item.child.values).isNotSameAs(item.child.values);
+    Map<?, ?> copiedNested = (Map<?, ?>) copy.child.values.get(0);
+    assertThat(copiedNested).isEqualTo(nested).isNotSameAs(nested);
+    assertThat(copiedNested.get("list")).isEqualTo(nested.get("list")).isNotSameAs(nested.get("list"));
+    assertThat(copy.values.get(0)).isEqualTo(node).isNotSameAs(node);
+  }
+
+  @Test
+  void unknownValuesCannotBeCopied() {
+    List<Object> values = Collections.singletonList(new StringBuilder());
+    assertThrows(DeepCopy.NotCopyableException.class, () -> DeepCopy.copy(values));
+  }
+
+  @Test
+  void additionalPropertiesAreCopied() {
+    Map<String, Object> additionalProperties = new HashMap<>();
+    additionalProperties.put("extra", new ArrayList<>(Arrays.asList("a", "b")));
+
+    Map<String, Object> copy = DeepCopy.copyAdditionalProperties(Item.class, additionalProperties);
+
+    assertThat(copy).isEqualTo(additionalProperties).isNotSameAs(additionalProperties);
+    assertThat(copy.get("extra")).isNotSameAs(additionalProperties.get("extra"));
+    assertThat(DeepCopy.copyAdditionalProperties(Item.class, null)).isNull();
+  }
+
+  @Test
+  void additionalPropertiesNamedAsPropertiesCannotBeCopied() {
+    Map<String, Object> additionalProperties = Collections.singletonMap("values", "${values}");
+    assertThrows(DeepCopy.NotCopyableException.class,
+        () -> DeepCopy.copyAdditionalProperties(Item.class, additionalProperties));
+  }
+
+  @Test
+  void subclassWithoutDeepCopyCannotBeCopied() {
+    SubItem item = new SubItem();
+    assertThrows(DeepCopy.NotCopyableException.class, () -> DeepCopy.copy(item));
+  }
+
+}
@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -46,7 +48,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class APIGroup implements KubernetesResource
+public class APIGroup implements KubernetesResource, DeepCopyable<APIGroup>
 {
 
     /**
@@ -191,4 +193,17 @@ public class APIGroup implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public APIGroup deepCopy() {
+        APIGroup copy = new APIGroup();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.preferredVersion = DeepCopy.copy(this.preferredVersion);
+        copy.serverAddressByClientCIDRs = DeepCopy.copy(this.serverAddressByClientCIDRs);
+        copy.versions = DeepCopy.copy(this.versions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIGroup.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -43,7 +45,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class APIGroupList implements KubernetesResource
+public class APIGroupList implements KubernetesResource, DeepCopyable<APIGroupList>
 {
 
     /**
@@ -145,4 +147,14 @@ public class APIGroupList implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public APIGroupList deepCopy() {
+        APIGroupList copy = new APIGroupList();
+        copy.apiVersion = this.apiVersion;
+        copy.groups = DeepCopy.copy(this.groups);
+        copy.kind = this.kind;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIGroupList.class, this.additionalProperties);
+        return copy;
+    }
+
 }
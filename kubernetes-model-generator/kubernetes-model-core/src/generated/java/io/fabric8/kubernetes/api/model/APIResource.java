@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class APIResource implements KubernetesResource
+public class APIResource implements KubernetesResource, DeepCopyable<APIResource>
 {
 
     @JsonProperty("categories")
@@ -214,4 +216,21 @@ public class APIResource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public APIResource deepCopy() {
+        APIResource copy = new APIResource();
+        copy.categories = DeepCopy.copy(this.categories);
+        copy.group = this.group;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.namespaced = this.namespaced;
+        copy.shortNames = DeepCopy.copy(this.shortNames);
+        copy.singularName = this.singularName;
+        copy.storageVersionHash = this.storageVersionHash;
+        copy.verbs = DeepCopy.copy(this.verbs);
+        copy.version = this.version;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIResource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -40,7 +42,7 @@ import lombok.experimental.Accessors;
 @TemplateTransformations({
     @TemplateTransformation(value = "/manifest.vm", outputPath = "META-INF/services/io.fabric8.kubernetes.api.model.KubernetesResource", gather = true)
 })
-public class APIResourceList implements KubernetesResource
+public class APIResourceList implements KubernetesResource, DeepCopyable<APIResourceList>
 {
 
     /**
@@ -156,4 +158,15 @@ public class APIResourceList implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public APIResourceList deepCopy() {
+        APIResourceList copy = new APIResourceList();
+        copy.apiVersion = this.apiVersion;
+        copy.groupVersion = this.groupVersion;
+        copy.kind = this.kind;
+        copy.resources = DeepCopy.copy(this.resources);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIResourceList.class, this.additionalProperties);
+        return copy;
+    }
+
 }
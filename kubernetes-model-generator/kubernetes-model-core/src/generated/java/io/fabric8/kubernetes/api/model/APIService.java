@@ -10,8 +10,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("apiregistration.k8s.io")
-public class APIService implements HasMetadata
+public class APIService implements HasMetadata, DeepCopyable<APIService>
 {
 
     /**
@@ -172,4 +174,16 @@ public class APIService implements HasMetadata
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public APIService deepCopy() {
+        APIService copy = new APIService();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.spec = DeepCopy.copy(this.spec);
+        copy.status = DeepCopy.copy(this.status);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIService.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class APIServiceCondition implements KubernetesResource
+public class APIServiceCondition implements KubernetesResource, DeepCopyable<APIServiceCondition>
 {
 
     @JsonProperty("lastTransitionTime")
@@ -136,4 +138,16 @@ public class APIServiceCondition implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public APIServiceCondition deepCopy() {
+        APIServiceCondition copy = new APIServiceCondition();
+        copy.lastTransitionTime = DeepCopy.copy(this.lastTransitionTime);
+        copy.message = this.message;
+        copy.reason = this.reason;
+        copy.status = this.status;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIServiceCondition.class, this.additionalProperties);
+        return copy;
+    }
+
 }
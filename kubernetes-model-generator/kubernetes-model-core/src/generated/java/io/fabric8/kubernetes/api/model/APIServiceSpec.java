@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class APIServiceSpec implements KubernetesResource
+public class APIServiceSpec implements KubernetesResource, DeepCopyable<APIServiceSpec>
 {
 
     @JsonProperty("caBundle")
@@ -166,4 +168,18 @@ public class APIServiceSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public APIServiceSpec deepCopy() {
+        APIServiceSpec copy = new APIServiceSpec();
+        copy.caBundle = this.caBundle;
+        copy.group = this.group;
+        copy.groupPriorityMinimum = this.groupPriorityMinimum;
+        copy.insecureSkipTLSVerify = this.insecureSkipTLSVerify;
+        copy.service = DeepCopy.copy(this.service);
+        copy.version = this.version;
+        copy.versionPriority = this.versionPriority;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIServiceSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
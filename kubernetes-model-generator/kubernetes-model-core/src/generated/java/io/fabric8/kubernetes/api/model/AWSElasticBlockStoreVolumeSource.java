@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class AWSElasticBlockStoreVolumeSource implements KubernetesResource
+public class AWSElasticBlockStoreVolumeSource implements KubernetesResource, DeepCopyable<AWSElasticBlockStoreVolumeSource>
 {
 
     @JsonProperty("fsType")
@@ -121,4 +123,15 @@ public class AWSElasticBlockStoreVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public AWSElasticBlockStoreVolumeSource deepCopy() {
+        AWSElasticBlockStoreVolumeSource copy = new AWSElasticBlockStoreVolumeSource();
+        copy.fsType = this.fsType;
+        copy.partition = this.partition;
+        copy.readOnly = this.readOnly;
+        copy.volumeID = this.volumeID;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(AWSElasticBlockStoreVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Affinity implements KubernetesResource
+public class Affinity implements KubernetesResource, DeepCopyable<Affinity>
 {
 
     @JsonProperty("nodeAffinity")
@@ -106,4 +108,14 @@ public class Affinity implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Affinity deepCopy() {
+        Affinity copy = new Affinity();
+        copy.nodeAffinity = DeepCopy.copy(this.nodeAffinity);
+        copy.podAffinity = DeepCopy.copy(this.podAffinity);
+        copy.podAntiAffinity = DeepCopy.copy(this.podAntiAffinity);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Affinity.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -49,7 +51,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class AuthInfo implements KubernetesResource
+public class AuthInfo implements KubernetesResource, DeepCopyable<AuthInfo>
 {
 
     @JsonProperty("as")
@@ -292,4 +294,26 @@ public class AuthInfo implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public AuthInfo deepCopy() {
+        AuthInfo copy = new AuthInfo();
+        copy.as = this.as;
+        copy.asGroups = DeepCopy.copy(this.asGroups);
+        copy.asUid = this.asUid;
+        copy.asUserExtra = DeepCopy.copy(this.asUserExtra);
+        copy.authProvider = DeepCopy.copy(this.authProvider);
+        copy.clientCertificate = this.clientCertificate;
+        copy.clientCertificateData = this.clientCertificateData;
+        copy.clientKey = this.clientKey;
+        copy.clientKeyData = this.clientKeyData;
+        copy.exec = DeepCopy.copy(this.exec);
+        copy.extensions = DeepCopy.copy(this.extensions);
+        copy.password = this.password;
+        copy.token = this.token;
+        copy.tokenFile = this.tokenFile;
+        copy.username = this.username;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(AuthInfo.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class AuthProviderConfig implements KubernetesResource
+public class AuthProviderConfig implements KubernetesResource, DeepCopyable<AuthProviderConfig>
 {
 
     @JsonProperty("config")
@@ -93,4 +95,13 @@ public class AuthProviderConfig implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public AuthProviderConfig deepCopy() {
+        AuthProviderConfig copy = new AuthProviderConfig();
+        copy.config = DeepCopy.copy(this.config);
+        copy.name = this.name;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(AuthProviderConfig.class, this.additionalProperties);
+        return copy;
+    }
+
 }
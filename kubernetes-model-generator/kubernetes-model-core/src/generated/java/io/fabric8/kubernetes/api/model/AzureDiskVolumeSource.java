@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class AzureDiskVolumeSource implements KubernetesResource
+public class AzureDiskVolumeSource implements KubernetesResource, DeepCopyable<AzureDiskVolumeSource>
 {
 
     @JsonProperty("cachingMode")
@@ -150,4 +152,17 @@ public class AzureDiskVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public AzureDiskVolumeSource deepCopy() {
+        AzureDiskVolumeSource copy = new AzureDiskVolumeSource();
+        copy.cachingMode = this.cachingMode;
+        copy.diskName = this.diskName;
+        copy.diskURI = this.diskURI;
+        copy.fsType = this.fsType;
+        copy.kind = this.kind;
+        copy.readOnly = this.readOnly;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(AzureDiskVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class AzureFilePersistentVolumeSource implements KubernetesResource
+public class AzureFilePersistentVolumeSource implements KubernetesResource, DeepCopyable<AzureFilePersistentVolumeSource>
 {
 
     @JsonProperty("readOnly")
@@ -121,4 +123,15 @@ public class AzureFilePersistentVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public AzureFilePersistentVolumeSource deepCopy() {
+        AzureFilePersistentVolumeSource copy = new AzureFilePersistentVolumeSource();
+        copy.readOnly = this.readOnly;
+        copy.secretName = this.secretName;
+        copy.secretNamespace = this.secretNamespace;
+        copy.shareName = this.shareName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(AzureFilePersistentVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class CSIPersistentVolumeSource implements KubernetesResource
+public class CSIPersistentVolumeSource implements KubernetesResource, DeepCopyable<CSIPersistentVolumeSource>
 {
 
     @JsonProperty("controllerExpandSecretRef")
@@ -213,4 +215,21 @@ public class CSIPersistentVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public CSIPersistentVolumeSource deepCopy() {
+        CSIPersistentVolumeSource copy = new CSIPersistentVolumeSource();
+        copy.controllerExpandSecretRef = DeepCopy.copy(this.controllerExpandSecretRef);
+        copy.controllerPublishSecretRef = DeepCopy.copy(this.controllerPublishSecretRef);
+        copy.driver = this.driver;
+        copy.fsType = this.fsType;
+        copy.nodeExpandSecretRef = DeepCopy.copy(this.nodeExpandSecretRef);
+        copy.nodePublishSecretRef = DeepCopy.copy(this.nodePublishSecretRef);
+        copy.nodeStageSecretRef = DeepCopy.copy(this.nodeStageSecretRef);
+        copy.readOnly = this.readOnly;
+        copy.volumeAttributes = DeepCopy.copy(this.volumeAttributes);
+        copy.volumeHandle = this.volumeHandle;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(CSIPersistentVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class CSIVolumeSource implements KubernetesResource
+public class CSIVolumeSource implements KubernetesResource, DeepCopyable<CSIVolumeSource>
 {
 
     @JsonProperty("driver")
@@ -138,4 +140,16 @@ public class CSIVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public CSIVolumeSource deepCopy() {
+        CSIVolumeSource copy = new CSIVolumeSource();
+        copy.driver = this.driver;
+        copy.fsType = this.fsType;
+        copy.nodePublishSecretRef = DeepCopy.copy(this.nodePublishSecretRef);
+        copy.readOnly = this.readOnly;
+        copy.volumeAttributes = DeepCopy.copy(this.volumeAttributes);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(CSIVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
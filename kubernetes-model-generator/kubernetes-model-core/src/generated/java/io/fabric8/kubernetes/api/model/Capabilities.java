@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Capabilities implements KubernetesResource
+public class Capabilities implements KubernetesResource, DeepCopyable<Capabilities>
 {
 
     @JsonProperty("add")
@@ -95,4 +97,13 @@ public class Capabilities implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Capabilities deepCopy() {
+        Capabilities copy = new Capabilities();
+        copy.add = DeepCopy.copy(this.add);
+        copy.drop = DeepCopy.copy(this.drop);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Capabilities.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class CephFSVolumeSource implements KubernetesResource
+public class CephFSVolumeSource implements KubernetesResource, DeepCopyable<CephFSVolumeSource>
 {
 
     @JsonProperty("monitors")
@@ -153,4 +155,17 @@ public class CephFSVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public CephFSVolumeSource deepCopy() {
+        CephFSVolumeSource copy = new CephFSVolumeSource();
+        copy.monitors = DeepCopy.copy(this.monitors);
+        copy.path = this.path;
+        copy.readOnly = this.readOnly;
+        copy.secretFile = this.secretFile;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.user = this.user;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(CephFSVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
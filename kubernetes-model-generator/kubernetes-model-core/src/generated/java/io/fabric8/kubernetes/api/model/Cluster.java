@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Cluster implements KubernetesResource
+public class Cluster implements KubernetesResource, DeepCopyable<Cluster>
 {
 
     @JsonProperty("certificate-authority")
@@ -184,4 +186,19 @@ public class Cluster implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Cluster deepCopy() {
+        Cluster copy = new Cluster();
+        copy.certificateAuthority = this.certificateAuthority;
+        copy.certificateAuthorityData = this.certificateAuthorityData;
+        copy.disableCompression = this.disableCompression;
+        copy.extensions = DeepCopy.copy(this.extensions);
+        copy.insecureSkipTlsVerify = this.insecureSkipTlsVerify;
+        copy.proxyUrl = this.proxyUrl;
+        copy.server = this.server;
+        copy.tlsServerName = this.tlsServerName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Cluster.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ComponentCondition implements KubernetesResource
+public class ComponentCondition implements KubernetesResource, DeepCopyable<ComponentCondition>
 {
 
     @JsonProperty("error")
@@ -121,4 +123,15 @@ public class ComponentCondition implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ComponentCondition deepCopy() {
+        ComponentCondition copy = new ComponentCondition();
+        copy.error = this.error;
+        copy.message = this.message;
+        copy.status = this.status;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ComponentCondition.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Condition implements KubernetesResource
+public class Condition implements KubernetesResource, DeepCopyable<Condition>
 {
 
     @JsonProperty("lastTransitionTime")
@@ -151,4 +153,17 @@ public class Condition implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Condition deepCopy() {
+        Condition copy = new Condition();
+        copy.lastTransitionTime = DeepCopy.copy(this.lastTransitionTime);
+        copy.message = this.message;
+        copy.observedGeneration = DeepCopy.copy(this.observedGeneration);
+        copy.reason = this.reason;
+        copy.status = this.status;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Condition.class, this.additionalProperties);
+        return copy;
+    }
+
 }
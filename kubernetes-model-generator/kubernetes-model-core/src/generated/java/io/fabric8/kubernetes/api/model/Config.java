@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Config implements KubernetesResource
+public class Config implements KubernetesResource, DeepCopyable<Config>
 {
 
     @JsonProperty("apiVersion")
@@ -182,4 +184,19 @@ public class Config implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Config deepCopy() {
+        Config copy = new Config();
+        copy.apiVersion = this.apiVersion;
+        copy.clusters = DeepCopy.copy(this.clusters);
+        copy.contexts = DeepCopy.copy(this.contexts);
+        copy.currentContext = this.currentContext;
+        copy.extensions = DeepCopy.copy(this.extensions);
+        copy.kind = this.kind;
+        copy.preferences = DeepCopy.copy(this.preferences);
+        copy.users = DeepCopy.copy(this.users);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Config.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -11,8 +11,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -44,7 +46,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class ConfigMap implements HasMetadata, Namespaced
+public class ConfigMap implements HasMetadata, Namespaced, DeepCopyable<ConfigMap>
 {
 
     /**
@@ -190,4 +192,17 @@ public class ConfigMap implements HasMetadata, Namespaced
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ConfigMap deepCopy() {
+        ConfigMap copy = new ConfigMap();
+        copy.apiVersion = this.apiVersion;
+        copy.binaryData = DeepCopy.copy(this.binaryData);
+        copy.data = DeepCopy.copy(this.data);
+        copy.immutable = this.immutable;
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ConfigMap.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ConfigMapNodeConfigSource implements KubernetesResource
+public class ConfigMapNodeConfigSource implements KubernetesResource, DeepCopyable<ConfigMapNodeConfigSource>
 {
 
     @JsonProperty("kubeletConfigKey")
@@ -136,4 +138,16 @@ public class ConfigMapNodeConfigSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ConfigMapNodeConfigSource deepCopy() {
+        ConfigMapNodeConfigSource copy = new ConfigMapNodeConfigSource();
+        copy.kubeletConfigKey = this.kubeletConfigKey;
+        copy.name = this.name;
+        copy.namespace = this.namespace;
+        copy.resourceVersion = this.resourceVersion;
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ConfigMapNodeConfigSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
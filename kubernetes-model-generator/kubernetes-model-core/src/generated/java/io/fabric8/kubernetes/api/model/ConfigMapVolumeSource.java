@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ConfigMapVolumeSource implements KubernetesResource
+public class ConfigMapVolumeSource implements KubernetesResource, DeepCopyable<ConfigMapVolumeSource>
 {
 
     @JsonProperty("defaultMode")
@@ -124,4 +126,15 @@ public class ConfigMapVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ConfigMapVolumeSource deepCopy() {
+        ConfigMapVolumeSource copy = new ConfigMapVolumeSource();
+        copy.defaultMode = this.defaultMode;
+        copy.items = DeepCopy.copy(this.items);
+        copy.name = this.name;
+        copy.optional = this.optional;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ConfigMapVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
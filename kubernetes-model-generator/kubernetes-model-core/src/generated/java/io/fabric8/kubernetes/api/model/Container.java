@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -55,7 +57,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Container implements KubernetesResource
+public class Container implements KubernetesResource, DeepCopyable<Container>
 {
 
     @JsonProperty("args")
@@ -400,4 +402,33 @@ public class Container implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Container deepCopy() {
+        Container copy = new Container();
+        copy.args = DeepCopy.copy(this.args);
+        copy.command = DeepCopy.copy(this.command);
+        copy.env = DeepCopy.copy(this.env);
+        copy.envFrom = DeepCopy.copy(this.envFrom);
+        copy.image = this.image;
+        copy.imagePullPolicy = this.imagePullPolicy;
+        copy.lifecycle = DeepCopy.copy(this.lifecycle);
+        copy.livenessProbe = DeepCopy.copy(this.livenessProbe);
+        copy.name = this.name;
+        copy.ports = DeepCopy.copy(this.ports);
+        copy.readinessProbe = DeepCopy.copy(this.readinessProbe);
+        copy.resources = DeepCopy.copy(this.resources);
+        copy.securityContext = DeepCopy.copy(this.securityContext);
+        copy.startupProbe = DeepCopy.copy(this.startupProbe);
+        copy.stdin = this.stdin;
+        copy.stdinOnce = this.stdinOnce;
+        copy.terminationMessagePath = this.terminationMessagePath;
+        copy.terminationMessagePolicy = this.terminationMessagePolicy;
+        copy.tty = this.tty;
+        copy.volumeDevices = DeepCopy.copy(this.volumeDevices);
+        copy.volumeMounts = DeepCopy.copy(this.volumeMounts);
+        copy.workingDir = this.workingDir;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Container.class, this.additionalProperties);
+        return copy;
+    }
+
 }
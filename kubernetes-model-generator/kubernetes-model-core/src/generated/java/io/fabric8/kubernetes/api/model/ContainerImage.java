@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ContainerImage implements KubernetesResource
+public class ContainerImage implements KubernetesResource, DeepCopyable<ContainerImage>
 {
 
     @JsonProperty("names")
@@ -93,4 +95,13 @@ public class ContainerImage implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ContainerImage deepCopy() {
+        ContainerImage copy = new ContainerImage();
+        copy.names = DeepCopy.copy(this.names);
+        copy.sizeBytes = DeepCopy.copy(this.sizeBytes);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ContainerImage.class, this.additionalProperties);
+        return copy;
+    }
+
 }
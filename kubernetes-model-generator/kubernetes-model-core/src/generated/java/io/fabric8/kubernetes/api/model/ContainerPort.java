@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ContainerPort implements KubernetesResource
+public class ContainerPort implements KubernetesResource, DeepCopyable<ContainerPort>
 {
 
     @JsonProperty("containerPort")
@@ -136,4 +138,16 @@ public class ContainerPort implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ContainerPort deepCopy() {
+        ContainerPort copy = new ContainerPort();
+        copy.containerPort = this.containerPort;
+        copy.hostIP = this.hostIP;
+        copy.hostPort = this.hostPort;
+        copy.name = this.name;
+        copy.protocol = this.protocol;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ContainerPort.class, this.additionalProperties);
+        return copy;
+    }
+
 }
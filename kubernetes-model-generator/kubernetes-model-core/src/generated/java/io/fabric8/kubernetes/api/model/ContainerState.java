@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ContainerState implements KubernetesResource
+public class ContainerState implements KubernetesResource, DeepCopyable<ContainerState>
 {
 
     @JsonProperty("running")
@@ -106,4 +108,14 @@ public class ContainerState implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ContainerState deepCopy() {
+        ContainerState copy = new ContainerState();
+        copy.running = DeepCopy.copy(this.running);
+        copy.terminated = DeepCopy.copy(this.terminated);
+        copy.waiting = DeepCopy.copy(this.waiting);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ContainerState.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ContainerStateTerminated implements KubernetesResource
+public class ContainerStateTerminated implements KubernetesResource, DeepCopyable<ContainerStateTerminated>
 {
 
     @JsonProperty("containerID")
@@ -166,4 +168,18 @@ public class ContainerStateTerminated implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ContainerStateTerminated deepCopy() {
+        ContainerStateTerminated copy = new ContainerStateTerminated();
+        copy.containerID = this.containerID;
+        copy.exitCode = this.exitCode;
+        copy.finishedAt = DeepCopy.copy(this.finishedAt);
+        copy.message = this.message;
+        copy.reason = this.reason;
+        copy.signal = this.signal;
+        copy.startedAt = DeepCopy.copy(this.startedAt);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ContainerStateTerminated.class, this.additionalProperties);
+        return copy;
+    }
+
 }
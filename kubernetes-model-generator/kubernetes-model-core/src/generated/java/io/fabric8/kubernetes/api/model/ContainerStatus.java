@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -40,7 +42,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ContainerStatus implements KubernetesResource
+public class ContainerStatus implements KubernetesResource, DeepCopyable<ContainerStatus>
 {
 
     @JsonProperty("containerID")
@@ -196,4 +198,20 @@ public class ContainerStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ContainerStatus deepCopy() {
+        ContainerStatus copy = new ContainerStatus();
+        copy.containerID = this.containerID;
+        copy.image = this.image;
+        copy.imageID = this.imageID;
+        copy.lastState = DeepCopy.copy(this.lastState);
+        copy.name = this.name;
+        copy.ready = this.ready;
+        copy.restartCount = this.restartCount;
+        copy.started = this.started;
+        copy.state = DeepCopy.copy(this.state);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ContainerStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
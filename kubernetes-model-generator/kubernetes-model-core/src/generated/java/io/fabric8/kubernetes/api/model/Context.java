@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Context implements KubernetesResource
+public class Context implements KubernetesResource, DeepCopyable<Context>
 {
 
     @JsonProperty("cluster")
@@ -124,4 +126,15 @@ public class Context implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Context deepCopy() {
+        Context copy = new Context();
+        copy.cluster = this.cluster;
+        copy.extensions = DeepCopy.copy(this.extensions);
+        copy.namespace = this.namespace;
+        copy.user = this.user;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Context.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -32,7 +34,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class DaemonEndpoint implements KubernetesResource
+public class DaemonEndpoint implements KubernetesResource, DeepCopyable<DaemonEndpoint>
 {
 
     @JsonProperty("Port")
@@ -76,4 +78,12 @@ public class DaemonEndpoint implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DaemonEndpoint deepCopy() {
+        DaemonEndpoint copy = new DaemonEndpoint();
+        copy.port = this.port;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DaemonEndpoint.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -47,7 +49,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class DeleteOptions implements KubernetesResource
+public class DeleteOptions implements KubernetesResource, DeepCopyable<DeleteOptions>
 {
 
     /**
@@ -206,4 +208,18 @@ public class DeleteOptions implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DeleteOptions deepCopy() {
+        DeleteOptions copy = new DeleteOptions();
+        copy.apiVersion = this.apiVersion;
+        copy.dryRun = DeepCopy.copy(this.dryRun);
+        copy.gracePeriodSeconds = DeepCopy.copy(this.gracePeriodSeconds);
+        copy.kind = this.kind;
+        copy.orphanDependents = this.orphanDependents;
+        copy.preconditions = DeepCopy.copy(this.preconditions);
+        copy.propagationPolicy = this.propagationPolicy;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DeleteOptions.class, this.additionalProperties);
+        return copy;
+    }
+
 }
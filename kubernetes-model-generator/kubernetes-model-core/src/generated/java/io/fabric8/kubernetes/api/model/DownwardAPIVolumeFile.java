@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class DownwardAPIVolumeFile implements KubernetesResource
+public class DownwardAPIVolumeFile implements KubernetesResource, DeepCopyable<DownwardAPIVolumeFile>
 {
 
     @JsonProperty("fieldRef")
@@ -121,4 +123,15 @@ public class DownwardAPIVolumeFile implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public DownwardAPIVolumeFile deepCopy() {
+        DownwardAPIVolumeFile copy = new DownwardAPIVolumeFile();
+        copy.fieldRef = DeepCopy.copy(this.fieldRef);
+        copy.mode = this.mode;
+        copy.path = this.path;
+        copy.resourceFieldRef = DeepCopy.copy(this.resourceFieldRef);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DownwardAPIVolumeFile.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class EndpointAddress implements KubernetesResource
+public class EndpointAddress implements KubernetesResource, DeepCopyable<EndpointAddress>
 {
 
     @JsonProperty("hostname")
@@ -121,4 +123,15 @@ public class EndpointAddress implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public EndpointAddress deepCopy() {
+        EndpointAddress copy = new EndpointAddress();
+        copy.hostname = this.hostname;
+        copy.ip = this.ip;
+        copy.nodeName = this.nodeName;
+        copy.targetRef = DeepCopy.copy(this.targetRef);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EndpointAddress.class, this.additionalProperties);
+        return copy;
+    }
+
 }
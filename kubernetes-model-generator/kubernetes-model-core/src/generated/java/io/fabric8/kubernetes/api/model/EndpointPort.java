@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class EndpointPort implements KubernetesResource
+public class EndpointPort implements KubernetesResource, DeepCopyable<EndpointPort>
 {
 
     @JsonProperty("appProtocol")
@@ -121,4 +123,15 @@ public class EndpointPort implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public EndpointPort deepCopy() {
+        EndpointPort copy = new EndpointPort();
+        copy.appProtocol = this.appProtocol;
+        copy.name = this.name;
+        copy.port = this.port;
+        copy.protocol = this.protocol;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EndpointPort.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class EndpointSubset implements KubernetesResource
+public class EndpointSubset implements KubernetesResource, DeepCopyable<EndpointSubset>
 {
 
     @JsonProperty("addresses")
@@ -111,4 +113,14 @@ public class EndpointSubset implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public EndpointSubset deepCopy() {
+        EndpointSubset copy = new EndpointSubset();
+        copy.addresses = DeepCopy.copy(this.addresses);
+        copy.notReadyAddresses = DeepCopy.copy(this.notReadyAddresses);
+        copy.ports = DeepCopy.copy(this.ports);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EndpointSubset.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -43,7 +45,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class Endpoints implements HasMetadata, Namespaced
+public class Endpoints implements HasMetadata, Namespaced, DeepCopyable<Endpoints>
 {
 
     /**
@@ -160,4 +162,15 @@ public class Endpoints implements HasMetadata, Namespaced
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Endpoints deepCopy() {
+        Endpoints copy = new Endpoints();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.subsets = DeepCopy.copy(this.subsets);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Endpoints.class, this.additionalProperties);
+        return copy;
+    }
+
 }
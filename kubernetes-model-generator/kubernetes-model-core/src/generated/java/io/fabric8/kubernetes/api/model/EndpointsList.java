@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -43,7 +45,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class EndpointsList implements KubernetesResource, KubernetesResourceList<io.fabric8.kubernetes.api.model.Endpoints>
+public class EndpointsList implements KubernetesResource, KubernetesResourceList<io.fabric8.kubernetes.api.model.Endpoints> , DeepCopyable<EndpointsList>
 {
 
     /**
@@ -159,4 +161,15 @@ public class EndpointsList implements KubernetesResource, KubernetesResourceList
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public EndpointsList deepCopy() {
+        EndpointsList copy = new EndpointsList();
+        copy.apiVersion = this.apiVersion;
+        copy.items = DeepCopy.copy(this.items);
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EndpointsList.class, this.additionalProperties);
+        return copy;
+    }
+
 }
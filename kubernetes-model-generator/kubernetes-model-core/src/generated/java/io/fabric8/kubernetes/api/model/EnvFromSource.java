@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class EnvFromSource implements KubernetesResource
+public class EnvFromSource implements KubernetesResource, DeepCopyable<EnvFromSource>
 {
 
     @JsonProperty("configMapRef")
@@ -106,4 +108,14 @@ public class EnvFromSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public EnvFromSource deepCopy() {
+        EnvFromSource copy = new EnvFromSource();
+        copy.configMapRef = DeepCopy.copy(this.configMapRef);
+        copy.prefix = this.prefix;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EnvFromSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
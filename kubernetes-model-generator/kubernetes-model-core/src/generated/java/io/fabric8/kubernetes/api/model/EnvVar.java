@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class EnvVar implements KubernetesResource
+public class EnvVar implements KubernetesResource, DeepCopyable<EnvVar>
 {
 
     @JsonProperty("name")
@@ -106,4 +108,14 @@ public class EnvVar implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public EnvVar deepCopy() {
+        EnvVar copy = new EnvVar();
+        copy.name = this.name;
+        copy.value = this.value;
+        copy.valueFrom = DeepCopy.copy(this.valueFrom);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EnvVar.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class EnvVarSource implements KubernetesResource
+public class EnvVarSource implements KubernetesResource, DeepCopyable<EnvVarSource>
 {
 
     @JsonProperty("configMapKeyRef")
@@ -121,4 +123,15 @@ public class EnvVarSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public EnvVarSource deepCopy() {
+        EnvVarSource copy = new EnvVarSource();
+        copy.configMapKeyRef = DeepCopy.copy(this.configMapKeyRef);
+        copy.fieldRef = DeepCopy.copy(this.fieldRef);
+        copy.resourceFieldRef = DeepCopy.copy(this.resourceFieldRef);
+        copy.secretKeyRef = DeepCopy.copy(this.secretKeyRef);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EnvVarSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,8 +10,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -54,7 +56,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class Event implements HasMetadata, Namespaced
+public class Event implements HasMetadata, Namespaced, DeepCopyable<Event>
 {
 
     @JsonProperty("action")
@@ -352,4 +354,28 @@ public class Event implements HasMetadata, Namespaced
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Event deepCopy() {
+        Event copy = new Event();
+        copy.action = this.action;
+        copy.apiVersion = this.apiVersion;
+        copy.count = this.count;
+        copy.eventTime = DeepCopy.copy(this.eventTime);
+        copy.firstTimestamp = DeepCopy.copy(this.firstTimestamp);
+        copy.involvedObject = DeepCopy.copy(this.involvedObject);
+        copy.kind = this.kind;
+        copy.lastTimestamp = DeepCopy.copy(this.lastTimestamp);
+        copy.message = this.message;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.reason = this.reason;
+        copy.related = DeepCopy.copy(this.related);
+        copy.reportingComponent = this.reportingComponent;
+        copy.reportingInstance = this.reportingInstance;
+        copy.series = DeepCopy.copy(this.series);
+        copy.source = DeepCopy.copy(this.source);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Event.class, this.additionalProperties);
+        return copy;
+    }
+
 }
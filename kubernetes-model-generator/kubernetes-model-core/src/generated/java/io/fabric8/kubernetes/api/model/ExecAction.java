@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ExecAction implements KubernetesResource
+public class ExecAction implements KubernetesResource, DeepCopyable<ExecAction>
 {
 
     @JsonProperty("command")
@@ -79,4 +81,12 @@ public class ExecAction implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ExecAction deepCopy() {
+        ExecAction copy = new ExecAction();
+        copy.command = DeepCopy.copy(this.command);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ExecAction.class, this.additionalProperties);
+        return copy;
+    }
+
 }
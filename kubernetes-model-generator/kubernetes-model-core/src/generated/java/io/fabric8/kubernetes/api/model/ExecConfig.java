@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ExecConfig implements KubernetesResource
+public class ExecConfig implements KubernetesResource, DeepCopyable<ExecConfig>
 {
 
     @JsonProperty("apiVersion")
@@ -167,4 +169,18 @@ public class ExecConfig implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ExecConfig deepCopy() {
+        ExecConfig copy = new ExecConfig();
+        copy.apiVersion = this.apiVersion;
+        copy.args = DeepCopy.copy(this.args);
+        copy.command = this.command;
+        copy.env = DeepCopy.copy(this.env);
+        copy.installHint = this.installHint;
+        copy.interactiveMode = this.interactiveMode;
+        copy.provideClusterInfo = this.provideClusterInfo;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ExecConfig.class, this.additionalProperties);
+        return copy;
+    }
+
 }
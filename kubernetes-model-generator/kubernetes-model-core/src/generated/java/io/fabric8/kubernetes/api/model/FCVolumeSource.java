@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class FCVolumeSource implements KubernetesResource
+public class FCVolumeSource implements KubernetesResource, DeepCopyable<FCVolumeSource>
 {
 
     @JsonProperty("fsType")
@@ -140,4 +142,16 @@ public class FCVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public FCVolumeSource deepCopy() {
+        FCVolumeSource copy = new FCVolumeSource();
+        copy.fsType = this.fsType;
+        copy.lun = this.lun;
+        copy.readOnly = this.readOnly;
+        copy.targetWWNs = DeepCopy.copy(this.targetWWNs);
+        copy.wwids = DeepCopy.copy(this.wwids);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(FCVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
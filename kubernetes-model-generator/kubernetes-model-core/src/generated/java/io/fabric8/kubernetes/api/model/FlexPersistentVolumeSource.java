@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class FlexPersistentVolumeSource implements KubernetesResource
+public class FlexPersistentVolumeSource implements KubernetesResource, DeepCopyable<FlexPersistentVolumeSource>
 {
 
     @JsonProperty("driver")
@@ -138,4 +140,16 @@ public class FlexPersistentVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public FlexPersistentVolumeSource deepCopy() {
+        FlexPersistentVolumeSource copy = new FlexPersistentVolumeSource();
+        copy.driver = this.driver;
+        copy.fsType = this.fsType;
+        copy.options = DeepCopy.copy(this.options);
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(FlexPersistentVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class GRPCAction implements KubernetesResource
+public class GRPCAction implements KubernetesResource, DeepCopyable<GRPCAction>
 {
 
     @JsonProperty("port")
@@ -91,4 +93,13 @@ public class GRPCAction implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public GRPCAction deepCopy() {
+        GRPCAction copy = new GRPCAction();
+        copy.port = this.port;
+        copy.service = this.service;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GRPCAction.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,8 +10,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class GetOptions implements KubernetesResource
+public class GetOptions implements KubernetesResource, DeepCopyable<GetOptions>
 {
 
     /**
@@ -143,4 +145,14 @@ public class GetOptions implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public GetOptions deepCopy() {
+        GetOptions copy = new GetOptions();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.resourceVersion = this.resourceVersion;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GetOptions.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class GitRepoVolumeSource implements KubernetesResource
+public class GitRepoVolumeSource implements KubernetesResource, DeepCopyable<GitRepoVolumeSource>
 {
 
     @JsonProperty("directory")
@@ -106,4 +108,14 @@ public class GitRepoVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public GitRepoVolumeSource deepCopy() {
+        GitRepoVolumeSource copy = new GitRepoVolumeSource();
+        copy.directory = this.directory;
+        copy.repository = this.repository;
+        copy.revision = this.revision;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GitRepoVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class GlusterfsPersistentVolumeSource implements KubernetesResource
+public class GlusterfsPersistentVolumeSource implements KubernetesResource, DeepCopyable<GlusterfsPersistentVolumeSource>
 {
 
     @JsonProperty("endpoints")
@@ -121,4 +123,15 @@ public class GlusterfsPersistentVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public GlusterfsPersistentVolumeSource deepCopy() {
+        GlusterfsPersistentVolumeSource copy = new GlusterfsPersistentVolumeSource();
+        copy.endpoints = this.endpoints;
+        copy.endpointsNamespace = this.endpointsNamespace;
+        copy.path = this.path;
+        copy.readOnly = this.readOnly;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GlusterfsPersistentVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
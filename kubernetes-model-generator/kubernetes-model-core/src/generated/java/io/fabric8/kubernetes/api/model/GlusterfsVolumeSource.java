@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class GlusterfsVolumeSource implements KubernetesResource
+public class GlusterfsVolumeSource implements KubernetesResource, DeepCopyable<GlusterfsVolumeSource>
 {
 
     @JsonProperty("endpoints")
@@ -106,4 +108,14 @@ public class GlusterfsVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public GlusterfsVolumeSource deepCopy() {
+        GlusterfsVolumeSource copy = new GlusterfsVolumeSource();
+        copy.endpoints = this.endpoints;
+        copy.path = this.path;
+        copy.readOnly = this.readOnly;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GlusterfsVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
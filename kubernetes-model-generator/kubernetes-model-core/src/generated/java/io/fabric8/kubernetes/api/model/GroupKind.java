@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -32,7 +34,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class GroupKind implements KubernetesResource
+public class GroupKind implements KubernetesResource, DeepCopyable<GroupKind>
 {
 
     @JsonProperty("group")
@@ -90,4 +92,13 @@ public class GroupKind implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public GroupKind deepCopy() {
+        GroupKind copy = new GroupKind();
+        copy.group = this.group;
+        copy.kind = this.kind;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GroupKind.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class GroupVersionForDiscovery implements KubernetesResource
+public class GroupVersionForDiscovery implements KubernetesResource, DeepCopyable<GroupVersionForDiscovery>
 {
 
     @JsonProperty("groupVersion")
@@ -91,4 +93,13 @@ public class GroupVersionForDiscovery implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public GroupVersionForDiscovery deepCopy() {
+        GroupVersionForDiscovery copy = new GroupVersionForDiscovery();
+        copy.groupVersion = this.groupVersion;
+        copy.version = this.version;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GroupVersionForDiscovery.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class GroupVersionKind implements KubernetesResource
+public class GroupVersionKind implements KubernetesResource, DeepCopyable<GroupVersionKind>
 {
 
     @JsonProperty("group")
@@ -105,4 +107,14 @@ public class GroupVersionKind implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public GroupVersionKind deepCopy() {
+        GroupVersionKind copy = new GroupVersionKind();
+        copy.group = this.group;
+        copy.kind = this.kind;
+        copy.version = this.version;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GroupVersionKind.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class GroupVersionResource implements KubernetesResource
+public class GroupVersionResource implements KubernetesResource, DeepCopyable<GroupVersionResource>
 {
 
     @JsonProperty("group")
@@ -106,4 +108,14 @@ public class GroupVersionResource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public GroupVersionResource deepCopy() {
+        GroupVersionResource copy = new GroupVersionResource();
+        copy.group = this.group;
+        copy.resource = this.resource;
+        copy.version = this.version;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GroupVersionResource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class HTTPGetAction implements KubernetesResource
+public class HTTPGetAction implements KubernetesResource, DeepCopyable<HTTPGetAction>
 {
 
     @JsonProperty("host")
@@ -139,4 +141,16 @@ public class HTTPGetAction implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public HTTPGetAction deepCopy() {
+        HTTPGetAction copy = new HTTPGetAction();
+        copy.host = this.host;
+        copy.httpHeaders = DeepCopy.copy(this.httpHeaders);
+        copy.path = this.path;
+        copy.port = DeepCopy.copy(this.port);
+        copy.scheme = this.scheme;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(HTTPGetAction.class, this.additionalProperties);
+        return copy;
+    }
+
 }
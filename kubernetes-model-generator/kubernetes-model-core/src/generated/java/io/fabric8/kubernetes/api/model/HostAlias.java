@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class HostAlias implements KubernetesResource
+public class HostAlias implements KubernetesResource, DeepCopyable<HostAlias>
 {
 
     @JsonProperty("hostnames")
@@ -94,4 +96,13 @@ public class HostAlias implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public HostAlias deepCopy() {
+        HostAlias copy = new HostAlias();
+        copy.hostnames = DeepCopy.copy(this.hostnames);
+        copy.ip = this.ip;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(HostAlias.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -44,7 +46,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ISCSIPersistentVolumeSource implements KubernetesResource
+public class ISCSIPersistentVolumeSource implements KubernetesResource, DeepCopyable<ISCSIPersistentVolumeSource>
 {
 
     @JsonProperty("chapAuthDiscovery")
@@ -229,4 +231,22 @@ public class ISCSIPersistentVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ISCSIPersistentVolumeSource deepCopy() {
+        ISCSIPersistentVolumeSource copy = new ISCSIPersistentVolumeSource();
+        copy.chapAuthDiscovery = this.chapAuthDiscovery;
+        copy.chapAuthSession = this.chapAuthSession;
+        copy.fsType = this.fsType;
+        copy.initiatorName = this.initiatorName;
+        copy.iqn = this.iqn;
+        copy.iscsiInterface = this.iscsiInterface;
+        copy.lun = this.lun;
+        copy.portals = DeepCopy.copy(this.portals);
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.targetPortal = this.targetPortal;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ISCSIPersistentVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
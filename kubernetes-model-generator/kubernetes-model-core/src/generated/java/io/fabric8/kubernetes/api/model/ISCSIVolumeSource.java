@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -44,7 +46,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ISCSIVolumeSource implements KubernetesResource
+public class ISCSIVolumeSource implements KubernetesResource, DeepCopyable<ISCSIVolumeSource>
 {
 
     @JsonProperty("chapAuthDiscovery")
@@ -229,4 +231,22 @@ public class ISCSIVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ISCSIVolumeSource deepCopy() {
+        ISCSIVolumeSource copy = new ISCSIVolumeSource();
+        copy.chapAuthDiscovery = this.chapAuthDiscovery;
+        copy.chapAuthSession = this.chapAuthSession;
+        copy.fsType = this.fsType;
+        copy.initiatorName = this.initiatorName;
+        copy.iqn = this.iqn;
+        copy.iscsiInterface = this.iscsiInterface;
+        copy.lun = this.lun;
+        copy.portals = DeepCopy.copy(this.portals);
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.targetPortal = this.targetPortal;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ISCSIVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
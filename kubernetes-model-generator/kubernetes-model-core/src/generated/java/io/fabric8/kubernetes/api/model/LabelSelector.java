@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class LabelSelector implements KubernetesResource
+public class LabelSelector implements KubernetesResource, DeepCopyable<LabelSelector>
 {
 
     @JsonProperty("matchExpressions")
@@ -96,4 +98,13 @@ public class LabelSelector implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public LabelSelector deepCopy() {
+        LabelSelector copy = new LabelSelector();
+        copy.matchExpressions = DeepCopy.copy(this.matchExpressions);
+        copy.matchLabels = DeepCopy.copy(this.matchLabels);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LabelSelector.class, this.additionalProperties);
+        return copy;
+    }
+
 }
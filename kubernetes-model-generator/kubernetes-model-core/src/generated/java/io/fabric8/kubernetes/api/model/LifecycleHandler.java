@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class LifecycleHandler implements KubernetesResource
+public class LifecycleHandler implements KubernetesResource, DeepCopyable<LifecycleHandler>
 {
 
     @JsonProperty("exec")
@@ -106,4 +108,14 @@ public class LifecycleHandler implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public LifecycleHandler deepCopy() {
+        LifecycleHandler copy = new LifecycleHandler();
+        copy.exec = DeepCopy.copy(this.exec);
+        copy.httpGet = DeepCopy.copy(this.httpGet);
+        copy.tcpSocket = DeepCopy.copy(this.tcpSocket);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LifecycleHandler.class, this.additionalProperties);
+        return copy;
+    }
+
 }
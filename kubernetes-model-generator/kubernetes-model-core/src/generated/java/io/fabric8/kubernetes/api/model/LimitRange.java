@@ -10,8 +10,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class LimitRange implements HasMetadata, Namespaced
+public class LimitRange implements HasMetadata, Namespaced, DeepCopyable<LimitRange>
 {
 
     /**
@@ -157,4 +159,15 @@ public class LimitRange implements HasMetadata, Namespaced
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public LimitRange deepCopy() {
+        LimitRange copy = new LimitRange();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.spec = DeepCopy.copy(this.spec);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LimitRange.class, this.additionalProperties);
+        return copy;
+    }
+
 }
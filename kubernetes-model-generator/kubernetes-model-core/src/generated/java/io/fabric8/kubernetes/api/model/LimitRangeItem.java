@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -38,24 +40,24 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class LimitRangeItem implements KubernetesResource
+public class LimitRangeItem implements KubernetesResource, DeepCopyable<LimitRangeItem>
 {
 
     @JsonProperty("default")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> _default = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> _default = new LinkedHashMap<String, Quantity>();
     @JsonProperty("defaultRequest")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> defaultRequest = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> defaultRequest = new LinkedHashMap<String, Quantity>();
     @JsonProperty("max")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> max = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> max = new LinkedHashMap<String, Quantity>();
     @JsonProperty("maxLimitRequestRatio")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> maxLimitRequestRatio = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> maxLimitRequestRatio = new LinkedHashMap<String, Quantity>();
     @JsonProperty("min")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> min = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> min = new LinkedHashMap<String, Quantity>();
     @JsonProperty("type")
     private java.lang.String type;
     @JsonIgnore
@@ -77,7 +79,7 @@ public class LimitRangeItem implements KubernetesResource
      * @param type
      * @param defaultRequest
      */
-    public LimitRangeItem(Map<String, io.fabric8.kubernetes.api.model.Quantity> _default, Map<String, io.fabric8.kubernetes.api.model.Quantity> defaultRequest, Map<String, io.fabric8.kubernetes.api.model.Quantity> max, Map<String, io.fabric8.kubernetes.api.model.Quantity> maxLimitRequestRatio, Map<String, io.fabric8.kubernetes.api.model.Quantity> min, java.lang.String type) {
+    public LimitRangeItem(Map<String, Quantity> _default, Map<String, Quantity> defaultRequest, Map<String, Quantity> max, Map<String, Quantity> maxLimitRequestRatio, Map<String, Quantity> min, java.lang.String type) {
         super();
         this._default = _default;
         this.defaultRequest = defaultRequest;
@@ -88,52 +90,52 @@ public class LimitRangeItem implements KubernetesResource
     }
 
     @JsonProperty("default")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getDefault() {
+    public Map<String, Quantity> getDefault() {
         return _default;
     }
 
     @JsonProperty("default")
-    public void setDefault(Map<String, io.fabric8.kubernetes.api.model.Quantity> _default) {
+    public void setDefault(Map<String, Quantity> _default) {
         this._default = _default;
     }
 
     @JsonProperty("defaultRequest")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getDefaultRequest() {
+    public Map<String, Quantity> getDefaultRequest() {
         return defaultRequest;
     }
 
     @JsonProperty("defaultRequest")
-    public void setDefaultRequest(Map<String, io.fabric8.kubernetes.api.model.Quantity> defaultRequest) {
+    public void setDefaultRequest(Map<String, Quantity> defaultRequest) {
         this.defaultRequest = defaultRequest;
     }
 
     @JsonProperty("max")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getMax() {
+    public Map<String, Quantity> getMax() {
         return max;
     }
 
     @JsonProperty("max")
-    public void setMax(Map<String, io.fabric8.kubernetes.api.model.Quantity> max) {
+    public void setMax(Map<String, Quantity> max) {
         this.max = max;
     }
 
     @JsonProperty("maxLimitRequestRatio")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getMaxLimitRequestRatio() {
+    public Map<String, Quantity> getMaxLimitRequestRatio() {
         return maxLimitRequestRatio;
     }
 
     @JsonProperty("maxLimitRequestRatio")
-    public void setMaxLimitRequestRatio(Map<String, io.fabric8.kubernetes.api.model.Quantity> maxLimitRequestRatio) {
+    public void setMaxLimitRequestRatio(Map<String, Quantity> maxLimitRequestRatio) {
         this.maxLimitRequestRatio = maxLimitRequestRatio;
     }
 
     @JsonProperty("min")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getMin() {
+    public Map<String, Quantity> getMin() {
         return min;
     }
 
     @JsonProperty("min")
-    public void setMin(Map<String, io.fabric8.kubernetes.api.model.Quantity> min) {
+    public void setMin(Map<String, Quantity> min) {
         this.min = min;
     }
 
@@ -157,4 +159,17 @@ public class LimitRangeItem implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public LimitRangeItem deepCopy() {
+        LimitRangeItem copy = new LimitRangeItem();
+        copy._default = DeepCopy.copy(this._default);
+        copy.defaultRequest = DeepCopy.copy(this.defaultRequest);
+        copy.max = DeepCopy.copy(this.max);
+        copy.maxLimitRequestRatio = DeepCopy.copy(this.maxLimitRequestRatio);
+        copy.min = DeepCopy.copy(this.min);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LimitRangeItem.class, this.additionalProperties);
+        return copy;
+    }
+
 }
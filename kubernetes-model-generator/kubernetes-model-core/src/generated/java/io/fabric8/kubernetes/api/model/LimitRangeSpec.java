@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class LimitRangeSpec implements KubernetesResource
+public class LimitRangeSpec implements KubernetesResource, DeepCopyable<LimitRangeSpec>
 {
 
     @JsonProperty("limits")
@@ -78,4 +80,12 @@ public class LimitRangeSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public LimitRangeSpec deepCopy() {
+        LimitRangeSpec copy = new LimitRangeSpec();
+        copy.limits = DeepCopy.copy(this.limits);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LimitRangeSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
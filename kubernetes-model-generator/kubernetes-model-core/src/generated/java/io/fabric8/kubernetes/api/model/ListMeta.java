@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ListMeta implements KubernetesResource
+public class ListMeta implements KubernetesResource, DeepCopyable<ListMeta>
 {
 
     @JsonProperty("continue")
@@ -121,4 +123,15 @@ public class ListMeta implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ListMeta deepCopy() {
+        ListMeta copy = new ListMeta();
+        copy._continue = this._continue;
+        copy.remainingItemCount = DeepCopy.copy(this.remainingItemCount);
+        copy.resourceVersion = this.resourceVersion;
+        copy.selfLink = this.selfLink;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ListMeta.class, this.additionalProperties);
+        return copy;
+    }
+
 }
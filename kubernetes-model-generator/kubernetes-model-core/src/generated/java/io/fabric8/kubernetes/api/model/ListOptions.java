@@ -10,8 +10,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -49,7 +51,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class ListOptions implements KubernetesResource
+public class ListOptions implements KubernetesResource, DeepCopyable<ListOptions>
 {
 
     @JsonProperty("allowWatchBookmarks")
@@ -263,4 +265,22 @@ public class ListOptions implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ListOptions deepCopy() {
+        ListOptions copy = new ListOptions();
+        copy.allowWatchBookmarks = this.allowWatchBookmarks;
+        copy.apiVersion = this.apiVersion;
+        copy._continue = this._continue;
+        copy.fieldSelector = this.fieldSelector;
+        copy.kind = this.kind;
+        copy.labelSelector = this.labelSelector;
+        copy.limit = DeepCopy.copy(this.limit);
+        copy.resourceVersion = this.resourceVersion;
+        copy.resourceVersionMatch = this.resourceVersionMatch;
+        copy.timeoutSeconds = DeepCopy.copy(this.timeoutSeconds);
+        copy.watch = this.watch;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ListOptions.class, this.additionalProperties);
+        return copy;
+    }
+
 }
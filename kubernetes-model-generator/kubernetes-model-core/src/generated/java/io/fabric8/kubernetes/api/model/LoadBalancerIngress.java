@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class LoadBalancerIngress implements KubernetesResource
+public class LoadBalancerIngress implements KubernetesResource, DeepCopyable<LoadBalancerIngress>
 {
 
     @JsonProperty("hostname")
@@ -109,4 +111,14 @@ public class LoadBalancerIngress implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public LoadBalancerIngress deepCopy() {
+        LoadBalancerIngress copy = new LoadBalancerIngress();
+        copy.hostname = this.hostname;
+        copy.ip = this.ip;
+        copy.ports = DeepCopy.copy(this.ports);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LoadBalancerIngress.class, this.additionalProperties);
+        return copy;
+    }
+
 }
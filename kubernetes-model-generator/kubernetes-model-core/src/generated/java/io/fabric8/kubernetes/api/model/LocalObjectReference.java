@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -32,7 +34,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class LocalObjectReference implements KubernetesResource
+public class LocalObjectReference implements KubernetesResource, DeepCopyable<LocalObjectReference>
 {
 
     @JsonProperty("name")
@@ -76,4 +78,12 @@ public class LocalObjectReference implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public LocalObjectReference deepCopy() {
+        LocalObjectReference copy = new LocalObjectReference();
+        copy.name = this.name;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LocalObjectReference.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ManagedFieldsEntry implements KubernetesResource
+public class ManagedFieldsEntry implements KubernetesResource, DeepCopyable<ManagedFieldsEntry>
 {
 
     @JsonProperty("apiVersion")
@@ -165,4 +167,18 @@ public class ManagedFieldsEntry implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ManagedFieldsEntry deepCopy() {
+        ManagedFieldsEntry copy = new ManagedFieldsEntry();
+        copy.apiVersion = this.apiVersion;
+        copy.fieldsType = this.fieldsType;
+        copy.fieldsV1 = DeepCopy.copy(this.fieldsV1);
+        copy.manager = this.manager;
+        copy.operation = this.operation;
+        copy.subresource = this.subresource;
+        copy.time = DeepCopy.copy(this.time);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ManagedFieldsEntry.class, this.additionalProperties);
+        return copy;
+    }
+
 }
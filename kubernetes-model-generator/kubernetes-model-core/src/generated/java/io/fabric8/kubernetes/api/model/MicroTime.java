@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class MicroTime implements KubernetesResource
+public class MicroTime implements KubernetesResource, DeepCopyable<MicroTime>
 {
 
     @JsonProperty("Time")
@@ -78,4 +80,12 @@ public class MicroTime implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public MicroTime deepCopy() {
+        MicroTime copy = new MicroTime();
+        copy.time = this.time;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(MicroTime.class, this.additionalProperties);
+        return copy;
+    }
+
 }
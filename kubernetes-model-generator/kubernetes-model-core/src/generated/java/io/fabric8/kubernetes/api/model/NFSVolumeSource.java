@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class NFSVolumeSource implements KubernetesResource
+public class NFSVolumeSource implements KubernetesResource, DeepCopyable<NFSVolumeSource>
 {
 
     @JsonProperty("path")
@@ -106,4 +108,14 @@ public class NFSVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public NFSVolumeSource deepCopy() {
+        NFSVolumeSource copy = new NFSVolumeSource();
+        copy.path = this.path;
+        copy.readOnly = this.readOnly;
+        copy.server = this.server;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NFSVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
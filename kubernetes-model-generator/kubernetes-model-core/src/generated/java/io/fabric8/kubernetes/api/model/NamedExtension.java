@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -33,11 +35,11 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class NamedExtension implements io.fabric8.kubernetes.api.model.KubernetesResource
+public class NamedExtension implements KubernetesResource, DeepCopyable<NamedExtension>
 {
 
     @JsonProperty("extension")
-    private io.fabric8.kubernetes.api.model.KubernetesResource extension;
+    private KubernetesResource extension;
     @JsonProperty("name")
     private String name;
     @JsonIgnore
@@ -55,19 +57,19 @@ public class NamedExtension implements io.fabric8.kubernetes.api.model.Kubernete
      * @param extension
      * @param name
      */
-    public NamedExtension(io.fabric8.kubernetes.api.model.KubernetesResource extension, String name) {
+    public NamedExtension(KubernetesResource extension, String name) {
         super();
         this.extension = extension;
         this.name = name;
     }
 
     @JsonProperty("extension")
-    public io.fabric8.kubernetes.api.model.KubernetesResource getExtension() {
+    public KubernetesResource getExtension() {
         return extension;
     }
 
     @JsonProperty("extension")
-    public void setExtension(io.fabric8.kubernetes.api.model.KubernetesResource extension) {
+    public void setExtension(KubernetesResource extension) {
         this.extension = extension;
     }
 
@@ -91,4 +93,13 @@ public class NamedExtension implements io.fabric8.kubernetes.api.model.Kubernete
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public NamedExtension deepCopy() {
+        NamedExtension copy = new NamedExtension();
+        copy.extension = DeepCopy.copy(this.extension);
+        copy.name = this.name;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NamedExtension.class, this.additionalProperties);
+        return copy;
+    }
+
 }
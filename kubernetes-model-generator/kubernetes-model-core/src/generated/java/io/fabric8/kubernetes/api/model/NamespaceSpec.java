@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class NamespaceSpec implements KubernetesResource
+public class NamespaceSpec implements KubernetesResource, DeepCopyable<NamespaceSpec>
 {
 
     @JsonProperty("finalizers")
@@ -79,4 +81,12 @@ public class NamespaceSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public NamespaceSpec deepCopy() {
+        NamespaceSpec copy = new NamespaceSpec();
+        copy.finalizers = DeepCopy.copy(this.finalizers);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NamespaceSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
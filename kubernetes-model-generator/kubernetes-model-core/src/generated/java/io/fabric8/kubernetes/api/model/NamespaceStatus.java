@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class NamespaceStatus implements KubernetesResource
+public class NamespaceStatus implements KubernetesResource, DeepCopyable<NamespaceStatus>
 {
 
     @JsonProperty("conditions")
@@ -94,4 +96,13 @@ public class NamespaceStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public NamespaceStatus deepCopy() {
+        NamespaceStatus copy = new NamespaceStatus();
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.phase = this.phase;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NamespaceStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class NodeConfigStatus implements KubernetesResource
+public class NodeConfigStatus implements KubernetesResource, DeepCopyable<NodeConfigStatus>
 {
 
     @JsonProperty("active")
@@ -121,4 +123,15 @@ public class NodeConfigStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public NodeConfigStatus deepCopy() {
+        NodeConfigStatus copy = new NodeConfigStatus();
+        copy.active = DeepCopy.copy(this.active);
+        copy.assigned = DeepCopy.copy(this.assigned);
+        copy.error = this.error;
+        copy.lastKnownGood = DeepCopy.copy(this.lastKnownGood);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeConfigStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class NodeSelectorRequirement implements KubernetesResource
+public class NodeSelectorRequirement implements KubernetesResource, DeepCopyable<NodeSelectorRequirement>
 {
 
     @JsonProperty("key")
@@ -109,4 +111,14 @@ public class NodeSelectorRequirement implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public NodeSelectorRequirement deepCopy() {
+        NodeSelectorRequirement copy = new NodeSelectorRequirement();
+        copy.key = this.key;
+        copy.operator = this.operator;
+        copy.values = DeepCopy.copy(this.values);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeSelectorRequirement.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class NodeSelectorTerm implements KubernetesResource
+public class NodeSelectorTerm implements KubernetesResource, DeepCopyable<NodeSelectorTerm>
 {
 
     @JsonProperty("matchExpressions")
@@ -95,4 +97,13 @@ public class NodeSelectorTerm implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public NodeSelectorTerm deepCopy() {
+        NodeSelectorTerm copy = new NodeSelectorTerm();
+        copy.matchExpressions = DeepCopy.copy(this.matchExpressions);
+        copy.matchFields = DeepCopy.copy(this.matchFields);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeSelectorTerm.class, this.additionalProperties);
+        return copy;
+    }
+
 }
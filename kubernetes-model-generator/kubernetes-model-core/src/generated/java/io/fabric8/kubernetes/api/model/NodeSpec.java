@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -40,7 +42,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class NodeSpec implements KubernetesResource
+public class NodeSpec implements KubernetesResource, DeepCopyable<NodeSpec>
 {
 
     @JsonProperty("configSource")
@@ -170,4 +172,18 @@ public class NodeSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public NodeSpec deepCopy() {
+        NodeSpec copy = new NodeSpec();
+        copy.configSource = DeepCopy.copy(this.configSource);
+        copy.externalID = this.externalID;
+        copy.podCIDR = this.podCIDR;
+        copy.podCIDRs = DeepCopy.copy(this.podCIDRs);
+        copy.providerID = this.providerID;
+        copy.taints = DeepCopy.copy(this.taints);
+        copy.unschedulable = this.unschedulable;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
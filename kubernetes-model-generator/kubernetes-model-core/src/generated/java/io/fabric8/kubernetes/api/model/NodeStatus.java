@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -45,7 +47,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class NodeStatus implements KubernetesResource
+public class NodeStatus implements KubernetesResource, DeepCopyable<NodeStatus>
 {
 
     @JsonProperty("addresses")
@@ -53,10 +55,10 @@ public class NodeStatus implements KubernetesResource
     private List<NodeAddress> addresses = new ArrayList<NodeAddress>();
     @JsonProperty("allocatable")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> allocatable = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> allocatable = new LinkedHashMap<String, Quantity>();
     @JsonProperty("capacity")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> capacity = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> capacity = new LinkedHashMap<String, Quantity>();
     @JsonProperty("conditions")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private List<NodeCondition> conditions = new ArrayList<NodeCondition>();
@@ -101,7 +103,7 @@ public class NodeStatus implements KubernetesResource
      * @param volumesAttached
      * @param capacity
      */
-    public NodeStatus(List<NodeAddress> addresses, Map<String, io.fabric8.kubernetes.api.model.Quantity> allocatable, Map<String, io.fabric8.kubernetes.api.model.Quantity> capacity, List<NodeCondition> conditions, NodeConfigStatus config, NodeDaemonEndpoints daemonEndpoints, List<ContainerImage> images, NodeSystemInfo nodeInfo, java.lang.String phase, List<AttachedVolume> volumesAttached, List<java.lang.String> volumesInUse) {
+    public NodeStatus(List<NodeAddress> addresses, Map<String, Quantity> allocatable, Map<String, Quantity> capacity, List<NodeCondition> conditions, NodeConfigStatus config, NodeDaemonEndpoints daemonEndpoints, List<ContainerImage> images, NodeSystemInfo nodeInfo, java.lang.String phase, List<AttachedVolume> volumesAttached, List<java.lang.String> volumesInUse) {
         super();
         this.addresses = addresses;
         this.allocatable = allocatable;
@@ -127,22 +129,22 @@ public class NodeStatus implements KubernetesResource
     }
 
     @JsonProperty("allocatable")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getAllocatable() {
+    public Map<String, Quantity> getAllocatable() {
         return allocatable;
     }
 
     @JsonProperty("allocatable")
-    public void setAllocatable(Map<String, io.fabric8.kubernetes.api.model.Quantity> allocatable) {
+    public void setAllocatable(Map<String, Quantity> allocatable) {
         this.allocatable = allocatable;
     }
 
     @JsonProperty("capacity")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getCapacity() {
+    public Map<String, Quantity> getCapacity() {
         return capacity;
     }
 
     @JsonProperty("capacity")
-    public void setCapacity(Map<String, io.fabric8.kubernetes.api.model.Quantity> capacity) {
+    public void setCapacity(Map<String, Quantity> capacity) {
         this.capacity = capacity;
     }
 
@@ -236,4 +238,22 @@ public class NodeStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public NodeStatus deepCopy() {
+        NodeStatus copy = new NodeStatus();
+        copy.addresses = DeepCopy.copy(this.addresses);
+        copy.allocatable = DeepCopy.copy(this.allocatable);
+        copy.capacity = DeepCopy.copy(this.capacity);
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.config = DeepCopy.copy(this.config);
+        copy.daemonEndpoints = DeepCopy.copy(this.daemonEndpoints);
+        copy.images = DeepCopy.copy(this.images);
+        copy.nodeInfo = DeepCopy.copy(this.nodeInfo);
+        copy.phase = this.phase;
+        copy.volumesAttached = DeepCopy.copy(this.volumesAttached);
+        copy.volumesInUse = DeepCopy.copy(this.volumesInUse);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
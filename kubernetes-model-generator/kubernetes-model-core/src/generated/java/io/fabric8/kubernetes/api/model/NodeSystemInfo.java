@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class NodeSystemInfo implements KubernetesResource
+public class NodeSystemInfo implements KubernetesResource, DeepCopyable<NodeSystemInfo>
 {
 
     @JsonProperty("architecture")
@@ -211,4 +213,21 @@ public class NodeSystemInfo implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public NodeSystemInfo deepCopy() {
+        NodeSystemInfo copy = new NodeSystemInfo();
+        copy.architecture = this.architecture;
+        copy.bootID = this.bootID;
+        copy.containerRuntimeVersion = this.containerRuntimeVersion;
+        copy.kernelVersion = this.kernelVersion;
+        copy.kubeProxyVersion = this.kubeProxyVersion;
+        copy.kubeletVersion = this.kubeletVersion;
+        copy.machineID = this.machineID;
+        copy.operatingSystem = this.operatingSystem;
+        copy.osImage = this.osImage;
+        copy.systemUUID = this.systemUUID;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeSystemInfo.class, this.additionalProperties);
+        return copy;
+    }
+
 }
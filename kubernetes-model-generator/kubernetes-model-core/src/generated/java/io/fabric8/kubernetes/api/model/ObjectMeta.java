@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -49,7 +51,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ObjectMeta implements KubernetesResource
+public class ObjectMeta implements KubernetesResource, DeepCopyable<ObjectMeta>
 {
 
     @JsonProperty("annotations")
@@ -294,4 +296,26 @@ public class ObjectMeta implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ObjectMeta deepCopy() {
+        ObjectMeta copy = new ObjectMeta();
+        copy.annotations = DeepCopy.copy(this.annotations);
+        copy.creationTimestamp = DeepCopy.copy(this.creationTimestamp);
+        copy.deletionGracePeriodSeconds = DeepCopy.copy(this.deletionGracePeriodSeconds);
+        copy.deletionTimestamp = DeepCopy.copy(this.deletionTimestamp);
+        copy.finalizers = DeepCopy.copy(this.finalizers);
+        copy.generateName = this.generateName;
+        copy.generation = DeepCopy.copy(this.generation);
+        copy.labels = DeepCopy.copy(this.labels);
+        copy.managedFields = DeepCopy.copy(this.managedFields);
+        copy.name = this.name;
+        copy.namespace = this.namespace;
+        copy.ownerReferences = DeepCopy.copy(this.ownerReferences);
+        copy.resourceVersion = this.resourceVersion;
+        copy.selfLink = this.selfLink;
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ObjectMeta.class, this.additionalProperties);
+        return copy;
+    }
+
 }
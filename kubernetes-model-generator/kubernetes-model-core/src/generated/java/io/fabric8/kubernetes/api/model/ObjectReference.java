@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ObjectReference implements KubernetesResource
+public class ObjectReference implements KubernetesResource, DeepCopyable<ObjectReference>
 {
 
     @JsonProperty("apiVersion")
@@ -164,4 +166,18 @@ public class ObjectReference implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ObjectReference deepCopy() {
+        ObjectReference copy = new ObjectReference();
+        copy.apiVersion = this.apiVersion;
+        copy.fieldPath = this.fieldPath;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.namespace = this.namespace;
+        copy.resourceVersion = this.resourceVersion;
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ObjectReference.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class OwnerReference implements KubernetesResource
+public class OwnerReference implements KubernetesResource, DeepCopyable<OwnerReference>
 {
 
     @JsonProperty("apiVersion")
@@ -149,4 +151,17 @@ public class OwnerReference implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public OwnerReference deepCopy() {
+        OwnerReference copy = new OwnerReference();
+        copy.apiVersion = this.apiVersion;
+        copy.blockOwnerDeletion = this.blockOwnerDeletion;
+        copy.controller = this.controller;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(OwnerReference.class, this.additionalProperties);
+        return copy;
+    }
+
 }
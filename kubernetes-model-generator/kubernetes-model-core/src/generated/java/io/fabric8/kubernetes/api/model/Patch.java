@@ -9,6 +9,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -30,7 +32,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Patch implements KubernetesResource
+public class Patch implements KubernetesResource, DeepCopyable<Patch>
 {
 
     @JsonIgnore
@@ -46,4 +48,11 @@ public class Patch implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Patch deepCopy() {
+        Patch copy = new Patch();
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Patch.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -46,7 +48,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class PatchOptions implements KubernetesResource
+public class PatchOptions implements KubernetesResource, DeepCopyable<PatchOptions>
 {
 
     /**
@@ -191,4 +193,17 @@ public class PatchOptions implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PatchOptions deepCopy() {
+        PatchOptions copy = new PatchOptions();
+        copy.apiVersion = this.apiVersion;
+        copy.dryRun = DeepCopy.copy(this.dryRun);
+        copy.fieldManager = this.fieldManager;
+        copy.fieldValidation = this.fieldValidation;
+        copy.force = this.force;
+        copy.kind = this.kind;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PatchOptions.class, this.additionalProperties);
+        return copy;
+    }
+
 }
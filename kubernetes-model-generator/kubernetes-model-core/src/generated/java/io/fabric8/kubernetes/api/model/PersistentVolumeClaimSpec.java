@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class PersistentVolumeClaimSpec implements KubernetesResource
+public class PersistentVolumeClaimSpec implements KubernetesResource, DeepCopyable<PersistentVolumeClaimSpec>
 {
 
     @JsonProperty("accessModes")
@@ -184,4 +186,19 @@ public class PersistentVolumeClaimSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PersistentVolumeClaimSpec deepCopy() {
+        PersistentVolumeClaimSpec copy = new PersistentVolumeClaimSpec();
+        copy.accessModes = DeepCopy.copy(this.accessModes);
+        copy.dataSource = DeepCopy.copy(this.dataSource);
+        copy.dataSourceRef = DeepCopy.copy(this.dataSourceRef);
+        copy.resources = DeepCopy.copy(this.resources);
+        copy.selector = DeepCopy.copy(this.selector);
+        copy.storageClassName = this.storageClassName;
+        copy.volumeMode = this.volumeMode;
+        copy.volumeName = this.volumeName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PersistentVolumeClaimSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -40,7 +42,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class PersistentVolumeClaimStatus implements KubernetesResource
+public class PersistentVolumeClaimStatus implements KubernetesResource, DeepCopyable<PersistentVolumeClaimStatus>
 {
 
     @JsonProperty("accessModes")
@@ -48,10 +50,10 @@ public class PersistentVolumeClaimStatus implements KubernetesResource
     private List<java.lang.String> accessModes = new ArrayList<java.lang.String>();
     @JsonProperty("allocatedResources")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> allocatedResources = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> allocatedResources = new LinkedHashMap<String, Quantity>();
     @JsonProperty("capacity")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> capacity = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> capacity = new LinkedHashMap<String, Quantity>();
     @JsonProperty("conditions")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private List<PersistentVolumeClaimCondition> conditions = new ArrayList<PersistentVolumeClaimCondition>();
@@ -78,7 +80,7 @@ public class PersistentVolumeClaimStatus implements KubernetesResource
      * @param conditions
      * @param capacity
      */
-    public PersistentVolumeClaimStatus(List<java.lang.String> accessModes, Map<String, io.fabric8.kubernetes.api.model.Quantity> allocatedResources, Map<String, io.fabric8.kubernetes.api.model.Quantity> capacity, List<PersistentVolumeClaimCondition> conditions, java.lang.String phase, java.lang.String resizeStatus) {
+    public PersistentVolumeClaimStatus(List<java.lang.String> accessModes, Map<String, Quantity> allocatedResources, Map<String, Quantity> capacity, List<PersistentVolumeClaimCondition> conditions, java.lang.String phase, java.lang.String resizeStatus) {
         super();
         this.accessModes = accessModes;
         this.allocatedResources = allocatedResources;
@@ -99,22 +101,22 @@ public class PersistentVolumeClaimStatus implements KubernetesResource
     }
 
     @JsonProperty("allocatedResources")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getAllocatedResources() {
+    public Map<String, Quantity> getAllocatedResources() {
         return allocatedResources;
     }
 
     @JsonProperty("allocatedResources")
-    public void setAllocatedResources(Map<String, io.fabric8.kubernetes.api.model.Quantity> allocatedResources) {
+    public void setAllocatedResources(Map<String, Quantity> allocatedResources) {
         this.allocatedResources = allocatedResources;
     }
 
     @JsonProperty("capacity")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getCapacity() {
+    public Map<String, Quantity> getCapacity() {
         return capacity;
     }
 
     @JsonProperty("capacity")
-    public void setCapacity(Map<String, io.fabric8.kubernetes.api.model.Quantity> capacity) {
+    public void setCapacity(Map<String, Quantity> capacity) {
         this.capacity = capacity;
     }
 
@@ -158,4 +160,17 @@ public class PersistentVolumeClaimStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PersistentVolumeClaimStatus deepCopy() {
+        PersistentVolumeClaimStatus copy = new PersistentVolumeClaimStatus();
+        copy.accessModes = DeepCopy.copy(this.accessModes);
+        copy.allocatedResources = DeepCopy.copy(this.allocatedResources);
+        copy.capacity = DeepCopy.copy(this.capacity);
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.phase = this.phase;
+        copy.resizeStatus = this.resizeStatus;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PersistentVolumeClaimStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class PersistentVolumeStatus implements KubernetesResource
+public class PersistentVolumeStatus implements KubernetesResource, DeepCopyable<PersistentVolumeStatus>
 {
 
     @JsonProperty("message")
@@ -106,4 +108,14 @@ public class PersistentVolumeStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PersistentVolumeStatus deepCopy() {
+        PersistentVolumeStatus copy = new PersistentVolumeStatus();
+        copy.message = this.message;
+        copy.phase = this.phase;
+        copy.reason = this.reason;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PersistentVolumeStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
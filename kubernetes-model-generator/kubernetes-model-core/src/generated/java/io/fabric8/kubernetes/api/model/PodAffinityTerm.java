@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class PodAffinityTerm implements KubernetesResource
+public class PodAffinityTerm implements KubernetesResource, DeepCopyable<PodAffinityTerm>
 {
 
     @JsonProperty("labelSelector")
@@ -124,4 +126,15 @@ public class PodAffinityTerm implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PodAffinityTerm deepCopy() {
+        PodAffinityTerm copy = new PodAffinityTerm();
+        copy.labelSelector = DeepCopy.copy(this.labelSelector);
+        copy.namespaceSelector = DeepCopy.copy(this.namespaceSelector);
+        copy.namespaces = DeepCopy.copy(this.namespaces);
+        copy.topologyKey = this.topologyKey;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodAffinityTerm.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class PodAntiAffinity implements KubernetesResource
+public class PodAntiAffinity implements KubernetesResource, DeepCopyable<PodAntiAffinity>
 {
 
     @JsonProperty("preferredDuringSchedulingIgnoredDuringExecution")
@@ -95,4 +97,13 @@ public class PodAntiAffinity implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PodAntiAffinity deepCopy() {
+        PodAntiAffinity copy = new PodAntiAffinity();
+        copy.preferredDuringSchedulingIgnoredDuringExecution = DeepCopy.copy(this.preferredDuringSchedulingIgnoredDuringExecution);
+        copy.requiredDuringSchedulingIgnoredDuringExecution = DeepCopy.copy(this.requiredDuringSchedulingIgnoredDuringExecution);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodAntiAffinity.class, this.additionalProperties);
+        return copy;
+    }
+
 }
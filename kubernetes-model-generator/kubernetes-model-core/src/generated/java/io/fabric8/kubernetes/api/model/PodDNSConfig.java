@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class PodDNSConfig implements KubernetesResource
+public class PodDNSConfig implements KubernetesResource, DeepCopyable<PodDNSConfig>
 {
 
     @JsonProperty("nameservers")
@@ -111,4 +113,14 @@ public class PodDNSConfig implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PodDNSConfig deepCopy() {
+        PodDNSConfig copy = new PodDNSConfig();
+        copy.nameservers = DeepCopy.copy(this.nameservers);
+        copy.options = DeepCopy.copy(this.options);
+        copy.searches = DeepCopy.copy(this.searches);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodDNSConfig.class, this.additionalProperties);
+        return copy;
+    }
+
 }
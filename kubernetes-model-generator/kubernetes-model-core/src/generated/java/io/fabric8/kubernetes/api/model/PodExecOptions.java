@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -48,7 +50,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class PodExecOptions implements KubernetesResource
+public class PodExecOptions implements KubernetesResource, DeepCopyable<PodExecOptions>
 {
 
     /**
@@ -220,4 +222,19 @@ public class PodExecOptions implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PodExecOptions deepCopy() {
+        PodExecOptions copy = new PodExecOptions();
+        copy.apiVersion = this.apiVersion;
+        copy.command = DeepCopy.copy(this.command);
+        copy.container = this.container;
+        copy.kind = this.kind;
+        copy.stderr = this.stderr;
+        copy.stdin = this.stdin;
+        copy.stdout = this.stdout;
+        copy.tty = this.tty;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodExecOptions.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -43,7 +45,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class PodSecurityContext implements KubernetesResource
+public class PodSecurityContext implements KubernetesResource, DeepCopyable<PodSecurityContext>
 {
 
     @JsonProperty("fsGroup")
@@ -215,4 +217,21 @@ public class PodSecurityContext implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PodSecurityContext deepCopy() {
+        PodSecurityContext copy = new PodSecurityContext();
+        copy.fsGroup = DeepCopy.copy(this.fsGroup);
+        copy.fsGroupChangePolicy = this.fsGroupChangePolicy;
+        copy.runAsGroup = DeepCopy.copy(this.runAsGroup);
+        copy.runAsNonRoot = this.runAsNonRoot;
+        copy.runAsUser = DeepCopy.copy(this.runAsUser);
+        copy.seLinuxOptions = DeepCopy.copy(this.seLinuxOptions);
+        copy.seccompProfile = DeepCopy.copy(this.seccompProfile);
+        copy.supplementalGroups = DeepCopy.copy(this.supplementalGroups);
+        copy.sysctls = DeepCopy.copy(this.sysctls);
+        copy.windowsOptions = DeepCopy.copy(this.windowsOptions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodSecurityContext.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -73,7 +75,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class PodSpec implements KubernetesResource
+public class PodSpec implements KubernetesResource, DeepCopyable<PodSpec>
 {
 
     @JsonProperty("activeDeadlineSeconds")
@@ -661,4 +663,50 @@ public class PodSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PodSpec deepCopy() {
+        PodSpec copy = new PodSpec();
+        copy.activeDeadlineSeconds = DeepCopy.copy(this.activeDeadlineSeconds);
+        copy.affinity = DeepCopy.copy(this.affinity);
+        copy.automountServiceAccountToken = this.automountServiceAccountToken;
+        copy.containers = DeepCopy.copy(this.containers);
+        copy.dnsConfig = DeepCopy.copy(this.dnsConfig);
+        copy.dnsPolicy = this.dnsPolicy;
+        copy.enableServiceLinks = this.enableServiceLinks;
+        copy.ephemeralContainers = DeepCopy.copy(this.ephemeralContainers);
+        copy.hostAliases = DeepCopy.copy(this.hostAliases);
+        copy.hostIPC = this.hostIPC;
+        copy.hostNetwork = this.hostNetwork;
+        copy.hostPID = this.hostPID;
+        copy.hostUsers = this.hostUsers;
+        copy.hostname = this.hostname;
+        copy.imagePullSecrets = DeepCopy.copy(this.imagePullSecrets);
+        copy.initContainers = DeepCopy.copy(this.initContainers);
+        copy.nodeName = this.nodeName;
+        copy.nodeSelector = DeepCopy.copy(this.nodeSelector);
+        copy.os = DeepCopy.copy(this.os);
+        copy.overhead = DeepCopy.copy(this.overhead);
+        copy.preemptionPolicy = this.preemptionPolicy;
+        copy.priority = this.priority;
+        copy.priorityClassName = this.priorityClassName;
+        copy.readinessGates = DeepCopy.copy(this.readinessGates);
+        copy.resourceClaims = DeepCopy.copy(this.resourceClaims);
+        copy.restartPolicy = this.restartPolicy;
+        copy.runtimeClassName = this.runtimeClassName;
+        copy.schedulerName = this.schedulerName;
+        copy.schedulingGates = DeepCopy.copy(this.schedulingGates);
+        copy.securityContext = DeepCopy.copy(this.securityContext);
+        copy.serviceAccount = this.serviceAccount;
+        copy.serviceAccountName = this.serviceAccountName;
+        copy.setHostnameAsFQDN = this.setHostnameAsFQDN;
+        copy.shareProcessNamespace = this.shareProcessNamespace;
+        copy.subdomain = this.subdomain;
+        copy.terminationGracePeriodSeconds = DeepCopy.copy(this.terminationGracePeriodSeconds);
+        copy.tolerations = DeepCopy.copy(this.tolerations);
+        copy.topologySpreadConstraints = DeepCopy.copy(this.topologySpreadConstraints);
+        copy.volumes = DeepCopy.copy(this.volumes);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
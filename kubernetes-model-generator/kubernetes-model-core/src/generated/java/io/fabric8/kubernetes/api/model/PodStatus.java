@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -46,7 +48,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class PodStatus implements KubernetesResource
+public class PodStatus implements KubernetesResource, DeepCopyable<PodStatus>
 {
 
     @JsonProperty("conditions")
@@ -263,4 +265,24 @@ public class PodStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PodStatus deepCopy() {
+        PodStatus copy = new PodStatus();
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.containerStatuses = DeepCopy.copy(this.containerStatuses);
+        copy.ephemeralContainerStatuses = DeepCopy.copy(this.ephemeralContainerStatuses);
+        copy.hostIP = this.hostIP;
+        copy.initContainerStatuses = DeepCopy.copy(this.initContainerStatuses);
+        copy.message = this.message;
+        copy.nominatedNodeName = this.nominatedNodeName;
+        copy.phase = this.phase;
+        copy.podIP = this.podIP;
+        copy.podIPs = DeepCopy.copy(this.podIPs);
+        copy.qosClass = this.qosClass;
+        copy.reason = this.reason;
+        copy.startTime = DeepCopy.copy(this.startTime);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -32,7 +34,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class PodTemplateSpec implements KubernetesResource
+public class PodTemplateSpec implements KubernetesResource, DeepCopyable<PodTemplateSpec>
 {
 
     @JsonProperty("metadata")
@@ -90,4 +92,13 @@ public class PodTemplateSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public PodTemplateSpec deepCopy() {
+        PodTemplateSpec copy = new PodTemplateSpec();
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.spec = DeepCopy.copy(this.spec);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodTemplateSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
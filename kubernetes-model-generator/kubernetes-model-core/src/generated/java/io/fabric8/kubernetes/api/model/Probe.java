@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Probe implements KubernetesResource
+public class Probe implements KubernetesResource, DeepCopyable<Probe>
 {
 
     @JsonProperty("exec")
@@ -211,4 +213,21 @@ public class Probe implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Probe deepCopy() {
+        Probe copy = new Probe();
+        copy.exec = DeepCopy.copy(this.exec);
+        copy.failureThreshold = this.failureThreshold;
+        copy.grpc = DeepCopy.copy(this.grpc);
+        copy.httpGet = DeepCopy.copy(this.httpGet);
+        copy.initialDelaySeconds = this.initialDelaySeconds;
+        copy.periodSeconds = this.periodSeconds;
+        copy.successThreshold = this.successThreshold;
+        copy.tcpSocket = DeepCopy.copy(this.tcpSocket);
+        copy.terminationGracePeriodSeconds = DeepCopy.copy(this.terminationGracePeriodSeconds);
+        copy.timeoutSeconds = this.timeoutSeconds;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Probe.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ProjectedVolumeSource implements KubernetesResource
+public class ProjectedVolumeSource implements KubernetesResource, DeepCopyable<ProjectedVolumeSource>
 {
 
     @JsonProperty("defaultMode")
@@ -93,4 +95,13 @@ public class ProjectedVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ProjectedVolumeSource deepCopy() {
+        ProjectedVolumeSource copy = new ProjectedVolumeSource();
+        copy.defaultMode = this.defaultMode;
+        copy.sources = DeepCopy.copy(this.sources);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ProjectedVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class QuobyteVolumeSource implements KubernetesResource
+public class QuobyteVolumeSource implements KubernetesResource, DeepCopyable<QuobyteVolumeSource>
 {
 
     @JsonProperty("group")
@@ -151,4 +153,17 @@ public class QuobyteVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public QuobyteVolumeSource deepCopy() {
+        QuobyteVolumeSource copy = new QuobyteVolumeSource();
+        copy.group = this.group;
+        copy.readOnly = this.readOnly;
+        copy.registry = this.registry;
+        copy.tenant = this.tenant;
+        copy.user = this.user;
+        copy.volume = this.volume;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(QuobyteVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class RBDVolumeSource implements KubernetesResource
+public class RBDVolumeSource implements KubernetesResource, DeepCopyable<RBDVolumeSource>
 {
 
     @JsonProperty("fsType")
@@ -183,4 +185,19 @@ public class RBDVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public RBDVolumeSource deepCopy() {
+        RBDVolumeSource copy = new RBDVolumeSource();
+        copy.fsType = this.fsType;
+        copy.image = this.image;
+        copy.keyring = this.keyring;
+        copy.monitors = DeepCopy.copy(this.monitors);
+        copy.pool = this.pool;
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.user = this.user;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(RBDVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ReplicationControllerSpec implements KubernetesResource
+public class ReplicationControllerSpec implements KubernetesResource, DeepCopyable<ReplicationControllerSpec>
 {
 
     @JsonProperty("minReadySeconds")
@@ -123,4 +125,15 @@ public class ReplicationControllerSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ReplicationControllerSpec deepCopy() {
+        ReplicationControllerSpec copy = new ReplicationControllerSpec();
+        copy.minReadySeconds = this.minReadySeconds;
+        copy.replicas = this.replicas;
+        copy.selector = DeepCopy.copy(this.selector);
+        copy.template = DeepCopy.copy(this.template);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ReplicationControllerSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
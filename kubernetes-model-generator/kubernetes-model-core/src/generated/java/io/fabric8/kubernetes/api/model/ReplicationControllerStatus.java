@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ReplicationControllerStatus implements KubernetesResource
+public class ReplicationControllerStatus implements KubernetesResource, DeepCopyable<ReplicationControllerStatus>
 {
 
     @JsonProperty("availableReplicas")
@@ -154,4 +156,17 @@ public class ReplicationControllerStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ReplicationControllerStatus deepCopy() {
+        ReplicationControllerStatus copy = new ReplicationControllerStatus();
+        copy.availableReplicas = this.availableReplicas;
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.fullyLabeledReplicas = this.fullyLabeledReplicas;
+        copy.observedGeneration = DeepCopy.copy(this.observedGeneration);
+        copy.readyReplicas = this.readyReplicas;
+        copy.replicas = this.replicas;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ReplicationControllerStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ResourceFieldSelector implements KubernetesResource
+public class ResourceFieldSelector implements KubernetesResource, DeepCopyable<ResourceFieldSelector>
 {
 
     @JsonProperty("containerName")
@@ -106,4 +108,14 @@ public class ResourceFieldSelector implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ResourceFieldSelector deepCopy() {
+        ResourceFieldSelector copy = new ResourceFieldSelector();
+        copy.containerName = this.containerName;
+        copy.divisor = DeepCopy.copy(this.divisor);
+        copy.resource = this.resource;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ResourceFieldSelector.class, this.additionalProperties);
+        return copy;
+    }
+
 }
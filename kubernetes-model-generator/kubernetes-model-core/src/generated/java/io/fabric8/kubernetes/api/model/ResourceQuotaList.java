@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -43,7 +45,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class ResourceQuotaList implements KubernetesResource, KubernetesResourceList<io.fabric8.kubernetes.api.model.ResourceQuota>
+public class ResourceQuotaList implements KubernetesResource, KubernetesResourceList<io.fabric8.kubernetes.api.model.ResourceQuota> , DeepCopyable<ResourceQuotaList>
 {
 
     /**
@@ -159,4 +161,15 @@ public class ResourceQuotaList implements KubernetesResource, KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ResourceQuotaList deepCopy() {
+        ResourceQuotaList copy = new ResourceQuotaList();
+        copy.apiVersion = this.apiVersion;
+        copy.items = DeepCopy.copy(this.items);
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ResourceQuotaList.class, this.additionalProperties);
+        return copy;
+    }
+
 }
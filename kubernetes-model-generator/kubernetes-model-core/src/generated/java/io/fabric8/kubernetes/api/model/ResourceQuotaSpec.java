@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ResourceQuotaSpec implements KubernetesResource
+public class ResourceQuotaSpec implements KubernetesResource, DeepCopyable<ResourceQuotaSpec>
 {
 
     @JsonProperty("hard")
@@ -111,4 +113,14 @@ public class ResourceQuotaSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ResourceQuotaSpec deepCopy() {
+        ResourceQuotaSpec copy = new ResourceQuotaSpec();
+        copy.hard = DeepCopy.copy(this.hard);
+        copy.scopeSelector = DeepCopy.copy(this.scopeSelector);
+        copy.scopes = DeepCopy.copy(this.scopes);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ResourceQuotaSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,15 +36,15 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ResourceQuotaStatus implements KubernetesResource
+public class ResourceQuotaStatus implements KubernetesResource, DeepCopyable<ResourceQuotaStatus>
 {
 
     @JsonProperty("hard")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> hard = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> hard = new LinkedHashMap<String, Quantity>();
     @JsonProperty("used")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> used = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> used = new LinkedHashMap<String, Quantity>();
     @JsonIgnore
     private Map<java.lang.String, Object> additionalProperties = new HashMap<java.lang.String, Object>();
 
@@ -58,29 +60,29 @@ public class ResourceQuotaStatus implements KubernetesResource
      * @param hard
      * @param used
      */
-    public ResourceQuotaStatus(Map<String, io.fabric8.kubernetes.api.model.Quantity> hard, Map<String, io.fabric8.kubernetes.api.model.Quantity> used) {
+    public ResourceQuotaStatus(Map<String, Quantity> hard, Map<String, Quantity> used) {
         super();
         this.hard = hard;
         this.used = used;
     }
 
     @JsonProperty("hard")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getHard() {
+    public Map<String, Quantity> getHard() {
         return hard;
     }
 
     @JsonProperty("hard")
-    public void setHard(Map<String, io.fabric8.kubernetes.api.model.Quantity> hard) {
+    public void setHard(Map<String, Quantity> hard) {
         this.hard = hard;
     }
 
     @JsonProperty("used")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getUsed() {
+    public Map<String, Quantity> getUsed() {
         return used;
     }
 
     @JsonProperty("used")
-    public void setUsed(Map<String, io.fabric8.kubernetes.api.model.Quantity> used) {
+    public void setUsed(Map<String, Quantity> used) {
         this.used = used;
     }
 
@@ -94,4 +96,13 @@ public class ResourceQuotaStatus implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ResourceQuotaStatus deepCopy() {
+        ResourceQuotaStatus copy = new ResourceQuotaStatus();
+        copy.hard = DeepCopy.copy(this.hard);
+        copy.used = DeepCopy.copy(this.used);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ResourceQuotaStatus.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ResourceRequirements implements KubernetesResource
+public class ResourceRequirements implements KubernetesResource, DeepCopyable<ResourceRequirements>
 {
 
     @JsonProperty("claims")
@@ -45,10 +47,10 @@ public class ResourceRequirements implements KubernetesResource
     private List<ResourceClaim> claims = new ArrayList<ResourceClaim>();
     @JsonProperty("limits")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> limits = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> limits = new LinkedHashMap<String, Quantity>();
     @JsonProperty("requests")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    private Map<String, io.fabric8.kubernetes.api.model.Quantity> requests = new LinkedHashMap<String, io.fabric8.kubernetes.api.model.Quantity>();
+    private Map<String, Quantity> requests = new LinkedHashMap<String, Quantity>();
     @JsonIgnore
     private Map<java.lang.String, Object> additionalProperties = new HashMap<java.lang.String, Object>();
 
@@ -65,7 +67,7 @@ public class ResourceRequirements implements KubernetesResource
      * @param requests
      * @param limits
      */
-    public ResourceRequirements(List<ResourceClaim> claims, Map<String, io.fabric8.kubernetes.api.model.Quantity> limits, Map<String, io.fabric8.kubernetes.api.model.Quantity> requests) {
+    public ResourceRequirements(List<ResourceClaim> claims, Map<String, Quantity> limits, Map<String, Quantity> requests) {
         super();
         this.claims = claims;
         this.limits = limits;
@@ -83,22 +85,22 @@ public class ResourceRequirements implements KubernetesResource
     }
 
     @JsonProperty("limits")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getLimits() {
+    public Map<String, Quantity> getLimits() {
         return limits;
     }
 
     @JsonProperty("limits")
-    public void setLimits(Map<String, io.fabric8.kubernetes.api.model.Quantity> limits) {
+    public void setLimits(Map<String, Quantity> limits) {
         this.limits = limits;
     }
 
     @JsonProperty("requests")
-    public Map<String, io.fabric8.kubernetes.api.model.Quantity> getRequests() {
+    public Map<String, Quantity> getRequests() {
         return requests;
     }
 
     @JsonProperty("requests")
-    public void setRequests(Map<String, io.fabric8.kubernetes.api.model.Quantity> requests) {
+    public void setRequests(Map<String, Quantity> requests) {
         this.requests = requests;
     }
 
@@ -112,4 +114,14 @@ public class ResourceRequirements implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ResourceRequirements deepCopy() {
+        ResourceRequirements copy = new ResourceRequirements();
+        copy.claims = DeepCopy.copy(this.claims);
+        copy.limits = DeepCopy.copy(this.limits);
+        copy.requests = DeepCopy.copy(this.requests);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ResourceRequirements.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class RootPaths implements KubernetesResource
+public class RootPaths implements KubernetesResource, DeepCopyable<RootPaths>
 {
 
     @JsonProperty("paths")
@@ -78,4 +80,12 @@ public class RootPaths implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public RootPaths deepCopy() {
+        RootPaths copy = new RootPaths();
+        copy.paths = DeepCopy.copy(this.paths);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(RootPaths.class, this.additionalProperties);
+        return copy;
+    }
+
 }
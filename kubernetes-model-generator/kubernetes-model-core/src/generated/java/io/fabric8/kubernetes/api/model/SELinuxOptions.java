@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class SELinuxOptions implements KubernetesResource
+public class SELinuxOptions implements KubernetesResource, DeepCopyable<SELinuxOptions>
 {
 
     @JsonProperty("level")
@@ -121,4 +123,15 @@ public class SELinuxOptions implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public SELinuxOptions deepCopy() {
+        SELinuxOptions copy = new SELinuxOptions();
+        copy.level = this.level;
+        copy.role = this.role;
+        copy.type = this.type;
+        copy.user = this.user;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(SELinuxOptions.class, this.additionalProperties);
+        return copy;
+    }
+
 }
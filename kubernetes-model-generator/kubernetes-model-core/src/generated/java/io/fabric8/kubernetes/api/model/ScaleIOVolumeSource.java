@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ScaleIOVolumeSource implements KubernetesResource
+public class ScaleIOVolumeSource implements KubernetesResource, DeepCopyable<ScaleIOVolumeSource>
 {
 
     @JsonProperty("fsType")
@@ -211,4 +213,21 @@ public class ScaleIOVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ScaleIOVolumeSource deepCopy() {
+        ScaleIOVolumeSource copy = new ScaleIOVolumeSource();
+        copy.fsType = this.fsType;
+        copy.gateway = this.gateway;
+        copy.protectionDomain = this.protectionDomain;
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.sslEnabled = this.sslEnabled;
+        copy.storageMode = this.storageMode;
+        copy.storagePool = this.storagePool;
+        copy.system = this.system;
+        copy.volumeName = this.volumeName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ScaleIOVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -11,8 +11,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -45,7 +47,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class Secret implements HasMetadata, Namespaced
+public class Secret implements HasMetadata, Namespaced, DeepCopyable<Secret>
 {
 
     /**
@@ -205,4 +207,18 @@ public class Secret implements HasMetadata, Namespaced
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Secret deepCopy() {
+        Secret copy = new Secret();
+        copy.apiVersion = this.apiVersion;
+        copy.data = DeepCopy.copy(this.data);
+        copy.immutable = this.immutable;
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.stringData = DeepCopy.copy(this.stringData);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Secret.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class SecretEnvSource implements KubernetesResource
+public class SecretEnvSource implements KubernetesResource, DeepCopyable<SecretEnvSource>
 {
 
     @JsonProperty("name")
@@ -91,4 +93,13 @@ public class SecretEnvSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public SecretEnvSource deepCopy() {
+        SecretEnvSource copy = new SecretEnvSource();
+        copy.name = this.name;
+        copy.optional = this.optional;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(SecretEnvSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
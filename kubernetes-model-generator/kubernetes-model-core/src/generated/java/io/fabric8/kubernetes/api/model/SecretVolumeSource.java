@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class SecretVolumeSource implements KubernetesResource
+public class SecretVolumeSource implements KubernetesResource, DeepCopyable<SecretVolumeSource>
 {
 
     @JsonProperty("defaultMode")
@@ -124,4 +126,15 @@ public class SecretVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public SecretVolumeSource deepCopy() {
+        SecretVolumeSource copy = new SecretVolumeSource();
+        copy.defaultMode = this.defaultMode;
+        copy.items = DeepCopy.copy(this.items);
+        copy.optional = this.optional;
+        copy.secretName = this.secretName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(SecretVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class SecurityContext implements KubernetesResource
+public class SecurityContext implements KubernetesResource, DeepCopyable<SecurityContext>
 {
 
     @JsonProperty("allowPrivilegeEscalation")
@@ -226,4 +228,22 @@ public class SecurityContext implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public SecurityContext deepCopy() {
+        SecurityContext copy = new SecurityContext();
+        copy.allowPrivilegeEscalation = this.allowPrivilegeEscalation;
+        copy.capabilities = DeepCopy.copy(this.capabilities);
+        copy.privileged = this.privileged;
+        copy.procMount = this.procMount;
+        copy.readOnlyRootFilesystem = this.readOnlyRootFilesystem;
+        copy.runAsGroup = DeepCopy.copy(this.runAsGroup);
+        copy.runAsNonRoot = this.runAsNonRoot;
+        copy.runAsUser = DeepCopy.copy(this.runAsUser);
+        copy.seLinuxOptions = DeepCopy.copy(this.seLinuxOptions);
+        copy.seccompProfile = DeepCopy.copy(this.seccompProfile);
+        copy.windowsOptions = DeepCopy.copy(this.windowsOptions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(SecurityContext.class, this.additionalProperties);
+        return copy;
+    }
+
 }
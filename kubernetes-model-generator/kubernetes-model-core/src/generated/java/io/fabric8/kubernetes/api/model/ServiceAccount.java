@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -45,7 +47,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class ServiceAccount implements HasMetadata, Namespaced
+public class ServiceAccount implements HasMetadata, Namespaced, DeepCopyable<ServiceAccount>
 {
 
     /**
@@ -191,4 +193,17 @@ public class ServiceAccount implements HasMetadata, Namespaced
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ServiceAccount deepCopy() {
+        ServiceAccount copy = new ServiceAccount();
+        copy.apiVersion = this.apiVersion;
+        copy.automountServiceAccountToken = this.automountServiceAccountToken;
+        copy.imagePullSecrets = DeepCopy.copy(this.imagePullSecrets);
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.secrets = DeepCopy.copy(this.secrets);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ServiceAccount.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ServiceAccountTokenProjection implements KubernetesResource
+public class ServiceAccountTokenProjection implements KubernetesResource, DeepCopyable<ServiceAccountTokenProjection>
 {
 
     @JsonProperty("audience")
@@ -106,4 +108,14 @@ public class ServiceAccountTokenProjection implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ServiceAccountTokenProjection deepCopy() {
+        ServiceAccountTokenProjection copy = new ServiceAccountTokenProjection();
+        copy.audience = this.audience;
+        copy.expirationSeconds = DeepCopy.copy(this.expirationSeconds);
+        copy.path = this.path;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ServiceAccountTokenProjection.class, this.additionalProperties);
+        return copy;
+    }
+
 }
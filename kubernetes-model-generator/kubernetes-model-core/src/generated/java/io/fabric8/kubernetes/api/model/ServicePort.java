@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ServicePort implements KubernetesResource
+public class ServicePort implements KubernetesResource, DeepCopyable<ServicePort>
 {
 
     @JsonProperty("appProtocol")
@@ -151,4 +153,17 @@ public class ServicePort implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ServicePort deepCopy() {
+        ServicePort copy = new ServicePort();
+        copy.appProtocol = this.appProtocol;
+        copy.name = this.name;
+        copy.nodePort = this.nodePort;
+        copy.port = this.port;
+        copy.protocol = this.protocol;
+        copy.targetPort = DeepCopy.copy(this.targetPort);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ServicePort.class, this.additionalProperties);
+        return copy;
+    }
+
 }
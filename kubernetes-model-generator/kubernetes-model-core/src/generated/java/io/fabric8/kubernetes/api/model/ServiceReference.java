@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ServiceReference implements KubernetesResource
+public class ServiceReference implements KubernetesResource, DeepCopyable<ServiceReference>
 {
 
     @JsonProperty("name")
@@ -106,4 +108,14 @@ public class ServiceReference implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ServiceReference deepCopy() {
+        ServiceReference copy = new ServiceReference();
+        copy.name = this.name;
+        copy.namespace = this.namespace;
+        copy.port = this.port;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ServiceReference.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -53,7 +55,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ServiceSpec implements KubernetesResource
+public class ServiceSpec implements KubernetesResource, DeepCopyable<ServiceSpec>
 {
 
     @JsonProperty("allocateLoadBalancerNodePorts")
@@ -355,4 +357,30 @@ public class ServiceSpec implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ServiceSpec deepCopy() {
+        ServiceSpec copy = new ServiceSpec();
+        copy.allocateLoadBalancerNodePorts = this.allocateLoadBalancerNodePorts;
+        copy.clusterIP = this.clusterIP;
+        copy.clusterIPs = DeepCopy.copy(this.clusterIPs);
+        copy.externalIPs = DeepCopy.copy(this.externalIPs);
+        copy.externalName = this.externalName;
+        copy.externalTrafficPolicy = this.externalTrafficPolicy;
+        copy.healthCheckNodePort = this.healthCheckNodePort;
+        copy.internalTrafficPolicy = this.internalTrafficPolicy;
+        copy.ipFamilies = DeepCopy.copy(this.ipFamilies);
+        copy.ipFamilyPolicy = this.ipFamilyPolicy;
+        copy.loadBalancerClass = this.loadBalancerClass;
+        copy.loadBalancerIP = this.loadBalancerIP;
+        copy.loadBalancerSourceRanges = DeepCopy.copy(this.loadBalancerSourceRanges);
+        copy.ports = DeepCopy.copy(this.ports);
+        copy.publishNotReadyAddresses = this.publishNotReadyAddresses;
+        copy.selector = DeepCopy.copy(this.selector);
+        copy.sessionAffinity = this.sessionAffinity;
+        copy.sessionAffinityConfig = DeepCopy.copy(this.sessionAffinityConfig);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ServiceSpec.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,8 +10,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -45,7 +47,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class Status implements KubernetesResource
+public class Status implements KubernetesResource, DeepCopyable<Status>
 {
 
     /**
@@ -217,4 +219,19 @@ public class Status implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Status deepCopy() {
+        Status copy = new Status();
+        copy.apiVersion = this.apiVersion;
+        copy.code = this.code;
+        copy.details = DeepCopy.copy(this.details);
+        copy.kind = this.kind;
+        copy.message = this.message;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.reason = this.reason;
+        copy.status = this.status;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Status.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class StatusDetails implements KubernetesResource
+public class StatusDetails implements KubernetesResource, DeepCopyable<StatusDetails>
 {
 
     @JsonProperty("causes")
@@ -153,4 +155,17 @@ public class StatusDetails implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public StatusDetails deepCopy() {
+        StatusDetails copy = new StatusDetails();
+        copy.causes = DeepCopy.copy(this.causes);
+        copy.group = this.group;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.retryAfterSeconds = this.retryAfterSeconds;
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StatusDetails.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class StorageOSPersistentVolumeSource implements KubernetesResource
+public class StorageOSPersistentVolumeSource implements KubernetesResource, DeepCopyable<StorageOSPersistentVolumeSource>
 {
 
     @JsonProperty("fsType")
@@ -136,4 +138,16 @@ public class StorageOSPersistentVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public StorageOSPersistentVolumeSource deepCopy() {
+        StorageOSPersistentVolumeSource copy = new StorageOSPersistentVolumeSource();
+        copy.fsType = this.fsType;
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.volumeName = this.volumeName;
+        copy.volumeNamespace = this.volumeNamespace;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StorageOSPersistentVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class StorageOSVolumeSource implements KubernetesResource
+public class StorageOSVolumeSource implements KubernetesResource, DeepCopyable<StorageOSVolumeSource>
 {
 
     @JsonProperty("fsType")
@@ -136,4 +138,16 @@ public class StorageOSVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public StorageOSVolumeSource deepCopy() {
+        StorageOSVolumeSource copy = new StorageOSVolumeSource();
+        copy.fsType = this.fsType;
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.volumeName = this.volumeName;
+        copy.volumeNamespace = this.volumeNamespace;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StorageOSVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Taint implements KubernetesResource
+public class Taint implements KubernetesResource, DeepCopyable<Taint>
 {
 
     @JsonProperty("effect")
@@ -121,4 +123,15 @@ public class Taint implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Taint deepCopy() {
+        Taint copy = new Taint();
+        copy.effect = this.effect;
+        copy.key = this.key;
+        copy.timeAdded = DeepCopy.copy(this.timeAdded);
+        copy.value = this.value;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Taint.class, this.additionalProperties);
+        return copy;
+    }
+
 }
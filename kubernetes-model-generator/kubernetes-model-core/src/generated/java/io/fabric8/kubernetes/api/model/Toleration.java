@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Toleration implements KubernetesResource
+public class Toleration implements KubernetesResource, DeepCopyable<Toleration>
 {
 
     @JsonProperty("effect")
@@ -136,4 +138,16 @@ public class Toleration implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Toleration deepCopy() {
+        Toleration copy = new Toleration();
+        copy.effect = this.effect;
+        copy.key = this.key;
+        copy.operator = this.operator;
+        copy.tolerationSeconds = DeepCopy.copy(this.tolerationSeconds);
+        copy.value = this.value;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Toleration.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class TopologySpreadConstraint implements KubernetesResource
+public class TopologySpreadConstraint implements KubernetesResource, DeepCopyable<TopologySpreadConstraint>
 {
 
     @JsonProperty("labelSelector")
@@ -184,4 +186,19 @@ public class TopologySpreadConstraint implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public TopologySpreadConstraint deepCopy() {
+        TopologySpreadConstraint copy = new TopologySpreadConstraint();
+        copy.labelSelector = DeepCopy.copy(this.labelSelector);
+        copy.matchLabelKeys = DeepCopy.copy(this.matchLabelKeys);
+        copy.maxSkew = this.maxSkew;
+        copy.minDomains = this.minDomains;
+        copy.nodeAffinityPolicy = this.nodeAffinityPolicy;
+        copy.nodeTaintsPolicy = this.nodeTaintsPolicy;
+        copy.topologyKey = this.topologyKey;
+        copy.whenUnsatisfiable = this.whenUnsatisfiable;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(TopologySpreadConstraint.class, this.additionalProperties);
+        return copy;
+    }
+
 }
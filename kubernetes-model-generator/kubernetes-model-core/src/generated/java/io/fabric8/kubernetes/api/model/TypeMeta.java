@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -31,7 +33,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class TypeMeta implements KubernetesResource
+public class TypeMeta implements KubernetesResource, DeepCopyable<TypeMeta>
 {
 
     @JsonProperty("apiVersion")
@@ -89,4 +91,13 @@ public class TypeMeta implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public TypeMeta deepCopy() {
+        TypeMeta copy = new TypeMeta();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(TypeMeta.class, this.additionalProperties);
+        return copy;
+    }
+
 }
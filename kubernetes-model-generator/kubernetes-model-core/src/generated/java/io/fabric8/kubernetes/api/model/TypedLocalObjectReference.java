@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class TypedLocalObjectReference implements KubernetesResource
+public class TypedLocalObjectReference implements KubernetesResource, DeepCopyable<TypedLocalObjectReference>
 {
 
     @JsonProperty("apiGroup")
@@ -105,4 +107,14 @@ public class TypedLocalObjectReference implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public TypedLocalObjectReference deepCopy() {
+        TypedLocalObjectReference copy = new TypedLocalObjectReference();
+        copy.apiGroup = this.apiGroup;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(TypedLocalObjectReference.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class TypedObjectReference implements KubernetesResource
+public class TypedObjectReference implements KubernetesResource, DeepCopyable<TypedObjectReference>
 {
 
     @JsonProperty("apiGroup")
@@ -120,4 +122,15 @@ public class TypedObjectReference implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public TypedObjectReference deepCopy() {
+        TypedObjectReference copy = new TypedObjectReference();
+        copy.apiGroup = this.apiGroup;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.namespace = this.namespace;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(TypedObjectReference.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -45,7 +47,7 @@ import lombok.experimental.Accessors;
 })
 @Version("v1")
 @Group("")
-public class UpdateOptions implements KubernetesResource
+public class UpdateOptions implements KubernetesResource, DeepCopyable<UpdateOptions>
 {
 
     /**
@@ -176,4 +178,16 @@ public class UpdateOptions implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public UpdateOptions deepCopy() {
+        UpdateOptions copy = new UpdateOptions();
+        copy.apiVersion = this.apiVersion;
+        copy.dryRun = DeepCopy.copy(this.dryRun);
+        copy.fieldManager = this.fieldManager;
+        copy.fieldValidation = this.fieldValidation;
+        copy.kind = this.kind;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(UpdateOptions.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.model.version.Info;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -96,7 +98,8 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class ValidationSchema {
+public class ValidationSchema implements DeepCopyable<ValidationSchema>
+{
 
     @JsonProperty("APIGroup")
     private APIGroup aPIGroup;
@@ -1021,4 +1024,75 @@ public class ValidationSchema {
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public ValidationSchema deepCopy() {
+        ValidationSchema copy = new ValidationSchema();
+        copy.aPIGroup = DeepCopy.copy(this.aPIGroup);
+        copy.aPIGroupList = DeepCopy.copy(this.aPIGroupList);
+        copy.aPIResource = DeepCopy.copy(this.aPIResource);
+        copy.aPIResourceList = DeepCopy.copy(this.aPIResourceList);
+        copy.aPIService = DeepCopy.copy(this.aPIService);
+        copy.aPIServiceList = DeepCopy.copy(this.aPIServiceList);
+        copy.binding = DeepCopy.copy(this.binding);
+        copy.componentStatus = DeepCopy.copy(this.componentStatus);
+        copy.componentStatusList = DeepCopy.copy(this.componentStatusList);
+        copy.condition = DeepCopy.copy(this.condition);
+        copy.config = DeepCopy.copy(this.config);
+        copy.configMap = DeepCopy.copy(this.configMap);
+        copy.configMapList = DeepCopy.copy(this.configMapList);
+        copy.containerStatus = DeepCopy.copy(this.containerStatus);
+        copy.createOptions = DeepCopy.copy(this.createOptions);
+        copy.deleteOptions = DeepCopy.copy(this.deleteOptions);
+        copy.endpointPort = DeepCopy.copy(this.endpointPort);
+        copy.endpoints = DeepCopy.copy(this.endpoints);
+        copy.endpointsList = DeepCopy.copy(this.endpointsList);
+        copy.envVar = DeepCopy.copy(this.envVar);
+        copy.event = DeepCopy.copy(this.event);
+        copy.eventList = DeepCopy.copy(this.eventList);
+        copy.eventSeries = DeepCopy.copy(this.eventSeries);
+        copy.eventSource = DeepCopy.copy(this.eventSource);
+        copy.getOptions = DeepCopy.copy(this.getOptions);
+        copy.groupKind = DeepCopy.copy(this.groupKind);
+        copy.groupVersionKind = DeepCopy.copy(this.groupVersionKind);
+        copy.groupVersionResource = DeepCopy.copy(this.groupVersionResource);
+        copy.info = DeepCopy.copy(this.info);
+        copy.kubernetesList = DeepCopy.copy(this.kubernetesList);
+        copy.limitRangeList = DeepCopy.copy(this.limitRangeList);
+        copy.listOptions = DeepCopy.copy(this.listOptions);
+        copy.microTime = DeepCopy.copy(this.microTime);
+        copy.namespace = DeepCopy.copy(this.namespace);
+        copy.namespaceList = DeepCopy.copy(this.namespaceList);
+        copy.node = DeepCopy.copy(this.node);
+        copy.nodeList = DeepCopy.copy(this.nodeList);
+        copy.objectMeta = DeepCopy.copy(this.objectMeta);
+        copy.patch = DeepCopy.copy(this.patch);
+        copy.patchOptions = DeepCopy.copy(this.patchOptions);
+        copy.persistentVolume = DeepCopy.copy(this.persistentVolume);
+        copy.persistentVolumeClaim = DeepCopy.copy(this.persistentVolumeClaim);
+        copy.persistentVolumeClaimList = DeepCopy.copy(this.persistentVolumeClaimList);
+        copy.persistentVolumeList = DeepCopy.copy(this.persistentVolumeList);
+        copy.podExecOptions = DeepCopy.copy(this.podExecOptions);
+        copy.podList = DeepCopy.copy(this.podList);
+        copy.podTemplateList = DeepCopy.copy(this.podTemplateList);
+        copy.quantity = DeepCopy.copy(this.quantity);
+        copy.replicationControllerList = DeepCopy.copy(this.replicationControllerList);
+        copy.resourceQuota = DeepCopy.copy(this.resourceQuota);
+        copy.resourceQuotaList = DeepCopy.copy(this.resourceQuotaList);
+        copy.rootPaths = DeepCopy.copy(this.rootPaths);
+        copy.secret = DeepCopy.copy(this.secret);
+        copy.secretList = DeepCopy.copy(this.secretList);
+        copy.serviceAccount = DeepCopy.copy(this.serviceAccount);
+        copy.serviceAccountList = DeepCopy.copy(this.serviceAccountList);
+        copy.serviceList = DeepCopy.copy(this.serviceList);
+        copy.status = DeepCopy.copy(this.status);
+        copy.time = DeepCopy.copy(this.time);
+        copy.toleration = DeepCopy.copy(this.toleration);
+        copy.topologySelectorTerm = DeepCopy.copy(this.topologySelectorTerm);
+        copy.typeMeta = DeepCopy.copy(this.typeMeta);
+        copy.updateOptions = DeepCopy.copy(this.updateOptions);
+        copy.watchEvent = DeepCopy.copy(this.watchEvent);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ValidationSchema.class, this.additionalProperties);
+        return copy;
+    }
+
 }
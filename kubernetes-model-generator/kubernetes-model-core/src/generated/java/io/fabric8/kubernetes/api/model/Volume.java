@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -61,7 +63,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Volume implements KubernetesResource
+public class Volume implements KubernetesResource, DeepCopyable<Volume>
 {
 
     @JsonProperty("awsElasticBlockStore")
@@ -511,4 +513,41 @@ public class Volume implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Volume deepCopy() {
+        Volume copy = new Volume();
+        copy.awsElasticBlockStore = DeepCopy.copy(this.awsElasticBlockStore);
+        copy.azureDisk = DeepCopy.copy(this.azureDisk);
+        copy.azureFile = DeepCopy.copy(this.azureFile);
+        copy.cephfs = DeepCopy.copy(this.cephfs);
+        copy.cinder = DeepCopy.copy(this.cinder);
+        copy.configMap = DeepCopy.copy(this.configMap);
+        copy.csi = DeepCopy.copy(this.csi);
+        copy.downwardAPI = DeepCopy.copy(this.downwardAPI);
+        copy.emptyDir = DeepCopy.copy(this.emptyDir);
+        copy.ephemeral = DeepCopy.copy(this.ephemeral);
+        copy.fc = DeepCopy.copy(this.fc);
+        copy.flexVolume = DeepCopy.copy(this.flexVolume);
+        copy.flocker = DeepCopy.copy(this.flocker);
+        copy.gcePersistentDisk = DeepCopy.copy(this.gcePersistentDisk);
+        copy.gitRepo = DeepCopy.copy(this.gitRepo);
+        copy.glusterfs = DeepCopy.copy(this.glusterfs);
+        copy.hostPath = DeepCopy.copy(this.hostPath);
+        copy.iscsi = DeepCopy.copy(this.iscsi);
+        copy.name = this.name;
+        copy.nfs = DeepCopy.copy(this.nfs);
+        copy.persistentVolumeClaim = DeepCopy.copy(this.persistentVolumeClaim);
+        copy.photonPersistentDisk = DeepCopy.copy(this.photonPersistentDisk);
+        copy.portworxVolume = DeepCopy.copy(this.portworxVolume);
+        copy.projected = DeepCopy.copy(this.projected);
+        copy.quobyte = DeepCopy.copy(this.quobyte);
+        copy.rbd = DeepCopy.copy(this.rbd);
+        copy.scaleIO = DeepCopy.copy(this.scaleIO);
+        copy.secret = DeepCopy.copy(this.secret);
+        copy.storageos = DeepCopy.copy(this.storageos);
+        copy.vsphereVolume = DeepCopy.copy(this.vsphereVolume);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Volume.class, this.additionalProperties);
+        return copy;
+    }
+
 }
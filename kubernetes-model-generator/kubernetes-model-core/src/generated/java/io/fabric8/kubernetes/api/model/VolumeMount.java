@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class VolumeMount implements KubernetesResource
+public class VolumeMount implements KubernetesResource, DeepCopyable<VolumeMount>
 {
 
     @JsonProperty("mountPath")
@@ -151,4 +153,17 @@ public class VolumeMount implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public VolumeMount deepCopy() {
+        VolumeMount copy = new VolumeMount();
+        copy.mountPath = this.mountPath;
+        copy.mountPropagation = this.mountPropagation;
+        copy.name = this.name;
+        copy.readOnly = this.readOnly;
+        copy.subPath = this.subPath;
+        copy.subPathExpr = this.subPathExpr;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(VolumeMount.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class VolumeProjection implements KubernetesResource
+public class VolumeProjection implements KubernetesResource, DeepCopyable<VolumeProjection>
 {
 
     @JsonProperty("configMap")
@@ -121,4 +123,15 @@ public class VolumeProjection implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public VolumeProjection deepCopy() {
+        VolumeProjection copy = new VolumeProjection();
+        copy.configMap = DeepCopy.copy(this.configMap);
+        copy.downwardAPI = DeepCopy.copy(this.downwardAPI);
+        copy.secret = DeepCopy.copy(this.secret);
+        copy.serviceAccountToken = DeepCopy.copy(this.serviceAccountToken);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(VolumeProjection.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class VsphereVirtualDiskVolumeSource implements KubernetesResource
+public class VsphereVirtualDiskVolumeSource implements KubernetesResource, DeepCopyable<VsphereVirtualDiskVolumeSource>
 {
 
     @JsonProperty("fsType")
@@ -121,4 +123,15 @@ public class VsphereVirtualDiskVolumeSource implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public VsphereVirtualDiskVolumeSource deepCopy() {
+        VsphereVirtualDiskVolumeSource copy = new VsphereVirtualDiskVolumeSource();
+        copy.fsType = this.fsType;
+        copy.storagePolicyID = this.storagePolicyID;
+        copy.storagePolicyName = this.storagePolicyName;
+        copy.volumePath = this.volumePath;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(VsphereVirtualDiskVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -33,11 +35,11 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class WatchEvent implements io.fabric8.kubernetes.api.model.KubernetesResource
+public class WatchEvent implements KubernetesResource, DeepCopyable<WatchEvent>
 {
 
     @JsonProperty("object")
-    private io.fabric8.kubernetes.api.model.KubernetesResource object;
+    private KubernetesResource object;
     @JsonProperty("type")
     private String type;
     @JsonIgnore
@@ -55,19 +57,19 @@ public class WatchEvent implements io.fabric8.kubernetes.api.model.KubernetesRes
      * @param type
      * @param object
      */
-    public WatchEvent(io.fabric8.kubernetes.api.model.KubernetesResource object, String type) {
+    public WatchEvent(KubernetesResource object, String type) {
         super();
         this.object = object;
         this.type = type;
     }
 
     @JsonProperty("object")
-    public io.fabric8.kubernetes.api.model.KubernetesResource getObject() {
+    public KubernetesResource getObject() {
         return object;
     }
 
     @JsonProperty("object")
-    public void setObject(io.fabric8.kubernetes.api.model.KubernetesResource object) {
+    public void setObject(KubernetesResource object) {
         this.object = object;
     }
 
@@ -91,4 +93,13 @@ public class WatchEvent implements io.fabric8.kubernetes.api.model.KubernetesRes
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public WatchEvent deepCopy() {
+        WatchEvent copy = new WatchEvent();
+        copy.object = DeepCopy.copy(this.object);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(WatchEvent.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class WindowsSecurityContextOptions implements KubernetesResource
+public class WindowsSecurityContextOptions implements KubernetesResource, DeepCopyable<WindowsSecurityContextOptions>
 {
 
     @JsonProperty("gmsaCredentialSpec")
@@ -121,4 +123,15 @@ public class WindowsSecurityContextOptions implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public WindowsSecurityContextOptions deepCopy() {
+        WindowsSecurityContextOptions copy = new WindowsSecurityContextOptions();
+        copy.gmsaCredentialSpec = this.gmsaCredentialSpec;
+        copy.gmsaCredentialSpecName = this.gmsaCredentialSpecName;
+        copy.hostProcess = this.hostProcess;
+        copy.runAsUserName = this.runAsUserName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(WindowsSecurityContextOptions.class, this.additionalProperties);
+        return copy;
+    }
+
 }
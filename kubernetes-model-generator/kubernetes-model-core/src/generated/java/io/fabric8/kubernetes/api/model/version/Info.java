@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Info implements KubernetesResource
+public class Info implements KubernetesResource, DeepCopyable<Info>
 {
 
     @JsonProperty("buildDate")
@@ -197,4 +199,20 @@ public class Info implements KubernetesResource
         this.additionalProperties.put(name, value);
     }
 
+    @Override
+    public Info deepCopy() {
+        Info copy = new Info();
+        copy.buildDate = this.buildDate;
+        copy.compiler = this.compiler;
+        copy.gitCommit = this.gitCommit;
+        copy.gitTreeState = this.gitTreeState;
+        copy.gitVersion = this.gitVersion;
+        copy.goVersion = this.goVersion;
+        copy.major = this.major;
+        copy.minor = this.minor;
+        copy.platform = this.platform;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Info.class, this.additionalProperties);
+        return copy;
+    }
+
 }
@@ -24,6 +24,8 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -47,7 +49,7 @@ import java.util.Map;
 @ToString
 @EqualsAndHashCode
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class GenericKubernetesResource implements HasMetadata {
+public class GenericKubernetesResource implements HasMetadata, DeepCopyable<GenericKubernetesResource> {
 
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
@@ -74,6 +76,17 @@ public class GenericKubernetesResource implements HasMetadata {
     this.additionalProperties.put(name, value);
   }
 
+  @Override
+  public GenericKubernetesResource deepCopy() {
+    GenericKubernetesResource copy = new GenericKubernetesResource();
+    copy.apiVersion = apiVersion;
+    copy.kind = kind;
+    copy.metadata = DeepCopy.copy(metadata);
+    copy.additionalProperties = DeepCopy.copyAdditionalProperties(GenericKubernetesResource.class,
+        additionalProperties);
+    return copy;
+  }
+
   @JsonIgnore
   public JsonNode getAdditionalPropertiesNode() {
     return MAPPER.convertValue(getAdditionalProperties(), JsonNode.class);
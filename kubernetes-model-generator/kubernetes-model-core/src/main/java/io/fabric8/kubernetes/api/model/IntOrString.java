@@ -38,6 +38,12 @@ public class IntOrString extends AnyType {
     super.setValue(value);
   }
 
+  @Override
+  public IntOrString deepCopy() {
+    // the value is always immutable
+    return new IntOrString(value);
+  }
+
   /**
    * Get Integer value
    *
@@ -29,7 +29,10 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
+import lombok.AccessLevel;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
@@ -38,6 +41,7 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -54,12 +58,49 @@ import java.util.Map;
     ""
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = true, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Quantity implements Serializable {
+public class Quantity implements Serializable, Comparable<Quantity>, DeepCopyable<Quantity> {
 
   private static final String AT_LEAST_ONE_DIGIT_REGEX = ".*\\d+.*";
+  private static final Map<String, BigDecimal> MULTIPLES = new HashMap<>();
+  private static final Map<String, Long> MILLI_MULTIPLES = new HashMap<>();
+
+  static {
+    BigDecimal binaryFactor = new BigDecimal("2");
+    BigDecimal decimalFactor = new BigDecimal("10");
+    String[] binary = { "Ki", "Mi", "Gi", "Ti", "Pi", "Ei" };
+    for (int i = 0; i < binary.length; i++) {
+      MULTIPLES.put(binary[i], binaryFactor.pow(10 * (i + 1), MathContext.DECIMAL64));
+    }
+    String[] decimal = { "n", "u", "m", "", "k", "M", "G", "T", "P", "E" };
+    for (int i = 0; i < decimal.length; i++) {
+      MULTIPLES.put(decimal[i], decimalFactor.pow(3 * (i - 3), MathContext.DECIMAL64));
+    }
+    MULTIPLES.forEach((format, multiple) -> {
+      Long milliMultiple = toMilliAmount(multiple);
+      if (milliMultiple != null && milliMultiple > 0) {
+        MILLI_MULTIPLES.put(format, milliMultiple);
+      }
+    });
+  }
+
+  /**
+   * The numerical amount, computed once, along with its value in milli-units when that fits in a long
+   */
+  private static final class Numeric {
+    private final BigDecimal value;
+    private final Long milliValue;
+
+    private Numeric(BigDecimal value, Long milliValue) {
+      this.value = value;
+      this.milliValue = milliValue;
+    }
+  }
+
   private String amount;
   private String format = "";
   private Map<String, Object> additionalProperties = new HashMap<>();
+  @Setter(AccessLevel.NONE)
+  private transient Numeric numeric;
 
   /**
    * No args constructor for use in serialization
@@ -98,6 +139,7 @@ public class Quantity implements Serializable {
 
   public void setAmount(String amount) {
     this.amount = amount;
+    this.numeric = null;
   }
 
   public String getFormat() {
@@ -106,6 +148,17 @@ public class Quantity implements Serializable {
 
   public void setFormat(String format) {
     this.format = format;
+    this.numeric = null;
+  }
+
+  @Override
+  public Quantity deepCopy() {
+    Quantity copy = new Quantity();
+    copy.amount = amount;
+    copy.format = format;
+    copy.numeric = numeric;
+    copy.additionalProperties = DeepCopy.copy(additionalProperties);
+    return copy;
   }
 
   /**
@@ -117,7 +170,26 @@ public class Quantity implements Serializable {
    */
   @JsonIgnore
   public BigDecimal getNumericalAmount() throws ArithmeticException {
-    return getAmountInBytes(this);
+    return getNumeric().value;
+  }
+
+  private Numeric getNumeric() {
+    Numeric result = numeric;
+    if (result == null) {
+      BigDecimal value = computeAmountInBytes(this);
+      result = new Numeric(value, toMilliAmount(value));
+      numeric = result;
+    }
+    return result;
+  }
+
+  private static Long toMilliAmount(BigDecimal value) {
+    try {
+      return value.movePointRight(3).longValueExact();
+    } catch (ArithmeticException e) {
+      // has a fractional milli part, or is too large
+      return null;
+    }
   }
 
   /**
@@ -130,6 +202,10 @@ public class Quantity implements Serializable {
    * @throws ArithmeticException
    */
   public static BigDecimal getAmountInBytes(Quantity quantity) throws ArithmeticException {
+    return quantity.getNumericalAmount();
+  }
+
+  private static BigDecimal computeAmountInBytes(Quantity quantity) {
     String value = "";
     if (quantity.getAmount() != null && quantity.getFormat() != null) {
       value = quantity.getAmount() + quantity.getFormat();
@@ -153,64 +229,167 @@ public class Quantity implements Serializable {
       return new BigDecimal("10").pow(exponent, MathContext.DECIMAL64).multiply(new BigDecimal(amountFormatPair.getAmount()));
     }
 
-    BigDecimal digit = new BigDecimal(amountFormatPair.getAmount());
-    BigDecimal multiple = new BigDecimal("1");
-    BigDecimal binaryFactor = new BigDecimal("2");
-    BigDecimal decimalFactor = new BigDecimal("10");
+    BigDecimal multiple = MULTIPLES.get(formatStr);
+    if (multiple == null) {
+      throw new IllegalArgumentException("Invalid quantity format passed to parse");
+    }
+    return new BigDecimal(amountFormatPair.getAmount()).multiply(multiple);
+  }
 
-    switch (formatStr) {
-      case "Ki":
-        multiple = binaryFactor.pow(10, MathContext.DECIMAL64);
-        break;
-      case "Mi":
-        multiple = binaryFactor.pow(20, MathContext.DECIMAL64);
-        break;
-      case "Gi":
-        multiple = binaryFactor.pow(30, MathContext.DECIMAL64);
-        break;
-      case "Ti":
-        multiple = binaryFactor.pow(40, MathContext.DECIMAL64);
-        break;
-      case "Pi":
-        multiple = binaryFactor.pow(50, MathContext.DECIMAL64);
-        break;
-      case "Ei":
-        multiple = binaryFactor.pow(60, MathContext.DECIMAL64);
-        break;
-      case "n":
-        multiple = decimalFactor.pow(-9, MathContext.DECIMAL64);
-        break;
-      case "u":
-        multiple = decimalFactor.pow(-6, MathContext.DECIMAL64);
-        break;
-      case "m":
-        multiple = decimalFactor.pow(-3, MathContext.DECIMAL64);
-        break;
-      case "k":
-        multiple = decimalFactor.pow(3, MathContext.DECIMAL64);
-        break;
-      case "M":
-        multiple = decimalFactor.pow(6, MathContext.DECIMAL64);
-        break;
-      case "G":
-        multiple = decimalFactor.pow(9, MathContext.DECIMAL64);
-        break;
-      case "T":
-        multiple = decimalFactor.pow(12, MathContext.DECIMAL64);
-        break;
-      case "P":
-        multiple = decimalFactor.pow(15, MathContext.DECIMAL64);
-        break;
-      case "E":
-        multiple = decimalFactor.pow(18, MathContext.DECIMAL64);
-        break;
-      case "":
-        break;
-      default:
-        throw new IllegalArgumentException("Invalid quantity format passed to parse");
+  /**
+   * Creates a Quantity from a numerical amount, expressed in the given format
+   *
+   * @param amountInBytes the numerical amount, see {@link #getNumericalAmount()}
+   * @param desiredFormat a suffix format, such as Mi or m - the empty string for none
+   * @return a new Quantity
+   */
+  public static Quantity fromNumericalAmount(BigDecimal amountInBytes, String desiredFormat) {
+    String format = desiredFormat == null ? "" : desiredFormat;
+    BigDecimal multiple = MULTIPLES.get(format);
+    if (multiple == null) {
+      throw new IllegalArgumentException("Invalid quantity format " + desiredFormat);
+    }
+    BigDecimal scaled = amountInBytes.divide(multiple, MathContext.DECIMAL128).stripTrailingZeros();
+    if (scaled.signum() == 0) {
+      scaled = BigDecimal.ZERO;
     }
+    return new Quantity(scaled.toPlainString(), format);
+  }
 
-    return digit.multiply(multiple);
+  private static Quantity fromMilliAmount(long milliValue, String desiredFormat) {
+    String format = desiredFormat == null || !MULTIPLES.containsKey(desiredFormat) ? "" : desiredFormat;
+    Long milliMultiple = MILLI_MULTIPLES.get(format);
+    if (milliMultiple == null || milliValue % milliMultiple != 0) {
+      return fromNumericalAmount(BigDecimal.valueOf(milliValue, 3), milliValue % 1000 == 0 ? "" : "m");
+    }
+    return new Quantity(Long.toString(milliValue / milliMultiple), format);
+  }
+
+  /**
+   * Add the quantities, using long arithmetic on milli-units when both amounts are whole milli-units
+   *
+   * @param y the quantity to add
+   * @return a new Quantity in the format of this quantity, when the result can be exactly represented in it
+   */
+  public Quantity add(Quantity y) {
+    Numeric x = getNumeric();
+    Numeric other = y.getNumeric();
+    if (x.milliValue != null && other.milliValue != null) {
+      long sum = x.milliValue + other.milliValue;
+      // overflow only if both have the same sign, and the result a different sign
+      if (((x.milliValue ^ sum) & (other.milliValue ^ sum)) >= 0) {
+        return fromMilliAmount(sum, format);
+      }
+    }
+    return fromNumericalAmount(x.value.add(other.value), suffixFormat());
+  }
+
+  /**
+   * Subtract the quantities, using long arithmetic on milli-units when both amounts are whole milli-units
+   *
+   * @param y the quantity to subtract
+   * @return a new Quantity in the format of this quantity, when the result can be exactly represented in it
+   */
+  public Quantity subtract(Quantity y) {
+    Numeric x = getNumeric();
+    Numeric other = y.getNumeric();
+    if (x.milliValue != null && other.milliValue != null) {
+      long difference = x.milliValue - other.milliValue;
+      if (((x.milliValue ^ other.milliValue) & (x.milliValue ^ difference)) >= 0) {
+        return fromMilliAmount(difference, format);
+      }
+    }
+    return fromNumericalAmount(x.value.subtract(other.value), suffixFormat());
+  }
+
+  /**
+   * Sum the quantities, using long arithmetic on milli-units until the total no longer fits
+   *
+   * @param quantities the quantities to sum, null values are skipped
+   * @return the total in the format of the first quantity, or null if there are no quantities
+   */
+  public static Quantity sum(Iterable<Quantity> quantities) {
+    Sum sum = new Sum();
+    for (Quantity quantity : quantities) {
+      if (quantity != null) {
+        sum.add(quantity);
+      }
+    }
+    return sum.toQuantity();
+  }
+
+  /**
+   * Sum resource lists, such as the requests of many containers, by resource name
+   *
+   * @param resourceLists the resource lists to sum, null values are skipped
+   * @return the total of each resource
+   */
+  public static Map<String, Quantity> sumByResource(Iterable<Map<String, Quantity>> resourceLists) {
+    Map<String, Sum> sums = new LinkedHashMap<>();
+    for (Map<String, Quantity> resources : resourceLists) {
+      if (resources == null) {
+        continue;
+      }
+      resources.forEach((name, quantity) -> {
+        if (quantity != null) {
+          sums.computeIfAbsent(name, k -> new Sum()).add(quantity);
+        }
+      });
+    }
+    Map<String, Quantity> result = new LinkedHashMap<>();
+    sums.forEach((name, sum) -> result.put(name, sum.toQuantity()));
+    return result;
+  }
+
+  private static final class Sum {
+    private long milliValue;
+    private BigDecimal value;
+    private String format;
+
+    private void add(Quantity quantity) {
+      Numeric numeric = quantity.getNumeric();
+      if (format == null) {
+        format = quantity.suffixFormat();
+      }
+      if (value == null && numeric.milliValue != null) {
+        long sum = milliValue + numeric.milliValue;
+        if (((milliValue ^ sum) & (numeric.milliValue ^ sum)) >= 0) {
+          milliValue = sum;
+          return;
+        }
+      }
+      if (value == null) {
+        value = BigDecimal.valueOf(milliValue, 3);
+      }
+      value = value.add(numeric.value);
+    }
+
+    private Quantity toQuantity() {
+      if (format == null) {
+        return null;
+      }
+      if (value == null) {
+        return fromMilliAmount(milliValue, format);
+      }
+      return fromNumericalAmount(value, format);
+    }
+  }
+
+  /**
+   * @return the format if it is a suffix, otherwise the empty string - exponent formats are not retained by arithmetic
+   */
+  private String suffixFormat() {
+    return format != null && MULTIPLES.containsKey(format) ? format : "";
+  }
+
+  @Override
+  public int compareTo(Quantity o) {
+    Numeric x = getNumeric();
+    Numeric other = o.getNumeric();
+    if (x.milliValue != null && other.milliValue != null) {
+      return Long.compare(x.milliValue, other.milliValue);
+    }
+    return x.value.compareTo(other.value);
   }
 
   @Override
@@ -223,14 +402,21 @@ public class Quantity implements Serializable {
       return false;
     }
 
-    Quantity quantity = (Quantity) o;
-    return getAmountInBytes(this)
-        .compareTo(getAmountInBytes(quantity)) == 0;
+    return compareTo((Quantity) o) == 0;
   }
 
   @Override
   public int hashCode() {
-    return getAmountInBytes(this).toBigInteger().hashCode();
+    Numeric x = getNumeric();
+    if (x.milliValue != null) {
+      // same as the BigInteger hashCode of the whole amount, without creating one
+      long whole = x.milliValue / 1000;
+      long magnitude = Math.abs(whole);
+      int high = (int) (magnitude >>> 32);
+      int hash = 31 * high + (int) magnitude;
+      return whole < 0 ? -hash : hash;
+    }
+    return x.value.toBigInteger().hashCode();
   }
 
   @Override
@@ -16,10 +16,12 @@
 package io.fabric8.kubernetes.internal;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
@@ -31,7 +33,6 @@ import io.fabric8.kubernetes.model.util.Helper;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -79,26 +80,25 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
 
   @Override
   public KubernetesResource deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-    JsonNode node = jp.readValueAsTree();
-    if (node.isObject()) {
-      return fromObjectNode(jp, node);
-    } else if (node.isArray()) {
-      return fromArrayNode(jp, node);
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+      return fromObject(jp, ctxt);
+    } else if (token == JsonToken.START_ARRAY) {
+      return fromArray(jp, ctxt);
     }
-    Object object = node.traverse(jp.getCodec()).readValueAs(Object.class);
+    Object object = ctxt.readValue(jp, Object.class);
     if (object == null) {
       return null;
     }
     return new RawExtension(object);
   }
 
-  private KubernetesResource fromArrayNode(JsonParser jp, JsonNode node) throws IOException {
-    Iterator<JsonNode> iterator = node.elements();
+  private KubernetesResource fromArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
     List<HasMetadata> list = new ArrayList<>();
-    while (iterator.hasNext()) {
-      JsonNode jsonNode = iterator.next();
-      if (jsonNode.isObject()) {
-        KubernetesResource resource = fromObjectNode(jp, jsonNode);
+    JsonToken token;
+    while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+      if (token == JsonToken.START_OBJECT) {
+        KubernetesResource resource = fromObject(jp, ctxt);
         if (!(resource instanceof HasMetadata)) {
           throw new JsonMappingException(jp, "Cannot parse a nested array containing a non-HasMetadata resource");
         }
@@ -110,35 +110,76 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
     return new KubernetesListBuilder().withItems(list).build();
   }
 
-  private static KubernetesResource fromObjectNode(JsonParser jp, JsonNode node) throws IOException {
-    TypeKey key = getKey(node);
+  /**
+   * Determine the type from the apiVersion and kind fields, then bind the object directly to it.
+   * <p>
+   * Only the fields up to the apiVersion and kind are buffered - the rest are read directly from the parser.
+   */
+  private static KubernetesResource fromObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+    TokenBuffer buffer = ctxt.bufferForInputBuffering(jp);
+    buffer.writeStartObject();
+    String apiVersion = null;
+    String kind = null;
+    boolean apiVersionFound = false;
+    boolean kindFound = false;
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    }
+    for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+      String field = jp.currentName();
+      buffer.writeFieldName(field);
+      JsonToken value = jp.nextToken();
+      if (API_VERSION.equals(field)) {
+        apiVersionFound = true;
+        apiVersion = value == JsonToken.VALUE_STRING ? jp.getText() : null;
+      } else if (KIND.equals(field)) {
+        kindFound = true;
+        kind = value == JsonToken.VALUE_STRING ? jp.getText() : null;
+      }
+      buffer.copyCurrentStructure(jp);
+      if (apiVersionFound && kindFound) {
+        break;
+      }
+    }
+    JsonParser parser;
+    if (token == JsonToken.FIELD_NAME) {
+      // the remaining fields are read from the original parser
+      parser = JsonParserSequence.createFlattened(false, buffer.asParser(jp), jp);
+    } else {
+      buffer.writeEndObject();
+      parser = buffer.asParser(jp);
+    }
+    parser.nextToken();
+    return fromObject(parser, ctxt, mapping.createKey(apiVersion, kind));
+  }
+
+  private static KubernetesResource fromObject(JsonParser parser, DeserializationContext ctxt, TypeKey key)
+      throws IOException {
     Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
     if (resourceType == null) {
       if (key == null) {
         // just a wrapper around a map
         // if this raw mapping typed as HasMetadata, a failure will result
-        return jp.getCodec().treeToValue(node, RawExtension.class);
+        return ctxt.readValue(parser, RawExtension.class);
       }
       // this is not quite correct as not all resources have metadata - see LocalResourceAccessReview
-      return jp.getCodec().treeToValue(node, GenericKubernetesResource.class);
+      return ctxt.readValue(parser, GenericKubernetesResource.class);
     } else if (KubernetesResource.class.isAssignableFrom(resourceType)) {
-      return jp.getCodec().treeToValue(node, resourceType);
+      return ctxt.readValue(parser, resourceType);
     }
-    throw new JsonMappingException(jp, String.format(
+    throw new JsonMappingException(parser, String.format(
         "There's a class loading issue, %s is registered as a KubernetesResource, but is not an instance of KubernetesResource",
         resourceType.getName()));
   }
 
   /**
-   * Return a string representation of the key of the type: <version>#<kind>.
+   * Returns the type that a resource with the given apiVersion and kind will be deserialized as
+   *
+   * @return the registered type, or null if there is none
    */
-  private static TypeKey getKey(JsonNode node) {
-    JsonNode apiVersion = node.get(API_VERSION);
-    JsonNode kind = node.get(KIND);
-
-    return mapping.createKey(
-        apiVersion != null ? apiVersion.textValue() : null,
-        kind != null ? kind.textValue() : null);
+  public static Class<? extends KubernetesResource> getRegisteredType(String apiVersion, String kind) {
+    return mapping.getForKey(mapping.createKey(apiVersion, kind));
   }
 
   /**
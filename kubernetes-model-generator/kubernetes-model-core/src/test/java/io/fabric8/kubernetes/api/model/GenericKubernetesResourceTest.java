@@ -119,6 +119,29 @@ class GenericKubernetesResourceTest {
         .isNotEqualTo(gkr1);
   }
 
+  @Test
+  @DisplayName("deepCopy, with metadata, should copy the metadata")
+  void deepCopyWithMetadataShouldCopyMetadata() throws Exception {
+    // Given
+    final GenericKubernetesResource gkr = objectMapper
+        .readValue(load("custom-resource.json"), GenericKubernetesResource.class);
+    gkr.getMetadata().getLabels().put("app", "test");
+    gkr.getMetadata().getOwnerReferences().add(new OwnerReferenceBuilder().withName("owner").build());
+    gkr.getMetadata().getManagedFields().add(new ManagedFieldsEntryBuilder().withManager("manager")
+        .withFieldsV1(new FieldsV1Builder().addToAdditionalProperties("f:spec", new HashMap<>()).build()).build());
+    // When
+    final GenericKubernetesResource result = gkr.deepCopy();
+    // Then
+    assertThat(result).isEqualTo(gkr);
+    assertThat(result.getMetadata()).isNotSameAs(gkr.getMetadata());
+    assertThat(result.getMetadata().getLabels()).isNotSameAs(gkr.getMetadata().getLabels());
+    assertThat(result.getMetadata().getOwnerReferences().get(0))
+        .isNotSameAs(gkr.getMetadata().getOwnerReferences().get(0));
+    assertThat(result.getMetadata().getManagedFields().get(0).getFieldsV1().getAdditionalProperties().get("f:spec"))
+        .isNotSameAs(gkr.getMetadata().getManagedFields().get(0).getFieldsV1().getAdditionalProperties().get("f:spec"));
+    assertThat(result.getAdditionalProperties().get("spec")).isNotSameAs(gkr.getAdditionalProperties().get("spec"));
+  }
+
   @Test
   @DisplayName("builder should initialize GenericKubernetesResource")
   void builder() {
@@ -21,9 +21,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class QuantityTest {
@@ -164,4 +169,79 @@ public class QuantityTest {
     assertThrows(IllegalArgumentException.class, () -> Quantity.getAmountInBytes(new Quantity("4MiB")));
     assertThrows(IllegalArgumentException.class, () -> Quantity.getAmountInBytes(new Quantity("4megabyte")));
   }
+
+  @Test
+  void testEqualityUsesCachedAmountAndIsResetBySetters() {
+    Quantity quantity = new Quantity("1Gi");
+    assertEquals(new Quantity("1073741824"), quantity);
+    assertEquals(new Quantity("1073741824").hashCode(), quantity.hashCode());
+    assertEquals(new Quantity("0.5"), new Quantity("500m"));
+    assertEquals(new Quantity("0.5").hashCode(), new Quantity("500m").hashCode());
+
+    quantity.setFormat("Mi");
+    assertEquals(new BigDecimal("1048576"), quantity.getNumericalAmount());
+    assertNotEquals(new Quantity("1073741824"), quantity);
+  }
+
+  @Test
+  void testCompareTo() {
+    assertEquals(-1, new Quantity("999m").compareTo(new Quantity("1")));
+    assertEquals(0, new Quantity("1k").compareTo(new Quantity("1000")));
+    assertEquals(1, new Quantity("1Ki").compareTo(new Quantity("1k")));
+    assertEquals(-1, new Quantity("1n").compareTo(new Quantity("2n")));
+  }
+
+  @Test
+  void testAddAndSubtract() {
+    assertEquals("3", new Quantity("1Gi").add(new Quantity("2Gi")).getAmount());
+    assertEquals("Gi", new Quantity("1Gi").add(new Quantity("2Gi")).getFormat());
+    assertEquals("1500", new Quantity("1", "m").add(new Quantity("1.499")).getAmount());
+    assertEquals("m", new Quantity("1", "m").add(new Quantity("1.499")).getFormat());
+    // not representable in the format
+    assertEquals(new Quantity("1073741825"), new Quantity("1Gi").add(new Quantity("1")));
+    assertEquals(new Quantity("-100m"), new Quantity("100m").subtract(new Quantity("200m")));
+    // beyond long milli-units
+    assertEquals(new Quantity("20E"), new Quantity("10E").add(new Quantity("10E")));
+    assertEquals(new Quantity("1n"), new Quantity("3n").subtract(new Quantity("2n")));
+  }
+
+  @Test
+  void testSum() {
+    assertEquals(new Quantity("3500m"),
+        Quantity.sum(Arrays.asList(new Quantity("1"), null, new Quantity("500m"), new Quantity("2"))));
+    assertNull(Quantity.sum(Collections.emptyList()));
+
+    Map<String, Quantity> requests1 = new HashMap<>();
+    requests1.put("cpu", new Quantity("100m"));
+    requests1.put("memory", new Quantity("128Mi"));
+    Map<String, Quantity> requests2 = new HashMap<>();
+    requests2.put("cpu", new Quantity("1.5"));
+    requests2.put("memory", new Quantity("1Gi"));
+    requests2.put("huge", new Quantity("9E"));
+    Map<String, Quantity> requests3 = Collections.singletonMap("huge", new Quantity("9E"));
+
+    Map<String, Quantity> totals = Quantity.sumByResource(Arrays.asList(requests1, null, requests2, requests3));
+
+    assertEquals("1600", totals.get("cpu").getAmount());
+    assertEquals("m", totals.get("cpu").getFormat());
+    assertEquals("1152", totals.get("memory").getAmount());
+    assertEquals("Mi", totals.get("memory").getFormat());
+    assertEquals(new Quantity("18E"), totals.get("huge"));
+  }
+
+  @Test
+  void testDeepCopy() {
+    Quantity quantity = new Quantity("1.5", "Gi");
+    Map<String, String> extra = new HashMap<>(Collections.singletonMap("a", "b"));
+    quantity.setAdditionalProperty("extra", extra);
+
+    Quantity copy = quantity.deepCopy();
+
+    assertEquals(quantity, copy);
+    assertEquals(quantity.getNumericalAmount(), copy.getNumericalAmount());
+    assertEquals(quantity.getAdditionalProperties(), copy.getAdditionalProperties());
+    extra.put("a", "c");
+    assertEquals(Collections.singletonMap("a", "b"), copy.getAdditionalProperties().get("extra"));
+  }
+
 }
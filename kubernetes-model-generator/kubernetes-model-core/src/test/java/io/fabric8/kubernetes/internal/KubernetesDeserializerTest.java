@@ -15,9 +15,13 @@
  */
 package io.fabric8.kubernetes.internal;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer.TypeKey;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Kind;
@@ -25,6 +29,8 @@ import io.fabric8.kubernetes.model.annotation.Version;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class KubernetesDeserializerTest {
@@ -126,6 +132,52 @@ class KubernetesDeserializerTest {
     assertThat(clazz).isNull();
   }
 
+  @Test
+  void shouldDeserializeWithTypeFieldsAfterOtherFields() throws Exception {
+    // given
+    String json = "{\"metadata\":{\"name\":\"pod\",\"labels\":{\"kind\":\"label\"}},\"spec\":{\"nodeName\":\"node\"},"
+        + "\"kind\":\"Pod\",\"status\":{\"phase\":\"Running\"},\"apiVersion\":\"v1\"}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource).isInstanceOf(Pod.class);
+    Pod pod = (Pod) resource;
+    assertThat(pod.getMetadata().getName()).isEqualTo("pod");
+    assertThat(pod.getSpec().getNodeName()).isEqualTo("node");
+    assertThat(pod.getStatus().getPhase()).isEqualTo("Running");
+  }
+
+  @Test
+  void shouldDeserializeMixedList() throws Exception {
+    // given
+    String json = "{\"apiVersion\":\"v1\",\"kind\":\"List\",\"items\":["
+        + "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod\"}},"
+        + "{\"metadata\":{\"name\":\"other\"},\"kind\":\"Other\",\"apiVersion\":\"example.com/v1\",\"spec\":{}}]}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource).isInstanceOf(KubernetesList.class);
+    KubernetesList list = (KubernetesList) resource;
+    assertThat(list.getItems()).hasSize(2);
+    assertThat(list.getItems().get(0)).isInstanceOf(Pod.class);
+    GenericKubernetesResource other = (GenericKubernetesResource) list.getItems().get(1);
+    assertThat(other.getMetadata().getName()).isEqualTo("other");
+    assertThat(other.getAdditionalProperties()).containsKey("spec");
+  }
+
+  @Test
+  void shouldDeserializeArrayAndUntypedValues() throws Exception {
+    // given
+    ObjectMapper mapper = new ObjectMapper();
+    // when
+    KubernetesResource array = mapper.readValue("[{\"apiVersion\":\"v1\",\"kind\":\"Pod\"}]", KubernetesResource.class);
+    KubernetesResource raw = mapper.readValue("{\"kind\":\"Pod\",\"value\":1}", KubernetesResource.class);
+    // then
+    assertThat(((KubernetesList) array).getItems().get(0)).isInstanceOf(Pod.class);
+    assertThat(raw).isInstanceOf(RawExtension.class);
+    assertThat(((RawExtension) raw).getValue()).isEqualTo(mapper.readValue("{\"kind\":\"Pod\",\"value\":1}", Map.class));
+  }
+
   @Group("")
   @Kind("Hitchhiker")
   @Version("42")
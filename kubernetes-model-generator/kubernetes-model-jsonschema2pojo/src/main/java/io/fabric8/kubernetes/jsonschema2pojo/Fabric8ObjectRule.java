@@ -20,29 +20,51 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
 import com.sun.codemodel.JAnnotationArrayMember;
+import com.sun.codemodel.ClassType;
 import com.sun.codemodel.JAnnotationUse;
+import com.sun.codemodel.JBlock;
 import com.sun.codemodel.JClassAlreadyExistsException;
 import com.sun.codemodel.JCodeModel;
 import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
 import com.sun.codemodel.JPackage;
 import com.sun.codemodel.JType;
+import com.sun.codemodel.JVar;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.jackson.UnwrappedTypeResolverBuilder;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import org.jsonschema2pojo.Schema;
 import org.jsonschema2pojo.rules.ObjectRule;
 import org.jsonschema2pojo.rules.RuleFactory;
 import org.jsonschema2pojo.util.ParcelableHelper;
 import org.jsonschema2pojo.util.ReflectionHelper;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
- * Class that extend the object rule to add support of interfaces.
+ * Class that extend the object rule to add support of interfaces, and to generate a {@link DeepCopyable#deepCopy()}
+ * method for every class.
  */
 public class Fabric8ObjectRule extends ObjectRule {
   private static final String INTERFACE_TYPE_PROPERTY = "interfaceType";
   private static final String INTERFACE_IMPLEMENTATIONS_TYPE_PROPERTY = "interfaceImpls";
   private static final String VALUE_PROPERTY = "value";
+  private static final String DEEP_COPY_METHOD = "deepCopy";
+  private static final String ADDITIONAL_PROPERTIES_FIELD = "additionalProperties";
+  private static final Set<String> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class.getName(),
+      Boolean.class.getName(), Integer.class.getName(), Long.class.getName(), Double.class.getName(),
+      Float.class.getName(), Short.class.getName(), Byte.class.getName(), Character.class.getName(),
+      BigDecimal.class.getName(), BigInteger.class.getName()));
 
   private final RuleFactory ruleFactory;
 
@@ -60,7 +82,70 @@ public class Fabric8ObjectRule extends ObjectRule {
     }
 
     // rest of types
-    return super.apply(nodeName, node, parent, _package, schema);
+    JType type = super.apply(nodeName, node, parent, _package, schema);
+    if (type instanceof JDefinedClass) {
+      addDeepCopy((JDefinedClass) type);
+    }
+    return type;
+  }
+
+  /**
+   * Generate the equivalent of:
+   *
+   * <pre>{@code
+   * public Type deepCopy() {
+   *   Type copy = new Type();
+   *   copy.name = this.name;
+   *   copy.metadata = DeepCopy.copy(this.metadata);
+   *   copy.additionalProperties = DeepCopy.copyAdditionalProperties(Type.class, this.additionalProperties);
+   *   return copy;
+   * }
+   * }</pre>
+   *
+   * Immutable field values are assigned directly, the additional properties go through
+   * {@link DeepCopy#copyAdditionalProperties(Class, java.util.Map)} and everything else through {@link DeepCopy#copy(Object)}.
+   */
+  private void addDeepCopy(JDefinedClass clazz) {
+    if (clazz.getClassType() != ClassType.CLASS || clazz.isAbstract()
+        || !Object.class.getName().equals(clazz._extends().fullName())
+        || clazz.getMethod(DEEP_COPY_METHOD, new JType[0]) != null) {
+      return;
+    }
+    List<JFieldVar> fields = new ArrayList<>();
+    for (JFieldVar field : clazz.fields().values()) {
+      int mods = field.mods().getValue();
+      if ((mods & JMod.STATIC) != 0) {
+        continue;
+      }
+      if ((mods & JMod.FINAL) != 0) {
+        // cannot be assigned on the copy
+        return;
+      }
+      fields.add(field);
+    }
+
+    JCodeModel codeModel = clazz.owner();
+    clazz._implements(codeModel.ref(DeepCopyable.class).narrow(clazz));
+    JMethod deepCopy = clazz.method(JMod.PUBLIC, clazz, DEEP_COPY_METHOD);
+    deepCopy.annotate(Override.class);
+    JBlock body = deepCopy.body();
+    JVar copy = body.decl(clazz, "copy", JExpr._new(clazz));
+    for (JFieldVar field : fields) {
+      JExpression value = JExpr._this().ref(field);
+      if (ADDITIONAL_PROPERTIES_FIELD.equals(field.name())) {
+        value = codeModel.ref(DeepCopy.class).staticInvoke("copyAdditionalProperties").arg(JExpr.dotclass(clazz))
+            .arg(value);
+      } else if (!isImmutable(field.type())) {
+        value = codeModel.ref(DeepCopy.class).staticInvoke("copy").arg(value);
+      }
+      body.assign(copy.ref(field), value);
+    }
+    body._return(copy);
+  }
+
+  private static boolean isImmutable(JType type) {
+    return type.isPrimitive() || IMMUTABLE_TYPES.contains(type.fullName())
+        || (type instanceof JDefinedClass && ((JDefinedClass) type).getClassType() == ClassType.ENUM);
   }
 
   private JType createInterface(JsonNode node, JPackage _package) {
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.jsonschema2pojo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.writer.FileCodeWriter;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
+import org.jsonschema2pojo.SchemaGenerator;
+import org.jsonschema2pojo.SchemaMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Fabric8ObjectRuleTest {
+
+  private static final String PACKAGE = "io.fabric8.kubernetes.jsonschema2pojo.test";
+  private static final String SCHEMA = "{\"type\":\"object\",\"properties\":{"
+      + "\"name\":{\"type\":\"string\"},"
+      + "\"count\":{\"type\":\"integer\"},"
+      + "\"items\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}},"
+      + "\"child\":{\"type\":\"object\",\"properties\":{\"value\":{\"type\":\"string\"}}}"
+      + "}}";
+  private static final String JSON = "{\"name\":\"example\",\"count\":1,\"items\":[\"a\",\"b\"],"
+      + "\"child\":{\"value\":\"c\"},\"extra\":{\"nested\":\"d\"}}";
+
+  @TempDir
+  Path dir;
+
+  private ObjectMapper mapper;
+
+  @BeforeEach
+  void setUp() {
+    mapper = new ObjectMapper();
+  }
+
+  @Test
+  void generatedDeepCopyCopiesNestedValues() throws Exception {
+    // Given
+    Class<?> type = generate(new Fabric8RuleFactory());
+    Object example = mapper.readValue(JSON, type);
+    // When
+    Object copy = ((DeepCopyable<?>) example).deepCopy();
+    // Then
+    assertTrue(DeepCopyable.class.isAssignableFrom(type.getClassLoader().loadClass(PACKAGE + ".Child")));
+    assertEquals(example, copy);
+    assertEquals(mapper.writeValueAsString(example), mapper.writeValueAsString(copy));
+    assertNotSame(get(example, "getItems"), get(copy, "getItems"));
+    assertNotSame(get(example, "getChild"), get(copy, "getChild"));
+    Map<?, ?> additionalProperties = (Map<?, ?>) get(example, "getAdditionalProperties");
+    Map<?, ?> copiedAdditionalProperties = (Map<?, ?>) get(copy, "getAdditionalProperties");
+    assertNotSame(additionalProperties, copiedAdditionalProperties);
+    assertNotSame(additionalProperties.get("extra"), copiedAdditionalProperties.get("extra"));
+  }
+
+  @Test
+  void generatedDeepCopyLeavesAdditionalPropertiesNamedAsPropertiesToSerialization() throws Exception {
+    // Given
+    Class<?> type = generate(new Fabric8RuleFactory());
+    DeepCopyable<?> example = (DeepCopyable<?>) mapper.readValue(JSON, type);
+    type.getMethod("setAdditionalProperty", String.class, Object.class).invoke(example, "count", "${count}");
+    // When / Then
+    assertThrows(DeepCopy.NotCopyableException.class, example::deepCopy);
+  }
+
+  static Object get(Object object, String getter) throws Exception {
+    return object.getClass().getMethod(getter).invoke(object);
+  }
+
+  /**
+   * Generate the classes for {@link #SCHEMA}, compile them and load the root class
+   */
+  Class<?> generate(Fabric8RuleFactory ruleFactory) throws Exception {
+    JCodeModel codeModel = new JCodeModel();
+    new SchemaMapper(ruleFactory, new SchemaGenerator()).generate(codeModel, "Example", PACKAGE, SCHEMA);
+    Path sources = Files.createDirectories(dir.resolve("sources"));
+    Path classes = Files.createDirectories(dir.resolve("classes"));
+    codeModel.build(new FileCodeWriter(sources.toFile()));
+
+    // the annotation processors on the test class path are not needed
+    List<String> arguments = new ArrayList<>(Arrays.asList("-proc:none", "-d", classes.toString(),
+        "-cp", System.getProperty("java.class.path")));
+    try (Stream<Path> files = Files.walk(sources)) {
+      arguments.addAll(files.filter(p -> p.toString().endsWith(".java")).map(Path::toString).collect(Collectors.toList()));
+    }
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+
+    ClassLoader loader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, getClass().getClassLoader());
+    return loader.loadClass(PACKAGE + ".Example");
+  }
+
+}
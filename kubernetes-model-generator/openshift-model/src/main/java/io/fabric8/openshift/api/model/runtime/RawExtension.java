@@ -29,6 +29,7 @@ import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.BuildableReference;
 import lombok.Setter;
@@ -73,4 +74,9 @@ public class RawExtension extends io.fabric8.kubernetes.api.model.runtime.RawExt
     super(value);
   }
 
+  @Override
+  public RawExtension deepCopy() {
+    return new RawExtension(DeepCopy.copy(value));
+  }
+
 }
@@ -23,6 +23,7 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.StatusDetails;
 import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.api.model.policy.v1.EvictionBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -66,10 +67,12 @@ import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -239,6 +242,63 @@ class PodTest {
     assertFalse(deleted);
   }
 
+  @Test
+  void testDeleteInAnyNamespace() throws InterruptedException {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").and().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("ns1").and().build();
+    Pod pod3 = new PodBuilder().withNewMetadata().withName("pod3").withNamespace("ns2").and().build();
+
+    server.expect().get().withPath("/api/v1/pods").andReturn(200, new PodListBuilder().withItems(pod1, pod2, pod3).build())
+        .once();
+    server.expect().delete().withPath("/api/v1/namespaces/ns1/pods")
+        .andReturn(200, new PodListBuilder().withItems(pod1, pod2).build()).once();
+    server.expect().delete().withPath("/api/v1/namespaces/ns2/pods")
+        .andReturn(200, new PodListBuilder().withItems(pod3).build()).once();
+
+    assertEquals(3, client.pods().inAnyNamespace().delete().size());
+    // only the metadata is needed to find the namespaces
+    assertTrue(server.takeRequest().getHeader("Accept").contains("as=PartialObjectMetadataList"));
+    assertEquals(3, server.getRequestCount());
+  }
+
+  @Test
+  void testSubmitDeleteInAnyNamespaceFollowsContinue() throws Exception {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").and().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("ns2").and().build();
+
+    server.expect().get().withPath("/api/v1/pods")
+        .andReturn(200, new PodListBuilder().withNewMetadata().withContinue("next").endMetadata().withItems(pod1).build())
+        .once();
+    server.expect().get().withPath("/api/v1/pods?continue=next")
+        .andReturn(200, new PodListBuilder().withItems(pod2).build()).once();
+    server.expect().delete().withPath("/api/v1/namespaces/ns1/pods")
+        .andReturn(200, new PodListBuilder().withItems(pod1).build()).once();
+    server.expect().delete().withPath("/api/v1/namespaces/ns2/pods")
+        .andReturn(200, new PodListBuilder().withItems(pod2).build()).once();
+
+    List<StatusDetails> deleted = client.pods().inAnyNamespace().submitDelete().get(10, TimeUnit.SECONDS);
+
+    assertEquals(Arrays.asList("pod1", "pod2"), deleted.stream().map(StatusDetails::getName).collect(Collectors.toList()));
+    assertEquals(4, server.getRequestCount());
+  }
+
+  @Test
+  void testDeleteMultiFailure() {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("ns1").and().build();
+    Pod pod3 = new PodBuilder().withNewMetadata().withName("pod3").withNamespace("ns1").and().build();
+
+    server.expect().delete().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod1).once();
+    server.expect().delete().withPath("/api/v1/namespaces/ns1/pods/pod2").andReturn(403, null).once();
+
+    KubernetesClientException exception = assertThrows(KubernetesClientException.class,
+        () -> client.pods().inAnyNamespace().delete(Arrays.asList(pod1, pod2, pod3)));
+
+    assertEquals(403, exception.getCode());
+    // the other deletes are still attempted
+    assertEquals(3, server.getRequestCount());
+  }
+
   @Test
   void testDeleteWithNamespaceMismatch() {
     // Given
@@ -22,6 +22,9 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.api.model.NamespaceListBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
@@ -29,10 +32,12 @@ import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.api.model.StatusDetails;
 import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
+import io.fabric8.kubernetes.client.dsl.BulkResult;
 import io.fabric8.kubernetes.client.dsl.ListVisitFromServerGetDeleteRecreateWaitApplicable;
 import io.fabric8.kubernetes.client.dsl.NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
@@ -55,6 +60,7 @@ import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -136,6 +142,80 @@ public class ResourceListTest {
     assertTrue(deleted);
   }
 
+  @Test
+  void testInBulkCreate() throws InterruptedException {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").and().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("ns2").and().build();
+    Namespace ns1 = new NamespaceBuilder().withNewMetadata().withName("ns1").endMetadata()
+        .withNewStatus().withPhase("Active").endStatus().build();
+
+    server.expect().post().withPath("/api/v1/namespaces").andReturn(HTTP_CREATED, ns1).once();
+    server.expect().post().withPath("/api/v1/namespaces/ns1/pods").andReturn(HTTP_CREATED, pod1).once();
+    server.expect().post().withPath("/api/v1/namespaces/ns2/pods").andReturn(HTTP_CONFLICT, pod2).once();
+
+    List<BulkResult<HasMetadata, HasMetadata>> results = client.resourceList(pod1, pod2, ns1).inBulk(4).create();
+
+    // the namespace is created before the pods, but the results are in item order
+    assertEquals("/api/v1/namespaces", server.takeRequest().getPath());
+    assertEquals(3, results.size());
+    assertEquals(pod1, results.get(0).getResult());
+    assertFalse(results.get(1).isSuccessful());
+    assertEquals(HTTP_CONFLICT, results.get(1).getException().getCode());
+    assertEquals(pod2, results.get(1).getItem());
+    assertEquals(ns1, results.get(2).getResult());
+  }
+
+  @Test
+  void testInBulkCreateWaitsForNamespaceToBeActive() throws InterruptedException {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").and().build();
+    Namespace ns1 = new NamespaceBuilder().withNewMetadata().withName("ns1").withResourceVersion("1").endMetadata()
+        .build();
+    Namespace active = new NamespaceBuilder(ns1).editMetadata().withResourceVersion("2").endMetadata()
+        .withNewStatus().withPhase("Active").endStatus().build();
+
+    server.expect().post().withPath("/api/v1/namespaces").andReturn(HTTP_CREATED, ns1).once();
+    server.expect().get().withPath("/api/v1/namespaces?fieldSelector=metadata.name%3Dns1")
+        .andReturn(HTTP_OK, new NamespaceListBuilder().withNewMetadata().withResourceVersion("1").endMetadata()
+            .addToItems(ns1).build())
+        .once();
+    server.expect().get()
+        .withPath(
+            "/api/v1/namespaces?fieldSelector=metadata.name%3Dns1&resourceVersion=1&timeoutSeconds=600&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(50)
+        .andEmit(new WatchEvent(active, "MODIFIED"))
+        .done()
+        .always();
+    server.expect().post().withPath("/api/v1/namespaces/ns1/pods").andReturn(HTTP_CREATED, pod1).once();
+
+    List<BulkResult<HasMetadata, HasMetadata>> results = client.resourceList(pod1, ns1).inBulk(2).create();
+
+    // the pod is only created once the namespace is active
+    assertEquals("/api/v1/namespaces", server.takeRequest().getPath());
+    assertEquals("/api/v1/namespaces?fieldSelector=metadata.name%3Dns1", server.takeRequest().getPath());
+    assertTrue(server.takeRequest().getPath().endsWith("watch=true"));
+    assertEquals("/api/v1/namespaces/ns1/pods", server.takeRequest().getPath());
+    assertTrue(results.stream().allMatch(BulkResult::isSuccessful));
+  }
+
+  @Test
+  void testInBulkDelete() throws InterruptedException {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").and().build();
+    Namespace ns1 = new NamespaceBuilder().withNewMetadata().withName("ns1").endMetadata().build();
+
+    server.expect().delete().withPath("/api/v1/namespaces/ns1").andReturn(HTTP_OK, ns1).once();
+    server.expect().delete().withPath("/api/v1/namespaces/ns1/pods/pod1").andReturn(HTTP_OK, pod1).once();
+
+    List<BulkResult<HasMetadata, List<StatusDetails>>> results = client.resourceList(ns1, pod1).inBulk(2).delete();
+
+    // the namespace is deleted after the pod
+    assertEquals("/api/v1/namespaces/ns1/pods/pod1", server.takeRequest().getPath());
+    assertEquals("/api/v1/namespaces/ns1", server.takeRequest().getPath());
+    assertTrue(results.stream().allMatch(BulkResult::isSuccessful));
+    assertEquals("ns1", results.get(0).getResult().get(0).getName());
+  }
+
   @Test
   void testCreateOrReplaceWithoutDeleteExisting() throws Exception {
     server.expect().post().withPath("/api/v1/namespaces/ns1/services").andReturn(HTTP_CONFLICT, service).once();
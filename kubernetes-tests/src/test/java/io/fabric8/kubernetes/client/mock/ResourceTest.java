@@ -46,7 +46,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.net.HttpURLConnection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 
 import static java.net.HttpURLConnection.HTTP_GONE;
@@ -448,6 +450,48 @@ class ResourceTest {
         .containsExactly(tuple("Ready", "True"), tuple("Dummy", "True"));
   }
 
+  @Test
+  void concurrentWaitsShareTheListAndWatch() throws Exception {
+    Pod pod1 = new PodBuilder().withNewMetadata()
+        .withName("pod1")
+        .withResourceVersion("1")
+        .withNamespace("test")
+        .and()
+        .build();
+
+    Pod noReady = createReadyFrom(pod1, "False", "1");
+    Pod ready = createReadyFrom(pod1, "True", "2");
+
+    // a single list and watch, which a second informer would not find - the list is delayed so that
+    // both waits are registered before it completes
+    server.expect()
+        .get()
+        .delay(500, MILLISECONDS)
+        .withPath("/api/v1/namespaces/test/pods?fieldSelector=metadata.name%3Dpod1")
+        .andReturn(200,
+            new PodListBuilder().withItems(noReady).withNewMetadata().withResourceVersion("1").endMetadata().build())
+        .once();
+
+    server.expect()
+        .get()
+        .withPath(
+            "/api/v1/namespaces/test/pods?fieldSelector=metadata.name%3Dpod1&resourceVersion=1&timeoutSeconds=600&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(1000)
+        .andEmit(new WatchEvent(ready, "MODIFIED"))
+        .done()
+        .once();
+
+    CompletableFuture<List<Pod>> readyWait = client.pods().withName("pod1")
+        .informOnCondition(pods -> pods.stream().anyMatch(Readiness::isPodReady));
+    Pod p = client.pods().withName("pod1").waitUntilCondition(Readiness::isPodReady, 10, SECONDS);
+
+    assertEquals("2", p.getMetadata().getResourceVersion());
+    assertEquals("2", readyWait.get(10, SECONDS).get(0).getMetadata().getResourceVersion());
+    assertEquals(2, server.getRequestCount());
+  }
+
   @Test
   void testErrorEventDuringWaitReturnFromAPIIfMatch() throws InterruptedException {
     Pod pod1 = new PodBuilder().withNewMetadata()
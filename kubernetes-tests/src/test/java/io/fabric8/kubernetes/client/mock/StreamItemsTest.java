@@ -0,0 +1,155 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.HttpURLConnection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+@EnableKubernetesMockClient(crud = true)
+class StreamItemsTest {
+
+  KubernetesMockServer server;
+  KubernetesClient client;
+
+  @BeforeEach
+  void setUp() {
+    IntStream.range(0, 5).forEach(i -> client.pods().inNamespace("test")
+        .resource(new PodBuilder().withNewMetadata().withName("pod-" + i).endMetadata().build())
+        .create());
+  }
+
+  @Test
+  void streamItemsFollowsTheContinueValueAcrossPages() throws InterruptedException {
+    // Given
+    int requests = server.getRequestCount();
+    // When
+    List<String> names;
+    try (Stream<Pod> pods = client.pods().inNamespace("test")
+        .streamItems(new ListOptionsBuilder().withLimit(2L).build())) {
+      names = pods.map(pod -> pod.getMetadata().getName()).collect(Collectors.toList());
+    }
+    // Then
+    assertThat(names).containsExactly("pod-0", "pod-1", "pod-2", "pod-3", "pod-4");
+    assertThat(server.getRequestCount() - requests).isEqualTo(3);
+    assertThat(server.getLastRequest().getPath()).contains("limit=2", "continue=");
+  }
+
+  @Test
+  void closingTheStreamPartwayStopsPaging() {
+    // Given
+    int requests = server.getRequestCount();
+    // When
+    Pod first;
+    try (Stream<Pod> pods = client.pods().inNamespace("test")
+        .streamItems(new ListOptionsBuilder().withLimit(2L).build())) {
+      Iterator<Pod> iterator = pods.iterator();
+      first = iterator.next();
+    }
+    // Then
+    assertThat(first.getMetadata().getName()).isEqualTo("pod-0");
+    assertThat(server.getRequestCount() - requests).isEqualTo(1);
+    // the connection of the closed response is not left busy
+    assertThat(client.pods().inNamespace("test").list().getItems()).hasSize(5);
+  }
+
+  @Test
+  void streamItemsUpdatesTheApiVersionOfEachItem() {
+    // Given
+    server.expect().get()
+        .withPath("/apis/apps/v1/namespaces/test/deployments?limit=1")
+        .andReturn(HttpURLConnection.HTTP_OK, new DeploymentListBuilder()
+            .withMetadata(new ListMetaBuilder().withContinue("next").build())
+            .addToItems(deployment("deployment-0"))
+            .build())
+        .once();
+    server.expect().get()
+        .withPath("/apis/apps/v1/namespaces/test/deployments?limit=1&continue=next")
+        .andReturn(HttpURLConnection.HTTP_OK, new DeploymentListBuilder()
+            .addToItems(deployment("deployment-1"))
+            .build())
+        .once();
+    // When
+    List<Deployment> deployments;
+    try (Stream<Deployment> stream = client.apps().deployments().inNamespace("test")
+        .streamItems(new ListOptionsBuilder().withLimit(1L).build())) {
+      deployments = stream.collect(Collectors.toList());
+    }
+    // Then
+    assertThat(deployments)
+        .extracting(d -> d.getMetadata().getName(), Deployment::getApiVersion)
+        .containsExactly(
+            tuple("deployment-0", "apps/v1"),
+            tuple("deployment-1", "apps/v1"));
+  }
+
+  @Test
+  void errorOnALaterPageIsThrownFromTheStream() {
+    // Given
+    server.expect().get()
+        .withPath("/apis/apps/v1/namespaces/test/deployments?limit=1")
+        .andReturn(HttpURLConnection.HTTP_OK, new DeploymentListBuilder()
+            .withMetadata(new ListMetaBuilder().withContinue("next").build())
+            .addToItems(deployment("deployment-0"))
+            .build())
+        .once();
+    server.expect().get()
+        .withPath("/apis/apps/v1/namespaces/test/deployments?limit=1&continue=next")
+        .andReturn(HttpURLConnection.HTTP_GONE, new StatusBuilder()
+            .withStatus("Failure").withCode(HttpURLConnection.HTTP_GONE).withReason("Expired").build())
+        .once();
+    // When
+    try (Stream<Deployment> stream = client.apps().deployments().inNamespace("test")
+        .streamItems(new ListOptionsBuilder().withLimit(1L).build())) {
+      Iterator<Deployment> iterator = stream.iterator();
+      assertThat(iterator.next().getMetadata().getName()).isEqualTo("deployment-0");
+      // Then
+      assertThatExceptionOfType(KubernetesClientException.class)
+          .isThrownBy(iterator::hasNext)
+          .satisfies(e -> assertThat(e.getCode()).isEqualTo(HttpURLConnection.HTTP_GONE));
+    }
+  }
+
+  private static Deployment deployment(String name) {
+    // without an apiVersion, as it is set from the operation
+    Deployment deployment = new DeploymentBuilder().withNewMetadata().withName(name).endMetadata().build();
+    deployment.setApiVersion(null);
+    return deployment;
+  }
+
+}
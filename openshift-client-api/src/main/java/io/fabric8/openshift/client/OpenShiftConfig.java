@@ -69,6 +69,35 @@ public class OpenShiftConfig extends Config {
     this.setOpenShiftUrl(openShiftUrl);
   }
 
+  @Deprecated
+  public OpenShiftConfig(String openShiftUrl, String oapiVersion, String masterUrl, String apiVersion, String namespace,
+      boolean trustCerts, boolean disableHostnameVerification, String caCertFile, String caCertData,
+      String clientCertFile,
+      String clientCertData, String clientKeyFile, String clientKeyData, String clientKeyAlgo,
+      String clientKeyPassphrase,
+      String username, String password, String oauthToken, int watchReconnectInterval, int watchReconnectLimit,
+      int connectionTimeout, int requestTimeout, long scaleTimeout, int loggingInterval,
+      int maxConcurrentRequests, int maxConcurrentRequestsPerHost, boolean http2Disable, String httpProxy,
+      String httpsProxy,
+      String[] noProxy, Map<Integer, String> errorMessages, String userAgent, TlsVersion[] tlsVersions,
+      long websocketTimeout,
+      long websocketPingInterval, String proxyUsername, String proxyPassword, String trustStoreFile,
+      String trustStorePassphrase, String keyStoreFile, String keyStorePassphrase, String impersonateUsername,
+      String[] impersonateGroups, Map<String, List<String>> impersonateExtras, OAuthTokenProvider oauthTokenProvider,
+      Map<String, String> customHeaders, int requestRetryBackoffLimit, int requestRetryBackoffInterval,
+      int uploadRequestTimeout, long buildTimeout,
+      boolean disableApiGroupCheck) {
+    this(openShiftUrl, oapiVersion, masterUrl, apiVersion, namespace, trustCerts, disableHostnameVerification, caCertFile,
+        caCertData, clientCertFile, clientCertData, clientKeyFile, clientKeyData, clientKeyAlgo, clientKeyPassphrase,
+        username, password, oauthToken, watchReconnectInterval, watchReconnectLimit, connectionTimeout, requestTimeout,
+        scaleTimeout, loggingInterval, maxConcurrentRequests, maxConcurrentRequestsPerHost, http2Disable, httpProxy,
+        httpsProxy, noProxy, errorMessages, userAgent, tlsVersions, websocketTimeout, websocketPingInterval,
+        proxyUsername, proxyPassword, trustStoreFile, trustStorePassphrase, keyStoreFile, keyStorePassphrase,
+        impersonateUsername, impersonateGroups, impersonateExtras, oauthTokenProvider, customHeaders,
+        requestRetryBackoffLimit, requestRetryBackoffInterval, uploadRequestTimeout, 0, 0, buildTimeout,
+        disableApiGroupCheck);
+  }
+
   @Buildable(builderPackage = "io.fabric8.kubernetes.api.builder", editableEnabled = false, refs = {
       @BuildableReference(Config.class) })
   public OpenShiftConfig(String openShiftUrl, String oapiVersion, String masterUrl, String apiVersion, String namespace,
@@ -86,7 +115,7 @@ public class OpenShiftConfig extends Config {
       String trustStorePassphrase, String keyStoreFile, String keyStorePassphrase, String impersonateUsername,
       String[] impersonateGroups, Map<String, List<String>> impersonateExtras, OAuthTokenProvider oauthTokenProvider,
       Map<String, String> customHeaders, int requestRetryBackoffLimit, int requestRetryBackoffInterval,
-      int uploadRequestTimeout, long buildTimeout,
+      int uploadRequestTimeout, int maxRequestsPerSecond, int maxRequestBurst, long buildTimeout,
       boolean disableApiGroupCheck) {
     super(masterUrl, apiVersion, namespace, trustCerts, disableHostnameVerification, caCertFile, caCertData,
         clientCertFile,
@@ -98,7 +127,7 @@ public class OpenShiftConfig extends Config {
         errorMessages, userAgent, tlsVersions, websocketTimeout, websocketPingInterval, proxyUsername, proxyPassword,
         trustStoreFile, trustStorePassphrase, keyStoreFile, keyStorePassphrase, impersonateUsername, impersonateGroups,
         impersonateExtras, oauthTokenProvider, customHeaders, requestRetryBackoffLimit, requestRetryBackoffInterval,
-        uploadRequestTimeout);
+        uploadRequestTimeout, maxRequestsPerSecond, maxRequestBurst);
     this.setOapiVersion(oapiVersion);
     this.setBuildTimeout(buildTimeout);
     this.setDisableApiGroupCheck(disableApiGroupCheck);
@@ -137,9 +166,11 @@ public class OpenShiftConfig extends Config {
         kubernetesConfig.getImpersonateGroups(), kubernetesConfig.getImpersonateExtras(),
         kubernetesConfig.getOauthTokenProvider(), kubernetesConfig.getCustomHeaders(),
         kubernetesConfig.getRequestRetryBackoffLimit(), kubernetesConfig.getRequestRetryBackoffInterval(),
-        kubernetesConfig.getUploadRequestTimeout(),
+        kubernetesConfig.getUploadRequestTimeout(), kubernetesConfig.getMaxRequestsPerSecond(),
+        kubernetesConfig.getMaxRequestBurst(),
         buildTimeout,
         false);
+    this.setOauthTokenExpiration(kubernetesConfig.getOauthTokenExpiration());
   }
 
   public static OpenShiftConfig wrap(Config config) {